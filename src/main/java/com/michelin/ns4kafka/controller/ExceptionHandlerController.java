@@ -23,8 +23,10 @@ import static com.michelin.ns4kafka.model.Status.StatusPhase.FAILED;
 import com.michelin.ns4kafka.model.Status;
 import com.michelin.ns4kafka.model.Status.StatusDetails;
 import com.michelin.ns4kafka.util.exception.ForbiddenNamespaceException;
+import com.michelin.ns4kafka.util.exception.InvalidWatchPositionException;
 import com.michelin.ns4kafka.util.exception.ResourceValidationException;
 import com.michelin.ns4kafka.util.exception.UnknownNamespaceException;
+import com.michelin.ns4kafka.util.exception.WatchOffsetExpiredException;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
@@ -214,6 +216,42 @@ public class ExceptionHandlerController {
         return HttpResponse.status(HttpStatus.FORBIDDEN).body(status);
     }
 
+    /**
+     * Handle invalid watch position exception.
+     *
+     * @param request the request
+     * @param exception the exception
+     * @return the http response
+     */
+    @Error(global = true)
+    public HttpResponse<Status> error(HttpRequest<?> request, InvalidWatchPositionException exception) {
+        Status status = Status.builder()
+                .status(FAILED)
+                .message(exception.getMessage())
+                .httpStatus(HttpStatus.BAD_REQUEST)
+                .build();
+
+        return HttpResponse.status(HttpStatus.BAD_REQUEST).body(status);
+    }
+
+    /**
+     * Handle watch offset expired exception.
+     *
+     * @param request the request
+     * @param exception the exception
+     * @return the http response
+     */
+    @Error(global = true)
+    public HttpResponse<Status> error(HttpRequest<?> request, WatchOffsetExpiredException exception) {
+        Status status = Status.builder()
+                .status(FAILED)
+                .message(exception.getMessage())
+                .httpStatus(HttpStatus.GONE)
+                .build();
+
+        return HttpResponse.status(HttpStatus.GONE).body(status);
+    }
+
     /**
      * Handle http status exception.
      *
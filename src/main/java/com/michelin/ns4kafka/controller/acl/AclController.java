@@ -29,6 +29,7 @@ import com.michelin.ns4kafka.controller.generic.NamespacedResourceController;
 import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.AuditLog;
 import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.security.ResourceBasedSecurityRule;
 import com.michelin.ns4kafka.service.AclService;
 import com.michelin.ns4kafka.service.NamespaceService;
@@ -36,12 +37,15 @@ import com.michelin.ns4kafka.util.enumation.ApplyStatus;
 import com.michelin.ns4kafka.util.exception.ResourceValidationException;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Delete;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.Post;
 import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.sse.Event;
 import io.micronaut.security.authentication.Authentication;
 import io.micronaut.security.utils.SecurityService;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -52,6 +56,8 @@ import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
 
 /** Controller to manage ACLs. */
 @Tag(name = "ACLs", description = "Manage the ACLs.")
@@ -106,6 +112,25 @@ public class AclController extends NamespacedResourceController {
         };
     }
 
+    /**
+     * Watch the changes of the ACLs where a namespace is either the grantor or the grantee, and of the public ACLs, as
+     * server-sent events. The ID of each event is the position of the change in the partitions of the store.
+     *
+     * @param namespace The namespace
+     * @param position The position of the last change already seen, or null to only get the new changes
+     * @param lastEventId The ID of the last event received, sent on reconnection. Takes precedence over the position
+     * @return The changes
+     */
+    @Get(value = "/_/watch", produces = MediaType.TEXT_EVENT_STREAM)
+    public Flux<Event<WatchEvent<AccessControlEntry>>> watch(
+            String namespace,
+            @Nullable @QueryValue String position,
+            @Nullable @Header(LAST_EVENT_ID_HEADER) String lastEventId) {
+        return aclService
+                .watch(getNamespace(namespace), lastEventId != null ? lastEventId : position)
+                .map(event -> Event.of(event).id(event.getPosition()));
+    }
+
     /**
      * Get an ACL by namespace and name.
      *
@@ -229,8 +254,8 @@ public class AclController extends NamespacedResourceController {
         acls.forEach(acl -> {
             acl.getMetadata().setUpdateTimestamp(Date.from(Instant.now()));
             sendEventLog(acl, ApplyStatus.DELETED, acl.getSpec(), null, EMPTY_STRING);
-            aclService.delete(acl);
         });
+        aclService.deleteAll(acls);
 
         return HttpResponse.ok(acls);
     }
@@ -26,6 +26,7 @@ import com.michelin.ns4kafka.controller.generic.NamespacedResourceController;
 import com.michelin.ns4kafka.model.AuditLog;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.model.connect.ChangeConnectorState;
 import com.michelin.ns4kafka.model.connect.Connector;
 import com.michelin.ns4kafka.model.connect.ConnectorOffsetResponse;
@@ -38,12 +39,15 @@ import com.michelin.ns4kafka.util.enumation.ApplyStatus;
 import com.michelin.ns4kafka.util.exception.ResourceValidationException;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Delete;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.Post;
 import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.sse.Event;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.security.utils.SecurityService;
@@ -55,6 +59,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -98,6 +103,38 @@ public class ConnectorController extends NamespacedResourceController {
         return connectorService.findByWildcardName(getNamespace(namespace), name);
     }
 
+    /**
+     * List connectors by namespace, filtered by name parameter, with their status. The statuses are periodically polled
+     * from Kafka Connect.
+     *
+     * @param namespace The namespace
+     * @param name The name parameter
+     * @return A list of connectors with their status
+     */
+    @Get("/_/status")
+    public List<Connector> listWithStatus(String namespace, @QueryValue(defaultValue = "*") String name) {
+        return connectorService.findByWildcardNameWithStatus(getNamespace(namespace), name);
+    }
+
+    /**
+     * Watch the changes of the connectors of a namespace, as server-sent events. The ID of each event is the position
+     * of the change in the partitions of the store.
+     *
+     * @param namespace The namespace
+     * @param position The position of the last change already seen, or null to only get the new changes
+     * @param lastEventId The ID of the last event received, sent on reconnection. Takes precedence over the position
+     * @return The changes
+     */
+    @Get(value = "/_/watch", produces = MediaType.TEXT_EVENT_STREAM)
+    public Flux<Event<WatchEvent<Connector>>> watch(
+            String namespace,
+            @Nullable @QueryValue String position,
+            @Nullable @Header(LAST_EVENT_ID_HEADER) String lastEventId) {
+        return connectorService
+                .watch(getNamespace(namespace), lastEventId != null ? lastEventId : position)
+                .map(event -> Event.of(event).id(event.getPosition()));
+    }
+
     /**
      * Get a connector by namespace and name.
      *
@@ -30,6 +30,8 @@ import org.jspecify.annotations.Nullable;
 
 /** Namespaced resource controller. */
 public abstract class NamespacedResourceController extends ResourceController {
+    protected static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
     private final NamespaceService namespaceService;
 
     /**
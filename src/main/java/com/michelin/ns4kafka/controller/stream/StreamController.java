@@ -26,18 +26,22 @@ import com.michelin.ns4kafka.controller.generic.NamespacedResourceController;
 import com.michelin.ns4kafka.model.AuditLog;
 import com.michelin.ns4kafka.model.KafkaStream;
 import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.service.NamespaceService;
 import com.michelin.ns4kafka.service.StreamService;
 import com.michelin.ns4kafka.util.enumation.ApplyStatus;
 import com.michelin.ns4kafka.util.exception.ResourceValidationException;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Delete;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.Post;
 import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.sse.Event;
 import io.micronaut.security.utils.SecurityService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -47,6 +51,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
 
 /** Controller to manage Kafka Streams. */
 @Tag(name = "Kafka Streams", description = "Manage the Kafka Streams.")
@@ -83,6 +89,25 @@ public class StreamController extends NamespacedResourceController {
         return streamService.findByWildcardName(getNamespace(namespace), name);
     }
 
+    /**
+     * Watch the changes of the Kafka Streams of a namespace, as server-sent events. The ID of each event is the
+     * position of the change in the partitions of the store.
+     *
+     * @param namespace The namespace
+     * @param position The position of the last change already seen, or null to only get the new changes
+     * @param lastEventId The ID of the last event received, sent on reconnection. Takes precedence over the position
+     * @return The changes
+     */
+    @Get(value = "/_/watch", produces = MediaType.TEXT_EVENT_STREAM)
+    Flux<Event<WatchEvent<KafkaStream>>> watch(
+            String namespace,
+            @Nullable @QueryValue String position,
+            @Nullable @Header(LAST_EVENT_ID_HEADER) String lastEventId) {
+        return streamService
+                .watch(getNamespace(namespace), lastEventId != null ? lastEventId : position)
+                .map(event -> Event.of(event).id(event.getPosition()));
+    }
+
     /**
      * Get a Kafka Streams by namespace and name.
      *
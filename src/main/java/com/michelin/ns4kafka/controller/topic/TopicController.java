@@ -30,6 +30,7 @@ import com.michelin.ns4kafka.model.DeleteRecordsResponse;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
 import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.service.NamespaceService;
 import com.michelin.ns4kafka.service.ResourceQuotaService;
 import com.michelin.ns4kafka.service.TopicService;
@@ -38,12 +39,15 @@ import com.michelin.ns4kafka.util.exception.ResourceValidationException;
 import com.michelin.ns4kafka.validation.ValidationResult;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Delete;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.Post;
 import io.micronaut.http.annotation.QueryValue;
+import io.micronaut.http.sse.Event;
 import io.micronaut.security.utils.SecurityService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -54,6 +58,9 @@ import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import org.apache.kafka.common.TopicPartition;
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /** Controller to manage topics. */
 @Tag(name = "Topics", description = "Manage the topics.")
@@ -94,6 +101,26 @@ public class TopicController extends NamespacedResourceController {
         return topicService.findByWildcardName(getNamespace(namespace), name);
     }
 
+    /**
+     * Watch the changes of the topics of a namespace, as server-sent events. The ID of each event is the position of
+     * the change in the partitions of the store, so a client can resume from the last event it has received instead of
+     * listing the topics again.
+     *
+     * @param namespace The namespace
+     * @param position The position of the last change already seen, or null to only get the new changes
+     * @param lastEventId The ID of the last event received, sent on reconnection. Takes precedence over the position
+     * @return The changes
+     */
+    @Get(value = "/_/watch", produces = MediaType.TEXT_EVENT_STREAM)
+    public Flux<Event<WatchEvent<Topic>>> watch(
+            String namespace,
+            @Nullable @QueryValue String position,
+            @Nullable @Header(LAST_EVENT_ID_HEADER) String lastEventId) {
+        return topicService
+                .watch(getNamespace(namespace), lastEventId != null ? lastEventId : position)
+                .map(event -> Event.of(event).id(event.getPosition()));
+    }
+
     /**
      * Get a topic by namespace and name.
      *
@@ -121,9 +148,8 @@ public class TopicController extends NamespacedResourceController {
      * @return The created topic
      */
     @Post
-    public HttpResponse<Topic> apply(
-            String namespace, @Valid @Body Topic topic, @QueryValue(defaultValue = "false") boolean dryrun)
-            throws InterruptedException, ExecutionException, TimeoutException {
+    public Mono<HttpResponse<Topic>> apply(
+            String namespace, @Valid @Body Topic topic, @QueryValue(defaultValue = "false") boolean dryrun) {
         Namespace ns = getNamespace(namespace);
 
         List<String> validationErrors = new ArrayList<>();
@@ -142,52 +168,55 @@ public class TopicController extends NamespacedResourceController {
         Optional<Topic> existingTopic =
                 topicService.findByName(ns, topic.getMetadata().getName());
 
-        if (existingTopic.isEmpty()) {
-            // Topic names with a period ('.') or underscore ('_') could collide
-            List<String> collidingTopics = topicService.findCollidingTopics(ns, topic);
-            if (!collidingTopics.isEmpty()) {
-                validationErrors.addAll(collidingTopics.stream()
-                        .map(collidingTopic ->
-                                invalidTopicCollide(topic.getMetadata().getName(), collidingTopic))
-                        .toList());
-            }
-        } else {
-            validationErrors.addAll(topicService.validateTopicUpdate(ns, existingTopic.get(), topic));
-        }
+        // Topic names with a period ('.') or underscore ('_') could collide
+        Mono<List<String>> existingTopicErrors = existingTopic.isEmpty()
+                ? topicService.findCollidingTopics(ns, topic).map(collidingTopics -> collidingTopics.stream()
+                        .map(collidingTopic -> invalidTopicCollide(topic.getMetadata().getName(), collidingTopic))
+                        .toList())
+                : Mono.just(topicService.validateTopicUpdate(ns, existingTopic.get(), topic));
 
         topic.getSpec().getTags().replaceAll(String::toUpperCase);
 
-        if (!validationErrors.isEmpty()) {
-            throw new ResourceValidationException(topic, validationErrors);
-        }
+        return existingTopicErrors.flatMap(errors -> {
+            validationErrors.addAll(errors);
+            if (!validationErrors.isEmpty()) {
+                return Mono.error(new ResourceValidationException(topic, validationErrors));
+            }
 
-        assignResourceMetadata(topic, ns, existingTopic.orElse(null));
+            assignResourceMetadata(topic, ns, existingTopic.orElse(null));
 
-        if (existingTopic.isPresent()
-                && existingTopic.get().equals(topic)
-                && !existingTopic.get().isDeleting()) {
-            return formatHttpResponse(existingTopic.get(), ApplyStatus.UNCHANGED, validationWarnings);
-        }
+            if (existingTopic.isPresent()
+                    && existingTopic.get().equals(topic)
+                    && !existingTopic.get().isDeleting()) {
+                return Mono.just(formatHttpResponse(existingTopic.get(), ApplyStatus.UNCHANGED, validationWarnings));
+            }
 
-        validationErrors.addAll(resourceQuotaService.validateTopicQuota(ns, existingTopic, topic));
-        if (!validationErrors.isEmpty()) {
-            throw new ResourceValidationException(topic, validationErrors);
-        }
+            List<String> quotaErrors = resourceQuotaService.validateTopicQuota(ns, existingTopic, topic);
+            if (!quotaErrors.isEmpty()) {
+                return Mono.error(new ResourceValidationException(topic, quotaErrors));
+            }
 
-        ApplyStatus status = existingTopic.isPresent() && existingTopic.get().isCreated()
-                ? ApplyStatus.CHANGED
-                : ApplyStatus.CREATED;
+            ApplyStatus status = existingTopic.isPresent() && existingTopic.get().isCreated()
+                    ? ApplyStatus.CHANGED
+                    : ApplyStatus.CREATED;
 
-        if (dryrun) {
-            return formatHttpResponse(topic, status, validationWarnings);
-        }
+            if (dryrun) {
+                return Mono.just(formatHttpResponse(topic, status, validationWarnings));
+            }
 
-        sendEventLog(
-                topic, status, existingTopic.<Object>map(Topic::getSpec).orElse(null), topic.getSpec(), EMPTY_STRING);
+            sendEventLog(
+                    topic,
+                    status,
+                    existingTopic.<Object>map(Topic::getSpec).orElse(null),
+                    topic.getSpec(),
+                    EMPTY_STRING);
 
-        topic.getMetadata().setStatus(Resource.Metadata.Status.ofPending());
+            topic.getMetadata().setStatus(Resource.Metadata.Status.ofPending());
 
-        return formatHttpResponse(topicService.create(topic), status, validationWarnings);
+            return topicService
+                    .createAsync(topic)
+                    .map(createdTopic -> formatHttpResponse(createdTopic, status, validationWarnings));
+        });
     }
 
     /**
@@ -214,11 +243,10 @@ public class TopicController extends NamespacedResourceController {
             return HttpResponse.ok(topics);
         }
 
-        topics.forEach(topicToDelete -> {
-            topicToDelete.getMetadata().setStatus(Resource.Metadata.Status.ofDeleting());
-            topicService.create(topicToDelete);
-            sendEventLog(topicToDelete, ApplyStatus.DELETED, topicToDelete.getSpec(), null, EMPTY_STRING);
-        });
+        topics.forEach(topicToDelete -> topicToDelete.getMetadata().setStatus(Resource.Metadata.Status.ofDeleting()));
+        topicService.createAll(topics);
+        topics.forEach(topicToDelete ->
+                sendEventLog(topicToDelete, ApplyStatus.DELETED, topicToDelete.getSpec(), null, EMPTY_STRING));
 
         return HttpResponse.ok(topics);
     }
@@ -259,6 +287,19 @@ public class TopicController extends NamespacedResourceController {
         return HttpResponse.noContent();
     }
 
+    /**
+     * List the topics of a namespace whose configs have been changed directly on broker, filtered by name parameter.
+     * The topics are returned with their configs on broker. Requires the drift detection to be enabled on the cluster.
+     *
+     * @param namespace The namespace
+     * @param name The name parameter
+     * @return The drifted topics
+     */
+    @Get("/_/drifted")
+    public List<Topic> listDrifted(String namespace, @QueryValue(defaultValue = "*") String name) {
+        return topicService.listDriftedTopicsByWildcardName(getNamespace(namespace), name);
+    }
+
     /**
      * Import unsynchronized topics.
      *
@@ -38,6 +38,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.With;
 
 /** Resource. */
 @Data
@@ -74,6 +75,7 @@ public class Resource {
         @JsonFormat(shape = JsonFormat.Shape.STRING)
         private Date updateTimestamp;
 
+        @With
         @EqualsAndHashCode.Exclude
         private Status status;
 
@@ -104,6 +106,14 @@ public class Resource {
                         .build();
             }
 
+            public static Status ofPending(Map<String, String> options) {
+                return Status.builder()
+                        .phase(Phase.PENDING)
+                        .message("Awaiting processing by executor")
+                        .options(options)
+                        .build();
+            }
+
             public static Status ofDeleting(Map<String, String> options) {
                 return Status.builder()
                         .phase(Phase.DELETING)
@@ -22,6 +22,7 @@ import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.serde.annotation.Serdeable;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import lombok.Getter;
@@ -40,8 +41,17 @@ public class ManagedClusterProperties {
     private boolean manageUsers;
     private boolean manageRbac;
     private boolean dropUnsyncAcls = true;
+    private long aclResyncIntervalMs = 300000;
     private boolean syncKstreamTopics;
     private TimeoutProperties timeout = new TimeoutProperties();
+    private TopicDescribeProperties topicDescribe = new TopicDescribeProperties();
+    private DriftDetectionProperties driftDetection = new DriftDetectionProperties();
+    private TopicCreationProperties topicCreation = new TopicCreationProperties();
+    private RoleBindingProperties roleBinding = new RoleBindingProperties();
+    private UserQuotaProperties userQuota = new UserQuotaProperties();
+    private ConnectBulkheadProperties connectBulkhead = new ConnectBulkheadProperties();
+    private FairSchedulingProperties fairScheduling = new FairSchedulingProperties();
+    private FailedRetryProperties failedRetry = new FailedRetryProperties();
     private KafkaProvider provider;
     private Properties config;
     private Map<String, ConnectProperties> connects;
@@ -121,6 +131,87 @@ public class ManagedClusterProperties {
         private String basicAuthPassword;
     }
 
+    /** Topic describe properties. */
+    @Getter
+    @Setter
+    @ConfigurationProperties("topic-describe")
+    public static class TopicDescribeProperties {
+        private int chunkSize = 500;
+        private int maxInFlight = 4;
+    }
+
+    /** Topic config drift detection properties. */
+    @Getter
+    @Setter
+    @ConfigurationProperties("drift-detection")
+    public static class DriftDetectionProperties {
+        private boolean enabled;
+        private long intervalMs = 300000;
+        private int sliceSize = 100;
+        private boolean remediate;
+    }
+
+    /** Topic creation rate limit properties. A rate of 0 disables the limit. */
+    @Getter
+    @Setter
+    @ConfigurationProperties("topic-creation")
+    public static class TopicCreationProperties {
+        private double topicsPerSecond;
+        private double partitionsPerSecond;
+        private long maxBurstMs = 60000;
+    }
+
+    /** Confluent Cloud role binding requests properties. A rate of 0 disables the limit. */
+    @Getter
+    @Setter
+    @ConfigurationProperties("role-binding")
+    public static class RoleBindingProperties {
+        private int concurrency = 4;
+        private double requestsPerSecond = 5;
+        private int maxRetries = 5;
+        private long retryBackoffMs = 1000;
+        private long maxRetryBackoffMs = 30000;
+        private long cacheTtlMs = 3600000;
+    }
+
+    /** User quota synchronization properties. */
+    @Getter
+    @Setter
+    @ConfigurationProperties("user-quota")
+    public static class UserQuotaProperties {
+        private int alterBatchSize = 200;
+    }
+
+    /** Kafka Connect cluster bulkhead and circuit breaker properties. */
+    @Getter
+    @Setter
+    @ConfigurationProperties("connect-bulkhead")
+    public static class ConnectBulkheadProperties {
+        private int maxInFlight = 4;
+        private int failureThreshold = 5;
+        private long openDurationMs = 60000;
+    }
+
+    /** Fair scheduling of the resources to reconcile across namespaces properties. */
+    @Getter
+    @Setter
+    @ConfigurationProperties("fair-scheduling")
+    public static class FairSchedulingProperties {
+        private int cycleBudget = 1000;
+        private Map<String, Integer> weights = new HashMap<>();
+    }
+
+    /** Automatic retry of the failed resources properties. */
+    @Getter
+    @Setter
+    @ConfigurationProperties("failed-retry")
+    public static class FailedRetryProperties {
+        private boolean enabled = true;
+        private int maxAttempts = 5;
+        private long backoffMs = 30000;
+        private long maxBackoffMs = 1800000;
+    }
+
     /** Timeout properties. */
     @Getter
     @Setter
@@ -148,6 +239,7 @@ public class ManagedClusterProperties {
         public static class TopicProperties {
             private int alterConfigs = DEFAULT_TIMEOUT_MS;
             private int create = DEFAULT_TIMEOUT_MS;
+            private int describe = DEFAULT_TIMEOUT_MS;
             private int describeConfigs = DEFAULT_TIMEOUT_MS;
             private int delete = DEFAULT_TIMEOUT_MS;
             private int list = DEFAULT_TIMEOUT_MS;
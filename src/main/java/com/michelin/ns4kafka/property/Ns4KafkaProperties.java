@@ -92,6 +92,8 @@ public class Ns4KafkaProperties {
     @ConfigurationProperties("scheduler")
     public static class SchedulerProperties {
         private ConnectorProperties connector = new ConnectorProperties();
+        private ConnectorStatusProperties connectorStatus = new ConnectorStatusProperties();
+        private int maxConcurrentClusters = 4;
 
         @Getter
         @Setter
@@ -99,6 +101,17 @@ public class Ns4KafkaProperties {
         public static class ConnectorProperties {
             private int intervalMs = 30000;
         }
+
+        @Getter
+        @Setter
+        @ConfigurationProperties("connector-status")
+        public static class ConnectorStatusProperties {
+            private boolean enabled = true;
+            private int intervalMs = 30000;
+            private boolean autoRestart;
+            private long restartBackoffMs = 60000;
+            private long maxRestartBackoffMs = 3600000;
+        }
     }
 
     @Getter
@@ -122,17 +135,54 @@ public class Ns4KafkaProperties {
         public static class KafkaProperties {
             private int initTimeout;
             private TopicsProperties topics = new TopicsProperties();
+            private SnapshotProperties snapshot = new SnapshotProperties();
+            private CodecProperties codec = new CodecProperties();
+            private MetricsProperties metrics = new MetricsProperties();
+            private WatchProperties watch = new WatchProperties();
 
             @Getter
             @Setter
             @ConfigurationProperties("topics")
             public static class TopicsProperties {
                 private String prefix;
+                private int partitions = 1;
                 private int replicationFactor;
 
                 @MapFormat(transformation = MapFormat.MapTransformation.FLAT)
                 private Map<String, String> props;
             }
+
+            @Getter
+            @Setter
+            @ConfigurationProperties("snapshot")
+            public static class SnapshotProperties {
+                private boolean enabled;
+                private String directory = "snapshots";
+                private long intervalMs = 300000;
+            }
+
+            @Getter
+            @Setter
+            @ConfigurationProperties("codec")
+            public static class CodecProperties {
+                private String name = "json";
+                private boolean migrate;
+            }
+
+            @Getter
+            @Setter
+            @ConfigurationProperties("metrics")
+            public static class MetricsProperties {
+                private long endOffsetIntervalMs = 30000;
+            }
+
+            @Getter
+            @Setter
+            @ConfigurationProperties("watch")
+            public static class WatchProperties {
+                private int historySize = 1000;
+                private int bufferSize = 256;
+            }
         }
     }
 }
@@ -19,8 +19,12 @@
 package com.michelin.ns4kafka.repository;
 
 import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import reactor.core.publisher.Flux;
 
 /** Access control entry repository. */
 public interface AccessControlEntryRepository {
@@ -31,6 +35,23 @@ public interface AccessControlEntryRepository {
      */
     Collection<AccessControlEntry> findAll();
 
+    /**
+     * Find all ACLs by cluster.
+     *
+     * @param cluster The cluster
+     * @return The list of ACLs
+     */
+    List<AccessControlEntry> findAllForCluster(String cluster);
+
+    /**
+     * Find all ACLs by cluster and status phase.
+     *
+     * @param cluster The cluster
+     * @param phase The status phase
+     * @return The list of ACLs
+     */
+    List<AccessControlEntry> findAllForClusterByPhase(String cluster, Resource.Metadata.Phase phase);
+
     /**
      * Find an ACL by name.
      *
@@ -54,4 +75,27 @@ public interface AccessControlEntryRepository {
      * @param accessControlEntry The ACL to delete
      */
     void delete(AccessControlEntry accessControlEntry);
+
+    /**
+     * Create a batch of ACLs.
+     *
+     * @param accessControlEntries The ACLs to create
+     * @return The created ACLs
+     */
+    List<AccessControlEntry> createAll(Collection<AccessControlEntry> accessControlEntries);
+
+    /**
+     * Delete a batch of ACLs.
+     *
+     * @param accessControlEntries The ACLs to delete
+     */
+    void deleteAll(Collection<AccessControlEntry> accessControlEntries);
+
+    /**
+     * Watch the changes of the ACLs.
+     *
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    Flux<WatchEvent<AccessControlEntry>> watch(String fromPosition);
 }
@@ -18,8 +18,11 @@
  */
 package com.michelin.ns4kafka.repository;
 
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.model.connect.Connector;
 import java.util.List;
+import reactor.core.publisher.Flux;
 
 /** Connector repository. */
 public interface ConnectorRepository {
@@ -31,6 +34,15 @@ public interface ConnectorRepository {
      */
     List<Connector> findAllForCluster(String cluster);
 
+    /**
+     * Find all connectors by cluster and status phase.
+     *
+     * @param cluster The cluster
+     * @param phase The status phase
+     * @return The list of connectors
+     */
+    List<Connector> findAllForClusterByPhase(String cluster, Resource.Metadata.Phase phase);
+
     /**
      * Create a given connector.
      *
@@ -45,4 +57,12 @@ public interface ConnectorRepository {
      * @param connector The connector to delete
      */
     void delete(Connector connector);
+
+    /**
+     * Watch the changes of the connectors.
+     *
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    Flux<WatchEvent<Connector>> watch(String fromPosition);
 }
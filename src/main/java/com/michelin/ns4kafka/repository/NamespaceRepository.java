@@ -19,8 +19,10 @@
 package com.michelin.ns4kafka.repository;
 
 import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.model.WatchEvent;
 import java.util.List;
 import java.util.Optional;
+import reactor.core.publisher.Flux;
 
 /** Namespace repository. */
 public interface NamespaceRepository {
@@ -54,4 +56,12 @@ public interface NamespaceRepository {
      * @param namespace The namespace to delete
      */
     void delete(Namespace namespace);
+
+    /**
+     * Watch the changes of the namespaces.
+     *
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    Flux<WatchEvent<Namespace>> watch(String fromPosition);
 }
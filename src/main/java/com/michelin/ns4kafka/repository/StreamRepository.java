@@ -19,7 +19,10 @@
 package com.michelin.ns4kafka.repository;
 
 import com.michelin.ns4kafka.model.KafkaStream;
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import java.util.List;
+import reactor.core.publisher.Flux;
 
 /** Stream repository. */
 public interface StreamRepository {
@@ -38,6 +41,15 @@ public interface StreamRepository {
      */
     List<KafkaStream> findAllForCluster(String cluster);
 
+    /**
+     * Find all streams by cluster and status phase.
+     *
+     * @param cluster The cluster name
+     * @param phase The status phase
+     * @return The list of streams
+     */
+    List<KafkaStream> findAllForClusterByPhase(String cluster, Resource.Metadata.Phase phase);
+
     /**
      * Create a stream.
      *
@@ -52,4 +64,12 @@ public interface StreamRepository {
      * @param stream The stream to delete
      */
     void delete(KafkaStream stream);
+
+    /**
+     * Watch the changes of the streams.
+     *
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    Flux<WatchEvent<KafkaStream>> watch(String fromPosition);
 }
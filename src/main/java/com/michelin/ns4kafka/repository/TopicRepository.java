@@ -18,10 +18,14 @@
  */
 package com.michelin.ns4kafka.repository;
 
+import com.michelin.ns4kafka.model.Resource;
 import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.model.WatchEvent;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /** Topic repository. */
 public interface TopicRepository {
@@ -40,6 +44,15 @@ public interface TopicRepository {
      */
     List<Topic> findAllForCluster(String cluster);
 
+    /**
+     * Find all topics by cluster and status phase.
+     *
+     * @param cluster The cluster
+     * @param phase The status phase
+     * @return The list of topics
+     */
+    List<Topic> findAllForClusterByPhase(String cluster, Resource.Metadata.Phase phase);
+
     /**
      * Find a topic by name and cluster.
      *
@@ -57,10 +70,41 @@ public interface TopicRepository {
      */
     Topic create(Topic topic);
 
+    /**
+     * Create a topic without blocking.
+     *
+     * @param topic The topic to create
+     * @return The created topic
+     */
+    Mono<Topic> createAsync(Topic topic);
+
     /**
      * Delete a topic.
      *
      * @param topic The topic to delete
      */
     void delete(Topic topic);
+
+    /**
+     * Create a batch of topics.
+     *
+     * @param topics The topics to create
+     * @return The created topics
+     */
+    List<Topic> createAll(Collection<Topic> topics);
+
+    /**
+     * Delete a batch of topics.
+     *
+     * @param topics The topics to delete
+     */
+    void deleteAll(Collection<Topic> topics);
+
+    /**
+     * Watch the changes of the topics.
+     *
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    Flux<WatchEvent<Topic>> watch(String fromPosition);
 }
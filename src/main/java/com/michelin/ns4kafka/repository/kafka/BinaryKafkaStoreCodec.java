@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.serde.Deserializer;
+import io.micronaut.serde.SerdeRegistry;
+import io.micronaut.serde.Serializer;
+import io.micronaut.serde.jackson.JacksonDecoder;
+import io.micronaut.serde.jackson.JacksonEncoder;
+import jakarta.inject.Singleton;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.apache.kafka.common.errors.SerializationException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.ObjectWriteContext;
+import tools.jackson.dataformat.smile.SmileFactory;
+import tools.jackson.dataformat.smile.SmileWriteFeature;
+
+/**
+ * Compact binary codec of the Kafka stores, based on Smile. The serializers of Micronaut Serialization write the Smile
+ * tokens directly, and the deserializers read them directly, so no JSON text is written or parsed. Smile writes each
+ * object key and each short string value once per record, and refers to it afterward.
+ *
+ * <p>The Smile header starts the payload and carries the format version, a payload without it is rejected.
+ */
+@Singleton
+public class BinaryKafkaStoreCodec implements KafkaStoreCodec {
+    public static final String NAME = "binary";
+
+    private static final SmileFactory SMILE_FACTORY = SmileFactory.builder()
+            .enable(SmileWriteFeature.CHECK_SHARED_STRING_VALUES)
+            .build();
+
+    private final SerdeRegistry serdeRegistry;
+
+    /**
+     * Constructor.
+     *
+     * @param serdeRegistry The serde registry
+     */
+    public BinaryKafkaStoreCodec(SerdeRegistry serdeRegistry) {
+        this.serdeRegistry = serdeRegistry;
+    }
+
+    /**
+     * Get the codec name.
+     *
+     * @return The codec name
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Encode a record value to Smile.
+     *
+     * @param value The value
+     * @return The encoded value
+     */
+    @Override
+    public byte[] encode(Object value) {
+        Argument<Object> type = Argument.ofInstance(value);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (JsonGenerator generator = SMILE_FACTORY.createGenerator(ObjectWriteContext.empty(), bytes)) {
+            Serializer.EncoderContext context = serdeRegistry.newEncoderContext(null);
+            context.findSerializer(type)
+                    .createSpecific(context, type)
+                    .serialize(JacksonEncoder.create(generator), context, type, value);
+        } catch (IOException | JacksonException e) {
+            throw new SerializationException(
+                    "Error while encoding " + value.getClass().getSimpleName() + " to binary.", e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode a record value from Smile.
+     *
+     * @param data The encoded value
+     * @param type The type of the value
+     * @return The value
+     * @param <T> The type of the value
+     */
+    @Override
+    public <T> T decode(byte[] data, Class<T> type) {
+        Argument<T> argument = Argument.of(type);
+        try (JsonParser parser = SMILE_FACTORY.createParser(ObjectReadContext.empty(), data)) {
+            Deserializer.DecoderContext context = serdeRegistry.newDecoderContext(null);
+            return context.findDeserializer(argument)
+                    .createSpecific(context, argument)
+                    .deserialize(JacksonDecoder.create(parser, null), context, argument);
+        } catch (IOException | JacksonException e) {
+            throw new SerializationException("Error while decoding " + type.getSimpleName() + " from binary.", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import org.apache.kafka.common.errors.SerializationException;
+
+/** JSON codec of the Kafka stores. Also used to read the records written before the codecs were introduced. */
+@Singleton
+public class JsonKafkaStoreCodec implements KafkaStoreCodec {
+    public static final String NAME = "json";
+
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Constructor.
+     *
+     * @param jsonMapper The JSON mapper
+     */
+    public JsonKafkaStoreCodec(JsonMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Get the codec name.
+     *
+     * @return The codec name
+     */
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /**
+     * Encode a record value to JSON.
+     *
+     * @param value The value
+     * @return The encoded value
+     */
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return jsonMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "Error while encoding " + value.getClass().getSimpleName() + " to JSON.", e);
+        }
+    }
+
+    /**
+     * Decode a record value from JSON.
+     *
+     * @param data The encoded value
+     * @param type The type of the value
+     * @return The value
+     * @param <T> The type of the value
+     */
+    @Override
+    public <T> T decode(byte[] data, Class<T> type) {
+        try {
+            return jsonMapper.readValue(data, Argument.of(type));
+        } catch (IOException e) {
+            throw new SerializationException("Error while decoding " + type.getSimpleName() + " from JSON.", e);
+        }
+    }
+}
@@ -19,6 +19,8 @@
 package com.michelin.ns4kafka.repository.kafka;
 
 import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.property.Ns4KafkaProperties;
 import com.michelin.ns4kafka.repository.AccessControlEntryRepository;
 import io.micronaut.configuration.kafka.annotation.KafkaClient;
@@ -32,17 +34,20 @@ import io.micronaut.scheduling.TaskScheduler;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
+import reactor.core.publisher.Flux;
 
 /** Access control entry repository. */
 @Singleton
 @KafkaListener(
         offsetReset = OffsetReset.EARLIEST,
         groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
+        offsetStrategy = OffsetStrategy.DISABLED,
+        threadsValue = "${ns4kafka.store.kafka.topics.partitions}")
 public class KafkaAccessControlEntryRepository extends KafkaStore<AccessControlEntry>
         implements AccessControlEntryRepository {
 
@@ -54,14 +59,25 @@ public class KafkaAccessControlEntryRepository extends KafkaStore<AccessControlE
      * @param adminClient The Kafka admin client
      * @param ns4KafkaProperties Ns4Kafka properties
      * @param taskScheduler The task scheduler
+     * @param snapshotService The snapshot service
      */
     public KafkaAccessControlEntryRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.access-control-entries") String kafkaTopic,
             @KafkaClient("access-control-entries-producer") Producer<String, AccessControlEntry> kafkaProducer,
             AdminClient adminClient,
             Ns4KafkaProperties ns4KafkaProperties,
-            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
-        super(kafkaTopic, kafkaProducer, adminClient, ns4KafkaProperties, taskScheduler);
+            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+            KafkaStoreSnapshotService snapshotService) {
+        super(
+                kafkaTopic,
+                AccessControlEntry.class,
+                kafkaProducer,
+                adminClient,
+                ns4KafkaProperties,
+                taskScheduler,
+                snapshotService);
+        addIndex(CLUSTER_INDEX, acl -> acl.getMetadata().getCluster());
+        addIndex(CLUSTER_PHASE_INDEX, KafkaStore::clusterPhaseIndexKey);
     }
 
     /**
@@ -86,6 +102,29 @@ public class KafkaAccessControlEntryRepository extends KafkaStore<AccessControlE
         return getKafkaStore().values();
     }
 
+    /**
+     * Find all ACLs by cluster.
+     *
+     * @param cluster The cluster
+     * @return The list of ACLs
+     */
+    @Override
+    public List<AccessControlEntry> findAllForCluster(String cluster) {
+        return findAllByIndex(CLUSTER_INDEX, cluster);
+    }
+
+    /**
+     * Find all ACLs by cluster and status phase.
+     *
+     * @param cluster The cluster
+     * @param phase The status phase
+     * @return The list of ACLs
+     */
+    @Override
+    public List<AccessControlEntry> findAllForClusterByPhase(String cluster, Resource.Metadata.Phase phase) {
+        return findAllByIndex(CLUSTER_PHASE_INDEX, clusterPhaseIndexKey(cluster, phase));
+    }
+
     /**
      * Find an ACL by name.
      *
@@ -119,6 +158,38 @@ public class KafkaAccessControlEntryRepository extends KafkaStore<AccessControlE
         produce(getMessageKey(accessControlEntry), null);
     }
 
+    /**
+     * Create a batch of ACLs.
+     *
+     * @param accessControlEntries The ACLs to create
+     * @return The created ACLs
+     */
+    @Override
+    public List<AccessControlEntry> createAll(Collection<AccessControlEntry> accessControlEntries) {
+        return this.produceAll(accessControlEntries);
+    }
+
+    /**
+     * Delete a batch of ACLs.
+     *
+     * @param accessControlEntries The ACLs to delete
+     */
+    @Override
+    public void deleteAll(Collection<AccessControlEntry> accessControlEntries) {
+        this.produceAllTombstones(accessControlEntries);
+    }
+
+    /**
+     * Watch the changes of the ACLs.
+     *
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    @Override
+    public Flux<WatchEvent<AccessControlEntry>> watch(String fromPosition) {
+        return super.watch(fromPosition);
+    }
+
     /**
      * Receive messages from Kafka topic and update the store accordingly.
      *
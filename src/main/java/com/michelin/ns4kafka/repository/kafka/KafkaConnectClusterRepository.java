@@ -42,7 +42,8 @@ import org.apache.kafka.clients.producer.Producer;
 @KafkaListener(
         offsetReset = OffsetReset.EARLIEST,
         groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
+        offsetStrategy = OffsetStrategy.DISABLED,
+        threadsValue = "${ns4kafka.store.kafka.topics.partitions}")
 public class KafkaConnectClusterRepository extends KafkaStore<ConnectCluster> implements ConnectClusterRepository {
 
     /**
@@ -53,14 +54,24 @@ public class KafkaConnectClusterRepository extends KafkaStore<ConnectCluster> im
      * @param adminClient The Kafka admin client
      * @param ns4KafkaProperties Ns4Kafka properties
      * @param taskScheduler The task scheduler
+     * @param snapshotService The snapshot service
      */
     public KafkaConnectClusterRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.connect-workers") String kafkaTopic,
             @KafkaClient("connect-workers") Producer<String, ConnectCluster> kafkaProducer,
             AdminClient adminClient,
             Ns4KafkaProperties ns4KafkaProperties,
-            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
-        super(kafkaTopic, kafkaProducer, adminClient, ns4KafkaProperties, taskScheduler);
+            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+            KafkaStoreSnapshotService snapshotService) {
+        super(
+                kafkaTopic,
+                ConnectCluster.class,
+                kafkaProducer,
+                adminClient,
+                ns4KafkaProperties,
+                taskScheduler,
+                snapshotService);
+        addIndex(CLUSTER_INDEX, connectCluster -> connectCluster.getMetadata().getCluster());
     }
 
     /**
@@ -93,10 +104,7 @@ public class KafkaConnectClusterRepository extends KafkaStore<ConnectCluster> im
      */
     @Override
     public List<ConnectCluster> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-                .filter(connectCluster ->
-                        connectCluster.getMetadata().getCluster().equals(cluster))
-                .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
     }
 
     /**
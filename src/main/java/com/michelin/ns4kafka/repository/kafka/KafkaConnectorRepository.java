@@ -18,6 +18,8 @@
  */
 package com.michelin.ns4kafka.repository.kafka;
 
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.model.connect.Connector;
 import com.michelin.ns4kafka.property.Ns4KafkaProperties;
 import com.michelin.ns4kafka.repository.ConnectorRepository;
@@ -35,13 +37,15 @@ import java.util.List;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
+import reactor.core.publisher.Flux;
 
 /** Kafka Connector repository. */
 @Singleton
 @KafkaListener(
         offsetReset = OffsetReset.EARLIEST,
         groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
+        offsetStrategy = OffsetStrategy.DISABLED,
+        threadsValue = "${ns4kafka.store.kafka.topics.partitions}")
 public class KafkaConnectorRepository extends KafkaStore<Connector> implements ConnectorRepository {
 
     /**
@@ -52,14 +56,25 @@ public class KafkaConnectorRepository extends KafkaStore<Connector> implements C
      * @param adminClient The Kafka admin client
      * @param ns4KafkaProperties Ns4Kafka properties
      * @param taskScheduler The task scheduler
+     * @param snapshotService The snapshot service
      */
     public KafkaConnectorRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.connectors") String kafkaTopic,
             @KafkaClient("connectors-producer") Producer<String, Connector> kafkaProducer,
             AdminClient adminClient,
             Ns4KafkaProperties ns4KafkaProperties,
-            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
-        super(kafkaTopic, kafkaProducer, adminClient, ns4KafkaProperties, taskScheduler);
+            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+            KafkaStoreSnapshotService snapshotService) {
+        super(
+                kafkaTopic,
+                Connector.class,
+                kafkaProducer,
+                adminClient,
+                ns4KafkaProperties,
+                taskScheduler,
+                snapshotService);
+        addIndex(CLUSTER_INDEX, connector -> connector.getMetadata().getCluster());
+        addIndex(CLUSTER_PHASE_INDEX, KafkaStore::clusterPhaseIndexKey);
     }
 
     /**
@@ -74,6 +89,21 @@ public class KafkaConnectorRepository extends KafkaStore<Connector> implements C
                 + connector.getMetadata().getName();
     }
 
+    /**
+     * Compact a connector. The config of a connector holds its own name, so it is rarely shared as a whole, but its
+     * keys and most of its values, such as the connector class or the converters, are.
+     *
+     * @param connector The connector
+     */
+    @Override
+    protected void compact(Connector connector) {
+        super.compact(connector);
+
+        if (connector.getSpec() != null) {
+            connector.getSpec().setConfig(getInterner().intern(connector.getSpec().getConfig()));
+        }
+    }
+
     /**
      * Find all connectors by cluster.
      *
@@ -82,9 +112,19 @@ public class KafkaConnectorRepository extends KafkaStore<Connector> implements C
      */
     @Override
     public List<Connector> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-                .filter(connector -> connector.getMetadata().getCluster().equals(cluster))
-                .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
+    }
+
+    /**
+     * Find all connectors by cluster and status phase.
+     *
+     * @param cluster The cluster
+     * @param phase The status phase
+     * @return The list of connectors
+     */
+    @Override
+    public List<Connector> findAllForClusterByPhase(String cluster, Resource.Metadata.Phase phase) {
+        return findAllByIndex(CLUSTER_PHASE_INDEX, clusterPhaseIndexKey(cluster, phase));
     }
 
     /**
@@ -108,6 +148,17 @@ public class KafkaConnectorRepository extends KafkaStore<Connector> implements C
         produce(getMessageKey(connector), null);
     }
 
+    /**
+     * Watch the changes of the connectors.
+     *
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    @Override
+    public Flux<WatchEvent<Connector>> watch(String fromPosition) {
+        return super.watch(fromPosition);
+    }
+
     /**
      * Receive a connector record from Kafka and update the store.
      *
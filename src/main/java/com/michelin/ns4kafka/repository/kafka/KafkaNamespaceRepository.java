@@ -19,6 +19,7 @@
 package com.michelin.ns4kafka.repository.kafka;
 
 import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.property.Ns4KafkaProperties;
 import com.michelin.ns4kafka.repository.NamespaceRepository;
 import io.micronaut.configuration.kafka.annotation.KafkaClient;
@@ -36,13 +37,15 @@ import java.util.Optional;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
+import reactor.core.publisher.Flux;
 
 /** Kafka Namespace repository. */
 @Singleton
 @KafkaListener(
         offsetReset = OffsetReset.EARLIEST,
         groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
+        offsetStrategy = OffsetStrategy.DISABLED,
+        threadsValue = "${ns4kafka.store.kafka.topics.partitions}")
 public class KafkaNamespaceRepository extends KafkaStore<Namespace> implements NamespaceRepository {
 
     /**
@@ -53,14 +56,24 @@ public class KafkaNamespaceRepository extends KafkaStore<Namespace> implements N
      * @param adminClient The Kafka admin client
      * @param ns4KafkaProperties Ns4Kafka properties
      * @param taskScheduler The task scheduler
+     * @param snapshotService The snapshot service
      */
     public KafkaNamespaceRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.namespaces") String kafkaTopic,
             @KafkaClient("namespace-producer") Producer<String, Namespace> kafkaProducer,
             AdminClient adminClient,
             Ns4KafkaProperties ns4KafkaProperties,
-            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
-        super(kafkaTopic, kafkaProducer, adminClient, ns4KafkaProperties, taskScheduler);
+            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+            KafkaStoreSnapshotService snapshotService) {
+        super(
+                kafkaTopic,
+                Namespace.class,
+                kafkaProducer,
+                adminClient,
+                ns4KafkaProperties,
+                taskScheduler,
+                snapshotService);
+        addIndex(CLUSTER_INDEX, namespace -> namespace.getMetadata().getCluster());
     }
 
     /**
@@ -82,9 +95,7 @@ public class KafkaNamespaceRepository extends KafkaStore<Namespace> implements N
      */
     @Override
     public List<Namespace> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-                .filter(namespace -> namespace.getMetadata().getCluster().equals(cluster))
-                .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
     }
 
     /**
@@ -119,6 +130,17 @@ public class KafkaNamespaceRepository extends KafkaStore<Namespace> implements N
         produce(getMessageKey(namespace), null);
     }
 
+    /**
+     * Watch the changes of the namespaces.
+     *
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    @Override
+    public Flux<WatchEvent<Namespace>> watch(String fromPosition) {
+        return super.watch(fromPosition);
+    }
+
     /**
      * Receive a namespace record from Kafka and update the store.
      *
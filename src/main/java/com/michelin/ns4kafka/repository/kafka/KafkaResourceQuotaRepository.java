@@ -42,7 +42,8 @@ import org.apache.kafka.clients.producer.Producer;
 @KafkaListener(
         offsetReset = OffsetReset.EARLIEST,
         groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
+        offsetStrategy = OffsetStrategy.DISABLED,
+        threadsValue = "${ns4kafka.store.kafka.topics.partitions}")
 public class KafkaResourceQuotaRepository extends KafkaStore<ResourceQuota> implements ResourceQuotaRepository {
 
     /**
@@ -53,14 +54,23 @@ public class KafkaResourceQuotaRepository extends KafkaStore<ResourceQuota> impl
      * @param adminClient The Kafka admin client
      * @param ns4KafkaProperties Ns4Kafka properties
      * @param taskScheduler The task scheduler
+     * @param snapshotService The snapshot service
      */
     public KafkaResourceQuotaRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.resource-quotas") String kafkaTopic,
             @KafkaClient("resource-quotas") Producer<String, ResourceQuota> kafkaProducer,
             AdminClient adminClient,
             Ns4KafkaProperties ns4KafkaProperties,
-            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
-        super(kafkaTopic, kafkaProducer, adminClient, ns4KafkaProperties, taskScheduler);
+            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+            KafkaStoreSnapshotService snapshotService) {
+        super(
+                kafkaTopic,
+                ResourceQuota.class,
+                kafkaProducer,
+                adminClient,
+                ns4KafkaProperties,
+                taskScheduler,
+                snapshotService);
     }
 
     /**
@@ -42,7 +42,8 @@ import org.apache.kafka.clients.producer.Producer;
 @KafkaListener(
         offsetReset = OffsetReset.EARLIEST,
         groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
+        offsetStrategy = OffsetStrategy.DISABLED,
+        threadsValue = "${ns4kafka.store.kafka.topics.partitions}")
 public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implements RoleBindingRepository {
 
     /**
@@ -53,14 +54,24 @@ public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implemen
      * @param adminClient The Kafka admin client
      * @param ns4KafkaProperties Ns4Kafka properties
      * @param taskScheduler The task scheduler
+     * @param snapshotService The snapshot service
      */
     public KafkaRoleBindingRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.role-bindings") String kafkaTopic,
             @KafkaClient("role-binding-producer") Producer<String, RoleBinding> kafkaProducer,
             AdminClient adminClient,
             Ns4KafkaProperties ns4KafkaProperties,
-            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
-        super(kafkaTopic, kafkaProducer, adminClient, ns4KafkaProperties, taskScheduler);
+            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+            KafkaStoreSnapshotService snapshotService) {
+        super(
+                kafkaTopic,
+                RoleBinding.class,
+                kafkaProducer,
+                adminClient,
+                ns4KafkaProperties,
+                taskScheduler,
+                snapshotService);
+        addIndex(NAMESPACE_INDEX, roleBinding -> roleBinding.getMetadata().getNamespace());
     }
 
     /**
@@ -113,9 +124,7 @@ public class KafkaRoleBindingRepository extends KafkaStore<RoleBinding> implemen
      */
     @Override
     public List<RoleBinding> findAllForNamespace(String namespace) {
-        return getKafkaStore().values().stream()
-                .filter(roleBinding -> roleBinding.getMetadata().getNamespace().equals(namespace))
-                .toList();
+        return findAllByIndex(NAMESPACE_INDEX, namespace);
     }
 
     /**
@@ -18,34 +18,68 @@
  */
 package com.michelin.ns4kafka.repository.kafka;
 
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import com.michelin.ns4kafka.util.exception.InvalidWatchPositionException;
+import com.michelin.ns4kafka.util.exception.WatchOffsetExpiredException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.configuration.kafka.ConsumerSeekAware;
+import io.micronaut.configuration.kafka.seek.KafkaSeekOperation;
+import io.micronaut.configuration.kafka.seek.KafkaSeeker;
 import io.micronaut.scheduling.TaskScheduler;
 import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.Uuid;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.utils.Utils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
 
 /**
  * Kafka store.
@@ -53,45 +87,78 @@ import org.apache.kafka.common.errors.TopicExistsException;
  * @param <T> The type of the store
  */
 @Slf4j
-public abstract class KafkaStore<T> {
+public abstract class KafkaStore<T> implements ConsumerSeekAware {
+    static final String CLUSTER_INDEX = "cluster";
+    static final String NAMESPACE_INDEX = "namespace";
+    static final String CLUSTER_PHASE_INDEX = "cluster-phase";
+    private static final long DEFAULT_DELETE_RETENTION_MS = 86400000L;
+    private static final int MIGRATION_BATCH_SIZE = 500;
+    private static final int APPLY_LOCK_STRIPES = 64;
+
     private final String kafkaTopic;
+    private final Class<T> messageType;
     private final Producer<String, T> kafkaProducer;
     private final AdminClient adminClient;
     private final Ns4KafkaProperties ns4KafkaProperties;
     private final TaskScheduler taskScheduler;
+    private final KafkaStoreSnapshotService snapshotService;
 
     private final Map<String, T> store;
+    private final Map<String, KafkaStoreIndex<T>> indexes;
     private final AtomicBoolean initialized = new AtomicBoolean(false);
-    private final ReentrantLock offsetUpdateLock;
-    private final Condition offsetReachedThreshold;
+    private final AtomicBoolean snapshotLoaded = new AtomicBoolean(false);
+    private final KafkaStoreOffsets currentOffsets = new KafkaStoreOffsets();
+    private final Map<Integer, Long> lastWrittenOffsets = new ConcurrentHashMap<>();
+    private final Set<String> keysToMigrate = ConcurrentHashMap.newKeySet();
+    private final Set<String> homeKeys = ConcurrentHashMap.newKeySet();
+    private final Map<String, Integer> legacyKeys = new ConcurrentHashMap<>();
+    private final Object[] applyLocks = new Object[APPLY_LOCK_STRIPES];
+    private final KafkaStoreInterner interner = new KafkaStoreInterner();
+    private final Sinks.Many<WatchEvent<T>> events = Sinks.many().multicast().directBestEffort();
+    private final Deque<WatchEvent<T>> history = new ArrayDeque<>();
+    private final Map<Integer, Long> historyStartOffsets = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> publishedOffsets = new HashMap<>();
 
-    private long currentOffset = -1;
-    private long lastWrittenOffset = -1;
+    private volatile int numPartitions = 1;
+    private volatile boolean partitionsMigrated;
+    private volatile KafkaStoreMetrics metrics = KafkaStoreMetrics.noop();
+    private volatile long initDurationMs;
+    private long initStartNanos;
+    private Map<Integer, Long> initTargetOffsets = Map.of();
+    private Map<Integer, Long> lastSnapshotOffsets = Map.of();
+    private Uuid topicId;
+    private long deleteRetentionMs = DEFAULT_DELETE_RETENTION_MS;
 
     /**
      * Constructor.
      *
      * @param kafkaTopic The Kafka topic used as store
+     * @param messageType The type of the store
      * @param kafkaProducer The Kafka producer
      * @param adminClient The Kafka admin client
      * @param ns4KafkaProperties The Ns4Kafka properties
      * @param taskScheduler The task scheduler
+     * @param snapshotService The snapshot service
      */
     protected KafkaStore(
             String kafkaTopic,
+            Class<T> messageType,
             Producer<String, T> kafkaProducer,
             AdminClient adminClient,
             Ns4KafkaProperties ns4KafkaProperties,
-            TaskScheduler taskScheduler) {
+            TaskScheduler taskScheduler,
+            KafkaStoreSnapshotService snapshotService) {
         this.kafkaTopic = kafkaTopic;
+        this.messageType = messageType;
         this.kafkaProducer = kafkaProducer;
         this.adminClient = adminClient;
         this.ns4KafkaProperties = ns4KafkaProperties;
         this.taskScheduler = taskScheduler;
+        this.snapshotService = snapshotService;
 
         this.store = new ConcurrentHashMap<>();
-        this.offsetUpdateLock = new ReentrantLock();
-        this.offsetReachedThreshold = offsetUpdateLock.newCondition();
+        this.indexes = new ConcurrentHashMap<>();
+        Arrays.setAll(applyLocks, _ -> new Object());
     }
 
     /**
@@ -109,6 +176,7 @@ public abstract class KafkaStore<T> {
      */
     @PostConstruct
     private void createOrVerifyTopic() throws KafkaStoreException {
+        initStartNanos = System.nanoTime();
         createOrVerifyInternalTopic();
         taskScheduler.schedule(Duration.ZERO, this::waitUntilKafkaReaderReachesLastOffsetInit);
     }
@@ -162,11 +230,26 @@ public abstract class KafkaStore<T> {
                 .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
 
         TopicDescription description = topicDescription.get(kafkaTopic);
-        final int numPartitions = description.partitions().size();
-        if (numPartitions != 1) {
-            throw new KafkaStoreException(
-                    "The topic " + kafkaTopic + " should have only 1 partition but has " + numPartitions + ".");
+        topicId = description.topicId();
+
+        int partitions = description.partitions().size();
+        int desiredPartitions = ns4KafkaProperties.getStore().getKafka().getTopics().getPartitions();
+        if (partitions < desiredPartitions) {
+            // The records already written stay in their partition, they are moved once the store is initialized
+            log.info("Increasing the partitions of topic {} from {} to {}.", kafkaTopic, partitions, desiredPartitions);
+            adminClient
+                    .createPartitions(Map.of(kafkaTopic, NewPartitions.increaseTo(desiredPartitions)))
+                    .all()
+                    .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+            partitions = desiredPartitions;
+        } else if (partitions > desiredPartitions) {
+            log.warn(
+                    "The topic {} has {} partitions, more than the desired {}. Partitions cannot be removed, so all of them are used.",
+                    kafkaTopic,
+                    partitions,
+                    desiredPartitions);
         }
+        numPartitions = partitions;
 
         if (description.partitions().getFirst().replicas().size()
                         < ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor()
@@ -196,6 +279,11 @@ public abstract class KafkaStore<T> {
             throw new KafkaStoreException("The retention policy of the topic " + kafkaTopic
                     + " is incorrect. Expected cleanup.policy to be 'compact' but it is " + retentionPolicy);
         }
+
+        ConfigEntry deleteRetention = topicConfigs.get(TopicConfig.DELETE_RETENTION_MS_CONFIG);
+        if (deleteRetention != null && deleteRetention.value() != null) {
+            deleteRetentionMs = Long.parseLong(deleteRetention.value());
+        }
     }
 
     /**
@@ -233,15 +321,20 @@ public abstract class KafkaStore<T> {
                     ns4KafkaProperties.getStore().getKafka().getTopics().getReplicationFactor());
         }
 
-        NewTopic topicRequest = new NewTopic(kafkaTopic, 1, (short) replicationFactor);
+        int partitions = ns4KafkaProperties.getStore().getKafka().getTopics().getPartitions();
+        NewTopic topicRequest = new NewTopic(kafkaTopic, partitions, (short) replicationFactor);
         topicRequest.configs(
                 ns4KafkaProperties.getStore().getKafka().getTopics().getProps());
 
         try {
-            adminClient
-                    .createTopics(Collections.singleton(topicRequest))
+            CreateTopicsResult createTopicsResult = adminClient.createTopics(Collections.singleton(topicRequest));
+            createTopicsResult
                     .all()
                     .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+            topicId = createTopicsResult
+                    .topicId(kafkaTopic)
+                    .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+            numPartitions = partitions;
         } catch (ExecutionException e) {
             if (e.getCause() instanceof TopicExistsException) {
                 verifyInternalTopic();
@@ -260,6 +353,159 @@ public abstract class KafkaStore<T> {
         return store;
     }
 
+    /**
+     * Get the Kafka topic used as store.
+     *
+     * @return The Kafka topic
+     */
+    String getKafkaTopic() {
+        return kafkaTopic;
+    }
+
+    /**
+     * Get the number of partitions of the Kafka topic used as store.
+     *
+     * @return The number of partitions
+     */
+    int getNumPartitions() {
+        return numPartitions;
+    }
+
+    /**
+     * Get the last offsets read by the store, summed over the partitions of the topic.
+     *
+     * @return The sum of the last offsets read, -1 if none
+     */
+    long getCurrentOffset() {
+        return currentOffsets.getAll().isEmpty() ? -1 : currentOffsets.sum();
+    }
+
+    /**
+     * Get the last offsets known to be written to the topic, either by this instance or by any instance as of the last
+     * refresh of the end offsets, summed over the partitions of the topic.
+     *
+     * @return The sum of the last offsets written, -1 if none
+     */
+    long getLastWrittenOffset() {
+        return lastWrittenOffsets.isEmpty()
+                ? -1
+                : lastWrittenOffsets.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Get the number of records written to the topic and not read yet by the store, over all the partitions.
+     *
+     * @return The replay lag
+     */
+    long getReplayLag() {
+        return lastWrittenOffsets.entrySet().stream()
+                .mapToLong(entry -> Math.max(0, entry.getValue() - currentOffsets.get(entry.getKey())))
+                .sum();
+    }
+
+    /**
+     * Get the time taken to initialize the store.
+     *
+     * @return The duration in milliseconds, 0 if the store is not initialized yet
+     */
+    long getInitDurationMs() {
+        return initDurationMs;
+    }
+
+    /**
+     * Register the meters of the store and start refreshing the end offset of the topic, so the replay lag includes the
+     * records written by the other instances.
+     *
+     * @param registry The meter registry
+     */
+    void bindMetrics(MeterRegistry registry) {
+        metrics = KafkaStoreMetrics.bind(registry, this);
+
+        Duration interval = Duration.ofMillis(
+                ns4KafkaProperties.getStore().getKafka().getMetrics().getEndOffsetIntervalMs());
+        taskScheduler.scheduleWithFixedDelay(interval, interval, this::refreshLastWrittenOffset);
+    }
+
+    /** Refresh the last offsets written to the topic from its end offsets. */
+    private void refreshLastWrittenOffset() {
+        try {
+            getLatestOffsetFromEndOffset().forEach(this::updateLastWrittenOffset);
+        } catch (KafkaStoreException e) {
+            log.debug("Cannot refresh the end offset of topic {}.", kafkaTopic, e);
+        }
+    }
+
+    /**
+     * Update the last offset written to a partition of the topic, if the given offset is higher.
+     *
+     * @param partition The partition
+     * @param offset The offset written
+     */
+    private void updateLastWrittenOffset(int partition, long offset) {
+        lastWrittenOffsets.merge(partition, offset, Math::max);
+    }
+
+    /**
+     * Register a secondary index on the store. The index is maintained incrementally on every received record, so it
+     * must be registered from the constructor, before the first record is received.
+     *
+     * @param indexName The index name
+     * @param indexKeyExtractor The function computing the index key of a record. Can return null to not index it
+     */
+    protected void addIndex(String indexName, Function<T, String> indexKeyExtractor) {
+        indexes.put(indexName, new KafkaStoreIndex<>(indexKeyExtractor));
+    }
+
+    /**
+     * Find all the records sharing the given index key.
+     *
+     * @param indexName The index name
+     * @param indexKey The index key
+     * @return The list of records
+     * @throws KafkaStoreException Exception thrown if the index does not exist
+     */
+    protected List<T> findAllByIndex(String indexName, String indexKey) throws KafkaStoreException {
+        KafkaStoreIndex<T> index = indexes.get(indexName);
+        if (index == null) {
+            throw new KafkaStoreException("Unknown index " + indexName + " for topic " + kafkaTopic + ".");
+        }
+
+        // The index is updated right after the store, so a reader can briefly see a stale entry
+        return index.get(indexKey).stream()
+                .map(store::get)
+                .filter(Objects::nonNull)
+                .filter(value -> indexKey.equals(index.indexKeyOf(value)))
+                .toList();
+    }
+
+    /**
+     * Build the key of the cluster and phase index of a resource.
+     *
+     * @param resource The resource
+     * @return The index key, or null if the resource has no status
+     */
+    static String clusterPhaseIndexKey(Resource resource) {
+        if (resource.getMetadata().getStatus() == null
+                || resource.getMetadata().getStatus().getPhase() == null) {
+            return null;
+        }
+
+        return clusterPhaseIndexKey(
+                resource.getMetadata().getCluster(),
+                resource.getMetadata().getStatus().getPhase());
+    }
+
+    /**
+     * Build the key of the cluster and phase index.
+     *
+     * @param cluster The cluster
+     * @param phase The phase
+     * @return The index key
+     */
+    static String clusterPhaseIndexKey(String cluster, Resource.Metadata.Phase phase) {
+        return cluster + "/" + phase;
+    }
+
     /**
      * Produce a new record.
      *
@@ -269,37 +515,154 @@ public abstract class KafkaStore<T> {
      * @throws KafkaStoreException Exception thrown during the send process
      */
     T produce(String key, T message) throws KafkaStoreException {
-        if (key == null) {
-            throw new KafkaStoreException("Key should not be null");
-        }
+        return produceAll(Collections.singletonMap(key, message)).get(key);
+    }
 
-        boolean knownSuccessfulWrite = false;
+    /**
+     * Produce a new record without blocking. The returned Mono completes once the local store has caught up to the
+     * record.
+     *
+     * @param key The record key
+     * @param message The record body. A null body deletes the record
+     * @return The produced record, or an empty Mono if the record has been deleted
+     */
+    Mono<T> produceAsync(String key, T message) {
+        return Mono.fromFuture(() -> produceAllAsync(Collections.singletonMap(key, message)))
+                .onErrorMap(this::toKafkaStoreException)
+                .mapNotNull(produced -> produced.get(key));
+    }
+
+    /**
+     * Produce a batch of records. All the records are sent before waiting for any ack, then the local store is awaited
+     * once, up to the highest offset written.
+     *
+     * @param messages The record bodies by record key. A null body deletes the record
+     * @return The produced records by record key. A deleted record is mapped to null
+     * @throws KafkaStoreException Exception thrown during the send process
+     */
+    Map<String, T> produceAll(Map<String, T> messages) throws KafkaStoreException {
         try {
-            ProducerRecord<String, T> producerRecord = new ProducerRecord<>(kafkaTopic, key, message);
-            log.trace("Sending record to topic {}", producerRecord);
-            Future<RecordMetadata> ack = kafkaProducer.send(producerRecord);
-            RecordMetadata recordMetadata =
-                    ack.get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
-
-            log.trace("Waiting for the local store to catch up to offset {}", recordMetadata.offset());
-            lastWrittenOffset = recordMetadata.offset();
-            waitUntilOffset(getLatestOffset(), TimeUnit.MILLISECONDS);
-            knownSuccessfulWrite = true;
+            return produceAllAsync(messages).get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaStoreException("Put operation interrupted while waiting for an ack from Kafka", e);
         } catch (ExecutionException e) {
-            throw new KafkaStoreException("Put operation failed while waiting for an ack from Kafka", e);
-        } catch (TimeoutException e) {
-            throw new KafkaStoreException("Put operation timed out while waiting for an ack from Kafka", e);
-        } catch (KafkaException e) {
-            throw new KafkaStoreException("Put operation to Kafka failed", e);
-        } finally {
-            if (!knownSuccessfulWrite) {
-                this.lastWrittenOffset = -1;
+            throw toKafkaStoreException(e.getCause());
+        }
+    }
+
+    /**
+     * Send a batch of records and complete once the local store has caught up to the highest offset written.
+     *
+     * @param messages The record bodies by record key. A null body deletes the record
+     * @return A future of the produced records by record key. A deleted record is mapped to null
+     */
+    private CompletableFuture<Map<String, T>> produceAllAsync(Map<String, T> messages) {
+        if (messages.keySet().stream().anyMatch(Objects::isNull)) {
+            return CompletableFuture.failedFuture(new KafkaStoreException("Key should not be null"));
+        }
+
+        if (messages.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        List<ProducerRecord<String, T>> producerRecords = messages.entrySet().stream()
+                .map(message -> new ProducerRecord<>(kafkaTopic, message.getKey(), message.getValue()))
+                .toList();
+
+        return sendAllAsync(producerRecords).thenApply(_ -> {
+            Map<String, T> produced = new LinkedHashMap<>();
+            messages.keySet().forEach(key -> produced.put(key, store.get(key)));
+            return produced;
+        });
+    }
+
+    /**
+     * Send records and complete once the local store has caught up to the highest offset written in each partition.
+     * The records without partition go to the partition of their key.
+     *
+     * @param producerRecords The records
+     * @return A future completed once the records are read
+     */
+    private CompletableFuture<Void> sendAllAsync(List<ProducerRecord<String, T>> producerRecords) {
+        List<CompletableFuture<RecordMetadata>> acks = new ArrayList<>(producerRecords.size());
+        try {
+            for (ProducerRecord<String, T> producerRecord : producerRecords) {
+                log.trace("Sending record to topic {}", producerRecord);
+
+                CompletableFuture<RecordMetadata> ack = new CompletableFuture<>();
+                long sendStartNanos = System.nanoTime();
+                kafkaProducer.send(producerRecord, (recordMetadata, exception) -> {
+                    if (exception != null) {
+                        ack.completeExceptionally(exception);
+                    } else {
+                        metrics.recordProduceAck(sendStartNanos);
+                        updateLastWrittenOffset(recordMetadata.partition(), recordMetadata.offset());
+                        ack.complete(recordMetadata);
+                    }
+                });
+                acks.add(ack.orTimeout(
+                        ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS));
             }
+        } catch (KafkaException e) {
+            return CompletableFuture.failedFuture(new KafkaStoreException("Put operation to Kafka failed", e));
         }
-        return store.get(key);
+
+        return CompletableFuture.allOf(acks.toArray(new CompletableFuture<?>[0]))
+                .thenCompose(_ -> {
+                    Map<Integer, Long> maxOffsets = new HashMap<>();
+                    acks.forEach(ack -> maxOffsets.merge(ack.join().partition(), ack.join().offset(), Math::max));
+                    log.trace("Waiting for the local store to catch up to offsets {}", maxOffsets);
+                    return CompletableFuture.allOf(maxOffsets.entrySet().stream()
+                            .map(maxOffset -> waitUntilOffsetAsync(maxOffset.getKey(), maxOffset.getValue()))
+                            .toArray(CompletableFuture<?>[]::new));
+                });
+    }
+
+    /**
+     * Convert an error of the send process to a Kafka store exception.
+     *
+     * @param error The error
+     * @return The Kafka store exception
+     */
+    private KafkaStoreException toKafkaStoreException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof KafkaStoreException kafkaStoreException) {
+            return kafkaStoreException;
+        }
+
+        if (cause instanceof TimeoutException) {
+            return new KafkaStoreException("Put operation timed out while waiting for an ack from Kafka", cause);
+        }
+
+        return new KafkaStoreException("Put operation failed while waiting for an ack from Kafka", cause);
+    }
+
+    /**
+     * Produce a batch of records, keyed by their message key.
+     *
+     * @param messages The records
+     * @return The produced records
+     * @throws KafkaStoreException Exception thrown during the send process
+     */
+    List<T> produceAll(Collection<T> messages) throws KafkaStoreException {
+        Map<String, T> messagesByKey = new LinkedHashMap<>();
+        messages.forEach(message -> messagesByKey.put(getMessageKey(message), message));
+        return produceAll(messagesByKey).values().stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Produce a batch of tombstones, keyed by the message key of the given records.
+     *
+     * @param messages The records to delete
+     * @throws KafkaStoreException Exception thrown during the send process
+     */
+    void produceAllTombstones(Collection<T> messages) throws KafkaStoreException {
+        Map<String, T> tombstones = new LinkedHashMap<>();
+        messages.forEach(message -> tombstones.put(getMessageKey(message), null));
+        produceAll(tombstones);
     }
 
     /**
@@ -310,60 +673,724 @@ public abstract class KafkaStore<T> {
      */
     void receive(ConsumerRecord<String, T> message) {
         try {
+            metrics.recordReceived();
+
             if (!message.key().equals("NOOP")) {
-                log.trace("Applying update ({},{}) to the local store", message.key(), message.value());
-                if (message.value() == null) {
-                    store.remove(message.key());
-                } else {
-                    store.put(message.key(), message.value());
+                // The partitions are read in parallel, so a record and its legacy copy can be read at the same time.
+                // Only the records sharing a lock stripe with the key are serialized
+                synchronized (applyLockOf(message.key())) {
+                    if (trackPartitionMigration(message)) {
+                        log.trace("Applying update ({},{}) to the local store", message.key(), message.value());
+                        T previousValue = apply(message.key(), message.value());
+                        trackCodecMigration(message);
+                        publishEvent(message.partition(), message.offset(), previousValue, message.value());
+                    }
                 }
             }
 
-            try {
-                offsetUpdateLock.lock();
-                currentOffset = message.offset();
-                offsetReachedThreshold.signalAll();
-            } finally {
-                offsetUpdateLock.unlock();
-            }
+            currentOffsets.update(message.partition(), message.offset());
         } catch (RuntimeException e) {
             log.error("KafkaStoreReader thread has died for an unknown reason.", e);
             throw new KafkaStoreException(e.getMessage());
         }
     }
 
+    /**
+     * Get the lock guarding the records of a key while they are applied.
+     *
+     * @param key The record key
+     * @return The lock
+     */
+    private Object applyLockOf(String key) {
+        return applyLocks[Math.floorMod(key.hashCode(), APPLY_LOCK_STRIPES)];
+    }
+
+    /**
+     * Apply a record to the local store and its indexes.
+     *
+     * @param key The record key
+     * @param value The record value, null to delete the record
+     * @return The previous record value, null if there was none
+     */
+    private T apply(String key, T value) {
+        if (value != null) {
+            compact(value);
+        }
+
+        T previousValue = value == null ? store.remove(key) : store.put(key, value);
+        indexes.values().forEach(index -> index.update(key, value));
+        return previousValue;
+    }
+
+    /**
+     * Get the partition the default partitioner sends a key to, so all the records of a key are kept in order.
+     *
+     * @param key The record key
+     * @return The partition of the key
+     */
+    int partitionOf(String key) {
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % numPartitions;
+    }
+
+    /**
+     * Check whether a record must be applied, and track the records left in another partition than the one of their
+     * key when the partitions of the topic have been increased. Such a legacy record is only applied as long as no
+     * record of its key has been read from the partition of the key, which always holds the latest value. The keys read
+     * from their own partition are only kept until the legacy records are moved. From then on, the records of the other
+     * partitions are stale and ignored.
+     *
+     * @param message The record
+     * @return true if the record must be applied, false otherwise
+     */
+    private boolean trackPartitionMigration(ConsumerRecord<String, T> message) {
+        if (numPartitions == 1) {
+            return true;
+        }
+
+        if (message.partition() == partitionOf(message.key())) {
+            if (!partitionsMigrated) {
+                homeKeys.add(message.key());
+            }
+            legacyKeys.remove(message.key());
+            return true;
+        }
+
+        if (partitionsMigrated || homeKeys.contains(message.key())) {
+            return false;
+        }
+
+        if (message.value() == null) {
+            legacyKeys.remove(message.key());
+        } else {
+            legacyKeys.put(message.key(), message.partition());
+        }
+        return true;
+    }
+
+    /**
+     * Publish the change of a record to the watchers, and keep it in the history so watchers can resume from it.
+     *
+     * @param partition The partition of the record
+     * @param offset The offset of the record
+     * @param previousValue The previous record value, null if there was none
+     * @param value The record value, null if it has been deleted
+     */
+    private void publishEvent(int partition, long offset, T previousValue, T value) {
+        if (previousValue == null && value == null) {
+            return;
+        }
+
+        WatchEvent.Type type;
+        if (value == null) {
+            type = WatchEvent.Type.DELETED;
+        } else if (previousValue == null) {
+            type = WatchEvent.Type.ADDED;
+        } else {
+            type = WatchEvent.Type.MODIFIED;
+        }
+
+        synchronized (history) {
+            publishedOffsets.put(partition, offset);
+            WatchEvent<T> event = WatchEvent.<T>builder()
+                    .type(type)
+                    .partition(partition)
+                    .offset(offset)
+                    .position(KafkaStorePosition.format(publishedOffsets))
+                    .object(value != null ? value : previousValue)
+                    .build();
+
+            history.addLast(event);
+            while (history.size() > ns4KafkaProperties.getStore().getKafka().getWatch().getHistorySize()) {
+                WatchEvent<T> evicted = history.pollFirst();
+                historyStartOffsets.put(evicted.getPartition(), evicted.getOffset());
+            }
+
+            events.tryEmitNext(event);
+        }
+    }
+
+    /**
+     * Watch the changes of the store. The changes after the given position are replayed from the history, then the new
+     * changes are streamed as they are read. A watcher that does not keep up with the changes is disconnected with an
+     * error, and can resume from the position of the last change it has received.
+     *
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     * @throws InvalidWatchPositionException Exception thrown if the position is malformed
+     * @throws WatchOffsetExpiredException Exception thrown if the changes after the position are no longer in the
+     *     history
+     */
+    public Flux<WatchEvent<T>> watch(String fromPosition)
+            throws InvalidWatchPositionException, WatchOffsetExpiredException {
+        Map<Integer, Long> fromOffsets = KafkaStorePosition.parse(fromPosition);
+        checkWatchPosition(fromOffsets);
+
+        return Flux.defer(() -> {
+            Sinks.Many<WatchEvent<T>> watcherEvents = Sinks.many()
+                    .unicast()
+                    .onBackpressureBuffer(Queues.<WatchEvent<T>>get(
+                                    ns4KafkaProperties.getStore().getKafka().getWatch().getBufferSize())
+                            .get());
+            List<WatchEvent<T>> missedEvents;
+            Disposable subscription;
+
+            // Read the history and subscribe at once, so no change is missed or received twice in between
+            synchronized (history) {
+                checkWatchPosition(fromOffsets);
+                missedEvents = fromOffsets.isEmpty()
+                        ? List.of()
+                        : history.stream()
+                                .filter(event -> isAfter(event, fromOffsets))
+                                .toList();
+                subscription = events.asFlux().subscribe(event -> {
+                    if (watcherEvents.tryEmitNext(event).isFailure()) {
+                        watcherEvents.tryEmitError(new KafkaStoreException(
+                                "Watcher of topic " + kafkaTopic + " is too slow and has been disconnected."));
+                    }
+                });
+            }
+
+            // A watcher resuming from another instance can be ahead of this one
+            return Flux.fromIterable(missedEvents)
+                    .concatWith(watcherEvents.asFlux())
+                    .filter(event -> isAfter(event, fromOffsets))
+                    .doFinally(_ -> subscription.dispose());
+        });
+    }
+
+    /**
+     * Check whether a change comes after the given position.
+     *
+     * @param event The change
+     * @param offsets The offsets of the position by partition
+     * @return true if it does, false otherwise
+     */
+    private static boolean isAfter(WatchEvent<?> event, Map<Integer, Long> offsets) {
+        return event.getOffset() > offsets.getOrDefault(event.getPartition(), -1L);
+    }
+
+    /**
+     * Check the changes after the given position are still in the history, in every partition.
+     *
+     * @param fromOffsets The offsets of the last changes already seen by partition, or empty to only get the new
+     *     changes
+     * @throws WatchOffsetExpiredException Exception thrown if the changes after the position are no longer in the
+     *     history
+     */
+    private void checkWatchPosition(Map<Integer, Long> fromOffsets) throws WatchOffsetExpiredException {
+        if (fromOffsets.isEmpty()) {
+            return;
+        }
+
+        historyStartOffsets.forEach((partition, historyStartOffset) -> {
+            long fromOffset = fromOffsets.getOrDefault(partition, -1L);
+            if (fromOffset < historyStartOffset) {
+                throw new WatchOffsetExpiredException(partition, fromOffset, historyStartOffset);
+            }
+        });
+    }
+
+    /**
+     * Replace the low-cardinality values of a record by canonical instances shared with the other records of the store.
+     * The apiVersion, namespace, cluster and labels of the resources are compacted by default. Stores can override
+     * this method to compact their spec, in which case they must call it.
+     *
+     * @param value The record
+     */
+    protected void compact(T value) {
+        if (!(value instanceof Resource resource)) {
+            return;
+        }
+
+        resource.setApiVersion(interner.intern(resource.getApiVersion()));
+
+        Resource.Metadata metadata = resource.getMetadata();
+        if (metadata != null) {
+            metadata.setNamespace(interner.intern(metadata.getNamespace()));
+            metadata.setCluster(interner.intern(metadata.getCluster()));
+            metadata.setLabels(interner.intern(metadata.getLabels()));
+        }
+    }
+
+    /**
+     * Get the pool of canonical values of the store.
+     *
+     * @return The pool of canonical values
+     */
+    KafkaStoreInterner getInterner() {
+        return interner;
+    }
+
+    /**
+     * Get the heap statistics of the store. The retained heap is estimated by walking the records, so the call is
+     * proportional to the size of the store.
+     *
+     * @return The statistics
+     */
+    public KafkaStoreStats getStats() {
+        return new KafkaStoreStats(
+                kafkaTopic,
+                store.size(),
+                KafkaStoreHeapEstimator.estimate(store),
+                interner.getStringCount(),
+                interner.getCollectionCount());
+    }
+
+    /**
+     * Track the records written with another codec than the configured one, so they can be rewritten once the store
+     * is initialized.
+     *
+     * @param message The record
+     */
+    private void trackCodecMigration(ConsumerRecord<String, T> message) {
+        if (!isCodecMigrationEnabled()) {
+            return;
+        }
+
+        if (message.value() == null
+                || getCodecProperties().getName().equals(KafkaStoreSerde.codecOf(message.headers()))) {
+            keysToMigrate.remove(message.key());
+        } else {
+            keysToMigrate.add(message.key());
+        }
+    }
+
+    /**
+     * Load the local snapshot, if any, when the store topic is assigned for the first time, and seek each assigned
+     * partition right after the last offset already read, so only the tail of the topic is replayed. The partitions are
+     * assigned to several listener threads, so this is also called when they are rebalanced between these threads.
+     *
+     * @param partitions The assigned partitions
+     * @param seeker The seeker of the consumer
+     */
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions, KafkaSeeker seeker) {
+        loadSnapshotOnce();
+
+        partitions.stream()
+                .filter(partition -> partition.topic().equals(kafkaTopic))
+                .forEach(partition -> {
+                    long offset = currentOffsets.get(partition.partition());
+                    if (offset >= 0) {
+                        seeker.perform(KafkaSeekOperation.seek(partition, offset + 1));
+                    }
+                });
+    }
+
+    /** Load the local snapshot, if enabled, the first time a partition of the store topic is assigned. */
+    private synchronized void loadSnapshotOnce() {
+        if (!snapshotService.isEnabled() || !snapshotLoaded.compareAndSet(false, true)) {
+            return;
+        }
+
+        // The snapshot does not hold the codec of the records, so the topic is replayed to find the ones to migrate
+        if (isCodecMigrationEnabled()) {
+            log.info("Ignoring snapshot of topic {} while migrating the store codec.", kafkaTopic);
+            return;
+        }
+
+        loadSnapshot();
+    }
+
+    /**
+     * Nothing to do on revocation, the local store is kept.
+     *
+     * @param partitions The revoked partitions
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        // Nothing to do
+    }
+
+    /** Load the local snapshot into the store. */
+    private void loadSnapshot() {
+        Optional<KafkaStoreSnapshot<T>> snapshot = snapshotService
+                .read(kafkaTopic, messageType)
+                .filter(this::isSnapshotValid);
+
+        if (snapshot.isEmpty()) {
+            log.info("Replaying topic {} from the beginning.", kafkaTopic);
+            return;
+        }
+
+        snapshot.get().records().forEach(this::apply);
+
+        // A snapshot is only written once every record is in the partition of its key, so the records replayed from
+        // another partition are stale, such as the tombstones of the moved records
+        partitionsMigrated = true;
+
+        // The changes before the snapshot are unknown, so watchers cannot resume from them
+        synchronized (history) {
+            historyStartOffsets.putAll(snapshot.get().offsets());
+            publishedOffsets.putAll(snapshot.get().offsets());
+        }
+        snapshot.get().offsets().forEach(currentOffsets::update);
+
+        lastSnapshotOffsets = snapshot.get().offsets();
+        log.info(
+                "Loaded snapshot of topic {} at offsets {} ({} records).",
+                kafkaTopic,
+                snapshot.get().offsets(),
+                store.size());
+    }
+
+    /**
+     * Check the snapshot can be used to initialize the store. It must belong to the current topic, have been taken with
+     * the current partitions and be within the range of offsets still available in each partition. It must also be
+     * more recent than delete.retention.ms, otherwise the tombstones of records deleted since the snapshot could
+     * already have been compacted.
+     *
+     * @param snapshot The snapshot
+     * @return true if it is valid, false otherwise
+     */
+    private boolean isSnapshotValid(KafkaStoreSnapshot<T> snapshot) {
+        if (snapshot.version() != KafkaStoreSnapshot.CURRENT_VERSION
+                || !kafkaTopic.equals(snapshot.topic())
+                || snapshot.records() == null
+                || snapshot.offsets() == null) {
+            log.warn("Snapshot of topic {} has an unexpected format and will be ignored.", kafkaTopic);
+            return false;
+        }
+
+        if (topicId == null || !topicId.toString().equals(snapshot.topicId())) {
+            log.warn(
+                    "Snapshot of topic {} belongs to topic ID {} instead of {} and will be ignored.",
+                    kafkaTopic,
+                    snapshot.topicId(),
+                    topicId);
+            return false;
+        }
+
+        if (System.currentTimeMillis() - snapshot.timestamp() > deleteRetentionMs) {
+            log.warn("Snapshot of topic {} is older than delete.retention.ms and will be ignored.", kafkaTopic);
+            return false;
+        }
+
+        try {
+            Map<Integer, Long> startOffsets = listOffsets(OffsetSpec.earliest());
+            Map<Integer, Long> endOffsets = listOffsets(OffsetSpec.latest());
+
+            if (!snapshot.offsets().keySet().equals(endOffsets.keySet())) {
+                log.warn(
+                        "Snapshot of topic {} has been taken with {} partitions instead of {} and will be ignored.",
+                        kafkaTopic,
+                        snapshot.offsets().size(),
+                        endOffsets.size());
+                return false;
+            }
+
+            for (Map.Entry<Integer, Long> offset : snapshot.offsets().entrySet()) {
+                long startOffset = startOffsets.get(offset.getKey());
+                long endOffset = endOffsets.get(offset.getKey());
+
+                if (offset.getValue() < startOffset - 1 || offset.getValue() >= endOffset) {
+                    log.warn(
+                            "Snapshot of topic {} at offset {} of partition {} is out of the partition range [{}, {}[ and will be ignored.",
+                            kafkaTopic,
+                            offset.getValue(),
+                            offset.getKey(),
+                            startOffset,
+                            endOffset);
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Thread interrupted while validating the snapshot of topic {}.", kafkaTopic, e);
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Error while validating the snapshot of topic {}.", kafkaTopic, e);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Write a snapshot of the store. The offsets are read before copying the store, so the copy can contain records
+     * applied after these offsets. This is harmless since these records are applied again on replay. No snapshot is
+     * written while records are left in another partition than the one of their key, since the keys already read from
+     * their own partition are not part of the snapshot, and a legacy record replayed after it could override them.
+     */
+    private void writeSnapshot() {
+        if (!partitionsMigrated) {
+            return;
+        }
+
+        Map<Integer, Long> snapshotOffsets = currentOffsets.getAll();
+        if (snapshotOffsets.isEmpty() || topicId == null) {
+            return;
+        }
+
+        // A partition without any record read yet is replayed from the beginning
+        for (int partition = 0; partition < numPartitions; partition++) {
+            snapshotOffsets.putIfAbsent(partition, -1L);
+        }
+
+        if (snapshotOffsets.equals(lastSnapshotOffsets)) {
+            return;
+        }
+
+        snapshotService.write(new KafkaStoreSnapshot<>(
+                KafkaStoreSnapshot.CURRENT_VERSION,
+                kafkaTopic,
+                topicId.toString(),
+                snapshotOffsets,
+                System.currentTimeMillis(),
+                new HashMap<>(store)));
+        lastSnapshotOffsets = snapshotOffsets;
+    }
+
     /** Wait until the Kafka reader reaches the last offset. Mark the store as initialized when it is done. */
     public void waitUntilKafkaReaderReachesLastOffsetInit() {
         try {
-            waitUntilOffset(getLatestOffset(), TimeUnit.MILLISECONDS);
+            initTargetOffsets = getLatestOffsets();
+            initTargetOffsets.forEach(this::updateLastWrittenOffset);
+
+            // The partitions are replayed in parallel. An empty partition has nothing to replay
+            for (Map.Entry<Integer, Long> targetOffset : initTargetOffsets.entrySet()) {
+                if (targetOffset.getValue() >= 0) {
+                    waitUntilOffset(targetOffset.getKey(), targetOffset.getValue(), TimeUnit.MILLISECONDS);
+                }
+            }
+
             boolean isInitialized = initialized.compareAndSet(false, true);
             if (!isInitialized) {
                 throw new KafkaStoreException("Illegal state while initializing store. Store was already initialized");
             }
+
+            initDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - initStartNanos);
+
+            KafkaStoreStats stats = getStats();
+            log.info(
+                    "{} retains about {} KiB of heap for {} records.",
+                    kafkaTopic,
+                    stats.retainedBytes() / 1024,
+                    stats.records());
+
+            if (snapshotService.isEnabled()) {
+                Duration snapshotInterval = Duration.ofMillis(snapshotService.getIntervalMs());
+                taskScheduler.scheduleWithFixedDelay(snapshotInterval, snapshotInterval, this::writeSnapshot);
+            }
+
+            if (isCodecMigrationEnabled()) {
+                taskScheduler.schedule(Duration.ZERO, this::migrateCodec);
+            }
+
+            if (legacyKeys.isEmpty()) {
+                completePartitionMigration();
+            } else {
+                taskScheduler.schedule(Duration.ZERO, this::migratePartitions);
+            }
         } catch (Exception e) {
             log.error("Unrecoverable error during initialization", e);
         }
     }
 
     /**
-     * Get latest offset.
+     * Rewrite the records written with another codec than the configured one, in batches. Every instance runs the
+     * migration, so each batch is only built once the records written so far by the other writers are read. A record
+     * they have rewritten or updated since is then written with the configured codec and skipped, so its latest value
+     * is not overridden by the one read before.
+     */
+    void migrateCodec() {
+        if (keysToMigrate.isEmpty()) {
+            return;
+        }
+
+        log.info(
+                "Migrating {} records of topic {} to codec {}.",
+                keysToMigrate.size(),
+                kafkaTopic,
+                getCodecProperties().getName());
+
+        try {
+            List<String> keys = new ArrayList<>(keysToMigrate);
+            for (int i = 0; i < keys.size(); i += MIGRATION_BATCH_SIZE) {
+                waitUntilLatestOffsets();
+
+                Map<String, T> batch = new LinkedHashMap<>();
+                keys.subList(i, Math.min(i + MIGRATION_BATCH_SIZE, keys.size()))
+                        .forEach(key -> {
+                            T value = store.get(key);
+                            if (value != null && keysToMigrate.contains(key)) {
+                                batch.put(key, value);
+                            }
+                        });
+                produceAll(batch);
+            }
+
+            log.info("Migrated topic {} to codec {}.", kafkaTopic, getCodecProperties().getName());
+        } catch (KafkaStoreException e) {
+            log.error("Error while migrating topic {} to codec {}.", kafkaTopic, getCodecProperties().getName(), e);
+        }
+    }
+
+    /**
+     * Rewrite the records left in another partition than the one of their key, in batches. Each batch is written to the
+     * partition of its keys first, then deleted from the legacy partitions, where the tombstones are ignored since the
+     * keys have a record in their own partition. As for the codec migration, each batch is only built once the records
+     * written so far by the other writers are read, and the keys they have written to their own partition since are
+     * only deleted from the legacy partitions.
+     */
+    void migratePartitions() {
+        if (legacyKeys.isEmpty()) {
+            return;
+        }
+
+        log.info("Moving {} records of topic {} to the partition of their key.", legacyKeys.size(), kafkaTopic);
+
+        try {
+            List<Map.Entry<String, Integer>> keys = new ArrayList<>(legacyKeys.entrySet());
+            for (int i = 0; i < keys.size(); i += MIGRATION_BATCH_SIZE) {
+                waitUntilLatestOffsets();
+
+                Map<String, T> batch = new LinkedHashMap<>();
+                List<ProducerRecord<String, T>> tombstones = new ArrayList<>();
+                keys.subList(i, Math.min(i + MIGRATION_BATCH_SIZE, keys.size()))
+                        .forEach(key -> {
+                            T value = store.get(key.getKey());
+                            if (value != null && legacyKeys.containsKey(key.getKey())) {
+                                batch.put(key.getKey(), value);
+                            }
+                            tombstones.add(new ProducerRecord<>(kafkaTopic, key.getValue(), key.getKey(), null));
+                        });
+                produceAll(batch);
+                sendAllAsync(tombstones).join();
+            }
+
+            log.info("Moved the records of topic {} to the partition of their key.", kafkaTopic);
+            completePartitionMigration();
+        } catch (KafkaStoreException | CompletionException e) {
+            log.error("Error while moving the records of topic {} to the partition of their key.", kafkaTopic, e);
+        }
+    }
+
+    /**
+     * Wait until the records written so far to the topic, by this instance or another one, are read.
      *
-     * @return The latest offset
-     * @throws KafkaStoreException Exception while getting the latest offset
+     * @throws KafkaStoreException Exception while getting or waiting for the latest offsets
+     */
+    private void waitUntilLatestOffsets() throws KafkaStoreException {
+        for (Map.Entry<Integer, Long> latestOffset : getLatestOffsets().entrySet()) {
+            if (latestOffset.getValue() >= 0) {
+                waitUntilOffset(latestOffset.getKey(), latestOffset.getValue(), TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Stop tracking the keys read from their own partition once no record is left in another partition, so they are
+     * not kept in memory for the lifetime of the store.
      */
-    private long getLatestOffset() throws KafkaStoreException {
-        if (lastWrittenOffset >= 0) {
-            return lastWrittenOffset;
+    private void completePartitionMigration() {
+        if (!legacyKeys.isEmpty()) {
+            return;
         }
 
+        partitionsMigrated = true;
+        homeKeys.clear();
+    }
+
+    /**
+     * Get the number of records left in another partition than the one of their key.
+     *
+     * @return The number of records to move
+     */
+    int getRecordsToMovePartitionCount() {
+        return legacyKeys.size();
+    }
+
+    /**
+     * Get the number of records still written with another codec than the configured one.
+     *
+     * @return The number of records to migrate
+     */
+    int getRecordsToMigrateCount() {
+        return keysToMigrate.size();
+    }
+
+    /**
+     * Is the migration of the records to the configured codec enabled.
+     *
+     * @return true if it is, false otherwise
+     */
+    private boolean isCodecMigrationEnabled() {
+        return getCodecProperties().isMigrate();
+    }
+
+    /**
+     * Get the codec properties of the store.
+     *
+     * @return The codec properties
+     */
+    private Ns4KafkaProperties.StoreProperties.KafkaProperties.CodecProperties getCodecProperties() {
+        return ns4KafkaProperties.getStore().getKafka().getCodec();
+    }
+
+    /**
+     * Get the offsets of the last records of the topic. They are read from the end offsets of the topic, or found by
+     * producing NOOP records if the end offsets cannot be listed.
+     *
+     * @return The offsets of the last records by partition, -1 for an empty partition
+     * @throws KafkaStoreException Exception while getting the latest offsets
+     */
+    private Map<Integer, Long> getLatestOffsets() throws KafkaStoreException {
         try {
-            log.trace("Sending NOOP record to topic {} to find last offset.", kafkaTopic);
-            Future<RecordMetadata> ack = kafkaProducer.send(new ProducerRecord<>(kafkaTopic, "NOOP", null));
-            RecordMetadata metadata =
-                    ack.get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
-            this.lastWrittenOffset = metadata.offset();
-            log.trace("NOOP record's offset is {}", lastWrittenOffset);
-            return lastWrittenOffset;
+            return getLatestOffsetFromEndOffset();
+        } catch (KafkaStoreException e) {
+            log.warn("Cannot list the end offset of topic {}. Falling back to NOOP records.", kafkaTopic, e);
+            return getLatestOffsetFromNoopRecord();
+        }
+    }
+
+    /**
+     * Get the offsets of the last records of the topic from its end offsets.
+     *
+     * @return The offsets of the last records by partition, -1 for an empty partition
+     * @throws KafkaStoreException Exception while listing the end offsets
+     */
+    Map<Integer, Long> getLatestOffsetFromEndOffset() throws KafkaStoreException {
+        try {
+            Map<Integer, Long> latestOffsets = new TreeMap<>();
+            listOffsets(OffsetSpec.latest())
+                    .forEach((partition, endOffset) -> latestOffsets.put(partition, endOffset - 1));
+            log.trace("Latest offsets of topic {} are {}", kafkaTopic, latestOffsets);
+            return latestOffsets;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaStoreException(
+                    "Thread interrupted while listing the end offset of topic " + kafkaTopic + ".", e);
+        } catch (ExecutionException e) {
+            throw new KafkaStoreException(
+                    "Execution error while listing the end offset of topic " + kafkaTopic + ".", e);
+        } catch (TimeoutException e) {
+            throw new KafkaStoreException("Timeout while listing the end offset of topic " + kafkaTopic + ".", e);
+        }
+    }
+
+    /**
+     * Get the offsets of the last records of the topic by producing a NOOP record to each partition.
+     *
+     * @return The offsets of the NOOP records by partition
+     * @throws KafkaStoreException Exception while producing the NOOP records
+     */
+    Map<Integer, Long> getLatestOffsetFromNoopRecord() throws KafkaStoreException {
+        try {
+            log.trace("Sending NOOP records to topic {} to find last offsets.", kafkaTopic);
+            Map<Integer, Future<RecordMetadata>> acks = new TreeMap<>();
+            for (int partition = 0; partition < numPartitions; partition++) {
+                acks.put(partition, kafkaProducer.send(new ProducerRecord<>(kafkaTopic, partition, "NOOP", null)));
+            }
+
+            Map<Integer, Long> latestOffsets = new TreeMap<>();
+            for (Map.Entry<Integer, Future<RecordMetadata>> ack : acks.entrySet()) {
+                RecordMetadata metadata = ack.getValue()
+                        .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS);
+                latestOffsets.put(ack.getKey(), metadata.offset());
+            }
+            log.trace("NOOP records' offsets are {}", latestOffsets);
+            return latestOffsets;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new KafkaStoreException(
@@ -380,45 +1407,110 @@ public abstract class KafkaStore<T> {
     }
 
     /**
-     * Wait until the given offset is read.
+     * List an offset of each partition of the topic.
+     *
+     * @param offsetSpec The offset to list
+     * @return The offsets by partition
+     * @throws InterruptedException Exception thrown while listing the offsets
+     * @throws ExecutionException Exception thrown while listing the offsets
+     * @throws TimeoutException Exception thrown while listing the offsets
+     */
+    private Map<Integer, Long> listOffsets(OffsetSpec offsetSpec)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        Map<TopicPartition, OffsetSpec> request = new HashMap<>();
+        for (int partition = 0; partition < numPartitions; partition++) {
+            request.put(new TopicPartition(kafkaTopic, partition), offsetSpec);
+        }
+
+        ListOffsetsResult result = adminClient.listOffsets(request);
+        Map<Integer, Long> offsets = new TreeMap<>();
+        for (TopicPartition partition : request.keySet()) {
+            offsets.put(
+                    partition.partition(),
+                    result.partitionResult(partition)
+                            .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), TimeUnit.MILLISECONDS)
+                            .offset());
+        }
+        return offsets;
+    }
+
+    /**
+     * Wait until the given offset of a partition is read.
      *
+     * @param partition The partition
      * @param offset The offset
      * @param timeUnit The time unit to wait
      * @throws KafkaStoreException Exception thrown during the wait process
      */
-    public void waitUntilOffset(long offset, TimeUnit timeUnit) throws KafkaStoreException {
+    public void waitUntilOffset(int partition, long offset, TimeUnit timeUnit) throws KafkaStoreException {
         if (offset < 0) {
             throw new KafkaStoreException("Cannot wait for a negative offset.");
         }
 
-        log.trace("Waiting to read offset {}. Currently at offset {}.", offset, currentOffset);
+        log.trace(
+                "Waiting to read offset {} of partition {}. Currently at offset {}.",
+                offset,
+                partition,
+                currentOffsets.get(partition));
 
+        long waitStartNanos = System.nanoTime();
         try {
-            offsetUpdateLock.lock();
-            long timeoutNs = TimeUnit.NANOSECONDS.convert(
-                    ns4KafkaProperties.getStore().getKafka().getInitTimeout(), timeUnit);
-            while ((currentOffset < offset) && (timeoutNs > 0)) {
-                try {
-                    timeoutNs = offsetReachedThreshold.awaitNanos(timeoutNs);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.debug(
-                            "Interrupted while waiting for the background store reader thread "
-                                    + "to reach the specified offset: {}",
-                            offset,
-                            e);
-                }
-            }
-        } finally {
-            offsetUpdateLock.unlock();
+            currentOffsets
+                    .reached(partition, offset)
+                    .get(ns4KafkaProperties.getStore().getKafka().getInitTimeout(), timeUnit);
+            metrics.recordWaitOffset(waitStartNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaStoreException(
+                    "Interrupted while waiting for the background store reader thread to reach the specified offset: "
+                            + offset,
+                    e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw offsetNotReachedException(
+                    partition,
+                    offset,
+                    TimeUnit.MILLISECONDS.convert(
+                            ns4KafkaProperties.getStore().getKafka().getInitTimeout(), timeUnit));
         }
+    }
 
-        if (currentOffset < offset) {
-            throw new KafkaStoreException("Failed to reach target offset within the timeout interval. targetOffset: "
-                    + offset + ", offsetReached: " + currentOffset + ", timeout(ms): "
-                    + TimeUnit.MILLISECONDS.convert(
-                            ns4KafkaProperties.getStore().getKafka().getInitTimeout(), timeUnit));
+    /**
+     * Wait until the given offset of a partition is read, without blocking.
+     *
+     * @param partition The partition
+     * @param offset The offset
+     * @return A future completed when the offset is read, or failed if it is not read within the init timeout
+     */
+    private CompletableFuture<Void> waitUntilOffsetAsync(int partition, long offset) {
+        if (offset < 0) {
+            return CompletableFuture.failedFuture(new KafkaStoreException("Cannot wait for a negative offset."));
         }
+
+        long timeoutMs = ns4KafkaProperties.getStore().getKafka().getInitTimeout();
+        long waitStartNanos = System.nanoTime();
+
+        // Copy the shared waiter, so the timeout of this caller does not fail the other callers waiting for the offset
+        return currentOffsets
+                .reached(partition, offset)
+                .copy()
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((_, _) -> metrics.recordWaitOffset(waitStartNanos))
+                .exceptionallyCompose(_ ->
+                        CompletableFuture.failedFuture(offsetNotReachedException(partition, offset, timeoutMs)));
+    }
+
+    /**
+     * Build the exception thrown when an offset is not reached within the timeout interval.
+     *
+     * @param partition The partition
+     * @param offset The offset
+     * @param timeoutMs The timeout in milliseconds
+     * @return The exception
+     */
+    private KafkaStoreException offsetNotReachedException(int partition, long offset, long timeoutMs) {
+        return new KafkaStoreException("Failed to reach target offset within the timeout interval. targetOffset: "
+                + offset + ", partition: " + partition + ", offsetReached: " + currentOffsets.get(partition)
+                + ", timeout(ms): " + timeoutMs);
     }
 
     /**
@@ -435,7 +1527,7 @@ public abstract class KafkaStore<T> {
         if (isInitialized()) {
             log.info("{} is ready! ({} records)", kafkaTopic, store.size());
         } else {
-            log.info("Init in progress for {}... ({}/{})", kafkaTopic, currentOffset, lastWrittenOffset);
+            log.info("Init in progress for {}... ({}/{})", kafkaTopic, currentOffsets.getAll(), initTargetOffsets);
         }
     }
 }
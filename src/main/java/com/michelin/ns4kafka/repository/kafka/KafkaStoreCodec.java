@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+/**
+ * Codec used to write the records of the Kafka stores. The codec of a record is written in its headers, so records
+ * written with different codecs can be read from the same topic.
+ */
+public interface KafkaStoreCodec {
+    /**
+     * Get the codec name, written in the headers of the records.
+     *
+     * @return The codec name
+     */
+    String getName();
+
+    /**
+     * Encode a record value.
+     *
+     * @param value The value
+     * @return The encoded value
+     */
+    byte[] encode(Object value);
+
+    /**
+     * Decode a record value.
+     *
+     * @param data The encoded value
+     * @param type The type of the value
+     * @return The value
+     * @param <T> The type of the value
+     */
+    <T> T decode(byte[] data, Class<T> type);
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micronaut.management.endpoint.annotation.Endpoint;
+import io.micronaut.management.endpoint.annotation.Read;
+import java.util.List;
+
+/** Management endpoint reporting the heap retained by the Kafka stores. Restricted to admins. */
+@Endpoint(id = "stores", defaultSensitive = true)
+public class KafkaStoreEndpoint {
+    private final List<KafkaStore<?>> kafkaStores;
+
+    /**
+     * Constructor.
+     *
+     * @param kafkaStores The Kafka stores
+     */
+    public KafkaStoreEndpoint(List<KafkaStore<?>> kafkaStores) {
+        this.kafkaStores = kafkaStores;
+    }
+
+    /**
+     * Get the heap statistics of the Kafka stores. The object graph of every store is walked, so the call is
+     * proportional to the number of records.
+     *
+     * @return The statistics of each store
+     */
+    @Read
+    public List<KafkaStoreStats> stats() {
+        return kafkaStores.stream().map(KafkaStore::getStats).toList();
+    }
+}
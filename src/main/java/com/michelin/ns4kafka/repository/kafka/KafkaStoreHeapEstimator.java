@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Estimate of the heap retained by the records of a Kafka store. The object graph of the records is walked and every
+ * object is counted once, so the values shared between records are not counted twice.
+ *
+ * <p>The sizes assume a 64-bit JVM with compressed references and compact strings. The JDK classes are not
+ * introspected: the collections, strings, boxes and dates are sized from their content, other JDK objects are counted
+ * as empty objects.
+ */
+@Slf4j
+final class KafkaStoreHeapEstimator {
+    private static final int OBJECT_HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ALIGNMENT = 8;
+    private static final int MAP_ENTRY = 32;
+    private static final String MODEL_PACKAGE = "com.michelin.ns4kafka";
+
+    private static final Map<Class<?>, ClassLayout> LAYOUTS = new ConcurrentHashMap<>();
+
+    private KafkaStoreHeapEstimator() {}
+
+    /**
+     * Estimate the heap retained by a store.
+     *
+     * @param store The store
+     * @return The estimated size in bytes
+     */
+    static long estimate(Map<String, ?> store) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> pending = new ArrayDeque<>();
+        long size = align(ARRAY_HEADER + (long) REFERENCE * store.size() * 2);
+
+        for (Map.Entry<String, ?> entry : store.entrySet()) {
+            size += MAP_ENTRY;
+            pending.push(entry.getKey());
+            if (entry.getValue() != null) {
+                pending.push(entry.getValue());
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            Object current = pending.pop();
+            if (visited.add(current)) {
+                size += sizeOf(current, pending);
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Compute the shallow size of an object and push the objects it references.
+     *
+     * @param value The object
+     * @param pending The objects left to visit
+     * @return The shallow size in bytes
+     */
+    private static long sizeOf(Object value, Deque<Object> pending) {
+        return switch (value) {
+            case String string -> align(OBJECT_HEADER + 12L) + align(ARRAY_HEADER + (long) string.length());
+            case Enum<?> _, Boolean _, Class<?> _ -> 0;
+            case Long _, Double _, Date _ -> align(OBJECT_HEADER + 8L);
+            case Number _, Character _ -> align(OBJECT_HEADER + 4L);
+            case Map<?, ?> map -> {
+                map.forEach((key, mapValue) -> {
+                    push(pending, key);
+                    push(pending, mapValue);
+                });
+                yield align(OBJECT_HEADER + 36L) + align(ARRAY_HEADER + (long) REFERENCE * map.size() * 2)
+                        + (long) MAP_ENTRY * map.size();
+            }
+            case Collection<?> collection -> {
+                collection.forEach(element -> push(pending, element));
+                yield align(OBJECT_HEADER + 12L) + align(ARRAY_HEADER + (long) REFERENCE * collection.size());
+            }
+            default -> sizeOfObject(value, pending);
+        };
+    }
+
+    /**
+     * Compute the shallow size of an array or a model object and push the objects it references.
+     *
+     * @param value The object
+     * @param pending The objects left to visit
+     * @return The shallow size in bytes
+     */
+    private static long sizeOfObject(Object value, Deque<Object> pending) {
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            if (!type.getComponentType().isPrimitive()) {
+                for (int i = 0; i < length; i++) {
+                    push(pending, Array.get(value, i));
+                }
+                return align(ARRAY_HEADER + (long) REFERENCE * length);
+            }
+            return align(ARRAY_HEADER + (long) primitiveSize(type.getComponentType()) * length);
+        }
+
+        if (!type.getName().startsWith(MODEL_PACKAGE)) {
+            return align(OBJECT_HEADER);
+        }
+
+        ClassLayout layout = LAYOUTS.computeIfAbsent(type, KafkaStoreHeapEstimator::layoutOf);
+        for (Field field : layout.references()) {
+            try {
+                push(pending, field.get(value));
+            } catch (IllegalAccessException e) {
+                log.trace("Cannot read field {} of {}.", field.getName(), type.getName(), e);
+            }
+        }
+        return layout.size();
+    }
+
+    /**
+     * Compute the layout of a model class.
+     *
+     * @param type The class
+     * @return The layout
+     */
+    private static ClassLayout layoutOf(Class<?> type) {
+        long size = OBJECT_HEADER;
+        List<Field> references = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                if (field.getType().isPrimitive()) {
+                    size += primitiveSize(field.getType());
+                } else {
+                    size += REFERENCE;
+                    if (field.trySetAccessible()) {
+                        references.add(field);
+                    }
+                }
+            }
+        }
+        return new ClassLayout(align(size), references);
+    }
+
+    /**
+     * Get the size of a primitive type.
+     *
+     * @param type The primitive type
+     * @return The size in bytes
+     */
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+
+        return 1;
+    }
+
+    /**
+     * Push an object to visit, if it is not null.
+     *
+     * @param pending The objects left to visit
+     * @param value The object
+     */
+    private static void push(Deque<Object> pending, Object value) {
+        if (value != null) {
+            pending.push(value);
+        }
+    }
+
+    /**
+     * Align a size on the object alignment of the JVM.
+     *
+     * @param size The size
+     * @return The aligned size
+     */
+    private static long align(long size) {
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    /**
+     * Layout of a model class.
+     *
+     * @param size The shallow size of the instances
+     * @param references The reference fields
+     */
+    private record ClassLayout(long size, List<Field> references) {}
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Secondary index of a Kafka store. Maps an index key (e.g. a cluster name) to the keys of the store records sharing
+ * this index key. The index key of each record is kept as well, since the records of the store can be updated in place
+ * before being produced again, so their previous index key cannot be computed from the previous record.
+ *
+ * @param <T> The type of the store
+ */
+class KafkaStoreIndex<T> {
+    private final Function<T, String> indexKeyExtractor;
+    private final Map<String, Set<String>> entries = new ConcurrentHashMap<>();
+    private final Map<String, String> indexKeys = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param indexKeyExtractor The function computing the index key of a record. Can return null to not index it
+     */
+    KafkaStoreIndex(Function<T, String> indexKeyExtractor) {
+        this.indexKeyExtractor = indexKeyExtractor;
+    }
+
+    /**
+     * Compute the index key of a record.
+     *
+     * @param value The record
+     * @return The index key, or null if the record is not indexed
+     */
+    String indexKeyOf(T value) {
+        return value != null ? indexKeyExtractor.apply(value) : null;
+    }
+
+    /**
+     * Update the index after a record has been replaced in the store.
+     *
+     * @param storeKey The store key of the record
+     * @param newValue The new record, null if it has been deleted
+     */
+    void update(String storeKey, T newValue) {
+        String newIndexKey = indexKeyOf(newValue);
+        String previousIndexKey =
+                newIndexKey != null ? indexKeys.put(storeKey, newIndexKey) : indexKeys.remove(storeKey);
+
+        if (Objects.equals(previousIndexKey, newIndexKey)) {
+            return;
+        }
+
+        if (previousIndexKey != null) {
+            entries.computeIfPresent(previousIndexKey, (_, storeKeys) -> {
+                storeKeys.remove(storeKey);
+                return storeKeys.isEmpty() ? null : storeKeys;
+            });
+        }
+
+        if (newIndexKey != null) {
+            entries.compute(newIndexKey, (_, storeKeys) -> {
+                Set<String> keys = storeKeys != null ? storeKeys : ConcurrentHashMap.newKeySet();
+                keys.add(storeKey);
+                return keys;
+            });
+        }
+    }
+
+    /**
+     * Get the store keys of the records sharing the given index key.
+     *
+     * @param indexKey The index key
+     * @return The store keys
+     */
+    Set<String> get(String indexKey) {
+        return entries.getOrDefault(indexKey, Set.of());
+    }
+
+    /**
+     * Get the number of distinct index keys.
+     *
+     * @return The number of index keys
+     */
+    int size() {
+        return entries.size();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Pool of canonical values of a Kafka store. Equal low-cardinality values of the records, such as cluster names,
+ * labels or topic configs, are replaced by a single shared instance. Shared maps are immutable, so a record can never
+ * alter the values of another record. The pool only holds weak references, so a value is evicted once no record uses
+ * it anymore.
+ */
+class KafkaStoreInterner {
+    private final Map<String, WeakReference<String>> strings = new WeakHashMap<>();
+    private final Map<Map<String, String>, WeakReference<Map<String, String>>> maps = new WeakHashMap<>();
+
+    /**
+     * Get the canonical instance of a string.
+     *
+     * @param value The string
+     * @return The canonical string, or null if the string is null
+     */
+    String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        return intern(strings, value, UnaryOperator.identity());
+    }
+
+    /**
+     * Get the canonical immutable instance of a map. Maps holding null keys or values are returned as is, since they
+     * cannot be made immutable.
+     *
+     * @param value The map
+     * @return The canonical map, or the given map if it cannot be shared
+     */
+    Map<String, String> intern(Map<String, String> value) {
+        if (value == null || value.entrySet().stream().anyMatch(entry -> entry.getKey() == null
+                || entry.getValue() == null)) {
+            return value;
+        }
+
+        return intern(maps, value, map -> map.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        entry -> intern(entry.getKey()), entry -> intern(entry.getValue()))));
+    }
+
+    /**
+     * Get the canonical instance of a value from a pool, adding a canonical copy of the value if there is none.
+     *
+     * @param pool The pool
+     * @param value The value
+     * @param copier The function building the canonical copy of the value
+     * @param <V> The type of the value
+     * @return The canonical value
+     */
+    private static <V> V intern(Map<V, WeakReference<V>> pool, V value, UnaryOperator<V> copier) {
+        synchronized (pool) {
+            WeakReference<V> reference = pool.get(value);
+            V canonical = reference != null ? reference.get() : null;
+            if (canonical == null) {
+                canonical = copier.apply(value);
+                pool.put(canonical, new WeakReference<>(canonical));
+            }
+
+            return canonical;
+        }
+    }
+
+    /**
+     * Get the number of canonical strings still in use.
+     *
+     * @return The number of strings
+     */
+    int getStringCount() {
+        synchronized (strings) {
+            return strings.size();
+        }
+    }
+
+    /**
+     * Get the number of canonical maps still in use.
+     *
+     * @return The number of maps
+     */
+    int getCollectionCount() {
+        synchronized (maps) {
+            return maps.size();
+        }
+    }
+}
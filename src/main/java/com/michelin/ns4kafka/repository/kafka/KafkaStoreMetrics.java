@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.util.concurrent.TimeUnit;
+
+/** Meters of a Kafka store, tagged with the topic of the store. */
+class KafkaStoreMetrics {
+    static final String PREFIX = "ns4kafka.store";
+    static final String TOPIC_TAG = "topic";
+
+    private final Timer produceAckTimer;
+    private final Timer waitOffsetTimer;
+    private final Counter receivedCounter;
+
+    /**
+     * Constructor.
+     *
+     * @param registry The meter registry
+     * @param tags The tags of the meters
+     */
+    private KafkaStoreMetrics(MeterRegistry registry, Tags tags) {
+        this.produceAckTimer = Timer.builder(PREFIX + ".produce.ack")
+                .description("Time to get the ack of a record produced to the store topic")
+                .tags(tags)
+                .register(registry);
+        this.waitOffsetTimer = Timer.builder(PREFIX + ".wait.offset")
+                .description("Time waited for the store to read an offset")
+                .tags(tags)
+                .register(registry);
+        this.receivedCounter = Counter.builder(PREFIX + ".received")
+                .description("Number of records read from the store topic")
+                .tags(tags)
+                .register(registry);
+    }
+
+    /**
+     * Build meters recording nothing, used until the store is bound to a meter registry.
+     *
+     * @return The meters
+     */
+    static KafkaStoreMetrics noop() {
+        return new KafkaStoreMetrics(new CompositeMeterRegistry(), Tags.empty());
+    }
+
+    /**
+     * Register the meters of a store.
+     *
+     * @param registry The meter registry
+     * @param store The store
+     * @return The meters
+     */
+    static KafkaStoreMetrics bind(MeterRegistry registry, KafkaStore<?> store) {
+        Tags tags = Tags.of(TOPIC_TAG, store.getKafkaTopic());
+
+        Gauge.builder(PREFIX + ".records", store, s -> s.getKafkaStore().size())
+                .description("Number of records in the store")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(PREFIX + ".offset.current", store, KafkaStore::getCurrentOffset)
+                .description("Last offset read by the store")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(PREFIX + ".offset.last.written", store, KafkaStore::getLastWrittenOffset)
+                .description("Last offset written to the store topic")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(PREFIX + ".lag", store, KafkaStore::getReplayLag)
+                .description("Number of records written to the store topic and not read yet by the store")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(PREFIX + ".initialized", store, s -> s.isInitialized() ? 1 : 0)
+                .description("Whether the store is initialized")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(PREFIX + ".init.duration", store, s -> s.getInitDurationMs() / 1000.0)
+                .description("Time taken to initialize the store")
+                .baseUnit("seconds")
+                .tags(tags)
+                .register(registry);
+
+        return new KafkaStoreMetrics(registry, tags);
+    }
+
+    /**
+     * Record the ack of a produced record.
+     *
+     * @param startNanos The time the record was sent
+     */
+    void recordProduceAck(long startNanos) {
+        produceAckTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a wait for an offset.
+     *
+     * @param startNanos The time the wait started
+     */
+    void recordWaitOffset(long startNanos) {
+        waitOffsetTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** Record a record read from the store topic. */
+    void recordReceived() {
+        receivedCounter.increment();
+    }
+}
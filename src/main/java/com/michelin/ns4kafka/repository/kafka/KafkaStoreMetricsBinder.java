@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.context.event.BeanCreatedEventListener;
+import jakarta.inject.Singleton;
+
+/**
+ * Bind the Kafka stores to the meter registry, if metrics are enabled. Each store is bound as soon as it is created,
+ * before its Kafka listener is started, so the records replayed at startup are recorded. The registry is looked up
+ * lazily, since it can be created while the stores are.
+ */
+@Singleton
+public class KafkaStoreMetricsBinder implements BeanCreatedEventListener<KafkaStore<?>> {
+    private final BeanProvider<MeterRegistry> meterRegistryProvider;
+
+    /**
+     * Constructor.
+     *
+     * @param meterRegistryProvider The meter registry provider
+     */
+    public KafkaStoreMetricsBinder(BeanProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    /**
+     * Bind a created Kafka store to the meter registry.
+     *
+     * @param event The bean created event
+     * @return The Kafka store
+     */
+    @Override
+    public KafkaStore<?> onCreated(BeanCreatedEvent<KafkaStore<?>> event) {
+        KafkaStore<?> store = event.getBean();
+        meterRegistryProvider.ifPresent(store::bindMetrics);
+        return store;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Offsets read by a Kafka store, per partition of its topic. Waiters are shared by partition and offset, and ordered,
+ * so a read offset only completes the waiters it satisfies.
+ */
+class KafkaStoreOffsets {
+    private final Map<Integer, Long> offsets = new ConcurrentHashMap<>();
+    private final Map<Integer, ConcurrentNavigableMap<Long, CompletableFuture<Void>>> waiters =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Get the offset read in a partition.
+     *
+     * @param partition The partition
+     * @return The offset, -1 if none
+     */
+    long get(int partition) {
+        return offsets.getOrDefault(partition, -1L);
+    }
+
+    /**
+     * Get the offsets read in all the partitions.
+     *
+     * @return The offsets by partition, ordered by partition
+     */
+    Map<Integer, Long> getAll() {
+        return new TreeMap<>(offsets);
+    }
+
+    /**
+     * Get the sum of the offsets read in all the partitions.
+     *
+     * @return The sum of the offsets
+     */
+    long sum() {
+        return offsets.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Set the offset read in a partition and complete the waiters of lower or equal offsets.
+     *
+     * @param partition The partition
+     * @param offset The offset
+     */
+    void update(int partition, long offset) {
+        offsets.put(partition, offset);
+
+        ConcurrentNavigableMap<Long, CompletableFuture<Void>> partitionWaiters = waiters.get(partition);
+        if (partitionWaiters == null) {
+            return;
+        }
+
+        Map.Entry<Long, CompletableFuture<Void>> waiter;
+        while ((waiter = partitionWaiters.firstEntry()) != null && waiter.getKey() <= offset) {
+            partitionWaiters.remove(waiter.getKey(), waiter.getValue());
+            waiter.getValue().complete(null);
+        }
+    }
+
+    /**
+     * Get a future completed when the given offset is read in a partition.
+     *
+     * @param partition The partition
+     * @param offset The offset
+     * @return A future completed when the offset is read
+     */
+    CompletableFuture<Void> reached(int partition, long offset) {
+        if (get(partition) >= offset) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> waiter = waiters.computeIfAbsent(partition, _ -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(offset, _ -> new CompletableFuture<>());
+
+        // The offset can have been reached between the first check and the registration of the waiter
+        if (get(partition) >= offset) {
+            waiters.get(partition).remove(offset, waiter);
+            waiter.complete(null);
+        }
+
+        return waiter;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.michelin.ns4kafka.util.exception.InvalidWatchPositionException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Position of a watcher in a Kafka store, as the last offset seen in each partition of the store topic. A position is
+ * written as "partition:offset" pairs separated by commas, or as a bare offset for a single-partition topic.
+ */
+final class KafkaStorePosition {
+    private KafkaStorePosition() {}
+
+    /**
+     * Format a position.
+     *
+     * @param offsets The offsets by partition
+     * @return The formatted position
+     */
+    static String format(Map<Integer, Long> offsets) {
+        if (offsets.size() == 1 && offsets.containsKey(0)) {
+            return String.valueOf(offsets.get(0));
+        }
+
+        return new TreeMap<>(offsets)
+                .entrySet().stream()
+                        .map(entry -> entry.getKey() + ":" + entry.getValue())
+                        .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Parse a position.
+     *
+     * @param position The formatted position, or null for no position
+     * @return The offsets by partition, empty if there is no position
+     * @throws InvalidWatchPositionException Exception thrown if the position is malformed
+     */
+    static Map<Integer, Long> parse(String position) throws InvalidWatchPositionException {
+        Map<Integer, Long> offsets = new TreeMap<>();
+        if (position == null || position.isBlank()) {
+            return offsets;
+        }
+
+        try {
+            if (!position.contains(":")) {
+                offsets.put(0, Long.parseLong(position.trim()));
+                return offsets;
+            }
+
+            for (String entry : position.split(",")) {
+                String[] partitionAndOffset = entry.trim().split(":");
+                if (partitionAndOffset.length != 2) {
+                    throw new InvalidWatchPositionException(position);
+                }
+                offsets.put(Integer.parseInt(partitionAndOffset[0]), Long.parseLong(partitionAndOffset[1]));
+            }
+        } catch (NumberFormatException e) {
+            throw new InvalidWatchPositionException(position);
+        }
+
+        return offsets;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Serde of the Kafka store records. Records are written with the configured codec, whose name is written in the
+ * record headers. Records are read with the codec found in their headers, or with the JSON codec if they have none.
+ *
+ * @param <T> The type of the records
+ */
+public class KafkaStoreSerde<T> implements Serde<T>, Serializer<T>, Deserializer<T> {
+    public static final String CODEC_HEADER = "ns4kafka.codec";
+
+    private final Class<T> type;
+    private final KafkaStoreCodec writeCodec;
+    private final Map<String, KafkaStoreCodec> codecs;
+
+    /**
+     * Constructor.
+     *
+     * @param type The type of the records
+     * @param writeCodec The codec used to write the records
+     * @param codecs The codecs by name
+     */
+    public KafkaStoreSerde(Class<T> type, KafkaStoreCodec writeCodec, Map<String, KafkaStoreCodec> codecs) {
+        this.type = type;
+        this.writeCodec = writeCodec;
+        this.codecs = codecs;
+    }
+
+    /**
+     * Get the name of the codec of a record.
+     *
+     * @param headers The record headers
+     * @return The codec name
+     */
+    public static String codecOf(Headers headers) {
+        Header codecHeader = headers != null ? headers.lastHeader(CODEC_HEADER) : null;
+        return codecHeader != null
+                ? new String(codecHeader.value(), StandardCharsets.UTF_8)
+                : JsonKafkaStoreCodec.NAME;
+    }
+
+    /**
+     * Serialize a record without headers. The JSON codec is used, since the codec cannot be written.
+     *
+     * @param topic The topic
+     * @param data The record
+     * @return The serialized record
+     */
+    @Override
+    public byte[] serialize(String topic, T data) {
+        return data != null ? getCodec(JsonKafkaStoreCodec.NAME).encode(data) : null;
+    }
+
+    /**
+     * Serialize a record with the configured codec.
+     *
+     * @param topic The topic
+     * @param headers The record headers
+     * @param data The record
+     * @return The serialized record
+     */
+    @Override
+    public byte[] serialize(String topic, Headers headers, T data) {
+        if (data == null) {
+            return null;
+        }
+
+        headers.remove(CODEC_HEADER);
+        headers.add(CODEC_HEADER, writeCodec.getName().getBytes(StandardCharsets.UTF_8));
+        return writeCodec.encode(data);
+    }
+
+    /**
+     * Deserialize a record without headers, written with the JSON codec.
+     *
+     * @param topic The topic
+     * @param data The serialized record
+     * @return The record
+     */
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return data != null ? getCodec(JsonKafkaStoreCodec.NAME).decode(data, type) : null;
+    }
+
+    /**
+     * Deserialize a record with the codec found in its headers.
+     *
+     * @param topic The topic
+     * @param headers The record headers
+     * @param data The serialized record
+     * @return The record
+     */
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        return data != null ? getCodec(codecOf(headers)).decode(data, type) : null;
+    }
+
+    /**
+     * Get a codec by name.
+     *
+     * @param name The codec name
+     * @return The codec
+     */
+    private KafkaStoreCodec getCodec(String name) {
+        KafkaStoreCodec codec = codecs.get(name);
+        if (codec == null) {
+            throw new SerializationException("Unknown store codec " + name + ".");
+        }
+        return codec;
+    }
+
+    /**
+     * Get the serializer.
+     *
+     * @return The serializer
+     */
+    @Override
+    public Serializer<T> serializer() {
+        return this;
+    }
+
+    /**
+     * Get the deserializer.
+     *
+     * @return The deserializer
+     */
+    @Override
+    public Deserializer<T> deserializer() {
+        return this;
+    }
+}
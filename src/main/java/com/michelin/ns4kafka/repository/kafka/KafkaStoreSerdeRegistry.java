@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micronaut.configuration.kafka.serde.SerdeRegistry;
+import io.micronaut.core.order.Ordered;
+import jakarta.inject.Singleton;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.kafka.common.serialization.Serde;
+
+/** Serde registry of the Kafka store records. Takes precedence over the default JSON serdes for the resources. */
+@Singleton
+public class KafkaStoreSerdeRegistry implements SerdeRegistry {
+    private final Map<String, KafkaStoreCodec> codecs;
+    private final KafkaStoreCodec writeCodec;
+
+    /**
+     * Constructor.
+     *
+     * @param codecs The available codecs
+     * @param ns4KafkaProperties The Ns4Kafka properties
+     */
+    public KafkaStoreSerdeRegistry(List<KafkaStoreCodec> codecs, Ns4KafkaProperties ns4KafkaProperties) {
+        this.codecs = codecs.stream().collect(Collectors.toMap(KafkaStoreCodec::getName, Function.identity()));
+
+        String codecName = ns4KafkaProperties.getStore().getKafka().getCodec().getName();
+        this.writeCodec = this.codecs.get(codecName);
+        if (writeCodec == null) {
+            throw new KafkaStoreException(
+                    "Unknown store codec " + codecName + ". Available codecs are " + this.codecs.keySet() + ".");
+        }
+    }
+
+    /**
+     * Get the serde of the store records.
+     *
+     * @param type The type of the records
+     * @return The serde, or null if the type is not stored in a Kafka store
+     * @param <T> The type of the records
+     */
+    @Override
+    public <T> Serde<T> getSerde(Class<T> type) {
+        return Resource.class.isAssignableFrom(type) ? new KafkaStoreSerde<>(type, writeCodec, codecs) : null;
+    }
+
+    /**
+     * Get the order of the registry.
+     *
+     * @return The highest precedence
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micronaut.serde.annotation.Serdeable;
+import java.util.Map;
+
+/**
+ * Kafka store snapshot.
+ *
+ * @param version The snapshot format version
+ * @param topic The Kafka topic used as store
+ * @param topicId The ID of the Kafka topic used as store
+ * @param offsets The offsets of the last records applied to the snapshot, by partition
+ * @param timestamp The snapshot creation time, in milliseconds
+ * @param records The records of the store
+ * @param <T> The type of the store
+ */
+@Serdeable
+public record KafkaStoreSnapshot<T>(
+        int version, String topic, String topicId, Map<Integer, Long> offsets, long timestamp, Map<String, T> records) {
+    public static final int CURRENT_VERSION = 3;
+}
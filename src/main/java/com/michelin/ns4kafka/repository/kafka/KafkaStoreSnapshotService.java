@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micronaut.core.type.Argument;
+import io.micronaut.json.JsonMapper;
+import jakarta.inject.Singleton;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+
+/** Read and write the Kafka store snapshots on the local disk. */
+@Slf4j
+@Singleton
+public class KafkaStoreSnapshotService {
+    private final Ns4KafkaProperties ns4KafkaProperties;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Constructor.
+     *
+     * @param ns4KafkaProperties The Ns4Kafka properties
+     * @param jsonMapper The JSON mapper
+     */
+    public KafkaStoreSnapshotService(Ns4KafkaProperties ns4KafkaProperties, JsonMapper jsonMapper) {
+        this.ns4KafkaProperties = ns4KafkaProperties;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /**
+     * Are the snapshots enabled.
+     *
+     * @return true if they are, false otherwise
+     */
+    public boolean isEnabled() {
+        return ns4KafkaProperties.getStore().getKafka().getSnapshot().isEnabled();
+    }
+
+    /**
+     * Get the interval between two snapshots.
+     *
+     * @return The interval in milliseconds
+     */
+    public long getIntervalMs() {
+        return ns4KafkaProperties.getStore().getKafka().getSnapshot().getIntervalMs();
+    }
+
+    /**
+     * Read the snapshot of a store. A missing or unreadable snapshot is ignored.
+     *
+     * @param kafkaTopic The Kafka topic used as store
+     * @param messageType The type of the store
+     * @return The snapshot, if any
+     * @param <T> The type of the store
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<KafkaStoreSnapshot<T>> read(String kafkaTopic, Class<T> messageType) {
+        Path snapshotFile = getSnapshotFile(kafkaTopic);
+        if (!Files.exists(snapshotFile)) {
+            log.info("No snapshot found for topic {}.", kafkaTopic);
+            return Optional.empty();
+        }
+
+        try {
+            KafkaStoreSnapshot<T> snapshot = jsonMapper.readValue(
+                    Files.readAllBytes(snapshotFile),
+                    (Argument<KafkaStoreSnapshot<T>>) (Argument<?>) Argument.of(KafkaStoreSnapshot.class, messageType));
+            return Optional.ofNullable(snapshot);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Snapshot {} of topic {} is corrupted and will be ignored.", snapshotFile, kafkaTopic, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write the snapshot of a store. The previous snapshot is replaced atomically, so a crash while writing never
+     * leaves a truncated snapshot behind.
+     *
+     * @param snapshot The snapshot
+     * @param <T> The type of the store
+     */
+    public <T> void write(KafkaStoreSnapshot<T> snapshot) {
+        Path snapshotFile = getSnapshotFile(snapshot.topic());
+
+        try {
+            Files.createDirectories(snapshotFile.getParent());
+            Path tmpFile = Files.createTempFile(snapshotFile.getParent(), snapshot.topic(), ".tmp");
+            try {
+                Files.write(tmpFile, jsonMapper.writeValueAsBytes(snapshot));
+                Files.move(tmpFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+
+            log.debug(
+                    "Snapshot of topic {} written at offsets {} ({} records).",
+                    snapshot.topic(),
+                    snapshot.offsets(),
+                    snapshot.records().size());
+        } catch (IOException | RuntimeException e) {
+            log.error("Error while writing the snapshot of topic {}.", snapshot.topic(), e);
+        }
+    }
+
+    /**
+     * Get the snapshot file of a store.
+     *
+     * @param kafkaTopic The Kafka topic used as store
+     * @return The snapshot file
+     */
+    private Path getSnapshotFile(String kafkaTopic) {
+        return Path.of(ns4KafkaProperties.getStore().getKafka().getSnapshot().getDirectory(), kafkaTopic + ".snapshot");
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import io.micronaut.serde.annotation.Serdeable;
+
+/**
+ * Heap statistics of a Kafka store.
+ *
+ * @param topic The topic of the store
+ * @param records The number of records
+ * @param retainedBytes The estimated heap retained by the records
+ * @param sharedStrings The number of canonical strings shared between the records
+ * @param sharedCollections The number of canonical label maps shared between the records
+ */
+@Serdeable
+public record KafkaStoreStats(
+        String topic, int records, long retainedBytes, int sharedStrings, int sharedCollections) {}
@@ -19,6 +19,8 @@
 package com.michelin.ns4kafka.repository.kafka;
 
 import com.michelin.ns4kafka.model.KafkaStream;
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.property.Ns4KafkaProperties;
 import com.michelin.ns4kafka.repository.StreamRepository;
 import io.micronaut.configuration.kafka.annotation.KafkaClient;
@@ -35,13 +37,15 @@ import java.util.List;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
+import reactor.core.publisher.Flux;
 
 /** Kafka Stream repository. */
 @Singleton
 @KafkaListener(
         offsetReset = OffsetReset.EARLIEST,
         groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
+        offsetStrategy = OffsetStrategy.DISABLED,
+        threadsValue = "${ns4kafka.store.kafka.topics.partitions}")
 public class KafkaStreamRepository extends KafkaStore<KafkaStream> implements StreamRepository {
 
     /**
@@ -52,14 +56,25 @@ public class KafkaStreamRepository extends KafkaStore<KafkaStream> implements St
      * @param adminClient The Kafka admin client
      * @param ns4KafkaProperties Ns4Kafka properties
      * @param taskScheduler The task scheduler
+     * @param snapshotService The snapshot service
      */
     public KafkaStreamRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.streams") String kafkaTopic,
             @KafkaClient("streams-producer") Producer<String, KafkaStream> kafkaProducer,
             AdminClient adminClient,
             Ns4KafkaProperties ns4KafkaProperties,
-            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
-        super(kafkaTopic, kafkaProducer, adminClient, ns4KafkaProperties, taskScheduler);
+            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+            KafkaStoreSnapshotService snapshotService) {
+        super(
+                kafkaTopic,
+                KafkaStream.class,
+                kafkaProducer,
+                adminClient,
+                ns4KafkaProperties,
+                taskScheduler,
+                snapshotService);
+        addIndex(CLUSTER_INDEX, stream -> stream.getMetadata().getCluster());
+        addIndex(CLUSTER_PHASE_INDEX, KafkaStore::clusterPhaseIndexKey);
     }
 
     /**
@@ -91,9 +106,19 @@ public class KafkaStreamRepository extends KafkaStore<KafkaStream> implements St
      */
     @Override
     public List<KafkaStream> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-                .filter(stream -> stream.getMetadata().getCluster().equals(cluster))
-                .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
+    }
+
+    /**
+     * Find all streams by cluster and status phase.
+     *
+     * @param cluster The cluster name
+     * @param phase The status phase
+     * @return The list of streams
+     */
+    @Override
+    public List<KafkaStream> findAllForClusterByPhase(String cluster, Resource.Metadata.Phase phase) {
+        return findAllByIndex(CLUSTER_PHASE_INDEX, clusterPhaseIndexKey(cluster, phase));
     }
 
     /**
@@ -117,6 +142,17 @@ public class KafkaStreamRepository extends KafkaStore<KafkaStream> implements St
         produce(getMessageKey(stream), null);
     }
 
+    /**
+     * Watch the changes of the streams.
+     *
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    @Override
+    public Flux<WatchEvent<KafkaStream>> watch(String fromPosition) {
+        return super.watch(fromPosition);
+    }
+
     /**
      * Receive a stream record from Kafka and update the store.
      *
@@ -18,7 +18,9 @@
  */
 package com.michelin.ns4kafka.repository.kafka;
 
+import com.michelin.ns4kafka.model.Resource;
 import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.property.Ns4KafkaProperties;
 import com.michelin.ns4kafka.repository.TopicRepository;
 import io.micronaut.configuration.kafka.annotation.KafkaClient;
@@ -36,13 +38,16 @@ import java.util.Optional;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.Producer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /** Kafka Topic repository. */
 @Singleton
 @KafkaListener(
         offsetReset = OffsetReset.EARLIEST,
         groupId = "${ns4kafka.store.kafka.group-id}",
-        offsetStrategy = OffsetStrategy.DISABLED)
+        offsetStrategy = OffsetStrategy.DISABLED,
+        threadsValue = "${ns4kafka.store.kafka.topics.partitions}")
 public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepository {
 
     /**
@@ -53,14 +58,25 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
      * @param adminClient The Kafka admin client
      * @param ns4KafkaProperties Ns4Kafka properties
      * @param taskScheduler The task scheduler
+     * @param snapshotService The snapshot service
      */
     public KafkaTopicRepository(
             @Value("${ns4kafka.store.kafka.topics.prefix}.topics") String kafkaTopic,
             @KafkaClient("topics-producer") Producer<String, Topic> kafkaProducer,
             AdminClient adminClient,
             Ns4KafkaProperties ns4KafkaProperties,
-            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
-        super(kafkaTopic, kafkaProducer, adminClient, ns4KafkaProperties, taskScheduler);
+            @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler,
+            KafkaStoreSnapshotService snapshotService) {
+        super(
+                kafkaTopic,
+                Topic.class,
+                kafkaProducer,
+                adminClient,
+                ns4KafkaProperties,
+                taskScheduler,
+                snapshotService);
+        addIndex(CLUSTER_INDEX, topic -> topic.getMetadata().getCluster());
+        addIndex(CLUSTER_PHASE_INDEX, KafkaStore::clusterPhaseIndexKey);
     }
 
     /**
@@ -74,6 +90,20 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
         return topic.getMetadata().getCluster() + "/" + topic.getMetadata().getName();
     }
 
+    /**
+     * Compact a topic. Topics created from the same template share their configs.
+     *
+     * @param topic The topic
+     */
+    @Override
+    protected void compact(Topic topic) {
+        super.compact(topic);
+
+        if (topic.getSpec() != null) {
+            topic.getSpec().setConfigs(getInterner().intern(topic.getSpec().getConfigs()));
+        }
+    }
+
     /**
      * Find all topics.
      *
@@ -92,9 +122,19 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
      */
     @Override
     public List<Topic> findAllForCluster(String cluster) {
-        return getKafkaStore().values().stream()
-                .filter(topic -> topic.getMetadata().getCluster().equals(cluster))
-                .toList();
+        return findAllByIndex(CLUSTER_INDEX, cluster);
+    }
+
+    /**
+     * Find all topics by cluster and status phase.
+     *
+     * @param cluster The cluster
+     * @param phase The status phase
+     * @return The list of topics
+     */
+    @Override
+    public List<Topic> findAllForClusterByPhase(String cluster, Resource.Metadata.Phase phase) {
+        return findAllByIndex(CLUSTER_PHASE_INDEX, clusterPhaseIndexKey(cluster, phase));
     }
 
     /**
@@ -120,6 +160,17 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
         return this.produce(getMessageKey(topic), topic);
     }
 
+    /**
+     * Create a topic without blocking.
+     *
+     * @param topic The topic to create
+     * @return The created topic
+     */
+    @Override
+    public Mono<Topic> createAsync(Topic topic) {
+        return this.produceAsync(getMessageKey(topic), topic);
+    }
+
     /**
      * Delete a topic.
      *
@@ -130,6 +181,38 @@ public class KafkaTopicRepository extends KafkaStore<Topic> implements TopicRepo
         this.produce(getMessageKey(topic), null);
     }
 
+    /**
+     * Create a batch of topics.
+     *
+     * @param topics The topics to create
+     * @return The created topics
+     */
+    @Override
+    public List<Topic> createAll(Collection<Topic> topics) {
+        return this.produceAll(topics);
+    }
+
+    /**
+     * Delete a batch of topics.
+     *
+     * @param topics The topics to delete
+     */
+    @Override
+    public void deleteAll(Collection<Topic> topics) {
+        this.produceAllTombstones(topics);
+    }
+
+    /**
+     * Watch the changes of the topics.
+     *
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    @Override
+    public Flux<WatchEvent<Topic>> watch(String fromPosition) {
+        return super.watch(fromPosition);
+    }
+
     /**
      * Receive a topic record from Kafka and update the store.
      *
@@ -35,6 +35,7 @@ import static com.michelin.ns4kafka.util.FormatErrorUtils.invalidProtectedNamesp
 import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.AccessControlEntryRepository;
 import com.michelin.ns4kafka.service.executor.AccessControlEntryAsyncExecutor;
@@ -49,6 +50,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import reactor.core.publisher.Flux;
 
 /** Access control entry service. */
 @Singleton
@@ -340,31 +342,55 @@ public class AclService {
      * @param accessControlEntry The ACL
      */
     public void delete(AccessControlEntry accessControlEntry) {
-        AccessControlEntryAsyncExecutor accessControlEntryAsyncExecutor = applicationContext.getBean(
-                AccessControlEntryAsyncExecutor.class,
-                Qualifiers.byName(accessControlEntry.getMetadata().getCluster()));
-
-        Optional<ManagedClusterProperties> aclCluster = managedClusterProperties.stream()
-                .filter(cluster -> cluster.getName()
-                        .equals(accessControlEntry.getMetadata().getCluster()))
-                .findFirst();
-
-        if (aclCluster.isPresent() && aclCluster.get().isManageAcls()) {
-            accessControlEntryAsyncExecutor.deleteAcl(accessControlEntry);
-            accessControlEntryRepository.delete(accessControlEntry);
-            return;
-        }
+        deleteAll(List.of(accessControlEntry));
+    }
 
-        if (aclCluster.isPresent()
-                && aclCluster.get().isConfluentCloud()
-                && aclCluster.get().isManageRbac()) {
-            if (RESOURCE_TYPES_TO_DEPLOY.contains(accessControlEntry.getSpec().getResourceType())) {
-                accessControlEntry.getMetadata().setStatus(Resource.Metadata.Status.ofDeleting());
-                accessControlEntryRepository.create(accessControlEntry);
+    /**
+     * Delete a batch of ACLs from broker and from internal topic. The internal topic is written once for the whole
+     * batch.
+     *
+     * @param accessControlEntries The ACLs
+     */
+    public void deleteAll(Collection<AccessControlEntry> accessControlEntries) {
+        List<AccessControlEntry> aclsToDelete = new ArrayList<>();
+        List<AccessControlEntry> aclsToMarkAsDeleting = new ArrayList<>();
+
+        accessControlEntries.forEach(accessControlEntry -> {
+            AccessControlEntryAsyncExecutor accessControlEntryAsyncExecutor = applicationContext.getBean(
+                    AccessControlEntryAsyncExecutor.class,
+                    Qualifiers.byName(accessControlEntry.getMetadata().getCluster()));
+
+            Optional<ManagedClusterProperties> aclCluster = managedClusterProperties.stream()
+                    .filter(cluster -> cluster.getName()
+                            .equals(accessControlEntry.getMetadata().getCluster()))
+                    .findFirst();
+
+            if (aclCluster.isPresent() && aclCluster.get().isManageAcls()) {
+                accessControlEntryAsyncExecutor.deleteAcl(accessControlEntry);
+                aclsToDelete.add(accessControlEntry);
                 return;
             }
 
-            accessControlEntryRepository.delete(accessControlEntry);
+            if (aclCluster.isPresent()
+                    && aclCluster.get().isConfluentCloud()
+                    && aclCluster.get().isManageRbac()) {
+                if (RESOURCE_TYPES_TO_DEPLOY.contains(
+                        accessControlEntry.getSpec().getResourceType())) {
+                    accessControlEntry.getMetadata().setStatus(Resource.Metadata.Status.ofDeleting());
+                    aclsToMarkAsDeleting.add(accessControlEntry);
+                    return;
+                }
+
+                aclsToDelete.add(accessControlEntry);
+            }
+        });
+
+        if (!aclsToMarkAsDeleting.isEmpty()) {
+            accessControlEntryRepository.createAll(aclsToMarkAsDeleting);
+        }
+
+        if (!aclsToDelete.isEmpty()) {
+            accessControlEntryRepository.deleteAll(aclsToDelete);
         }
     }
 
@@ -447,6 +473,24 @@ public class AclService {
                 .toList();
     }
 
+    /**
+     * Watch the changes of the ACLs where a given namespace is either the grantor or the grantee, or of the public
+     * ACLs.
+     *
+     * @param namespace The namespace
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    public Flux<WatchEvent<AccessControlEntry>> watch(Namespace namespace, String fromPosition) {
+        return accessControlEntryRepository.watch(fromPosition).filter(event -> {
+            AccessControlEntry acl = event.getObject();
+            return namespace.getMetadata().getCluster().equals(acl.getMetadata().getCluster())
+                    && (namespace.getMetadata().getName().equals(acl.getMetadata().getNamespace())
+                            || namespace.getMetadata().getName().equals(acl.getSpec().getGrantedTo())
+                            || isPublicAcl(acl));
+        });
+    }
+
     /**
      * Find all ACLs granted to given namespace, filtered by name parameter. Will also return public granted ACLs.
      *
@@ -563,10 +607,7 @@ public class AclService {
      * @return A list of ACLs
      */
     public List<AccessControlEntry> findAllForCluster(String cluster) {
-        return accessControlEntryRepository.findAll().stream()
-                .filter(accessControlEntry ->
-                        accessControlEntry.getMetadata().getCluster().equals(cluster))
-                .toList();
+        return accessControlEntryRepository.findAllForCluster(cluster);
     }
 
     /**
@@ -576,9 +617,8 @@ public class AclService {
      * @return A list of ACLs to deploy
      */
     public List<AccessControlEntry> findNonPublicToDeployForCluster(String cluster) {
-        return accessControlEntryRepository.findAll().stream()
-                .filter(acl -> acl.getMetadata().getCluster().equals(cluster) && !isPublicAcl(acl))
-                .filter(Resource::isPending)
+        return accessControlEntryRepository.findAllForClusterByPhase(cluster, Resource.Metadata.Phase.PENDING).stream()
+                .filter(acl -> !isPublicAcl(acl))
                 .toList();
     }
 
@@ -589,9 +629,20 @@ public class AclService {
      * @return A list of ACLs to delete
      */
     public List<AccessControlEntry> findNonPublicToDeleteForCluster(String cluster) {
-        return accessControlEntryRepository.findAll().stream()
-                .filter(acl -> acl.getMetadata().getCluster().equals(cluster) && !isPublicAcl(acl))
-                .filter(Resource::isDeleting)
+        return accessControlEntryRepository.findAllForClusterByPhase(cluster, Resource.Metadata.Phase.DELETING).stream()
+                .filter(acl -> !isPublicAcl(acl))
+                .toList();
+    }
+
+    /**
+     * Find all non-public ACLs whose deployment failed on a cluster.
+     *
+     * @param cluster The cluster
+     * @return A list of failed ACLs
+     */
+    public List<AccessControlEntry> findNonPublicFailedForCluster(String cluster) {
+        return accessControlEntryRepository.findAllForClusterByPhase(cluster, Resource.Metadata.Phase.FAIL).stream()
+                .filter(acl -> !isPublicAcl(acl))
                 .toList();
     }
 
@@ -685,8 +736,8 @@ public class AclService {
      * @param namespace The namespace
      */
     public void deleteAllGrantedToNamespace(Namespace namespace) {
-        findAllGrantedToNamespace(namespace).stream()
+        deleteAll(findAllGrantedToNamespace(namespace).stream()
                 .filter(acl -> !isPublicAcl(acl))
-                .forEach(this::delete);
+                .toList());
     }
 }
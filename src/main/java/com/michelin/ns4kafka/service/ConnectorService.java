@@ -26,17 +26,21 @@ import static com.michelin.ns4kafka.util.config.ConnectorConfig.CONNECTOR_CLASS;
 import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.model.connect.Connector;
 import com.michelin.ns4kafka.model.connect.ConnectorOffsetResponse;
 import com.michelin.ns4kafka.repository.ConnectorRepository;
 import com.michelin.ns4kafka.service.client.connect.KafkaConnectClient;
 import com.michelin.ns4kafka.service.client.connect.entities.ConnectorOffsetsResponse;
 import com.michelin.ns4kafka.service.client.connect.entities.ConnectorSpecs;
+import com.michelin.ns4kafka.service.executor.ConnectorStatusPoller;
 import com.michelin.ns4kafka.util.FormatErrorUtils;
 import com.michelin.ns4kafka.util.RegexUtils;
 import com.michelin.ns4kafka.validation.ValidationResult;
+import io.micronaut.context.ApplicationContext;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Singleton;
 import java.util.List;
 import java.util.Locale;
@@ -55,6 +59,7 @@ public class ConnectorService {
     private final ConnectClusterService connectClusterService;
     private final ConnectorRepository connectorRepository;
     private final KafkaConnectClient kafkaConnectClient;
+    private final ApplicationContext applicationContext;
 
     /**
      * Constructor.
@@ -63,16 +68,19 @@ public class ConnectorService {
      * @param connectClusterService The Connect Cluster service
      * @param connectorRepository The connector repository
      * @param kafkaConnectClient The Kafka Connect client
+     * @param applicationContext The application context
      */
     public ConnectorService(
             AclService aclService,
             ConnectClusterService connectClusterService,
             ConnectorRepository connectorRepository,
-            KafkaConnectClient kafkaConnectClient) {
+            KafkaConnectClient kafkaConnectClient,
+            ApplicationContext applicationContext) {
         this.aclService = aclService;
         this.connectClusterService = connectClusterService;
         this.kafkaConnectClient = kafkaConnectClient;
         this.connectorRepository = connectorRepository;
+        this.applicationContext = applicationContext;
     }
 
     /**
@@ -90,6 +98,27 @@ public class ConnectorService {
                 .toList();
     }
 
+    /**
+     * Watch the changes of the connectors of a given namespace. The connectors owned by the namespace are resolved
+     * when the watch starts, so a watcher must reconnect to see the connectors of ownerships granted afterward.
+     *
+     * @param namespace The namespace
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    public Flux<WatchEvent<Connector>> watch(Namespace namespace, String fromPosition) {
+        List<AccessControlEntry> acls =
+                aclService.findResourceOwnerGrantedToNamespace(namespace, AccessControlEntry.ResourceType.CONNECT);
+        return connectorRepository
+                .watch(fromPosition)
+                .filter(event -> namespace
+                                .getMetadata()
+                                .getCluster()
+                                .equals(event.getObject().getMetadata().getCluster())
+                        && aclService.isResourceCoveredByAcls(
+                                acls, event.getObject().getMetadata().getName()));
+    }
+
     /**
      * Find all connectors by given namespace, filtered by name parameter.
      *
@@ -105,6 +134,31 @@ public class ConnectorService {
                 .toList();
     }
 
+    /**
+     * Find all connectors by given namespace, filtered by name parameter, with their status. The statuses are served
+     * from the last poll of the Kafka Connect clusters, so Kafka Connect is not called. A connector that has not been
+     * polled yet is returned without status.
+     *
+     * @param namespace The namespace
+     * @param name The name parameter
+     * @return A list of connectors
+     */
+    public List<Connector> findByWildcardNameWithStatus(Namespace namespace, String name) {
+        Optional<ConnectorStatusPoller> connectorStatusPoller = applicationContext.findBean(
+                ConnectorStatusPoller.class,
+                Qualifiers.byName(namespace.getMetadata().getCluster()));
+
+        return findByWildcardName(namespace, name).stream()
+                .map(connector -> Connector.builder()
+                        .metadata(connector.getMetadata())
+                        .spec(connector.getSpec())
+                        .status(connectorStatusPoller
+                                .flatMap(poller -> poller.getStatus(connector))
+                                .orElse(null))
+                        .build())
+                .toList();
+    }
+
     /**
      * Find all connectors by given namespace and Connect cluster.
      *
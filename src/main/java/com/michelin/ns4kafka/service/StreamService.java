@@ -22,6 +22,7 @@ import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.KafkaStream;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.StreamRepository;
 import com.michelin.ns4kafka.service.executor.AccessControlEntryAsyncExecutor;
@@ -36,6 +37,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
+import reactor.core.publisher.Flux;
 
 /** Service to manage Kafka Streams. */
 @Singleton
@@ -79,6 +81,16 @@ public class StreamService {
         this.managedClusterProperties = managedClusterProperties;
     }
 
+    /**
+     * Find all Kafka Streams of a cluster.
+     *
+     * @param cluster The cluster
+     * @return A list of Kafka Streams
+     */
+    public List<KafkaStream> findAllForCluster(String cluster) {
+        return streamRepository.findAllForCluster(cluster);
+    }
+
     /**
      * Find all Kafka Streams to deploy for a cluster.
      *
@@ -103,6 +115,16 @@ public class StreamService {
                 .toList();
     }
 
+    /**
+     * Find all Kafka Streams whose deployment failed on a cluster.
+     *
+     * @param cluster The cluster
+     * @return A list of Kafka Streams
+     */
+    public List<KafkaStream> findAllFailedForCluster(String cluster) {
+        return streamRepository.findAllForClusterByPhase(cluster, Resource.Metadata.Phase.FAIL);
+    }
+
     /**
      * Find all Kafka Streams of a given namespace.
      *
@@ -117,6 +139,26 @@ public class StreamService {
                 .toList();
     }
 
+    /**
+     * Watch the changes of the Kafka Streams of a given namespace.
+     *
+     * @param namespace The namespace
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    public Flux<WatchEvent<KafkaStream>> watch(Namespace namespace, String fromPosition) {
+        return streamRepository
+                .watch(fromPosition)
+                .filter(event -> namespace
+                                .getMetadata()
+                                .getCluster()
+                                .equals(event.getObject().getMetadata().getCluster())
+                        && namespace
+                                .getMetadata()
+                                .getName()
+                                .equals(event.getObject().getMetadata().getNamespace()));
+    }
+
     /**
      * Find all Kafka Streams of a given namespace, filtered by name parameter.
      *
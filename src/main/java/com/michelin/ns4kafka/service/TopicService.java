@@ -29,6 +29,7 @@ import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
 import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.TopicRepository;
 import com.michelin.ns4kafka.service.executor.TopicAsyncExecutor;
@@ -47,6 +48,8 @@ import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import org.apache.kafka.clients.admin.RecordsToDelete;
 import org.apache.kafka.common.TopicPartition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /** Service to manage topics. */
 @Singleton
@@ -91,9 +94,7 @@ public class TopicService {
      * @return A list of topics
      */
     public List<Topic> findAllToDeployForCluster(String cluster) {
-        return topicRepository.findAllForCluster(cluster).stream()
-                .filter(Resource::isPending)
-                .toList();
+        return topicRepository.findAllForClusterByPhase(cluster, Resource.Metadata.Phase.PENDING);
     }
 
     /**
@@ -103,9 +104,27 @@ public class TopicService {
      * @return A list of topics
      */
     public List<Topic> findAllToDeleteForCluster(String cluster) {
-        return topicRepository.findAllForCluster(cluster).stream()
-                .filter(Resource::isDeleting)
-                .toList();
+        return topicRepository.findAllForClusterByPhase(cluster, Resource.Metadata.Phase.DELETING);
+    }
+
+    /**
+     * Find all topics whose deployment failed on a cluster.
+     *
+     * @param cluster The cluster
+     * @return A list of topics
+     */
+    public List<Topic> findAllFailedForCluster(String cluster) {
+        return topicRepository.findAllForClusterByPhase(cluster, Resource.Metadata.Phase.FAIL);
+    }
+
+    /**
+     * Find all topics successfully deployed on a cluster.
+     *
+     * @param cluster The cluster
+     * @return A list of topics
+     */
+    public List<Topic> findAllSucceededForCluster(String cluster) {
+        return topicRepository.findAllForClusterByPhase(cluster, Resource.Metadata.Phase.SUCCESS);
     }
 
     /**
@@ -123,6 +142,27 @@ public class TopicService {
                 .toList();
     }
 
+    /**
+     * Watch the changes of the topics of a given namespace. The topics owned by the namespace are resolved when the
+     * watch starts, so a watcher must reconnect to see the topics of ownerships granted afterward.
+     *
+     * @param namespace The namespace
+     * @param fromPosition The position of the last change already seen, or null to only get the new changes
+     * @return The changes
+     */
+    public Flux<WatchEvent<Topic>> watch(Namespace namespace, String fromPosition) {
+        List<AccessControlEntry> acls =
+                aclService.findResourceOwnerGrantedToNamespace(namespace, AccessControlEntry.ResourceType.TOPIC);
+        return topicRepository
+                .watch(fromPosition)
+                .filter(event -> namespace
+                                .getMetadata()
+                                .getCluster()
+                                .equals(event.getObject().getMetadata().getCluster())
+                        && aclService.isResourceCoveredByAcls(
+                                acls, event.getObject().getMetadata().getName()));
+    }
+
     /**
      * Find all topics of a given namespace, filtered by name parameter.
      *
@@ -182,34 +222,43 @@ public class TopicService {
     }
 
     /**
-     * List all topics colliding with existing topics on broker but not in Ns4Kafka.
+     * Create a given topic without blocking.
+     *
+     * @param topic The topic to create
+     * @return The created topic
+     */
+    public Mono<Topic> createAsync(Topic topic) {
+        return topicRepository.createAsync(topic);
+    }
+
+    /**
+     * Create a batch of topics.
+     *
+     * @param topics The topics to create
+     * @return The created topics
+     */
+    public List<Topic> createAll(List<Topic> topics) {
+        return topicRepository.createAll(topics);
+    }
+
+    /**
+     * List all topics colliding with existing topics on broker but not in Ns4Kafka, without blocking.
      *
      * @param namespace The namespace
      * @param topic The topic
      * @return The list of colliding topics
-     * @throws ExecutionException Any execution exception
-     * @throws InterruptedException Any interrupted exception
-     * @throws TimeoutException Any timeout exception
      */
-    public List<String> findCollidingTopics(Namespace namespace, Topic topic)
-            throws InterruptedException, ExecutionException, TimeoutException {
+    public Mono<List<String>> findCollidingTopics(Namespace namespace, Topic topic) {
         TopicAsyncExecutor topicAsyncExecutor = applicationContext.getBean(
                 TopicAsyncExecutor.class,
                 Qualifiers.byName(namespace.getMetadata().getCluster()));
 
-        try {
-            List<String> clusterTopics = topicAsyncExecutor.listBrokerTopicNames();
-            return clusterTopics.stream()
-                    // existing topics with the exact same name (and not currently in Ns4Kafka) should not interfere
-                    // this topic could be created on Ns4Kafka during "import" step
-                    .filter(clusterTopic -> !topic.getMetadata().getName().equals(clusterTopic))
-                    .filter(clusterTopic ->
-                            hasCollision(clusterTopic, topic.getMetadata().getName()))
-                    .toList();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new InterruptedException(e.getMessage());
-        }
+        return topicAsyncExecutor.listBrokerTopicNamesAsync().map(clusterTopics -> clusterTopics.stream()
+                // existing topics with the exact same name (and not currently in Ns4Kafka) should not interfere
+                // this topic could be created on Ns4Kafka during "import" step
+                .filter(clusterTopic -> !topic.getMetadata().getName().equals(clusterTopic))
+                .filter(clusterTopic -> hasCollision(clusterTopic, topic.getMetadata().getName()))
+                .toList());
     }
 
     /**
@@ -300,6 +349,30 @@ public class TopicService {
                 .toList();
     }
 
+    /**
+     * List all topics of a given namespace whose configs on broker have drifted from Ns4Kafka, filtered by name
+     * parameter. The topics are returned as last seen on broker by the drift detection.
+     *
+     * @param namespace The namespace
+     * @param name The name parameter
+     * @return The list of topics
+     */
+    public List<Topic> listDriftedTopicsByWildcardName(Namespace namespace, String name) {
+        TopicAsyncExecutor topicAsyncExecutor = applicationContext.getBean(
+                TopicAsyncExecutor.class,
+                Qualifiers.byName(namespace.getMetadata().getCluster()));
+
+        List<String> nameFilterPatterns = RegexUtils.convertWildcardStringsToRegex(List.of(name));
+        List<AccessControlEntry> acls =
+                aclService.findResourceOwnerGrantedToNamespace(namespace, AccessControlEntry.ResourceType.TOPIC);
+
+        return topicAsyncExecutor.findDriftedTopics().stream()
+                .filter(topic -> aclService.isResourceCoveredByAcls(
+                                acls, topic.getMetadata().getName())
+                        && RegexUtils.isResourceCoveredByRegex(topic.getMetadata().getName(), nameFilterPatterns))
+                .toList();
+    }
+
     /**
      * Validate if a topic can be eligible for records deletion.
      *
@@ -37,7 +37,9 @@ import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -76,6 +78,10 @@ public class AccessControlEntryAsyncExecutor {
     private final StreamService streamService;
     private final NamespaceRepository namespaceRepository;
     private final AclBindingFilter aclBindingFilter;
+    private final Set<AclBinding> brokerAclCache = ConcurrentHashMap.newKeySet();
+    private final Map<String, MemoizedAclBindings> aclBindingsMemo = new ConcurrentHashMap<>();
+    private long lastBrokerAclResyncNanos;
+    private boolean brokerAclCacheLoaded;
 
     /**
      * Constructor.
@@ -116,8 +122,9 @@ public class AccessControlEntryAsyncExecutor {
         log.debug("Starting ACL collection for cluster {}", managedClusterProperties.getName());
 
         try {
-            Set<AclBinding> brokerAcls = collectBrokerAcls();
-            Set<AclBinding> ns4KafkaAcls = collectNs4KafkaAcls();
+            Map<String, NamespaceAclContext> namespaceContexts = buildNamespaceAclContexts();
+            Set<AclBinding> brokerAcls = collectBrokerAcls(namespaceContexts);
+            Set<AclBinding> ns4KafkaAcls = collectNs4KafkaAcls(namespaceContexts);
 
             // Add ACLs before delete to avoid breaking ACL
             // such as deleting <LITERAL "toto.titi"> only to add one second later <PREFIX "toto.">
@@ -167,44 +174,68 @@ public class AccessControlEntryAsyncExecutor {
         }
     }
 
+    /**
+     * Build the lookup table of the namespaces of the cluster, so the ACLs are converted without looking up their
+     * namespace and Kafka Streams one by one.
+     *
+     * @return The ACL context of each namespace, by namespace name
+     */
+    private Map<String, NamespaceAclContext> buildNamespaceAclContexts() {
+        Set<String> namespacesWithKafkaStreams =
+                streamService.findAllForCluster(managedClusterProperties.getName()).stream()
+                        .map(kafkaStream -> kafkaStream.getMetadata().getNamespace())
+                        .collect(Collectors.toSet());
+
+        return namespaceRepository.findAllForCluster(managedClusterProperties.getName()).stream()
+                .collect(Collectors.toMap(
+                        namespace -> namespace.getMetadata().getName(),
+                        namespace -> new NamespaceAclContext(
+                                USER_PRINCIPAL + namespace.getSpec().getKafkaUser(),
+                                namespace.getSpec().isTransactionsEnabled(),
+                                namespacesWithKafkaStreams.contains(
+                                        namespace.getMetadata().getName()))));
+    }
+
     /**
      * Collect the ACLs from Ns4Kafka. Whenever the permission is OWNER, create 2 entries (one READ and one WRITE) This
      * is necessary to translate Ns4Kafka grouped AccessControlEntry (OWNER, WRITE, READ) into Kafka Atomic ACLs (READ
      * and WRITE)
      *
+     * <p>The ACL bindings of each ACL are memoized, and converted again only when its spec or the context of its
+     * namespace has changed.
+     *
+     * @param namespaceContexts The ACL context of each namespace of the cluster
      * @return A set of ACLs
      */
-    private Set<AclBinding> collectNs4KafkaAcls() {
-        Stream<AclBinding> aclBindings = aclService.findAllForCluster(managedClusterProperties.getName()).stream()
-                .flatMap(acl -> {
-                    // Converts topic and group Ns4Kafka ACLs to topic & group & transactional AclBindings
-                    if (TOPIC_GROUP_RESOURCE_TYPES.contains(acl.getSpec().getResourceType())) {
-                        return convertAclToAclBindings(acl).stream();
-                    }
+    private Set<AclBinding> collectNs4KafkaAcls(Map<String, NamespaceAclContext> namespaceContexts) {
+        List<AccessControlEntry> acls = aclService.findAllForCluster(managedClusterProperties.getName());
 
-                    // Converts connector ACLs to group AclBindings (connect-)
-                    if (acl.getSpec().getResourceType() == CONNECT
-                            && acl.getSpec().getPermission() == AccessControlEntry.Permission.OWNER) {
-                        return Stream.of(convertConnectorAclToAclBinding(acl));
-                    }
-
-                    return Stream.empty();
-                });
+        Stream<AclBinding> aclBindings = acls.stream()
+                .filter(acl -> TOPIC_GROUP_RESOURCE_TYPES.contains(acl.getSpec().getResourceType())
+                        || (acl.getSpec().getResourceType() == CONNECT
+                                && acl.getSpec().getPermission() == AccessControlEntry.Permission.OWNER))
+                .flatMap(acl -> memoizedAclBindings(acl, namespaceContexts).stream());
 
         // Converts KafkaStream resources to topic (CREATE/DELETE) AclBindings
-        // Looping over namespaces because some Kafka Streams might have a non-existing namespace
+        // Looping over the Kafka Streams of known namespaces because some Kafka Streams might have a non-existing
+        // namespace
         Stream<AclBinding> streamAclBindings =
-                namespaceRepository.findAllForCluster(managedClusterProperties.getName()).stream()
-                        .flatMap(namespace -> {
-                            String principal =
-                                    USER_PRINCIPAL + namespace.getSpec().getKafkaUser();
-                            return streamService.findAllForNamespace(namespace).stream()
-                                    .flatMap(kafkaStream -> buildAclBindingsFromKafkaStream(kafkaStream, principal));
-                        });
+                streamService.findAllForCluster(managedClusterProperties.getName()).stream()
+                        .filter(kafkaStream -> namespaceContexts.containsKey(
+                                kafkaStream.getMetadata().getNamespace()))
+                        .flatMap(kafkaStream -> buildAclBindingsFromKafkaStream(
+                                kafkaStream,
+                                namespaceContexts
+                                        .get(kafkaStream.getMetadata().getNamespace())
+                                        .principal()));
 
         Set<AclBinding> ns4KafkaAcls =
                 Stream.concat(aclBindings, streamAclBindings).collect(Collectors.toSet());
 
+        // Forget the ACLs that no longer exist
+        Set<String> aclKeys = acls.stream().map(this::aclKey).collect(Collectors.toSet());
+        aclBindingsMemo.keySet().retainAll(aclKeys);
+
         if (!ns4KafkaAcls.isEmpty()) {
             log.atTrace()
                     .addArgument(() ->
@@ -216,38 +247,130 @@ public class AccessControlEntryAsyncExecutor {
     }
 
     /**
-     * Collect the ACLs from broker.
+     * Get the ACL bindings of an ACL, converting it again only if its spec or the context of its namespace has changed
+     * since the last conversion.
+     *
+     * @param acl The Ns4Kafka ACL
+     * @param namespaceContexts The ACL context of each namespace of the cluster
+     * @return The ACL bindings
+     */
+    private List<AclBinding> memoizedAclBindings(
+            AccessControlEntry acl, Map<String, NamespaceAclContext> namespaceContexts) {
+        NamespaceAclContext namespaceContext = aclService.isPublicAcl(acl)
+                ? null
+                : namespaceContexts.computeIfAbsent(acl.getSpec().getGrantedTo(), this::findNamespaceAclContext);
+
+        MemoizedAclBindings memoized = aclBindingsMemo.get(aclKey(acl));
+        if (memoized != null
+                && memoized.spec().equals(acl.getSpec())
+                && Objects.equals(memoized.namespaceContext(), namespaceContext)) {
+            return memoized.aclBindings();
+        }
+
+        List<AclBinding> aclBindings = TOPIC_GROUP_RESOURCE_TYPES.contains(acl.getSpec().getResourceType())
+                ? convertAclToAclBindings(acl, namespaceContext)
+                : List.of(convertConnectorAclToAclBinding(acl, namespaceContext));
+
+        aclBindingsMemo.put(aclKey(acl), new MemoizedAclBindings(acl.getSpec(), namespaceContext, aclBindings));
+        return aclBindings;
+    }
+
+    /**
+     * Find the ACL context of a namespace, for the ACLs granted to a namespace out of the lookup table.
+     *
+     * @param namespaceName The namespace name
+     * @return The ACL context of the namespace
+     */
+    private NamespaceAclContext findNamespaceAclContext(String namespaceName) {
+        Namespace namespace = namespaceRepository.findByName(namespaceName).orElseThrow();
+        return new NamespaceAclContext(
+                USER_PRINCIPAL + namespace.getSpec().getKafkaUser(),
+                namespace.getSpec().isTransactionsEnabled(),
+                streamService.hasKafkaStream(namespace));
+    }
+
+    /**
+     * Get the key of an ACL in the ACL bindings memo.
+     *
+     * @param acl The ACL
+     * @return The key
+     */
+    private String aclKey(AccessControlEntry acl) {
+        return acl.getMetadata().getNamespace() + "/" + acl.getMetadata().getName();
+    }
+
+    /**
+     * Collect the ACLs from broker. The ACLs are read from a cache, kept up to date with the ACLs created and deleted
+     * by Ns4Kafka, and fully described again from broker once per resynchronization interval to catch up with the
+     * changes made outside of Ns4Kafka. Until then, an ACL deleted outside of Ns4Kafka is still seen as deployed so it
+     * is not restored, and an ACL created outside of Ns4Kafka is not dropped.
      *
+     * @param namespaceContexts The ACL context of each namespace of the cluster
      * @return A set of ACLs
      * @throws ExecutionException Any execution exception during ACLs description
      * @throws InterruptedException Any interrupted exception during ACLs description
      * @throws TimeoutException Any timeout exception during ACLs description
      */
-    private Set<AclBinding> collectBrokerAcls() throws ExecutionException, InterruptedException, TimeoutException {
+    private Set<AclBinding> collectBrokerAcls(Map<String, NamespaceAclContext> namespaceContexts)
+            throws ExecutionException, InterruptedException, TimeoutException {
         // Collect the list of users managed in Ns4Kafka
-        Set<String> managedUsers = namespaceRepository.findAllForCluster(managedClusterProperties.getName()).stream()
-                .map(namespace -> USER_PRINCIPAL + namespace.getSpec().getKafkaUser())
+        Set<String> managedUsers = namespaceContexts.values().stream()
+                .map(NamespaceAclContext::principal)
                 .collect(Collectors.toSet());
         managedUsers.add(USER_PRINCIPAL_PUBLIC);
 
-        return getAdminClient()
+        if (isBrokerAclResyncDue()) {
+            resyncBrokerAcls();
+        }
+
+        return brokerAclCache.stream()
+                .filter(aclBinding -> managedUsers.contains(aclBinding.entry().principal()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Check if the broker ACLs cache must be fully described again from broker.
+     *
+     * @return true if it must, false otherwise
+     */
+    private boolean isBrokerAclResyncDue() {
+        return !brokerAclCacheLoaded
+                || System.nanoTime() - lastBrokerAclResyncNanos
+                        >= TimeUnit.MILLISECONDS.toNanos(managedClusterProperties.getAclResyncIntervalMs());
+    }
+
+    /**
+     * Describe all the ACLs from broker and replace the broker ACLs cache with them.
+     *
+     * @throws ExecutionException Any execution exception during ACLs description
+     * @throws InterruptedException Any interrupted exception during ACLs description
+     * @throws TimeoutException Any timeout exception during ACLs description
+     */
+    private void resyncBrokerAcls() throws ExecutionException, InterruptedException, TimeoutException {
+        Set<AclBinding> brokerAcls = getAdminClient()
                 .describeAcls(aclBindingFilter)
                 .values()
                 .get(managedClusterProperties.getTimeout().getAcl().getDescribe(), TimeUnit.MILLISECONDS)
                 .stream()
-                .filter(aclBinding ->
-                        VALID_RESOURCE_TYPES.contains(aclBinding.pattern().resourceType())
-                                && managedUsers.contains(aclBinding.entry().principal()))
+                .filter(aclBinding -> VALID_RESOURCE_TYPES.contains(aclBinding.pattern().resourceType()))
                 .collect(Collectors.toSet());
+
+        brokerAclCache.retainAll(brokerAcls);
+        brokerAclCache.addAll(brokerAcls);
+        lastBrokerAclResyncNanos = System.nanoTime();
+        brokerAclCacheLoaded = true;
+
+        log.debug("Resynchronized {} ACL(s) from cluster {}", brokerAcls.size(), managedClusterProperties.getName());
     }
 
     /**
      * Convert Ns4Kafka topic and group ACL into Kafka ACL.
      *
      * @param acl The Ns4Kafka ACL
+     * @param namespaceContext The ACL context of the namespace the ACL is granted to, null for a public ACL
      * @return A list of Kafka ACLs
      */
-    private List<AclBinding> convertAclToAclBindings(AccessControlEntry acl) {
+    private List<AclBinding> convertAclToAclBindings(AccessControlEntry acl, NamespaceAclContext namespaceContext) {
         // Convert pattern & resource type from Ns4Kafka to org.apache.kafka.common types
         PatternType patternType =
                 PatternType.fromString(acl.getSpec().getResourcePatternType().toString());
@@ -276,9 +399,7 @@ public class AccessControlEntryAsyncExecutor {
                     .toList();
         }
 
-        Namespace namespace =
-                namespaceRepository.findByName(acl.getSpec().getGrantedTo()).orElseThrow();
-        String principal = USER_PRINCIPAL + namespace.getSpec().getKafkaUser();
+        String principal = namespaceContext.principal();
 
         // At most 5 ACLs will be generated (owner of ACL GROUP generates the most)
         List<AclBinding> results = new ArrayList<>(5);
@@ -288,9 +409,9 @@ public class AccessControlEntryAsyncExecutor {
                         principal, "*", aclOperation, AclPermissionType.ALLOW))));
 
         if (GROUP.equals(acl.getSpec().getResourceType())) {
-            if (namespace.getSpec().isTransactionsEnabled()) {
+            if (namespaceContext.transactionsEnabled()) {
                 addEosConnectorAclBindings(results, acl, principal);
-            } else if (streamService.hasKafkaStream(namespace)) {
+            } else if (namespaceContext.hasKafkaStream()) {
                 addKafkaStreamAclBindings(results, acl, principal);
             }
         }
@@ -387,25 +508,20 @@ public class AccessControlEntryAsyncExecutor {
      * Convert Ns4Kafka connect ACL into Kafka ACL.
      *
      * @param acl The Ns4Kafka ACL
+     * @param namespaceContext The ACL context of the namespace the ACL is granted to
      * @return A Kafka ACL
      */
-    private AclBinding convertConnectorAclToAclBinding(AccessControlEntry acl) {
+    private AclBinding convertConnectorAclToAclBinding(AccessControlEntry acl, NamespaceAclContext namespaceContext) {
         PatternType patternType =
                 PatternType.fromString(acl.getSpec().getResourcePatternType().toString());
 
         ResourcePattern resourcePattern = new ResourcePattern(
                 ResourceType.GROUP, "connect-" + acl.getSpec().getResource(), patternType);
 
-        String kafkaUser = namespaceRepository
-                .findByName(acl.getSpec().getGrantedTo())
-                .orElseThrow()
-                .getSpec()
-                .getKafkaUser();
-
         return new AclBinding(
                 resourcePattern,
                 new org.apache.kafka.common.acl.AccessControlEntry(
-                        USER_PRINCIPAL + kafkaUser, "*", AclOperation.READ, AclPermissionType.ALLOW));
+                        namespaceContext.principal(), "*", AclOperation.READ, AclPermissionType.ALLOW));
     }
 
     /**
@@ -457,6 +573,7 @@ public class AccessControlEntryAsyncExecutor {
                 .forEach((key, value) -> {
                     try {
                         value.get(managedClusterProperties.getTimeout().getAcl().getDelete(), TimeUnit.MILLISECONDS);
+                        brokerAclCache.removeIf(key::matches);
                         log.info("Success deleting ACL {} on cluster {}.", key, managedClusterProperties.getName());
                     } catch (InterruptedException e) {
                         log.error("Error", e);
@@ -480,13 +597,17 @@ public class AccessControlEntryAsyncExecutor {
         if (managedClusterProperties.isManageAcls()) {
             List<AclBinding> results = new ArrayList<>();
 
+            NamespaceAclContext namespaceContext = aclService.isPublicAcl(accessControlEntry)
+                    ? null
+                    : findNamespaceAclContext(accessControlEntry.getSpec().getGrantedTo());
+
             if (TOPIC_GROUP_RESOURCE_TYPES.contains(accessControlEntry.getSpec().getResourceType())) {
-                results.addAll(convertAclToAclBindings(accessControlEntry));
+                results.addAll(convertAclToAclBindings(accessControlEntry, namespaceContext));
             }
 
             if (accessControlEntry.getSpec().getResourceType() == CONNECT
                     && accessControlEntry.getSpec().getPermission() == AccessControlEntry.Permission.OWNER) {
-                results.add(convertConnectorAclToAclBinding(accessControlEntry));
+                results.add(convertConnectorAclToAclBinding(accessControlEntry, namespaceContext));
             }
 
             deleteAcls(results);
@@ -506,6 +627,7 @@ public class AccessControlEntryAsyncExecutor {
         getAdminClient().createAcls(toCreate).values().forEach((key, value) -> {
             try {
                 value.get(managedClusterProperties.getTimeout().getAcl().getCreate(), TimeUnit.MILLISECONDS);
+                brokerAclCache.add(key);
                 log.info("Success creating ACL {} on {}", key, managedClusterProperties.getName());
             } catch (InterruptedException e) {
                 log.error("Error", e);
@@ -538,4 +660,25 @@ public class AccessControlEntryAsyncExecutor {
     private Admin getAdminClient() {
         return managedClusterProperties.getAdminClient();
     }
+
+    /**
+     * Context of a namespace needed to convert the ACLs granted to it.
+     *
+     * @param principal The Kafka principal of the namespace
+     * @param transactionsEnabled Whether the transactions are enabled for the namespace
+     * @param hasKafkaStream Whether the namespace has Kafka Streams
+     */
+    private record NamespaceAclContext(String principal, boolean transactionsEnabled, boolean hasKafkaStream) {}
+
+    /**
+     * ACL bindings converted from an ACL.
+     *
+     * @param spec The spec of the ACL when converted
+     * @param namespaceContext The context of the namespace of the ACL when converted, null for a public ACL
+     * @param aclBindings The ACL bindings
+     */
+    private record MemoizedAclBindings(
+            AccessControlEntry.AccessControlEntrySpec spec,
+            NamespaceAclContext namespaceContext,
+            List<AclBinding> aclBindings) {}
 }
@@ -37,11 +37,24 @@ import com.michelin.ns4kafka.service.NamespaceService;
 import com.michelin.ns4kafka.service.StreamService;
 import com.michelin.ns4kafka.service.client.confluent.ConfluentCloudClient;
 import com.michelin.ns4kafka.service.client.confluent.entities.RoleBinding;
+import com.michelin.ns4kafka.service.client.confluent.entities.RoleBindingRequest;
+import com.michelin.ns4kafka.service.client.confluent.entities.RoleBindingResponse;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 /** Access control entry executor. */
 @Slf4j
@@ -57,6 +70,10 @@ public class ConfluentRoleBindingAsyncExecutor {
     private final StreamService streamService;
     private final AccessControlEntryRepository aclRepository;
     private final KafkaStreamRepository kafkaStreamRepository;
+    private final RoleBindingRateLimiter rateLimiter = new RoleBindingRateLimiter();
+    private final Map<String, Mono<ListedRoleBindings>> roleBindingCache = new ConcurrentHashMap<>();
+    private final FailedResourceRetryQueue<AccessControlEntry> failedAclRetryQueue = new FailedResourceRetryQueue<>();
+    private final FailedResourceRetryQueue<KafkaStream> failedStreamRetryQueue = new FailedResourceRetryQueue<>();
 
     /**
      * Constructor.
@@ -86,13 +103,47 @@ public class ConfluentRoleBindingAsyncExecutor {
         this.kafkaStreamRepository = kafkaStreamRepository;
     }
 
-    /** Run the ACLs synchronization. */
+    /** Run the ACLs synchronization. The failed ACLs and Kafka Streams whose retry is due are deployed again. */
     public void run() {
         if (!this.managedClusterProperties.isManageAcls()
                 && this.managedClusterProperties.isConfluentCloud()
                 && this.managedClusterProperties.isManageRbac()) {
             log.debug("Starting Role Bindings collection for cluster {}", managedClusterProperties.getName());
 
+            failedAclRetryQueue.seed(
+                    () -> aclService.findNonPublicFailedForCluster(managedClusterProperties.getName()),
+                    managedClusterProperties.getFailedRetry());
+            failedAclRetryQueue
+                    .retryDue(
+                            acl -> aclService.findByName(
+                                    acl.getMetadata().getNamespace(),
+                                    acl.getMetadata().getName()),
+                            (acl, metadata) -> AccessControlEntry.builder()
+                                    .metadata(metadata)
+                                    .spec(acl.getSpec())
+                                    .build(),
+                            aclRepository::create)
+                    .forEach(acl -> log.info(
+                            "Retrying failed ACL {} on {}.",
+                            acl.getMetadata().getName(),
+                            managedClusterProperties.getName()));
+
+            failedStreamRetryQueue.seed(
+                    () -> streamService.findAllFailedForCluster(managedClusterProperties.getName()),
+                    managedClusterProperties.getFailedRetry());
+            failedStreamRetryQueue
+                    .retryDue(
+                            ks -> namespaceService
+                                    .findByName(ks.getMetadata().getNamespace())
+                                    .flatMap(namespace -> streamService.findByName(
+                                            namespace, ks.getMetadata().getName())),
+                            (ks, metadata) -> KafkaStream.builder().metadata(metadata).build(),
+                            kafkaStreamRepository::create)
+                    .forEach(ks -> log.info(
+                            "Retrying failed KafkaStream {} on {}.",
+                            ks.getMetadata().getName(),
+                            managedClusterProperties.getName()));
+
             // Public ACLs are handled by the ACL executor as Confluent Role Binding cannot manage "*"
             List<AccessControlEntry> aclsToCreate =
                     aclService.findNonPublicToDeployForCluster(managedClusterProperties.getName());
@@ -104,10 +155,14 @@ public class ConfluentRoleBindingAsyncExecutor {
             List<KafkaStream> streamsToDelete =
                     streamService.findAllToDeleteForCluster(managedClusterProperties.getName());
 
-            createRoleBindingsFromAcls(aclsToCreate);
-            createRoleBindingsFromKafkaStreams(streamsToCreate);
-            deleteRoleBindingsFromAcls(aclsToDelete);
-            deleteRoleBindingsFromKafkaStreams(streamsToDelete);
+            List<Mono<Void>> requests = new ArrayList<>();
+            requests.addAll(createRoleBindingRequestsFromAcls(aclsToCreate));
+            requests.addAll(createRoleBindingRequestsFromKafkaStreams(streamsToCreate));
+            requests.addAll(deleteRoleBindingRequestsFromAcls(aclsToDelete));
+            requests.addAll(deleteRoleBindingRequestsFromKafkaStreams(streamsToDelete));
+
+            // Wait for all the requests so the next run does not overlap the requests still in flight
+            sendRoleBindingRequests(requests);
         }
     }
 
@@ -117,12 +172,179 @@ public class ConfluentRoleBindingAsyncExecutor {
      * @param toCreate The list of ACLs
      */
     void createRoleBindingsFromAcls(List<AccessControlEntry> toCreate) {
+        sendRoleBindingRequests(createRoleBindingRequestsFromAcls(toCreate));
+    }
+
+    /**
+     * Create Role Bindings from Kafka Streams.
+     *
+     * @param toCreate The list of Kafka Streams
+     */
+    void createRoleBindingsFromKafkaStreams(List<KafkaStream> toCreate) {
+        sendRoleBindingRequests(createRoleBindingRequestsFromKafkaStreams(toCreate));
+    }
+
+    /**
+     * Delete Role Bindings associated to Ns4Kafka ACLs.
+     *
+     * @param acls The Ns4Kafka ACLs
+     */
+    public void deleteRoleBindingsFromAcls(List<AccessControlEntry> acls) {
+        sendRoleBindingRequests(deleteRoleBindingRequestsFromAcls(acls));
+    }
+
+    /**
+     * Delete Role Bindings associated to Ns4Kafka Kafka Streams.
+     *
+     * @param kafkaStreams The Kafka Streams
+     */
+    public void deleteRoleBindingsFromKafkaStreams(List<KafkaStream> kafkaStreams) {
+        sendRoleBindingRequests(deleteRoleBindingRequestsFromKafkaStreams(kafkaStreams));
+    }
+
+    /**
+     * Send the Role Binding requests to the Confluent Cloud API with a bounded concurrency, and wait for their
+     * completion.
+     *
+     * @param requests The Role Binding requests
+     */
+    void sendRoleBindingRequests(List<Mono<Void>> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        Flux.fromIterable(requests)
+                // Each request handles its own error, so a failure does not cancel the others
+                .flatMap(
+                        request -> request.onErrorResume(_ -> Mono.empty()),
+                        Math.max(1, managedClusterProperties.getRoleBinding().getConcurrency()))
+                .then()
+                .block();
+    }
+
+    /**
+     * Send a request to the Confluent Cloud API within the rate limit. The request is retried with a jittered backoff
+     * when it is rate-limited by the API.
+     *
+     * @param request The request
+     * @param <T> The type of the response
+     * @return The response
+     */
+    private <T> Mono<T> rateLimited(Supplier<Mono<T>> request) {
+        ManagedClusterProperties.RoleBindingProperties properties = managedClusterProperties.getRoleBinding();
+
+        return Mono.defer(() -> {
+                    Duration delay = rateLimiter.reserve(properties.getRequestsPerSecond());
+                    return delay.isZero() ? request.get() : Mono.delay(delay).then(Mono.defer(request));
+                })
+                .retryWhen(Retry.backoff(properties.getMaxRetries(), Duration.ofMillis(properties.getRetryBackoffMs()))
+                        .maxBackoff(Duration.ofMillis(properties.getMaxRetryBackoffMs()))
+                        .jitter(0.5)
+                        .filter(ConfluentRoleBindingAsyncExecutor::isTooManyRequests)
+                        .doBeforeRetry(signal -> log.warn(
+                                "Role Binding request rate-limited by Confluent Cloud on {}. Retry {}/{}.",
+                                managedClusterProperties.getName(),
+                                signal.totalRetries() + 1,
+                                properties.getMaxRetries()))
+                        .onRetryExhaustedThrow((_, signal) -> signal.failure()));
+    }
+
+    /**
+     * Create a Role Binding, unless it already exists among the Role Bindings cached for its CRN pattern. The creation
+     * is only skipped on a listing made since the start of the synchronization, as a Role Binding can be deleted
+     * outside Ns4Kafka. An older listing is evicted and the CRN pattern is listed again before skipping.
+     *
+     * @param roleBinding The Role Binding
+     * @param synchronizationStart The start of the synchronization, in nanoseconds
+     * @return The created Role Binding, or the existing one
+     */
+    private Mono<RoleBindingResponse> createRoleBindingIfAbsent(RoleBinding roleBinding, long synchronizationStart) {
+        String crnPattern =
+                new RoleBindingRequest(roleBinding, managedClusterProperties.getConfluentCloud()).crnPattern();
+        Mono<ListedRoleBindings> cachedRoleBindings = cachedRoleBindings(crnPattern);
+
+        return cachedRoleBindings
+                .flatMap(listedRoleBindings -> {
+                    Optional<RoleBindingResponse> existingRoleBinding = listedRoleBindings.roleBindings().stream()
+                            .filter(existing -> roleBinding.principal().equals(existing.principal())
+                                    && roleBinding.roleName() == existing.roleName())
+                            .findFirst();
+
+                    if (existingRoleBinding.isPresent() && listedRoleBindings.listedAt() - synchronizationStart < 0) {
+                        roleBindingCache.remove(crnPattern, cachedRoleBindings);
+                        return createRoleBindingIfAbsent(roleBinding, synchronizationStart);
+                    }
+
+                    if (existingRoleBinding.isPresent()) {
+                        log.debug(
+                                "RoleBinding {} already exists on {}: skipping its creation.",
+                                existingRoleBinding.get().id(),
+                                managedClusterProperties.getName());
+                        return Mono.just(existingRoleBinding.get());
+                    }
+
+                    return rateLimited(() -> confluentCloudClient.createRoleBinding(
+                                    managedClusterProperties.getName(), roleBinding))
+                            .doOnNext(listedRoleBindings.roleBindings()::add);
+                })
+                // The Role Bindings of the CRN pattern are listed again after a failure, as their state is unknown
+                .doOnError(_ -> roleBindingCache.remove(crnPattern));
+    }
+
+    /**
+     * Get the Role Bindings of a CRN pattern. They are listed once from the Confluent Cloud API, then kept up to date
+     * with the Role Bindings created by Ns4Kafka. They are listed again after a deletion or when the cache expires.
+     *
+     * @param crnPattern The CRN pattern
+     * @return The Role Bindings, with the time of their listing
+     */
+    private Mono<ListedRoleBindings> cachedRoleBindings(String crnPattern) {
+        Duration cacheTtl = Duration.ofMillis(managedClusterProperties.getRoleBinding().getCacheTtlMs());
+
+        return roleBindingCache.computeIfAbsent(crnPattern, _ -> rateLimited(() -> confluentCloudClient
+                        .listRoleBindings(managedClusterProperties.getName(), crnPattern)
+                        .filter(roleBinding -> crnPattern.equals(roleBinding.crnPattern()))
+                        .<Set<RoleBindingResponse>>collect(ConcurrentHashMap::newKeySet, Set::add))
+                .map(roleBindings -> new ListedRoleBindings(roleBindings, System.nanoTime()))
+                .cache(_ -> cacheTtl, _ -> Duration.ZERO, () -> Duration.ZERO));
+    }
+
+    /**
+     * Evict the cached Role Bindings of the CRN pattern of a deleted Role Binding.
+     *
+     * @param deletedRoleBinding The deleted Role Binding
+     */
+    private void evictCachedRoleBindings(RoleBindingResponse deletedRoleBinding) {
+        if (deletedRoleBinding.crnPattern() != null) {
+            roleBindingCache.remove(deletedRoleBinding.crnPattern());
+        }
+    }
+
+    /**
+     * Check if an error is a rate limit response of the Confluent Cloud API.
+     *
+     * @param error The error
+     * @return true if it is a rate limit response, false otherwise
+     */
+    private static boolean isTooManyRequests(Throwable error) {
+        return error instanceof HttpClientResponseException httpException
+                && httpException.getStatus() == HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    /**
+     * Build the requests creating Role Bindings from ACLs.
+     *
+     * @param toCreate The list of ACLs
+     * @return The requests
+     */
+    private List<Mono<Void>> createRoleBindingRequestsFromAcls(List<AccessControlEntry> toCreate) {
+        long synchronizationStart = System.nanoTime();
+
         // Currently no possible to batch create Confluent Role Bindings
-        toCreate.forEach(acl -> convertAclToRoleBinding(acl)
-                .forEach(roleBinding -> confluentCloudClient
-                        .createRoleBinding(managedClusterProperties.getName(), roleBinding)
-                        .subscribe(
-                                roleBindingResponse -> {
+        return toCreate.stream()
+                .flatMap(acl -> convertAclToRoleBinding(acl).stream()
+                        .map(roleBinding -> createRoleBindingIfAbsent(roleBinding, synchronizationStart)
+                                .doOnNext(roleBindingResponse -> {
                                     Optional<AccessControlEntry> existingAcl = aclService.findByName(
                                             acl.getMetadata().getNamespace(),
                                             acl.getMetadata().getName());
@@ -151,8 +373,8 @@ public class ConfluentRoleBindingAsyncExecutor {
                                             roleBindingResponse.id(),
                                             lastVersion.getMetadata().getName(),
                                             managedClusterProperties.getName());
-                                },
-                                e -> {
+                                })
+                                .doOnError(e -> {
                                     if (isUnchangedSinceLastApply(acl)) {
                                         log.error(
                                                 "Error creating RoleBinding for ACL {} on {}.",
@@ -160,25 +382,33 @@ public class ConfluentRoleBindingAsyncExecutor {
                                                 managedClusterProperties.getName(),
                                                 e);
 
-                                        acl.getMetadata().setStatus(Resource.Metadata.Status.ofFailed(e.getMessage()));
+                                        acl.getMetadata()
+                                                .setStatus(failedAclRetryQueue.fail(
+                                                        acl,
+                                                        e.getMessage(),
+                                                        managedClusterProperties.getFailedRetry()));
                                         aclRepository.create(acl);
                                     }
-                                })));
+                                })
+                                .then()))
+                .toList();
     }
 
     /**
-     * Create Role Bindings from Kafka Streams.
+     * Build the requests creating Role Bindings from Kafka Streams.
      *
      * @param toCreate The list of Kafka Streams
+     * @return The requests
      */
-    void createRoleBindingsFromKafkaStreams(List<KafkaStream> toCreate) {
+    private List<Mono<Void>> createRoleBindingRequestsFromKafkaStreams(List<KafkaStream> toCreate) {
+        long synchronizationStart = System.nanoTime();
+
         // Currently no possible to batch create Confluent Role Bindings
-        toCreate.forEach(ks -> {
-            RoleBinding roleBinding = convertKafkaStreamToRoleBinding(ks);
-            confluentCloudClient
-                    .createRoleBinding(managedClusterProperties.getName(), roleBinding)
-                    .subscribe(
-                            roleBindingResponse -> {
+        return toCreate.stream()
+                .map(ks -> {
+                    RoleBinding roleBinding = convertKafkaStreamToRoleBinding(ks);
+                    return createRoleBindingIfAbsent(roleBinding, synchronizationStart)
+                            .doOnNext(roleBindingResponse -> {
                                 Optional<KafkaStream> existingStream = namespaceService
                                         .findByName(ks.getMetadata().getNamespace())
                                         .flatMap(namespace -> streamService.findByName(
@@ -207,8 +437,8 @@ public class ConfluentRoleBindingAsyncExecutor {
                                         roleBindingResponse.id(),
                                         lastVersion.getMetadata().getName(),
                                         managedClusterProperties.getName());
-                            },
-                            e -> {
+                            })
+                            .doOnError(e -> {
                                 if (isUnchangedSinceLastApply(ks)) {
                                     log.error(
                                             "Error creating RoleBinding for KafkaStream {} on {}.",
@@ -216,96 +446,121 @@ public class ConfluentRoleBindingAsyncExecutor {
                                             managedClusterProperties.getName(),
                                             e);
 
-                                    ks.getMetadata().setStatus(Resource.Metadata.Status.ofFailed(e.getMessage()));
+                                    ks.getMetadata()
+                                            .setStatus(failedStreamRetryQueue.fail(
+                                                    ks, e.getMessage(), managedClusterProperties.getFailedRetry()));
                                     kafkaStreamRepository.create(ks);
                                 }
-                            });
-        });
+                            })
+                            .then();
+                })
+                .toList();
     }
 
     /**
-     * Delete Role Bindings associated to Ns4Kafka ACLs.
+     * Build the requests deleting Role Bindings associated to Ns4Kafka ACLs.
      *
      * @param acls The Ns4Kafka ACLs
+     * @return The requests
      */
-    public void deleteRoleBindingsFromAcls(List<AccessControlEntry> acls) {
+    private List<Mono<Void>> deleteRoleBindingRequestsFromAcls(List<AccessControlEntry> acls) {
         // Not possible to batch delete Confluent Role Bindings
-        acls.forEach(acl -> convertAclToRoleBinding(acl)
-                .forEach(roleBinding -> confluentCloudClient
-                        .deleteRoleBinding(managedClusterProperties.getName(), roleBinding)
-                        .doOnSuccess(roleBindingResponse -> {
-                            if (roleBindingResponse == null) {
-                                log.info(
-                                        "No RoleBinding to delete for ACL {} on {}: ACL will be removed from Ns4Kafka.",
-                                        acl.getMetadata().getName(),
-                                        managedClusterProperties.getName());
+        return acls.stream()
+                .flatMap(acl -> convertAclToRoleBinding(acl).stream()
+                        .map(roleBinding -> rateLimited(() -> confluentCloudClient.deleteRoleBinding(
+                                        managedClusterProperties.getName(), roleBinding))
+                                .doOnNext(this::evictCachedRoleBindings)
+                                .map(Optional::of)
+                                .defaultIfEmpty(Optional.empty())
+                                .doOnNext(roleBindingResponse -> {
+                                    if (roleBindingResponse.isEmpty()) {
+                                        log.info(
+                                                "No RoleBinding to delete for ACL {} on {}: ACL will be removed from Ns4Kafka.",
+                                                acl.getMetadata().getName(),
+                                                managedClusterProperties.getName());
 
-                                aclRepository.delete(acl);
-                            } else if (isUnchangedSinceLastApply(acl)) {
-                                log.info(
-                                        "Success deleting RoleBinding {} for ACL {} on {}.",
-                                        roleBindingResponse.id(),
-                                        acl.getMetadata().getName(),
-                                        managedClusterProperties.getName());
+                                        aclRepository.delete(acl);
+                                    } else if (isUnchangedSinceLastApply(acl)) {
+                                        log.info(
+                                                "Success deleting RoleBinding {} for ACL {} on {}.",
+                                                roleBindingResponse.get().id(),
+                                                acl.getMetadata().getName(),
+                                                managedClusterProperties.getName());
 
-                                aclRepository.delete(acl);
-                            }
-                        })
-                        .doOnError(e -> {
-                            if (isUnchangedSinceLastApply(acl)) {
-                                log.error(
-                                        "Error deleting RoleBinding for ACL {} on {}.",
-                                        acl.getMetadata().getName(),
-                                        managedClusterProperties.getName(),
-                                        e);
-
-                                acl.getMetadata().setStatus(Resource.Metadata.Status.ofFailed(e.getMessage()));
-                                aclRepository.create(acl);
-                            }
-                        })
-                        .subscribe()));
+                                        aclRepository.delete(acl);
+                                    }
+                                })
+                                .doOnError(e -> {
+                                    if (isUnchangedSinceLastApply(acl)) {
+                                        log.error(
+                                                "Error deleting RoleBinding for ACL {} on {}.",
+                                                acl.getMetadata().getName(),
+                                                managedClusterProperties.getName(),
+                                                e);
+
+                                        acl.getMetadata()
+                                                .setStatus(failedAclRetryQueue.fail(
+                                                        acl,
+                                                        e.getMessage(),
+                                                        managedClusterProperties.getFailedRetry()));
+                                        aclRepository.create(acl);
+                                    }
+                                })
+                                .then()))
+                .toList();
     }
 
     /**
-     * Delete Role Bindings associated to Ns4Kafka Kafka Streams.
+     * Build the requests deleting Role Bindings associated to Ns4Kafka Kafka Streams.
      *
      * @param kafkaStreams The Kafka Streams
+     * @return The requests
      */
-    public void deleteRoleBindingsFromKafkaStreams(List<KafkaStream> kafkaStreams) {
+    private List<Mono<Void>> deleteRoleBindingRequestsFromKafkaStreams(List<KafkaStream> kafkaStreams) {
         // Not possible to batch delete Confluent Role Bindings
-        kafkaStreams.forEach(ks -> confluentCloudClient
-                .deleteRoleBinding(managedClusterProperties.getName(), convertKafkaStreamToRoleBinding(ks))
-                .doOnSuccess(roleBindingResponse -> {
-                    if (roleBindingResponse == null) {
-                        log.info(
-                                "No RoleBinding to delete for KafkaStream {} on {}: KafkaStream will be removed from Ns4Kafka.",
-                                ks.getMetadata().getName(),
-                                managedClusterProperties.getName());
+        return kafkaStreams.stream()
+                .map(ks -> {
+                    RoleBinding roleBinding = convertKafkaStreamToRoleBinding(ks);
+                    return rateLimited(() -> confluentCloudClient.deleteRoleBinding(
+                                    managedClusterProperties.getName(), roleBinding))
+                            .doOnNext(this::evictCachedRoleBindings)
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty())
+                            .doOnNext(roleBindingResponse -> {
+                                if (roleBindingResponse.isEmpty()) {
+                                    log.info(
+                                            "No RoleBinding to delete for KafkaStream {} on {}: KafkaStream will be removed from Ns4Kafka.",
+                                            ks.getMetadata().getName(),
+                                            managedClusterProperties.getName());
 
-                        kafkaStreamRepository.delete(ks);
-                    } else if (isUnchangedSinceLastApply(ks)) {
-                        log.info(
-                                "Success deleting RoleBinding {} for KafkaStream {} on {}.",
-                                roleBindingResponse.id(),
-                                ks.getMetadata().getName(),
-                                managedClusterProperties.getName());
+                                    kafkaStreamRepository.delete(ks);
+                                } else if (isUnchangedSinceLastApply(ks)) {
+                                    log.info(
+                                            "Success deleting RoleBinding {} for KafkaStream {} on {}.",
+                                            roleBindingResponse.get().id(),
+                                            ks.getMetadata().getName(),
+                                            managedClusterProperties.getName());
 
-                        kafkaStreamRepository.delete(ks);
-                    }
-                })
-                .doOnError(e -> {
-                    if (isUnchangedSinceLastApply(ks)) {
-                        log.error(
-                                "Error deleting RoleBinding for KafkaStream {} on {}",
-                                ks.getMetadata().getName(),
-                                managedClusterProperties.getName(),
-                                e);
+                                    kafkaStreamRepository.delete(ks);
+                                }
+                            })
+                            .doOnError(e -> {
+                                if (isUnchangedSinceLastApply(ks)) {
+                                    log.error(
+                                            "Error deleting RoleBinding for KafkaStream {} on {}",
+                                            ks.getMetadata().getName(),
+                                            managedClusterProperties.getName(),
+                                            e);
 
-                        ks.getMetadata().setStatus(Resource.Metadata.Status.ofFailed(e.getMessage()));
-                        kafkaStreamRepository.create(ks);
-                    }
+                                    ks.getMetadata()
+                                            .setStatus(failedStreamRetryQueue.fail(
+                                                    ks, e.getMessage(), managedClusterProperties.getFailedRetry()));
+                                    kafkaStreamRepository.create(ks);
+                                }
+                            })
+                            .then();
                 })
-                .subscribe());
+                .toList();
     }
 
     /**
@@ -474,4 +729,12 @@ public class ConfluentRoleBindingAsyncExecutor {
         }
         return true;
     }
+
+    /**
+     * Role Bindings of a CRN pattern, as listed from the Confluent Cloud API.
+     *
+     * @param roleBindings The Role Bindings
+     * @param listedAt The time of the listing, in nanoseconds
+     */
+    private record ListedRoleBindings(Set<RoleBindingResponse> roleBindings, long listedAt) {}
 }
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker of a Kafka Connect cluster. It opens after consecutive failures of the Kafka Connect cluster, so its
+ * connectors are not synchronized for a while. Once the open duration is elapsed, a single trial request is allowed:
+ * its success closes the circuit, its failure opens it again.
+ */
+class ConnectClusterCircuitBreaker {
+    private final LongSupplier nanoClock;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+
+    /** Constructor. */
+    ConnectClusterCircuitBreaker() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nanoClock The clock, in nanoseconds
+     */
+    ConnectClusterCircuitBreaker(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Try to acquire the permit to send a request to the Kafka Connect cluster.
+     *
+     * @param properties The Kafka Connect bulkhead properties
+     * @return true if the request can be sent, false if the circuit is open
+     */
+    synchronized boolean tryAcquire(ManagedClusterProperties.ConnectBulkheadProperties properties) {
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> false;
+            case OPEN -> {
+                long openDurationNanos = TimeUnit.MILLISECONDS.toNanos(properties.getOpenDurationMs());
+                if (nanoClock.getAsLong() - openedAtNanos < openDurationNanos) {
+                    yield false;
+                }
+
+                state = State.HALF_OPEN;
+                yield true;
+            }
+        };
+    }
+
+    /** Record a request that succeeded. */
+    synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    /**
+     * Record a request that failed because of the Kafka Connect cluster.
+     *
+     * @param properties The Kafka Connect bulkhead properties
+     * @return true if the failure opened the circuit, false otherwise
+     */
+    synchronized boolean recordFailure(ManagedClusterProperties.ConnectBulkheadProperties properties) {
+        consecutiveFailures++;
+
+        if (state == State.HALF_OPEN
+                || (state == State.CLOSED && consecutiveFailures >= Math.max(1, properties.getFailureThreshold()))) {
+            state = State.OPEN;
+            openedAtNanos = nanoClock.getAsLong();
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Check if the circuit is closed.
+     *
+     * @return true if the circuit is closed, false otherwise
+     */
+    synchronized boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    /** Record a request that was cancelled before completing. A cancelled trial request allows a new trial. */
+    synchronized void recordCancellation() {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+        }
+    }
+
+    /** Circuit breaker state. */
+    private enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+}
@@ -31,16 +31,23 @@ import com.michelin.ns4kafka.service.NamespaceService;
 import com.michelin.ns4kafka.service.client.connect.KafkaConnectClient;
 import com.michelin.ns4kafka.service.client.connect.entities.ConnectorInfo;
 import com.michelin.ns4kafka.service.client.connect.entities.ConnectorSpecs;
+import com.michelin.ns4kafka.service.client.connect.entities.ConnectorStatus;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import jakarta.inject.Singleton;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 
 /** Connector executor. */
 @Slf4j
@@ -54,6 +61,9 @@ public class ConnectorAsyncExecutor {
     private final ConnectorService connectorService;
     private final ConnectClusterService connectClusterService;
     private final NamespaceService namespaceService;
+    private final Map<String, ConnectClusterCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final NamespaceFairQueue namespaceFairQueue = new NamespaceFairQueue();
+    private final FailedResourceRetryQueue<Connector> failedConnectorRetryQueue = new FailedResourceRetryQueue<>();
 
     /**
      * Constructor.
@@ -84,7 +94,8 @@ public class ConnectorAsyncExecutor {
     }
 
     /**
-     * Run the connector synchronization.
+     * Run the connector synchronization. The failed connectors whose retry is due are deployed again. The connectors to
+     * deploy and delete are shared fairly across namespaces, up to a budget per synchronization.
      *
      * @return A flux of connector info
      */
@@ -94,19 +105,211 @@ public class ConnectorAsyncExecutor {
                     .addArgument(managedClusterProperties::getName)
                     .log("Starting connector synchronization for Kafka cluster {}.");
 
-            List<Connector> allConnectors = connectorRepository.findAllForCluster(managedClusterProperties.getName());
+            failedConnectorRetryQueue.seed(
+                    () -> connectorRepository.findAllForClusterByPhase(
+                            managedClusterProperties.getName(), Resource.Metadata.Phase.FAIL),
+                    managedClusterProperties.getFailedRetry());
+            failedConnectorRetryQueue
+                    .retryDue(
+                            connector -> namespaceService
+                                    .findByName(connector.getMetadata().getNamespace())
+                                    .flatMap(namespace -> connectorService.findByName(
+                                            namespace, connector.getMetadata().getName())),
+                            (connector, metadata) -> Connector.builder()
+                                    .metadata(metadata)
+                                    .spec(connector.getSpec())
+                                    .status(connector.getStatus())
+                                    .build(),
+                            connectorRepository::create)
+                    .forEach(connector -> log.info(
+                            "Retrying failed connector {} on Kafka Connect {} of Kafka cluster {}.",
+                            connector.getMetadata().getName(),
+                            connector.getSpec().getConnectCluster(),
+                            managedClusterProperties.getName()));
+
+            List<Connector> connectors = namespaceFairQueue.drain(
+                    connectorRepository.findAllForCluster(managedClusterProperties.getName()).stream()
+                            .filter(connector -> connector.isPending() || connector.isDeleting())
+                            .toList(),
+                    managedClusterProperties.getFairScheduling());
+
+            Map<String, List<Connector>> connectorsByConnectCluster = connectors.stream()
+                    .collect(Collectors.groupingBy(
+                            connector -> connector.getSpec().getConnectCluster(),
+                            LinkedHashMap::new,
+                            Collectors.toList()));
+
+            // Errors are delayed so a failing Kafka Connect cluster does not cancel the synchronization of the others
+            return Flux.fromIterable(connectorsByConnectCluster.entrySet())
+                    .flatMapDelayError(
+                            entry -> synchronizeConnectCluster(entry.getKey(), entry.getValue()),
+                            Math.max(1, connectorsByConnectCluster.size()),
+                            Queues.XS_BUFFER_SIZE);
+        }
 
-            Flux<ConnectorInfo> deployFlux =
-                    Flux.fromIterable(allConnectors).filter(Resource::isPending).flatMap(this::deployConnector);
+        return Flux.empty();
+    }
 
-            Flux<ConnectorInfo> deleteFlux = Flux.fromIterable(allConnectors)
-                    .filter(Resource::isDeleting)
-                    .flatMap(this::deleteConnector);
+    /**
+     * Synchronize the connectors of a Kafka Connect cluster, with a bounded number of requests in flight. The
+     * connectors are left untouched while the circuit breaker of the Kafka Connect cluster is open.
+     *
+     * @param connectCluster The Kafka Connect cluster
+     * @param connectors The connectors to deploy or delete
+     * @return A flux of connector info
+     */
+    private Flux<ConnectorInfo> synchronizeConnectCluster(String connectCluster, List<Connector> connectors) {
+        ManagedClusterProperties.ConnectBulkheadProperties properties = managedClusterProperties.getConnectBulkhead();
+        ConnectClusterCircuitBreaker circuitBreaker =
+                circuitBreakers.computeIfAbsent(connectCluster, _ -> new ConnectClusterCircuitBreaker());
+
+        return fetchLiveConnectors(connectCluster, circuitBreaker, connectors)
+                .flatMapMany(liveConnectors -> Flux.fromIterable(connectors)
+                        .flatMapDelayError(
+                                connector -> synchronizeConnector(
+                                        connector, connectCluster, circuitBreaker, properties, liveConnectors),
+                                Math.max(1, properties.getMaxInFlight()),
+                                Queues.XS_BUFFER_SIZE));
+    }
+
+    /**
+     * Deploy or delete a connector on a Kafka Connect cluster. A pending connector whose config is already deployed
+     * is marked as successful without calling the Kafka Connect cluster.
+     *
+     * @param connector The connector
+     * @param connectCluster The Kafka Connect cluster
+     * @param circuitBreaker The circuit breaker of the Kafka Connect cluster
+     * @param properties The Kafka Connect bulkhead properties
+     * @param liveConnectors The connectors deployed on the Kafka Connect cluster, by name
+     * @return The connector info
+     */
+    private Mono<ConnectorInfo> synchronizeConnector(
+            Connector connector,
+            String connectCluster,
+            ConnectClusterCircuitBreaker circuitBreaker,
+            ManagedClusterProperties.ConnectBulkheadProperties properties,
+            Map<String, ConnectorStatus> liveConnectors) {
+        return Mono.defer(() -> {
+            if (connector.isPending() && isAlreadyDeployed(connector, liveConnectors)) {
+                markConnectorAsDeployed(connector);
+
+                log.info(
+                        "Connector {} already deployed with the same config on Kafka Connect {} of Kafka cluster {}.",
+                        connector.getMetadata().getName(),
+                        connectCluster,
+                        managedClusterProperties.getName());
 
-            return Flux.merge(deployFlux, deleteFlux);
+                return Mono.just(liveConnectors.get(connector.getMetadata().getName()).info());
+            }
+
+            if (!circuitBreaker.tryAcquire(properties)) {
+                log.debug(
+                        "Skipping connector {}: Kafka Connect {} of Kafka cluster {} is unavailable.",
+                        connector.getMetadata().getName(),
+                        connectCluster,
+                        managedClusterProperties.getName());
+                return Mono.empty();
+            }
+
+            Mono<ConnectorInfo> request =
+                    connector.isPending() ? deployConnector(connector) : deleteConnector(connector);
+
+            return request.doOnSuccess(_ -> circuitBreaker.recordSuccess())
+                    .doOnError(error -> recordConnectClusterError(connectCluster, circuitBreaker, properties, error))
+                    .doOnCancel(circuitBreaker::recordCancellation);
+        });
+    }
+
+    /**
+     * Fetch the connectors deployed on a Kafka Connect cluster, in bulk. They are fetched only if a pending connector
+     * has already been deployed once, and the Kafka Connect cluster is available.
+     *
+     * @param connectCluster The Kafka Connect cluster
+     * @param circuitBreaker The circuit breaker of the Kafka Connect cluster
+     * @param connectors The connectors to deploy or delete
+     * @return The deployed connectors by name, or an empty map if they are not fetched
+     */
+    private Mono<Map<String, ConnectorStatus>> fetchLiveConnectors(
+            String connectCluster, ConnectClusterCircuitBreaker circuitBreaker, List<Connector> connectors) {
+        boolean hasRedeployedConnector =
+                connectors.stream().filter(Resource::isPending).anyMatch(Resource::isCreated);
+
+        if (!hasRedeployedConnector || !circuitBreaker.isClosed()) {
+            return Mono.just(Map.of());
         }
 
-        return Flux.empty();
+        return kafkaConnectClient
+                .listAll(managedClusterProperties.getName(), connectCluster)
+                .defaultIfEmpty(Map.of())
+                .onErrorResume(error -> {
+                    log.warn(
+                            "Error listing the connectors of Kafka Connect {} of Kafka cluster {}: {}.",
+                            connectCluster,
+                            managedClusterProperties.getName(),
+                            error.getMessage());
+                    return Mono.just(Map.of());
+                });
+    }
+
+    /**
+     * Check if a connector is already deployed with its config. It must have been deployed once, and its config must be
+     * the one currently running on the Kafka Connect cluster. The generation of the connector is kept in the store, so
+     * the check holds across restarts.
+     *
+     * @param connector The connector
+     * @param liveConnectors The connectors deployed on the Kafka Connect cluster, by name
+     * @return true if the connector is already deployed, false otherwise
+     */
+    private boolean isAlreadyDeployed(Connector connector, Map<String, ConnectorStatus> liveConnectors) {
+        ConnectorStatus liveConnector = liveConnectors.get(connector.getMetadata().getName());
+        if (liveConnector == null || liveConnector.info() == null || liveConnector.info().config() == null) {
+            return false;
+        }
+
+        return connector.isCreated()
+                && withoutName(liveConnector.info().config()).equals(withoutName(connector.getSpec().getConfig()));
+    }
+
+    /**
+     * Remove the connector name from a connector config, as Kafka Connect adds it to the configs it returns.
+     *
+     * @param config The connector config
+     * @return The config without the connector name
+     */
+    private static Map<String, String> withoutName(Map<String, String> config) {
+        Map<String, String> configWithoutName = new HashMap<>(config);
+        configWithoutName.remove("name");
+        return configWithoutName;
+    }
+
+    /**
+     * Record an error of a request to a Kafka Connect cluster in its circuit breaker. Client errors are rejections of
+     * the connector, so they prove the Kafka Connect cluster is available.
+     *
+     * @param connectCluster The Kafka Connect cluster
+     * @param circuitBreaker The circuit breaker of the Kafka Connect cluster
+     * @param properties The Kafka Connect bulkhead properties
+     * @param error The error
+     */
+    private void recordConnectClusterError(
+            String connectCluster,
+            ConnectClusterCircuitBreaker circuitBreaker,
+            ManagedClusterProperties.ConnectBulkheadProperties properties,
+            Throwable error) {
+        if (error instanceof HttpClientResponseException httpException
+                && httpException.getStatus().getCode() < HttpStatus.INTERNAL_SERVER_ERROR.getCode()) {
+            circuitBreaker.recordSuccess();
+            return;
+        }
+
+        if (circuitBreaker.recordFailure(properties)) {
+            log.warn(
+                    "Suspending the connector synchronization on Kafka Connect {} of Kafka cluster {} for {}ms after "
+                            + "consecutive failures.",
+                    connectCluster,
+                    managedClusterProperties.getName(),
+                    properties.getOpenDurationMs());
+        }
     }
 
     /**
@@ -124,39 +327,21 @@ public class ConnectorAsyncExecutor {
                                 .config(connector.getSpec().getConfig())
                                 .build())
                 .doOnSuccess(_ -> {
-                    Optional<Connector> existingConnector = namespaceService
-                            .findByName(connector.getMetadata().getNamespace())
-                            .flatMap(namespace -> connectorService.findByName(
-                                    namespace, connector.getMetadata().getName()));
-
-                    Connector lastVersion = existingConnector.orElse(connector);
-                    lastVersion
-                            .getMetadata()
-                            .setGeneration(lastVersion.getMetadata().getGeneration() + 1);
-
-                    // Only mark connector as success if it has not been re-applied since last deployment
-                    boolean unchangedSinceLastApply = existingConnector.isEmpty()
-                            || !existingConnector
-                                    .get()
-                                    .getMetadata()
-                                    .getUpdateTimestamp()
-                                    .after(connector.getMetadata().getUpdateTimestamp());
-                    if (unchangedSinceLastApply) {
-                        lastVersion.getMetadata().setStatus(Resource.Metadata.Status.ofSuccess());
-                    }
-
-                    connectorRepository.create(lastVersion);
+                    markConnectorAsDeployed(connector);
 
                     log.info(
                             "Success creating connector {} on Kafka Connect {} of Kafka cluster {}.",
-                            lastVersion.getMetadata().getName(),
-                            lastVersion.getSpec().getConnectCluster(),
+                            connector.getMetadata().getName(),
+                            connector.getSpec().getConnectCluster(),
                             managedClusterProperties.getName());
                 })
                 .doOnError(httpError -> {
                     // Do not mark connector as failed if it has been marked has pending by another update
                     if (isUnchangedSinceLastApply(connector)) {
-                        connector.getMetadata().setStatus(Resource.Metadata.Status.ofFailed(httpError.getMessage()));
+                        connector
+                                .getMetadata()
+                                .setStatus(failedConnectorRetryQueue.fail(
+                                        connector, httpError.getMessage(), managedClusterProperties.getFailedRetry()));
                         connectorRepository.create(connector);
 
                         log.error(
@@ -169,6 +354,33 @@ public class ConnectorAsyncExecutor {
                 });
     }
 
+    /**
+     * Mark a connector as deployed.
+     *
+     * @param connector The deployed connector
+     */
+    private void markConnectorAsDeployed(Connector connector) {
+        Optional<Connector> existingConnector = namespaceService
+                .findByName(connector.getMetadata().getNamespace())
+                .flatMap(namespace -> connectorService.findByName(namespace, connector.getMetadata().getName()));
+
+        Connector lastVersion = existingConnector.orElse(connector);
+        lastVersion.getMetadata().setGeneration(lastVersion.getMetadata().getGeneration() + 1);
+
+        // Only mark connector as success if it has not been re-applied since last deployment
+        boolean unchangedSinceLastApply = existingConnector.isEmpty()
+                || !existingConnector
+                        .get()
+                        .getMetadata()
+                        .getUpdateTimestamp()
+                        .after(connector.getMetadata().getUpdateTimestamp());
+        if (unchangedSinceLastApply) {
+            lastVersion.getMetadata().setStatus(Resource.Metadata.Status.ofSuccess());
+        }
+
+        connectorRepository.create(lastVersion);
+    }
+
     /**
      * Delete a given connector from the associated connect cluster.
      *
@@ -226,7 +438,10 @@ public class ConnectorAsyncExecutor {
                 .doOnError(httpError -> {
                     // Do not mark connector as failed if it has been marked as pending by another update
                     if (isUnchangedSinceLastApply(connector)) {
-                        connector.getMetadata().setStatus(Resource.Metadata.Status.ofFailed(httpError.getMessage()));
+                        connector
+                                .getMetadata()
+                                .setStatus(failedConnectorRetryQueue.fail(
+                                        connector, httpError.getMessage(), managedClusterProperties.getFailedRetry()));
                         connectorRepository.create(connector);
 
                         log.error(
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.model.connect.Connector;
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import com.michelin.ns4kafka.repository.ConnectorRepository;
+import com.michelin.ns4kafka.service.client.connect.KafkaConnectClient;
+import com.michelin.ns4kafka.service.client.connect.entities.ConnectorStateInfo;
+import io.micronaut.context.annotation.EachBean;
+import jakarta.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Connector status poller. Lists the connectors of each Kafka Connect cluster with their status in a single request,
+ * and caches the result so the statuses are served without calling Kafka Connect. The failed tasks can be restarted
+ * automatically, with an exponential backoff between two restarts of the same task.
+ */
+@Slf4j
+@EachBean(ManagedClusterProperties.class)
+@Singleton
+public class ConnectorStatusPoller {
+    private final ManagedClusterProperties managedClusterProperties;
+    private final Ns4KafkaProperties.SchedulerProperties schedulerProperties;
+    private final ConnectorRepository connectorRepository;
+    private final KafkaConnectClient kafkaConnectClient;
+    private final Map<String, Map<String, Connector.ConnectorStatus>> statuses = new ConcurrentHashMap<>();
+    private final Map<String, TaskRestart> taskRestarts = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param managedClusterProperties The managed cluster properties
+     * @param schedulerProperties The scheduler properties
+     * @param connectorRepository The connector repository
+     * @param kafkaConnectClient The Kafka Connect client
+     */
+    public ConnectorStatusPoller(
+            ManagedClusterProperties managedClusterProperties,
+            Ns4KafkaProperties.SchedulerProperties schedulerProperties,
+            ConnectorRepository connectorRepository,
+            KafkaConnectClient kafkaConnectClient) {
+        this.managedClusterProperties = managedClusterProperties;
+        this.schedulerProperties = schedulerProperties;
+        this.connectorRepository = connectorRepository;
+        this.kafkaConnectClient = kafkaConnectClient;
+    }
+
+    /**
+     * Poll the status of the connectors, with one request per Kafka Connect cluster.
+     *
+     * @return A mono completing when all the Kafka Connect clusters have been polled
+     */
+    public Mono<Void> poll() {
+        if (!managedClusterProperties.isManageConnectors()) {
+            return Mono.empty();
+        }
+
+        Map<String, Set<String>> connectorsByConnectCluster =
+                connectorRepository.findAllForCluster(managedClusterProperties.getName()).stream()
+                        .collect(Collectors.groupingBy(
+                                connector -> connector.getSpec().getConnectCluster(),
+                                Collectors.mapping(
+                                        connector -> connector.getMetadata().getName(), Collectors.toSet())));
+
+        statuses.keySet().retainAll(connectorsByConnectCluster.keySet());
+
+        return Flux.fromIterable(connectorsByConnectCluster.entrySet())
+                .flatMap(
+                        entry -> pollConnectCluster(entry.getKey(), entry.getValue()),
+                        Math.max(1, connectorsByConnectCluster.size()))
+                .then();
+    }
+
+    /**
+     * Get the last polled status of a connector.
+     *
+     * @param connector The connector
+     * @return The connector status, empty if it has not been polled yet
+     */
+    public Optional<Connector.ConnectorStatus> getStatus(Connector connector) {
+        return Optional.ofNullable(statuses.getOrDefault(connector.getSpec().getConnectCluster(), Map.of())
+                .get(connector.getMetadata().getName()));
+    }
+
+    /**
+     * Poll the status of the connectors of a Kafka Connect cluster. The previous statuses are kept if the Kafka Connect
+     * cluster cannot be reached.
+     *
+     * @param connectCluster The Kafka Connect cluster
+     * @param connectors The names of the connectors deployed by Ns4Kafka on the Kafka Connect cluster
+     * @return A mono completing when the Kafka Connect cluster has been polled
+     */
+    private Mono<Void> pollConnectCluster(String connectCluster, Set<String> connectors) {
+        return kafkaConnectClient
+                .listAll(managedClusterProperties.getName(), connectCluster)
+                .flatMap(liveConnectors -> {
+                    Date pollTime = new Date();
+                    Map<String, ConnectorStateInfo> states = liveConnectors.entrySet().stream()
+                            .filter(entry -> connectors.contains(entry.getKey())
+                                    && entry.getValue().status() != null)
+                            .collect(Collectors.toMap(
+                                    Map.Entry::getKey, entry -> entry.getValue().status()));
+
+                    statuses.put(
+                            connectCluster,
+                            states.entrySet().stream()
+                                    .collect(Collectors.toMap(
+                                            Map.Entry::getKey,
+                                            entry -> toConnectorStatus(entry.getValue(), pollTime))));
+
+                    return restartFailedTasks(connectCluster, states);
+                })
+                .onErrorResume(error -> {
+                    log.warn(
+                            "Cannot poll the status of the connectors of Kafka Connect {} of Kafka cluster {}: {}",
+                            connectCluster,
+                            managedClusterProperties.getName(),
+                            error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Restart the failed tasks of a Kafka Connect cluster, if enabled. A task is restarted again only once its backoff
+     * has elapsed. The backoff is reset once the task has not failed for longer than the maximum backoff.
+     *
+     * @param connectCluster The Kafka Connect cluster
+     * @param states The states of the connectors
+     * @return A mono completing when the restarts are done
+     */
+    private Mono<Void> restartFailedTasks(String connectCluster, Map<String, ConnectorStateInfo> states) {
+        Ns4KafkaProperties.SchedulerProperties.ConnectorStatusProperties properties =
+                schedulerProperties.getConnectorStatus();
+
+        if (!properties.isAutoRestart()) {
+            return Mono.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        Set<String> failedTasks = new HashSet<>();
+        List<Mono<Void>> restarts = new ArrayList<>();
+
+        states.forEach((connector, state) -> Optional.ofNullable(state.tasks()).orElse(List.of()).stream()
+                .filter(task -> Connector.TaskState.FAILED.name().equals(task.getState()))
+                .forEach(task -> {
+                    String key = connectCluster + "/" + connector + "/" + task.getId();
+                    failedTasks.add(key);
+
+                    if (isRestartDue(key, now, properties)) {
+                        restarts.add(restartTask(connectCluster, connector, task.getId(), key, now));
+                    }
+                }));
+
+        taskRestarts.entrySet().removeIf(entry -> entry.getKey().startsWith(connectCluster + "/")
+                        && !failedTasks.contains(entry.getKey())
+                        && now - entry.getValue().restartedAt() >= properties.getMaxRestartBackoffMs());
+
+        return Flux.merge(restarts).then();
+    }
+
+    /**
+     * Check if the backoff of a failed task has elapsed since its last restart.
+     *
+     * @param key The task key
+     * @param now The current time in milliseconds
+     * @param properties The connector status properties
+     * @return true if the task can be restarted, false otherwise
+     */
+    private boolean isRestartDue(
+            String key, long now, Ns4KafkaProperties.SchedulerProperties.ConnectorStatusProperties properties) {
+        TaskRestart previous = taskRestarts.get(key);
+        if (previous == null) {
+            return true;
+        }
+
+        long backoff = Math.min(
+                properties.getRestartBackoffMs() << Math.min(previous.attempts() - 1, 30),
+                properties.getMaxRestartBackoffMs());
+        return now - previous.restartedAt() >= backoff;
+    }
+
+    /**
+     * Restart a failed task. An error is logged instead of being thrown, so the other tasks are restarted anyway.
+     *
+     * @param connectCluster The Kafka Connect cluster
+     * @param connector The connector
+     * @param taskId The task ID
+     * @param key The task key
+     * @param now The current time in milliseconds
+     * @return A mono completing when the task has been restarted
+     */
+    private Mono<Void> restartTask(String connectCluster, String connector, int taskId, String key, long now) {
+        taskRestarts.merge(
+                key, new TaskRestart(1, now), (previous, _) -> new TaskRestart(previous.attempts() + 1, now));
+
+        return kafkaConnectClient
+                .restart(managedClusterProperties.getName(), connectCluster, connector, taskId)
+                .doOnSuccess(_ -> log.info(
+                        "Success restarting failed task {} of connector {} on Kafka Connect {}.",
+                        taskId,
+                        connector,
+                        connectCluster))
+                .onErrorResume(error -> {
+                    log.error(
+                            "Error while restarting failed task {} of connector {} on Kafka Connect {}: {}",
+                            taskId,
+                            connector,
+                            connectCluster,
+                            error.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Convert the state of a connector returned by Kafka Connect to a connector status.
+     *
+     * @param state The connector state
+     * @param pollTime The time of the poll
+     * @return The connector status
+     */
+    private static Connector.ConnectorStatus toConnectorStatus(ConnectorStateInfo state, Date pollTime) {
+        return Connector.ConnectorStatus.builder()
+                .state(state.connector() != null ? toTaskState(state.connector().getState()) : null)
+                .workerId(state.connector() != null ? state.connector().getWorkerId() : null)
+                .tasks(Optional.ofNullable(state.tasks()).orElse(List.of()).stream()
+                        .sorted()
+                        .map(task -> Connector.TaskStatus.builder()
+                                .id(String.valueOf(task.getId()))
+                                .state(toTaskState(task.getState()))
+                                .trace(task.getTrace())
+                                .workerId(task.getWorkerId())
+                                .build())
+                        .toList())
+                .lastUpdateTime(pollTime)
+                .build();
+    }
+
+    /**
+     * Convert a state returned by Kafka Connect to a task state.
+     *
+     * @param state The state
+     * @return The task state, null if unknown
+     */
+    private static Connector.TaskState toTaskState(String state) {
+        return Arrays.stream(Connector.TaskState.values())
+                .filter(taskState -> taskState.name().equals(state))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Restarts of a failed task.
+     *
+     * @param attempts The number of restarts
+     * @param restartedAt The time of the last restart in milliseconds
+     */
+    private record TaskRestart(int attempts, long restartedAt) {}
+}
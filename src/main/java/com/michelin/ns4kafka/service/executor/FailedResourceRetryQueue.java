@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Delay queue of the failed resources of a cluster to deploy again. A failed resource is retried after an exponential,
+ * jittered backoff, until it reaches the maximum number of attempts. The number of attempts and the phase before the
+ * failure are kept in the options of its status, and reset when the resource is applied again. The queue is seeded
+ * once from the failed resources of the store, so the failures recorded before a restart or by another instance are
+ * retried too. Afterward, only the resources whose retry is due are read from the store.
+ *
+ * @param <T> The type of the resources
+ */
+class FailedResourceRetryQueue<T extends Resource> {
+    static final String RETRY_ATTEMPTS = "retry-attempts";
+    static final String RETRY_PHASE = "retry-phase";
+
+    private final LongSupplier nanoClock;
+    private final DelayQueue<Retry> queue = new DelayQueue<>();
+    private final Map<String, Retry> retries = new ConcurrentHashMap<>();
+    private boolean seeded;
+
+    /** Constructor. */
+    FailedResourceRetryQueue() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nanoClock The clock, in nanoseconds
+     */
+    FailedResourceRetryQueue(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Build the failed status of a resource, and schedule its retry if enabled and the maximum number of attempts is
+     * not reached. Must be called before the status of the resource is replaced.
+     *
+     * @param resource The resource, with its status before the failure
+     * @param message The failure message
+     * @param properties The failed resource retry properties
+     * @return The failed status
+     */
+    synchronized Resource.Metadata.Status fail(
+            T resource, String message, ManagedClusterProperties.FailedRetryProperties properties) {
+        Resource.Metadata.Status previousStatus = resource.getMetadata().getStatus();
+        Resource.Metadata.Phase phase = previousStatus != null && previousStatus.getPhase() != null
+                ? previousStatus.getPhase()
+                : Resource.Metadata.Phase.PENDING;
+        int attempts = attempts(resource) + 1;
+
+        Map<String, String> options = new HashMap<>();
+        if (previousStatus != null && previousStatus.getOptions() != null) {
+            options.putAll(previousStatus.getOptions());
+        }
+        options.put(RETRY_ATTEMPTS, String.valueOf(attempts));
+        options.put(RETRY_PHASE, phase.name());
+
+        String key = key(resource);
+        Retry previous = retries.remove(key);
+        if (previous != null) {
+            queue.remove(previous);
+        }
+
+        if (properties.isEnabled() && attempts <= properties.getMaxAttempts()) {
+            schedule(key, resource, phase, attempts, properties);
+        }
+
+        Resource.Metadata.Status failedStatus = Resource.Metadata.Status.ofFailed(message);
+        failedStatus.setOptions(options);
+        return failedStatus;
+    }
+
+    /**
+     * Schedule the retries of the failed resources of the store, from the number of attempts and the phase kept in
+     * their status. Only the first call reads the store, the failures recorded afterward are scheduled by
+     * {@link #fail}. The resources failed before their number of attempts was recorded are not retried.
+     *
+     * @param failedResources The function reading the failed resources from the store
+     * @param properties The failed resource retry properties
+     */
+    synchronized void seed(
+            Supplier<List<T>> failedResources, ManagedClusterProperties.FailedRetryProperties properties) {
+        if (seeded) {
+            return;
+        }
+
+        seeded = true;
+        for (T resource : failedResources.get()) {
+            String key = key(resource);
+            int attempts = attempts(resource);
+            if (properties.isEnabled()
+                    && attempts > 0
+                    && attempts <= properties.getMaxAttempts()
+                    && !retries.containsKey(key)) {
+                schedule(key, resource, phaseBeforeFailure(resource), attempts, properties);
+            }
+        }
+    }
+
+    /**
+     * Move the failed resources whose retry is due back to their phase before the failure, so they are deployed
+     * again. The resources of the store are not updated in place, a copy with the new status is saved instead. A
+     * resource changed since its failure is left untouched.
+     *
+     * @param finder The function reading the current version of a resource from the store
+     * @param copier The function copying a resource with the given metadata
+     * @param saver The function saving a resource to the store
+     * @return The resources to deploy again, as saved
+     */
+    List<T> retryDue(Function<T, Optional<T>> finder, BiFunction<T, Resource.Metadata, T> copier, Consumer<T> saver) {
+        List<T> retried = new ArrayList<>();
+
+        Retry retry;
+        while ((retry = poll()) != null) {
+            Optional<T> current = finder.apply(retry.resource);
+            if (current.isEmpty() || !current.get().isFailed() || attempts(current.get()) != retry.attempts) {
+                continue;
+            }
+
+            Resource.Metadata metadata = current.get().getMetadata();
+            Map<String, String> options = new HashMap<>(metadata.getStatus().getOptions());
+            T resource = copier.apply(
+                    current.get(),
+                    metadata.withStatus(
+                            retry.phase == Resource.Metadata.Phase.DELETING
+                                    ? Resource.Metadata.Status.ofDeleting(options)
+                                    : Resource.Metadata.Status.ofPending(options)));
+            saver.accept(resource);
+            retried.add(resource);
+        }
+
+        return retried;
+    }
+
+    /**
+     * Get the number of retries scheduled.
+     *
+     * @return The number of retries
+     */
+    int size() {
+        return retries.size();
+    }
+
+    /**
+     * Schedule the retry of a failed resource after the backoff of its number of attempts.
+     *
+     * @param key The key of the resource
+     * @param resource The failed resource
+     * @param phase The phase of the resource before the failure
+     * @param attempts The number of attempts
+     * @param properties The failed resource retry properties
+     */
+    private void schedule(
+            String key,
+            T resource,
+            Resource.Metadata.Phase phase,
+            int attempts,
+            ManagedClusterProperties.FailedRetryProperties properties) {
+        Retry retry = new Retry(
+                key,
+                resource,
+                phase,
+                attempts,
+                nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(backoffMs(attempts, properties)));
+        retries.put(key, retry);
+        queue.add(retry);
+    }
+
+    /**
+     * Take the next retry whose delay has expired.
+     *
+     * @return The retry, null if none is due
+     */
+    private synchronized Retry poll() {
+        Retry retry = queue.poll();
+        if (retry != null) {
+            retries.remove(retry.key, retry);
+        }
+
+        return retry;
+    }
+
+    /**
+     * Compute the delay before a retry. It doubles at each attempt, with a jitter of 50%, up to the maximum backoff.
+     *
+     * @param attempts The number of attempts
+     * @param properties The failed resource retry properties
+     * @return The delay in milliseconds
+     */
+    private static long backoffMs(int attempts, ManagedClusterProperties.FailedRetryProperties properties) {
+        double backoff = properties.getBackoffMs() * Math.pow(2, attempts - 1.0);
+        double jitter = 0.5 + ThreadLocalRandom.current().nextDouble();
+        return (long) Math.min(backoff * jitter, properties.getMaxBackoffMs());
+    }
+
+    /**
+     * Get the number of attempts recorded in the status of a resource.
+     *
+     * @param resource The resource
+     * @return The number of attempts
+     */
+    private static int attempts(Resource resource) {
+        Resource.Metadata.Status status = resource.getMetadata().getStatus();
+        if (status == null || status.getOptions() == null) {
+            return 0;
+        }
+
+        try {
+            return Integer.parseInt(status.getOptions().getOrDefault(RETRY_ATTEMPTS, "0"));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Get the phase before the failure recorded in the status of a resource.
+     *
+     * @param resource The resource
+     * @return The phase, pending if none is recorded
+     */
+    private static Resource.Metadata.Phase phaseBeforeFailure(Resource resource) {
+        Map<String, String> options = resource.getMetadata().getStatus().getOptions();
+        try {
+            return Resource.Metadata.Phase.valueOf(options.getOrDefault(RETRY_PHASE, "PENDING"));
+        } catch (IllegalArgumentException e) {
+            return Resource.Metadata.Phase.PENDING;
+        }
+    }
+
+    /**
+     * Get the key of a resource in the queue.
+     *
+     * @param resource The resource
+     * @return The key
+     */
+    private static String key(Resource resource) {
+        return resource.getMetadata().getNamespace() + "/" + resource.getMetadata().getName();
+    }
+
+    /** Retry of a failed resource. */
+    private final class Retry implements Delayed {
+        private final String key;
+        private final T resource;
+        private final Resource.Metadata.Phase phase;
+        private final int attempts;
+        private final long dueNanos;
+
+        /**
+         * Constructor.
+         *
+         * @param key The key of the resource
+         * @param resource The failed resource
+         * @param phase The phase of the resource before the failure
+         * @param attempts The number of attempts
+         * @param dueNanos The time of the retry, in nanoseconds
+         */
+        private Retry(String key, T resource, Resource.Metadata.Phase phase, int attempts, long dueNanos) {
+            this.key = key;
+            this.resource = resource;
+            this.phase = phase;
+            this.attempts = attempts;
+            this.dueNanos = dueNanos;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - nanoClock.getAsLong(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -18,7 +18,10 @@
  */
 package com.michelin.ns4kafka.service.executor;
 
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.runtime.event.ApplicationStartupEvent;
 import io.micronaut.runtime.event.annotation.EventListener;
 import io.micronaut.scheduling.annotation.Scheduled;
@@ -26,46 +29,68 @@ import jakarta.annotation.PreDestroy;
 import jakarta.inject.Singleton;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Flux;
 
-/** Schedule the asynchronous executors. */
+/**
+ * Schedule the asynchronous executors. The executors are run as soon as a resource to reconcile is queued, and
+ * periodically to catch up with the changes that have not been queued.
+ *
+ * <p>Each managed cluster is synchronized by its own task on a virtual thread, so a slow or unreachable cluster does
+ * not delay the others. The executors of a cluster never run twice at the same time, and the number of clusters
+ * synchronized at the same time is capped.
+ */
 @Slf4j
 @Singleton
 public class KafkaAsyncExecutorScheduler {
     private final AtomicBoolean ready = new AtomicBoolean(false);
-    private final List<TopicAsyncExecutor> topicAsyncExecutors;
-    private final List<AccessControlEntryAsyncExecutor> accessControlEntryAsyncExecutors;
-    private final List<ConfluentRoleBindingAsyncExecutor> confluentRoleBindingAsyncExecutors;
+    private final List<ManagedClusterProperties> managedClusterProperties;
     private final List<ConnectorAsyncExecutor> connectorAsyncExecutors;
-    private final List<UserAsyncExecutor> userAsyncExecutors;
+    private final List<ConnectorStatusPoller> connectorStatusPollers;
     private final Ns4KafkaProperties.SchedulerProperties schedulerProperties;
+    private final ReconciliationQueue reconciliationQueue;
+    private final ApplicationContext applicationContext;
+    private final ExecutorService clusterTasks = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, ReentrantLock> clusterLocks = new ConcurrentHashMap<>();
+    private final Semaphore clusterPermits;
     private Disposable connectorSyncDisposable;
+    private Disposable connectorStatusDisposable;
+    private Disposable reconciliationDisposable;
 
     /**
      * Constructor.
      *
-     * @param topicAsyncExecutors The topic async executors
-     * @param accessControlEntryAsyncExecutors The access control entry async executors
-     * @param confluentRoleBindingAsyncExecutors The confluent role binding async executors
+     * @param managedClusterProperties The managed clusters properties
      * @param connectorAsyncExecutors The connector async executors
-     * @param userAsyncExecutors The user async executors
+     * @param connectorStatusPollers The connector status pollers
+     * @param schedulerProperties The scheduler properties
+     * @param reconciliationQueue The reconciliation queue
+     * @param applicationContext The application context
      */
     public KafkaAsyncExecutorScheduler(
-            List<TopicAsyncExecutor> topicAsyncExecutors,
-            List<AccessControlEntryAsyncExecutor> accessControlEntryAsyncExecutors,
-            List<ConfluentRoleBindingAsyncExecutor> confluentRoleBindingAsyncExecutors,
+            List<ManagedClusterProperties> managedClusterProperties,
             List<ConnectorAsyncExecutor> connectorAsyncExecutors,
-            List<UserAsyncExecutor> userAsyncExecutors,
-            Ns4KafkaProperties.SchedulerProperties schedulerProperties) {
-        this.topicAsyncExecutors = topicAsyncExecutors;
-        this.accessControlEntryAsyncExecutors = accessControlEntryAsyncExecutors;
-        this.confluentRoleBindingAsyncExecutors = confluentRoleBindingAsyncExecutors;
+            List<ConnectorStatusPoller> connectorStatusPollers,
+            Ns4KafkaProperties.SchedulerProperties schedulerProperties,
+            ReconciliationQueue reconciliationQueue,
+            ApplicationContext applicationContext) {
+        this.managedClusterProperties = managedClusterProperties;
         this.connectorAsyncExecutors = connectorAsyncExecutors;
-        this.userAsyncExecutors = userAsyncExecutors;
+        this.connectorStatusPollers = connectorStatusPollers;
         this.schedulerProperties = schedulerProperties;
+        this.reconciliationQueue = reconciliationQueue;
+        this.applicationContext = applicationContext;
+        this.clusterPermits = new Semaphore(Math.max(1, schedulerProperties.getMaxConcurrentClusters()));
     }
 
     /**
@@ -77,22 +102,137 @@ public class KafkaAsyncExecutorScheduler {
     public void onStartupEvent(ApplicationStartupEvent event) {
         ready.compareAndSet(false, true);
         connectorSyncDisposable = scheduleConnectorSynchronization();
+        if (schedulerProperties.getConnectorStatus().isEnabled()) {
+            connectorStatusDisposable = scheduleConnectorStatusPolling();
+        }
+        reconciliationDisposable = scheduleReconciliation();
     }
 
-    /** Schedule resource synchronization. */
-    @Scheduled(initialDelay = "12s", fixedDelay = "20s")
+    /**
+     * Schedule resource synchronization. This sweep is a safety net for the changes missed by the reconciliation queue,
+     * and the only trigger of the user executor. A cluster still synchronized by the previous sweep is skipped.
+     */
+    @Scheduled(initialDelay = "12s", fixedDelay = "${ns4kafka.scheduler.sweep.interval-ms:20000}ms")
     public void schedule() {
         if (ready.get()) {
-            topicAsyncExecutors.forEach(TopicAsyncExecutor::run);
-            accessControlEntryAsyncExecutors.forEach(AccessControlEntryAsyncExecutor::run);
-            confluentRoleBindingAsyncExecutors.forEach(ConfluentRoleBindingAsyncExecutor::run);
-            userAsyncExecutors.forEach(UserAsyncExecutor::run);
+            managedClusterProperties.forEach(
+                    cluster -> clusterTasks.execute(() -> synchronizeCluster(cluster.getName())));
             return;
         }
 
         log.warn("Scheduled jobs did not start because Micronaut is not ready yet.");
     }
 
+    /**
+     * Run all the executors of a cluster, unless they are already running.
+     *
+     * @param cluster The cluster
+     */
+    private void synchronizeCluster(String cluster) {
+        ReentrantLock lock = clusterLocks.computeIfAbsent(cluster, _ -> new ReentrantLock());
+        if (!lock.tryLock()) {
+            log.debug("Skipping synchronization of cluster {}. The previous one is still running.", cluster);
+            return;
+        }
+
+        try {
+            runWithPermit(cluster, () -> {
+                findExecutor(TopicAsyncExecutor.class, cluster).ifPresent(TopicAsyncExecutor::run);
+                findExecutor(AccessControlEntryAsyncExecutor.class, cluster)
+                        .ifPresent(AccessControlEntryAsyncExecutor::run);
+                findExecutor(ConfluentRoleBindingAsyncExecutor.class, cluster)
+                        .ifPresent(ConfluentRoleBindingAsyncExecutor::run);
+                findExecutor(UserAsyncExecutor.class, cluster).ifPresent(UserAsyncExecutor::run);
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Schedule the reconciliation of the queued changes. Each request is handled by its own task, which waits for the
+     * executors of its cluster to be available, so the changes queued while an executor runs are drained by its next
+     * run.
+     *
+     * @return A disposable to manage the scheduled task
+     */
+    public Disposable scheduleReconciliation() {
+        Disposable requests = reconciliationQueue
+                .requests()
+                .subscribe(request -> clusterTasks.execute(() -> reconcile(request)));
+
+        return Disposables.composite(requests, reconciliationQueue.start());
+    }
+
+    /**
+     * Run the executor of a request, unless a previous request has already drained it. The executor deploys all the
+     * pending and deleting resources of its cluster, whichever change queued it.
+     *
+     * @param request The executor and cluster
+     */
+    private void reconcile(ReconciliationQueue.Request request) {
+        ReentrantLock lock = clusterLocks.computeIfAbsent(request.cluster(), _ -> new ReentrantLock());
+        lock.lock();
+
+        try {
+            if (!reconciliationQueue.drain(request)) {
+                return;
+            }
+
+            log.debug("Reconciling {} of cluster {}.", request.target(), request.cluster());
+
+            runWithPermit(request.cluster(), () -> {
+                switch (request.target()) {
+                    case TOPIC -> findExecutor(TopicAsyncExecutor.class, request.cluster())
+                            .ifPresent(TopicAsyncExecutor::run);
+                    case ACL -> findExecutor(AccessControlEntryAsyncExecutor.class, request.cluster())
+                            .ifPresent(AccessControlEntryAsyncExecutor::run);
+                    case ROLE_BINDING -> findExecutor(ConfluentRoleBindingAsyncExecutor.class, request.cluster())
+                            .ifPresent(ConfluentRoleBindingAsyncExecutor::run);
+                }
+            });
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Run a task of a cluster once a permit is available, so the number of clusters synchronized at the same time is
+     * capped. An error is logged instead of being thrown, so the next runs are not affected.
+     *
+     * @param cluster The cluster
+     * @param task The task
+     */
+    private void runWithPermit(String cluster, Runnable task) {
+        try {
+            clusterPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting to synchronize cluster {}.", cluster);
+            return;
+        }
+
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("Error while synchronizing cluster {}.", cluster, e);
+        } finally {
+            clusterPermits.release();
+        }
+    }
+
+    /**
+     * Find the executor of a cluster.
+     *
+     * @param executorType The executor type
+     * @param cluster The cluster
+     * @param <T> The executor type
+     * @return The executor, empty if the cluster has none
+     */
+    private <T> Optional<T> findExecutor(Class<T> executorType, String cluster) {
+        return applicationContext.findBean(executorType, Qualifiers.byName(cluster));
+    }
+
     /**
      * Schedule connector synchronization.
      *
@@ -112,11 +252,39 @@ public class KafkaAsyncExecutorScheduler {
                         log.trace("Synchronization completed for connector \"{}\".", connectorInfo.name()));
     }
 
+    /**
+     * Schedule the polling of the connector statuses.
+     *
+     * @return A disposable to manage the scheduled task
+     */
+    public Disposable scheduleConnectorStatusPolling() {
+        return Flux.interval(
+                        Duration.ofSeconds(15),
+                        Duration.ofMillis(schedulerProperties.getConnectorStatus().getIntervalMs()))
+                .onBackpressureDrop(_ ->
+                        log.debug("Skipping next connector status polling. The previous one is still running."))
+                .concatMap(_ -> Flux.fromIterable(connectorStatusPollers)
+                        .flatMap(ConnectorStatusPoller::poll, Math.max(1, connectorStatusPollers.size())))
+                .onErrorContinue((error, _) ->
+                        log.trace("Continue connector status polling after error: {}.", error.getMessage()))
+                .subscribe();
+    }
+
     /** Dispose the schedulers when the application is shutting down. */
     @PreDestroy
     public void onDestroy() {
         if (connectorSyncDisposable != null && !connectorSyncDisposable.isDisposed()) {
             connectorSyncDisposable.dispose();
         }
+
+        if (connectorStatusDisposable != null && !connectorStatusDisposable.isDisposed()) {
+            connectorStatusDisposable.dispose();
+        }
+
+        if (reconciliationDisposable != null && !reconciliationDisposable.isDisposed()) {
+            reconciliationDisposable.dispose();
+        }
+
+        clusterTasks.shutdownNow();
     }
 }
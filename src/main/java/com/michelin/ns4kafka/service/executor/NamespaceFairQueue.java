@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Fair queue of the resources to reconcile on a cluster. The resources are queued per namespace and drained by
+ * weighted round-robin, up to a budget per cycle, so a namespace applying many resources at once does not delay the
+ * others. The namespace served first rotates from one cycle to the next, and the resources left over stay pending until
+ * the next cycles.
+ */
+class NamespaceFairQueue {
+    private int cycle;
+
+    /**
+     * Select the resources to reconcile in this cycle.
+     *
+     * @param resources The resources to reconcile
+     * @param properties The fair scheduling properties
+     * @param <T> The type of the resources
+     * @return The resources to reconcile in this cycle, interleaved across namespaces
+     */
+    synchronized <T extends Resource> List<T> drain(
+            List<T> resources, ManagedClusterProperties.FairSchedulingProperties properties) {
+        Map<String, Deque<T>> queues = resources.stream()
+                .collect(Collectors.groupingBy(
+                        resource -> Objects.requireNonNullElse(resource.getMetadata().getNamespace(), ""),
+                        LinkedHashMap::new,
+                        Collectors.toCollection(ArrayDeque::new)));
+
+        if (queues.size() <= 1 && resources.size() <= budget(properties)) {
+            return resources;
+        }
+
+        List<Map.Entry<String, Deque<T>>> namespaces = new ArrayList<>(queues.entrySet());
+        Collections.rotate(namespaces, -Math.floorMod(cycle++, Math.max(1, namespaces.size())));
+
+        int budget = budget(properties);
+        List<T> drained = new ArrayList<>(Math.min(resources.size(), budget));
+        while (drained.size() < budget && !namespaces.isEmpty()) {
+            Iterator<Map.Entry<String, Deque<T>>> iterator = namespaces.iterator();
+            while (iterator.hasNext() && drained.size() < budget) {
+                Map.Entry<String, Deque<T>> namespace = iterator.next();
+                int weight = Math.max(1, properties.getWeights().getOrDefault(namespace.getKey(), 1));
+
+                for (int i = 0; i < weight && !namespace.getValue().isEmpty() && drained.size() < budget; i++) {
+                    drained.add(namespace.getValue().poll());
+                }
+
+                if (namespace.getValue().isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        return drained;
+    }
+
+    /**
+     * Get the maximum number of resources to reconcile per cycle.
+     *
+     * @param properties The fair scheduling properties
+     * @return The budget, unbounded if not positive
+     */
+    private static int budget(ManagedClusterProperties.FairSchedulingProperties properties) {
+        return properties.getCycleBudget() > 0 ? properties.getCycleBudget() : Integer.MAX_VALUE;
+    }
+}
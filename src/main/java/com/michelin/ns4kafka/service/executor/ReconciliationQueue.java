@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
+import com.michelin.ns4kafka.repository.AccessControlEntryRepository;
+import com.michelin.ns4kafka.repository.NamespaceRepository;
+import com.michelin.ns4kafka.repository.StreamRepository;
+import com.michelin.ns4kafka.repository.TopicRepository;
+import com.michelin.ns4kafka.util.exception.WatchOffsetExpiredException;
+import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
+
+/**
+ * Queue of the executors to run, fed by the changes read by the stores. The changes are coalesced by executor and
+ * cluster, so a burst of changes is drained by a single run of the executor. The executors read the resources to
+ * deploy from the phase index of the stores, so the changed resources themselves are not tracked.
+ */
+@Slf4j
+@Singleton
+public class ReconciliationQueue {
+    private static final Duration WATCH_RETRY_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(1);
+
+    private final TopicRepository topicRepository;
+    private final AccessControlEntryRepository accessControlEntryRepository;
+    private final StreamRepository streamRepository;
+    private final NamespaceRepository namespaceRepository;
+    private final Set<Request> queued = ConcurrentHashMap.newKeySet();
+    private final Sinks.Many<Request> requests = Sinks.many().unicast().onBackpressureBuffer();
+
+    /**
+     * Constructor.
+     *
+     * @param topicRepository The topic repository
+     * @param accessControlEntryRepository The access control entry repository
+     * @param streamRepository The stream repository
+     * @param namespaceRepository The namespace repository
+     */
+    public ReconciliationQueue(
+            TopicRepository topicRepository,
+            AccessControlEntryRepository accessControlEntryRepository,
+            StreamRepository streamRepository,
+            NamespaceRepository namespaceRepository) {
+        this.topicRepository = topicRepository;
+        this.accessControlEntryRepository = accessControlEntryRepository;
+        this.streamRepository = streamRepository;
+        this.namespaceRepository = namespaceRepository;
+    }
+
+    /**
+     * Start watching the stores. A topic entering the pending or deleting phase is queued for the topic executor. Any
+     * change of an ACL or a Kafka Stream is queued for the ACL executor, and the pending or deleting ones for the role
+     * binding executor. Any change of a namespace is queued for the ACL executor, as the ACLs depend on its Kafka user.
+     *
+     * @return A disposable to stop watching the stores
+     */
+    public Disposable start() {
+        return Flux.merge(
+                        watch(topicRepository::watch, event -> {
+                            if (isPendingOrDeleting(event)) {
+                                enqueue(Target.TOPIC, event.getObject());
+                            }
+                        }),
+                        watch(accessControlEntryRepository::watch, this::enqueueAclChange),
+                        watch(streamRepository::watch, this::enqueueAclChange),
+                        watch(namespaceRepository::watch, event -> enqueue(Target.ACL, event.getObject())))
+                .subscribe();
+    }
+
+    /**
+     * Watch a store, resuming from the last change received if the watch fails.
+     *
+     * @param watcher The function watching the store from a position
+     * @param handler The handler of the changes
+     * @param <T> The type of the store
+     * @return The changes
+     */
+    private <T extends Resource> Flux<WatchEvent<T>> watch(
+            Function<String, Flux<WatchEvent<T>>> watcher, Consumer<WatchEvent<T>> handler) {
+        AtomicReference<String> position = new AtomicReference<>();
+        return Flux.defer(() -> watcher.apply(position.get()))
+                .doOnNext(event -> {
+                    handler.accept(event);
+                    position.set(event.getPosition());
+                })
+                .doOnError(error -> {
+                    // The periodic sweep catches up with the changes that can no longer be replayed
+                    if (error instanceof WatchOffsetExpiredException) {
+                        position.set(null);
+                    }
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, WATCH_RETRY_BACKOFF)
+                        .doBeforeRetry(signal -> log.warn(
+                                "Error while watching the store changes to reconcile. Retrying.", signal.failure())));
+    }
+
+    /**
+     * Queue a changed ACL or Kafka Stream.
+     *
+     * @param event The change
+     */
+    private void enqueueAclChange(WatchEvent<? extends Resource> event) {
+        enqueue(Target.ACL, event.getObject());
+
+        if (isPendingOrDeleting(event)) {
+            enqueue(Target.ROLE_BINDING, event.getObject());
+        }
+    }
+
+    /**
+     * Check whether a change leaves a resource in the pending or deleting phase.
+     *
+     * @param event The change
+     * @return true if it does, false otherwise
+     */
+    private static boolean isPendingOrDeleting(WatchEvent<? extends Resource> event) {
+        return event.getType() != WatchEvent.Type.DELETED
+                && (event.getObject().isPending() || event.getObject().isDeleting());
+    }
+
+    /**
+     * Queue the executor of the cluster of a resource.
+     *
+     * @param target The executor
+     * @param resource The resource
+     */
+    private void enqueue(Target target, Resource resource) {
+        enqueue(target, resource.getMetadata().getCluster());
+    }
+
+    /**
+     * Queue the executor of a cluster. A request is only emitted if the executor is not queued yet, the other changes
+     * are drained with it.
+     *
+     * @param target The executor
+     * @param cluster The cluster
+     */
+    void enqueue(Target target, String cluster) {
+        if (cluster == null) {
+            return;
+        }
+
+        Request request = new Request(target, cluster);
+        if (queued.add(request)) {
+            // The stores are read by several threads, so the emissions are serialized
+            requests.emitNext(request, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+        }
+    }
+
+    /**
+     * Queue the executor of a cluster after a delay, to resume the resources postponed by the executor.
+     *
+     * @param target The executor
+     * @param cluster The cluster
+     * @param delay The delay
+     */
+    void enqueueAfter(Target target, String cluster, Duration delay) {
+        Mono.delay(delay).subscribe(_ -> enqueue(target, cluster));
+    }
+
+    /**
+     * Remove the executor of a cluster from the queue, before running it.
+     *
+     * @param request The executor and cluster
+     * @return true if it was queued, false otherwise
+     */
+    boolean drain(Request request) {
+        return queued.remove(request);
+    }
+
+    /**
+     * Get the requests to reconcile, emitted as soon as a change is queued for an executor and cluster not queued
+     * yet.
+     *
+     * @return The requests
+     */
+    Flux<Request> requests() {
+        return requests.asFlux();
+    }
+
+    /** Executor to reconcile a resource with. */
+    public enum Target {
+        TOPIC,
+        ACL,
+        ROLE_BINDING
+    }
+
+    /**
+     * Request to run the executor of a cluster.
+     *
+     * @param target The executor
+     * @param cluster The cluster
+     */
+    record Request(Target target, String cluster) {}
+}
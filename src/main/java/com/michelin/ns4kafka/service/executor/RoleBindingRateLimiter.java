@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket limiting the role binding requests sent to the Confluent Cloud API. The bucket holds one second of
+ * requests. A request taken from an empty bucket is delayed until its token is earned, so the waiting requests are
+ * spread at the configured rate.
+ */
+class RoleBindingRateLimiter {
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long lastRefillNanos;
+    private boolean started;
+
+    /** Constructor. */
+    RoleBindingRateLimiter() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nanoClock The clock, in nanoseconds
+     */
+    RoleBindingRateLimiter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Reserve the permit to send a request.
+     *
+     * @param requestsPerSecond The requests allowed per second, 0 for no limit
+     * @return The delay to wait before sending the request
+     */
+    synchronized Duration reserve(double requestsPerSecond) {
+        if (requestsPerSecond <= 0) {
+            return Duration.ZERO;
+        }
+
+        long now = nanoClock.getAsLong();
+        double capacity = Math.max(1, requestsPerSecond);
+        if (!started) {
+            tokens = capacity;
+            started = true;
+        } else {
+            double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            tokens = Math.min(capacity, tokens + elapsedSeconds * requestsPerSecond);
+        }
+
+        lastRefillNanos = now;
+        tokens -= 1;
+
+        if (tokens >= 0) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofNanos((long) (-tokens / requestsPerSecond * TimeUnit.SECONDS.toNanos(1)));
+    }
+}
@@ -26,21 +26,33 @@ import com.michelin.ns4kafka.repository.kafka.KafkaStoreException;
 import com.michelin.ns4kafka.service.TopicService;
 import io.micronaut.context.annotation.EachBean;
 import jakarta.inject.Singleton;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigsResult;
+import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreateTopicsOptions;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.admin.RecordsToDelete;
@@ -49,8 +61,11 @@ import org.apache.kafka.clients.admin.TopicListing;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.ThrottlingQuotaExceededException;
 import org.apache.kafka.common.errors.TopicExistsException;
 import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /** Topic executor. */
 @Slf4j
@@ -62,6 +77,14 @@ public class TopicAsyncExecutor {
     private final ManagedClusterProperties managedClusterProperties;
     private final TopicService topicService;
     private final TopicRepository topicRepository;
+    private final ReconciliationQueue reconciliationQueue;
+    private final Map<String, Topic> brokerTopicSnapshot = new ConcurrentHashMap<>();
+    private final TopicCreationThrottle topicCreationThrottle = new TopicCreationThrottle();
+    private final NamespaceFairQueue namespaceFairQueue = new NamespaceFairQueue();
+    private final FailedResourceRetryQueue<Topic> failedTopicRetryQueue = new FailedResourceRetryQueue<>();
+    private int driftDetectionCursor;
+    private long lastDriftDetectionNanos;
+    private boolean driftDetectionStarted;
 
     /**
      * Constructor.
@@ -69,34 +92,78 @@ public class TopicAsyncExecutor {
      * @param managedClusterProperties The managed cluster properties
      * @param topicService The topic service
      * @param topicRepository The topic repository
+     * @param reconciliationQueue The reconciliation queue
      */
     public TopicAsyncExecutor(
             ManagedClusterProperties managedClusterProperties,
             TopicService topicService,
-            TopicRepository topicRepository) {
+            TopicRepository topicRepository,
+            ReconciliationQueue reconciliationQueue) {
         this.managedClusterProperties = managedClusterProperties;
         this.topicService = topicService;
         this.topicRepository = topicRepository;
+        this.reconciliationQueue = reconciliationQueue;
     }
 
-    /** Run the topic synchronization. */
+    /** Run the topic synchronization, then the config drift detection if enabled. */
     public void run() {
         if (managedClusterProperties.isManageTopics()) {
             synchronizeTopics();
+
+            if (managedClusterProperties.getDriftDetection().isEnabled()) {
+                detectConfigDrift();
+            }
         }
     }
 
-    /** Start the topic synchronization. */
+    /**
+     * Start the topic synchronization. The failed topics whose retry is due are deployed again. The topics to deploy
+     * and delete are shared fairly across namespaces, up to a budget per synchronization. The topic executor of the
+     * cluster is queued again right away when topics are left over, unless topic creations were postponed, in which
+     * case it is queued once they can be created.
+     */
     public void synchronizeTopics() {
         log.debug("Starting topic collection for cluster {}", managedClusterProperties.getName());
 
         try {
-            Map<Boolean, List<Topic>> partitioned =
-                    topicService.findAllToDeployForCluster(managedClusterProperties.getName()).stream()
-                            .collect(Collectors.partitioningBy(Resource::isCreated));
+            failedTopicRetryQueue.seed(
+                    () -> topicService.findAllFailedForCluster(managedClusterProperties.getName()),
+                    managedClusterProperties.getFailedRetry());
+            List<Topic> retriedTopics = failedTopicRetryQueue.retryDue(
+                    topic -> topicService.findByName(
+                            topic.getMetadata().getCluster(), topic.getMetadata().getName()),
+                    TopicAsyncExecutor::copyWithMetadata,
+                    topicRepository::create);
+            retriedTopics.forEach(topic -> log.info(
+                    "Retrying failed topic {} on cluster {}",
+                    topic.getMetadata().getName(),
+                    managedClusterProperties.getName()));
+
+            // The retried topics are deployed in this run, along with the topics to deploy and delete of the store
+            Map<String, Topic> topicsByName = new LinkedHashMap<>();
+            Stream.of(
+                            retriedTopics,
+                            topicService.findAllToDeployForCluster(managedClusterProperties.getName()),
+                            topicService.findAllToDeleteForCluster(managedClusterProperties.getName()))
+                    .flatMap(List::stream)
+                    .forEach(topic -> topicsByName.put(topic.getMetadata().getName(), topic));
+
+            List<Topic> topics = namespaceFairQueue.drain(
+                    List.copyOf(topicsByName.values()), managedClusterProperties.getFairScheduling());
+
+            Map<Boolean, List<Topic>> partitioned = topics.stream()
+                    .filter(topic -> !topic.isDeleting())
+                    .collect(Collectors.partitioningBy(Resource::isCreated));
             List<Topic> topicsToCreate = partitioned.get(false);
             List<Topic> topicsToUpdate = partitioned.get(true);
-            List<Topic> topicsToDelete = topicService.findAllToDeleteForCluster(managedClusterProperties.getName());
+            List<Topic> topicsToDelete = topics.stream().filter(Resource::isDeleting).toList();
+            boolean creationsPostponed = false;
+
+            // The broker configs of the deployed topics are about to change, so they are described again by the next
+            // drift detection slices
+            Stream.of(topicsToCreate, topicsToUpdate, topicsToDelete)
+                    .flatMap(List::stream)
+                    .forEach(topic -> brokerTopicSnapshot.remove(topic.getMetadata().getName()));
 
             if (!topicsToCreate.isEmpty()) {
                 log.atDebug()
@@ -104,7 +171,7 @@ public class TopicAsyncExecutor {
                                 .map(topic -> topic.getMetadata().getName())
                                 .collect(Collectors.joining(",")))
                         .log("Topic(s) to create: {}");
-                createTopics(topicsToCreate);
+                creationsPostponed = !createTopics(topicsToCreate);
             }
 
             if (!topicsToUpdate.isEmpty()) {
@@ -117,7 +184,15 @@ public class TopicAsyncExecutor {
                 List<String> topicsNames = topicsToUpdate.stream()
                         .map(topic -> topic.getMetadata().getName())
                         .toList();
-                alterTopics(topicsToUpdate, collectBrokerTopicsFromNames(topicsNames));
+                Map<String, Topic> brokerTopics = collectBrokerTopicsFromNames(topicsNames);
+
+                // The topics that could not be described are updated by the next synchronization
+                alterTopics(
+                        topicsToUpdate.stream()
+                                .filter(topic -> brokerTopics.containsKey(
+                                        topic.getMetadata().getName()))
+                                .toList(),
+                        brokerTopics);
             }
 
             if (!topicsToDelete.isEmpty()) {
@@ -130,6 +205,13 @@ public class TopicAsyncExecutor {
                 deleteTopics(topicsToDelete);
             }
 
+            if (topics.size() < topicsByName.size() && !creationsPostponed) {
+                log.debug(
+                        "{} topic(s) left over on cluster {}. Queuing the next synchronization.",
+                        topicsByName.size() - topics.size(),
+                        managedClusterProperties.getName());
+                reconciliationQueue.enqueue(ReconciliationQueue.Target.TOPIC, managedClusterProperties.getName());
+            }
         } catch (InterruptedException e) {
             log.error("Exception ", e);
             Thread.currentThread().interrupt();
@@ -138,6 +220,135 @@ public class TopicAsyncExecutor {
         }
     }
 
+    /**
+     * Detect the topics whose configs have been changed directly on broker. The configs on broker of the deployed
+     * topics are kept in a snapshot, refreshed by slices of topics at most once per interval, so the whole cluster is
+     * not described at each run. A drifted topic is reported by {@link #findDriftedTopics()}, and marked as pending to
+     * deploy its configs again if remediation is enabled.
+     */
+    public void detectConfigDrift() {
+        ManagedClusterProperties.DriftDetectionProperties driftDetection =
+                managedClusterProperties.getDriftDetection();
+
+        long now = System.nanoTime();
+        if (driftDetectionStarted
+                && now - lastDriftDetectionNanos < TimeUnit.MILLISECONDS.toNanos(driftDetection.getIntervalMs())) {
+            return;
+        }
+
+        driftDetectionStarted = true;
+        lastDriftDetectionNanos = now;
+
+        List<Topic> topics = topicService.findAllSucceededForCluster(managedClusterProperties.getName()).stream()
+                .sorted(Comparator.comparing(topic -> topic.getMetadata().getName()))
+                .toList();
+
+        Set<String> topicNames =
+                topics.stream().map(topic -> topic.getMetadata().getName()).collect(Collectors.toSet());
+        brokerTopicSnapshot.keySet().retainAll(topicNames);
+
+        if (topics.isEmpty()) {
+            return;
+        }
+
+        int sliceSize = Math.clamp(driftDetection.getSliceSize(), 1, topics.size());
+        int sliceStart = driftDetectionCursor % topics.size();
+        driftDetectionCursor = (sliceStart + sliceSize) % topics.size();
+
+        List<Topic> slice = IntStream.range(sliceStart, sliceStart + sliceSize)
+                .mapToObj(index -> topics.get(index % topics.size()))
+                .toList();
+
+        try {
+            Map<String, Topic> brokerTopics = collectBrokerTopicsFromNames(
+                    slice.stream().map(topic -> topic.getMetadata().getName()).toList());
+
+            List<Topic> driftedTopics = slice.stream()
+                    .filter(topic -> brokerTopics.containsKey(topic.getMetadata().getName()))
+                    .filter(topic -> {
+                        Topic brokerTopic = brokerTopics.get(topic.getMetadata().getName());
+                        Topic previousBrokerTopic = brokerTopicSnapshot.put(topic.getMetadata().getName(), brokerTopic);
+
+                        boolean drifted = isDrifted(topic, brokerTopic);
+                        if (drifted && (previousBrokerTopic == null || !isDrifted(topic, previousBrokerTopic))) {
+                            log.warn(
+                                    "Topic {} configs have drifted on cluster {}: {}",
+                                    topic.getMetadata().getName(),
+                                    managedClusterProperties.getName(),
+                                    brokerTopic.getSpec().getConfigs());
+                        }
+                        return drifted;
+                    })
+                    .toList();
+
+            if (driftDetection.isRemediate()) {
+                remediateConfigDrift(driftedTopics);
+            }
+        } catch (InterruptedException e) {
+            log.error(ERROR, e);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("An error occurred during the topic config drift detection", e);
+        }
+    }
+
+    /**
+     * Find the topics whose configs on broker have drifted from Ns4Kafka, as of the last drift detection.
+     *
+     * @return The drifted topics, as last seen on broker
+     */
+    public List<Topic> findDriftedTopics() {
+        return brokerTopicSnapshot.values().stream()
+                .filter(brokerTopic -> topicService
+                        .findByName(managedClusterProperties.getName(), brokerTopic.getMetadata().getName())
+                        .filter(Resource::isSuccess)
+                        .filter(topic -> isDrifted(topic, brokerTopic))
+                        .isPresent())
+                .sorted(Comparator.comparing(topic -> topic.getMetadata().getName()))
+                .toList();
+    }
+
+    /**
+     * Mark drifted topics as pending, so their configs are deployed again by the next synchronization. A pending copy
+     * of each topic is saved, the topics of the store are not updated in place.
+     *
+     * @param driftedTopics The drifted topics
+     */
+    private void remediateConfigDrift(List<Topic> driftedTopics) {
+        List<Topic> topicsToRemediate = driftedTopics.stream()
+                .filter(this::isUnchangedSinceLastApply)
+                .map(topic -> copyWithMetadata(
+                        topic, topic.getMetadata().withStatus(Resource.Metadata.Status.ofPending())))
+                .toList();
+
+        if (topicsToRemediate.isEmpty()) {
+            return;
+        }
+
+        topicsToRemediate.forEach(topic -> {
+            brokerTopicSnapshot.remove(topic.getMetadata().getName());
+
+            log.info(
+                    "Topic {} marked as pending to restore its configs on cluster {}",
+                    topic.getMetadata().getName(),
+                    managedClusterProperties.getName());
+        });
+        topicRepository.createAll(topicsToRemediate);
+    }
+
+    /**
+     * Check if the configs of a topic on broker have drifted from Ns4Kafka.
+     *
+     * @param topic The topic from Ns4Kafka
+     * @param brokerTopic The topic from broker
+     * @return true if they have, false otherwise
+     */
+    private boolean isDrifted(Topic topic, Topic brokerTopic) {
+        return !computeConfigChanges(
+                        topic.getSpec().getConfigs(), brokerTopic.getSpec().getConfigs())
+                .isEmpty();
+    }
+
     /**
      * List all topic names on broker.
      *
@@ -155,64 +366,203 @@ public class TopicAsyncExecutor {
     }
 
     /**
-     * Collect all topics on broker from a list of topic names.
+     * List all topic names on broker without blocking. The listing completes on the admin client thread, so the
+     * rest of the chain is moved to the parallel scheduler.
+     *
+     * @return All topic names
+     */
+    public Mono<List<String>> listBrokerTopicNamesAsync() {
+        return Mono.fromCompletionStage(() -> managedClusterProperties
+                        .getAdminClient()
+                        .listTopics()
+                        .listings()
+                        .toCompletionStage())
+                .timeout(Duration.ofMillis(managedClusterProperties.getTimeout().getTopic().getList()))
+                .publishOn(Schedulers.parallel())
+                .map(listings -> listings.stream().map(TopicListing::name).toList());
+    }
+
+    /**
+     * Collect all topics on broker from a list of topic names. The topics are described in chunks, with a bounded
+     * number of chunks in flight, so a large number of topics does not build huge admin requests. A topic that cannot
+     * be described is skipped, so the other topics are still collected.
      *
      * @param topicNames The topic names
      * @return All topics by name
      * @throws InterruptedException Any interrupted exception
-     * @throws ExecutionException Any execution exception
-     * @throws TimeoutException Any timeout exception
+     * @throws ExecutionException Any execution exception, if no topic could be described
+     * @throws TimeoutException Any timeout exception, if no topic could be described
      */
     public Map<String, Topic> collectBrokerTopicsFromNames(List<String> topicNames)
             throws InterruptedException, ExecutionException, TimeoutException {
-        Map<String, TopicDescription> topicDescriptions = managedClusterProperties
-                .getAdminClient()
-                .describeTopics(topicNames)
-                .allTopicNames()
-                .get();
+        int chunkSize = Math.max(1, managedClusterProperties.getTopicDescribe().getChunkSize());
+        int maxInFlight = Math.max(1, managedClusterProperties.getTopicDescribe().getMaxInFlight());
+
+        Map<String, Topic> brokerTopics = new HashMap<>();
+        List<Exception> errors = new ArrayList<>();
+        Deque<TopicDescribeChunk> inFlight = new ArrayDeque<>();
+        for (int i = 0; i < topicNames.size(); i += chunkSize) {
+            if (inFlight.size() >= maxInFlight) {
+                collectChunk(inFlight.poll(), brokerTopics, errors);
+            }
 
-        return managedClusterProperties
-                .getAdminClient()
-                .describeConfigs(topicNames.stream()
-                        .map(topicName -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
-                        .toList())
-                .all()
-                .get(managedClusterProperties.getTimeout().getTopic().getDescribeConfigs(), TimeUnit.MILLISECONDS)
-                .entrySet()
-                .stream()
-                .map(entry -> {
-                    String name = entry.getKey().name();
-                    Map<String, String> configs = entry.getValue().entries().stream()
-                            .filter(configEntry ->
-                                    configEntry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG)
-                            .collect(Collectors.toMap(ConfigEntry::name, ConfigEntry::value));
-
-                    TopicDescription desc = topicDescriptions.get(name);
-                    return Topic.builder()
-                            .metadata(Resource.Metadata.builder()
-                                    .cluster(managedClusterProperties.getName())
-                                    .name(name)
-                                    .build())
-                            .spec(Topic.TopicSpec.builder()
-                                    .replicationFactor(desc.partitions()
-                                            .getFirst()
-                                            .replicas()
-                                            .size())
-                                    .partitions(desc.partitions().size())
-                                    .configs(configs)
-                                    .build())
-                            .build();
-                })
-                .collect(Collectors.toMap(topic -> topic.getMetadata().getName(), Function.identity()));
+            inFlight.add(describeChunk(topicNames.subList(i, Math.min(i + chunkSize, topicNames.size()))));
+        }
+
+        while (!inFlight.isEmpty()) {
+            collectChunk(inFlight.poll(), brokerTopics, errors);
+        }
+
+        if (brokerTopics.isEmpty() && !errors.isEmpty()) {
+            Exception error = errors.getLast();
+            if (error instanceof TimeoutException timeoutException) {
+                throw timeoutException;
+            }
+            throw (ExecutionException) error;
+        }
+
+        if (!errors.isEmpty()) {
+            log.warn(
+                    "{} topic(s) could not be described on cluster {} and have been skipped.",
+                    errors.size(),
+                    managedClusterProperties.getName());
+        }
+
+        return brokerTopics;
+    }
+
+    /**
+     * Send the describe requests of a chunk of topics.
+     *
+     * @param topicNames The topic names of the chunk
+     * @return The chunk in flight
+     */
+    private TopicDescribeChunk describeChunk(List<String> topicNames) {
+        return new TopicDescribeChunk(
+                managedClusterProperties
+                        .getAdminClient()
+                        .describeTopics(topicNames)
+                        .topicNameValues(),
+                managedClusterProperties
+                        .getAdminClient()
+                        .describeConfigs(topicNames.stream()
+                                .map(topicName -> new ConfigResource(ConfigResource.Type.TOPIC, topicName))
+                                .toList())
+                        .values());
+    }
+
+    /**
+     * Wait for a chunk of topics in flight and collect its topics. The timeouts apply to the whole chunk, so a chunk
+     * that does not answer in time is skipped without waiting for each of its topics.
+     *
+     * @param chunk The chunk in flight
+     * @param brokerTopics The collected topics by name
+     * @param errors The errors of the topics that could not be described
+     * @throws InterruptedException Any interrupted exception
+     */
+    private void collectChunk(TopicDescribeChunk chunk, Map<String, Topic> brokerTopics, List<Exception> errors)
+            throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long describeTimeoutMs = managedClusterProperties.getTimeout().getTopic().getDescribe();
+        long describeConfigsTimeoutMs = managedClusterProperties.getTimeout().getTopic().getDescribeConfigs();
+
+        for (Map.Entry<String, KafkaFuture<TopicDescription>> description : chunk.descriptions().entrySet()) {
+            String name = description.getKey();
+            try {
+                TopicDescription topicDescription =
+                        description.getValue().get(remainingMs(startNanos, describeTimeoutMs), TimeUnit.MILLISECONDS);
+                Config config = chunk.configs()
+                        .get(new ConfigResource(ConfigResource.Type.TOPIC, name))
+                        .get(remainingMs(startNanos, describeConfigsTimeoutMs), TimeUnit.MILLISECONDS);
+
+                brokerTopics.put(name, buildBrokerTopic(name, topicDescription, config));
+            } catch (ExecutionException | TimeoutException e) {
+                errors.add(e);
+                log.debug(
+                        "Cannot describe topic {} on cluster {}: {}",
+                        name,
+                        managedClusterProperties.getName(),
+                        e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get the time left before a timeout.
+     *
+     * @param startNanos The start time, in nanoseconds
+     * @param timeoutMs The timeout, in milliseconds
+     * @return The time left, in milliseconds
+     */
+    private static long remainingMs(long startNanos, long timeoutMs) {
+        return Math.max(0, timeoutMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
     }
 
     /**
-     * Create topics.
+     * Build a topic from its description on broker.
+     *
+     * @param name The topic name
+     * @param description The topic description
+     * @param config The topic config
+     * @return The topic
+     */
+    private Topic buildBrokerTopic(String name, TopicDescription description, Config config) {
+        Map<String, String> configs = config.entries().stream()
+                .filter(configEntry -> configEntry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG)
+                .collect(Collectors.toMap(ConfigEntry::name, ConfigEntry::value));
+
+        return Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .cluster(managedClusterProperties.getName())
+                        .name(name)
+                        .build())
+                .spec(Topic.TopicSpec.builder()
+                        .replicationFactor(
+                                description.partitions().getFirst().replicas().size())
+                        .partitions(description.partitions().size())
+                        .configs(configs)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Chunk of topics whose describe requests are in flight.
+     *
+     * @param descriptions The topic descriptions by topic name
+     * @param configs The topic configs by config resource
+     */
+    private record TopicDescribeChunk(
+            Map<String, KafkaFuture<TopicDescription>> descriptions,
+            Map<ConfigResource, KafkaFuture<Config>> configs) {}
+
+    /**
+     * Create topics. The creations are limited by the topic creation rate of the cluster, so the topics over the rate
+     * stay pending. The topics throttled by the controller mutation quota of the brokers stay pending as well. The
+     * topic executor of the cluster is queued again once the postponed topics can be created.
      *
      * @param topics The topics to create
+     * @return true if all the topics were submitted to the cluster, false if some were postponed
      */
-    public void createTopics(List<Topic> topics) {
-        List<NewTopic> newTopics = topics.stream()
+    public boolean createTopics(List<Topic> topics) {
+        ManagedClusterProperties.TopicCreationProperties topicCreation = managedClusterProperties.getTopicCreation();
+        List<Topic> topicsToCreate = topics.stream()
+                .takeWhile(topic -> topicCreationThrottle.tryAcquire(topic.getSpec().getPartitions(), topicCreation))
+                .toList();
+
+        if (topicsToCreate.size() < topics.size()) {
+            log.info(
+                    "{} topic(s) to create on cluster {} postponed by the topic creation rate limit",
+                    topics.size() - topicsToCreate.size(),
+                    managedClusterProperties.getName());
+        }
+
+        List<Topic> postponedTopics = new ArrayList<>(topics.subList(topicsToCreate.size(), topics.size()));
+        if (topicsToCreate.isEmpty()) {
+            wakeUpPostponedTopics(postponedTopics);
+            return false;
+        }
+
+        List<NewTopic> newTopics = topicsToCreate.stream()
                 .map(topic -> {
                     log.debug(
                             "Creating topic {} on cluster {}",
@@ -228,10 +578,11 @@ public class TopicAsyncExecutor {
 
         Map<String, KafkaFuture<Void>> createTopicsResult = managedClusterProperties
                 .getAdminClient()
-                .createTopics(newTopics)
+                .createTopics(newTopics, new CreateTopicsOptions().retryOnQuotaViolation(false))
                 .values();
 
-        topics.forEach(topicToCreate -> {
+        List<Topic> createdTopics = new ArrayList<>();
+        topicsToCreate.forEach(topicToCreate -> {
             try {
                 createTopicsResult
                         .get(topicToCreate.getMetadata().getName())
@@ -254,7 +605,7 @@ public class TopicAsyncExecutor {
                     lastVersion.getMetadata().setStatus(Resource.Metadata.Status.ofSuccess());
                 }
 
-                topicRepository.create(lastVersion);
+                createdTopics.add(lastVersion);
 
                 log.info(
                         "Success creating topic {} on cluster {}",
@@ -264,6 +615,17 @@ public class TopicAsyncExecutor {
                 log.error(ERROR, e);
                 Thread.currentThread().interrupt();
             } catch (Exception e) {
+                if (e.getCause() instanceof ThrottlingQuotaExceededException throttlingQuotaExceededException) {
+                    topicCreationThrottle.pause(throttlingQuotaExceededException.throttleTimeMs());
+                    log.warn(
+                            "Creation of topic {} throttled by cluster {} for {}ms. The topic stays pending.",
+                            topicToCreate.getMetadata().getName(),
+                            managedClusterProperties.getName(),
+                            throttlingQuotaExceededException.throttleTimeMs());
+                    postponedTopics.add(topicToCreate);
+                    return;
+                }
+
                 if (isUnchangedSinceLastApply(topicToCreate)) {
                     if (e.getCause() instanceof TopicExistsException) {
                         // Let the next executor update topic, because if update here with alterTopics, we would need
@@ -276,8 +638,10 @@ public class TopicAsyncExecutor {
 
                     topicToCreate
                             .getMetadata()
-                            .setStatus(
-                                    Resource.Metadata.Status.ofFailed("Error while creating topic: " + e.getMessage()));
+                            .setStatus(failedTopicRetryQueue.fail(
+                                    topicToCreate,
+                                    "Error while creating topic: " + e.getMessage(),
+                                    managedClusterProperties.getFailedRetry()));
                     topicRepository.create(topicToCreate);
                     log.error(
                             "Error while creating topic {} on cluster {}",
@@ -287,6 +651,35 @@ public class TopicAsyncExecutor {
                 }
             }
         });
+
+        if (!createdTopics.isEmpty()) {
+            topicRepository.createAll(createdTopics);
+        }
+
+        wakeUpPostponedTopics(postponedTopics);
+        return postponedTopics.isEmpty();
+    }
+
+    /**
+     * Queue the topic executor of the cluster again once the first postponed topic can be created, either at the end of
+     * the pause of the creations or once the token buckets earned its tokens.
+     *
+     * @param postponedTopics The postponed topics
+     */
+    private void wakeUpPostponedTopics(List<Topic> postponedTopics) {
+        if (postponedTopics.isEmpty()) {
+            return;
+        }
+
+        long delayMs = topicCreationThrottle.delayMs(
+                postponedTopics.getFirst().getSpec().getPartitions(), managedClusterProperties.getTopicCreation());
+        log.debug(
+                "{} postponed topic(s) to create on cluster {} resumed in {}ms",
+                postponedTopics.size(),
+                managedClusterProperties.getName(),
+                delayMs);
+        reconciliationQueue.enqueueAfter(
+                ReconciliationQueue.Target.TOPIC, managedClusterProperties.getName(), Duration.ofMillis(delayMs));
     }
 
     /**
@@ -311,22 +704,26 @@ public class TopicAsyncExecutor {
 
         // Topics with no config changes are deployed without calling the broker.
         // Can happen on delete -> applying an existing topic with the same config.
-        targetTopics.stream()
+        List<Topic> upToDateTopics = targetTopics.stream()
                 .filter(topic -> topicConfigsToUpdate
                         .get(new ConfigResource(
                                 ConfigResource.Type.TOPIC, topic.getMetadata().getName()))
                         .isEmpty())
                 .filter(this::isUnchangedSinceLastApply)
-                .forEach(topic -> {
-                    topic.getMetadata().setGeneration(topic.getMetadata().getGeneration() + 1);
-                    topic.getMetadata().setStatus(Resource.Metadata.Status.ofSuccess());
-                    topicRepository.create(topic);
+                .toList();
 
-                    log.info(
-                            "Topic {} configs are already up to date on cluster {}",
-                            topic.getMetadata().getName(),
-                            managedClusterProperties.getName());
-                });
+        if (!upToDateTopics.isEmpty()) {
+            upToDateTopics.forEach(topic -> {
+                topic.getMetadata().setGeneration(topic.getMetadata().getGeneration() + 1);
+                topic.getMetadata().setStatus(Resource.Metadata.Status.ofSuccess());
+
+                log.info(
+                        "Topic {} configs are already up to date on cluster {}",
+                        topic.getMetadata().getName(),
+                        managedClusterProperties.getName());
+            });
+            topicRepository.createAll(upToDateTopics);
+        }
 
         topicConfigsToUpdate.values().removeIf(Collection::isEmpty);
 
@@ -336,6 +733,7 @@ public class TopicAsyncExecutor {
 
         AlterConfigsResult alterConfigsResult =
                 managedClusterProperties.getAdminClient().incrementalAlterConfigs(topicConfigsToUpdate);
+        List<Topic> updatedTopics = new ArrayList<>();
         alterConfigsResult.values().forEach((key, value) -> {
             Topic updatedTopic = targetTopics.stream()
                     .filter(topic -> topic.getMetadata().getName().equals(key.name()))
@@ -350,7 +748,7 @@ public class TopicAsyncExecutor {
                             .getMetadata()
                             .setGeneration(updatedTopic.getMetadata().getGeneration() + 1);
                     updatedTopic.getMetadata().setStatus(Resource.Metadata.Status.ofSuccess());
-                    topicRepository.create(updatedTopic);
+                    updatedTopics.add(updatedTopic);
 
                     log.atInfo()
                             .addArgument(key.name())
@@ -371,8 +769,10 @@ public class TopicAsyncExecutor {
                     }
                     updatedTopic
                             .getMetadata()
-                            .setStatus(Resource.Metadata.Status.ofFailed(
-                                    "Error while updating topic configs: " + e.getMessage()));
+                            .setStatus(failedTopicRetryQueue.fail(
+                                    updatedTopic,
+                                    "Error while updating topic configs: " + e.getMessage(),
+                                    managedClusterProperties.getFailedRetry()));
                     topicRepository.create(updatedTopic);
 
                     log.error(
@@ -383,6 +783,10 @@ public class TopicAsyncExecutor {
                 }
             }
         });
+
+        if (!updatedTopics.isEmpty()) {
+            topicRepository.createAll(updatedTopics);
+        }
     }
 
     /**
@@ -399,6 +803,7 @@ public class TopicAsyncExecutor {
                 .deleteTopics(topicsNames)
                 .topicNameValues();
 
+        List<Topic> deletedTopics = new ArrayList<>();
         topics.forEach(topicToDelete -> {
             try {
                 deletedTopicsResult
@@ -410,7 +815,7 @@ public class TopicAsyncExecutor {
                             .addArgument(topicToDelete.getMetadata().getName())
                             .addArgument(managedClusterProperties.getName())
                             .log("Success deleting topic {} on cluster {}.");
-                    topicRepository.delete(topicToDelete);
+                    deletedTopics.add(topicToDelete);
                 }
             } catch (InterruptedException e) {
                 log.error(ERROR, e);
@@ -422,14 +827,16 @@ public class TopicAsyncExecutor {
                                 "Topic {} does not exist on the cluster {}: Topic will be removed from Ns4Kafka.",
                                 topicToDelete.getMetadata().getName(),
                                 managedClusterProperties.getName());
-                        topicRepository.delete(topicToDelete);
+                        deletedTopics.add(topicToDelete);
                         return;
                     }
 
                     topicToDelete
                             .getMetadata()
-                            .setStatus(
-                                    Resource.Metadata.Status.ofFailed("Error while deleting topic: " + e.getMessage()));
+                            .setStatus(failedTopicRetryQueue.fail(
+                                    topicToDelete,
+                                    "Error while deleting topic: " + e.getMessage(),
+                                    managedClusterProperties.getFailedRetry()));
                     topicRepository.create(topicToDelete);
 
                     log.error(
@@ -440,6 +847,10 @@ public class TopicAsyncExecutor {
                 }
             }
         });
+
+        if (!deletedTopics.isEmpty()) {
+            topicRepository.deleteAll(deletedTopics);
+        }
     }
 
     /**
@@ -556,4 +967,19 @@ public class TopicAsyncExecutor {
                         .getUpdateTimestamp()
                         .after(topic.getMetadata().getUpdateTimestamp());
     }
+
+    /**
+     * Copy a topic with the given metadata, so a topic of the store is not updated in place.
+     *
+     * @param topic The topic
+     * @param metadata The metadata of the copy
+     * @return The copy
+     */
+    private static Topic copyWithMetadata(Topic topic, Resource.Metadata metadata) {
+        return Topic.builder()
+                .metadata(metadata)
+                .spec(topic.getSpec())
+                .status(topic.getStatus())
+                .build();
+    }
 }
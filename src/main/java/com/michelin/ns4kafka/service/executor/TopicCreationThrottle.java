@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limiter of the topic creations of a cluster. The topics and partitions created per second are limited by token
+ * buckets, and the creations are paused for the throttle time returned by the brokers when their controller mutation
+ * quota is exceeded.
+ */
+class TopicCreationThrottle {
+    private final LongSupplier nanoClock;
+    private double topicTokens;
+    private double partitionTokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+    private boolean started;
+    private boolean paused;
+
+    /** Constructor. */
+    TopicCreationThrottle() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nanoClock The clock, in nanoseconds
+     */
+    TopicCreationThrottle(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Try to acquire the permit to create a topic. A topic with more partitions than the partition bucket can hold is
+     * allowed once the bucket is full, so it is not postponed forever.
+     *
+     * @param partitions The number of partitions of the topic
+     * @param properties The topic creation properties
+     * @return true if the topic can be created now, false otherwise
+     */
+    synchronized boolean tryAcquire(int partitions, ManagedClusterProperties.TopicCreationProperties properties) {
+        long now = nanoClock.getAsLong();
+        if (paused && now - pausedUntilNanos < 0) {
+            return false;
+        }
+
+        paused = false;
+        refill(now, properties);
+
+        double partitionCapacity = capacity(properties.getPartitionsPerSecond(), properties.getMaxBurstMs());
+        boolean topicAllowed = properties.getTopicsPerSecond() <= 0 || topicTokens >= 1;
+        boolean partitionsAllowed = properties.getPartitionsPerSecond() <= 0
+                || partitionTokens >= Math.min(partitions, partitionCapacity);
+        if (!topicAllowed || !partitionsAllowed) {
+            return false;
+        }
+
+        if (properties.getTopicsPerSecond() > 0) {
+            topicTokens -= 1;
+        }
+
+        if (properties.getPartitionsPerSecond() > 0) {
+            partitionTokens -= partitions;
+        }
+
+        return true;
+    }
+
+    /**
+     * Compute the delay until a topic can be created, either the remaining pause or the time for the token buckets to
+     * earn the tokens of the topic.
+     *
+     * @param partitions The number of partitions of the topic
+     * @param properties The topic creation properties
+     * @return The delay, in milliseconds
+     */
+    synchronized long delayMs(int partitions, ManagedClusterProperties.TopicCreationProperties properties) {
+        long now = nanoClock.getAsLong();
+        if (paused && now - pausedUntilNanos < 0) {
+            return Math.ceilDiv(pausedUntilNanos - now, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        refill(now, properties);
+
+        double delaySeconds = 0;
+        if (properties.getTopicsPerSecond() > 0) {
+            delaySeconds = Math.max(delaySeconds, (1 - topicTokens) / properties.getTopicsPerSecond());
+        }
+
+        if (properties.getPartitionsPerSecond() > 0) {
+            double partitionCapacity = capacity(properties.getPartitionsPerSecond(), properties.getMaxBurstMs());
+            delaySeconds = Math.max(
+                    delaySeconds,
+                    (Math.min(partitions, partitionCapacity) - partitionTokens) / properties.getPartitionsPerSecond());
+        }
+
+        return (long) Math.ceil(delaySeconds * TimeUnit.SECONDS.toMillis(1));
+    }
+
+    /**
+     * Pause the topic creations.
+     *
+     * @param durationMs The pause duration, in milliseconds
+     */
+    synchronized void pause(long durationMs) {
+        long pausedUntil = nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(durationMs);
+        if (!paused || pausedUntil - pausedUntilNanos > 0) {
+            pausedUntilNanos = pausedUntil;
+        }
+
+        paused = true;
+    }
+
+    /**
+     * Refill the token buckets with the tokens earned since the last refill. The buckets are full at the first refill.
+     *
+     * @param now The current time, in nanoseconds
+     * @param properties The topic creation properties
+     */
+    private void refill(long now, ManagedClusterProperties.TopicCreationProperties properties) {
+        double topicCapacity = capacity(properties.getTopicsPerSecond(), properties.getMaxBurstMs());
+        double partitionCapacity = capacity(properties.getPartitionsPerSecond(), properties.getMaxBurstMs());
+
+        if (!started) {
+            topicTokens = topicCapacity;
+            partitionTokens = partitionCapacity;
+            started = true;
+        } else {
+            double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            topicTokens = Math.min(topicCapacity, topicTokens + elapsedSeconds * properties.getTopicsPerSecond());
+            partitionTokens = Math.min(
+                    partitionCapacity, partitionTokens + elapsedSeconds * properties.getPartitionsPerSecond());
+        }
+
+        lastRefillNanos = now;
+    }
+
+    /**
+     * Compute the capacity of a token bucket.
+     *
+     * @param ratePerSecond The tokens earned per second
+     * @param maxBurstMs The duration of the tokens the bucket can hold, in milliseconds
+     * @return The capacity
+     */
+    private static double capacity(double ratePerSecond, long maxBurstMs) {
+        return Math.max(1, ratePerSecond * maxBurstMs / 1000);
+    }
+}
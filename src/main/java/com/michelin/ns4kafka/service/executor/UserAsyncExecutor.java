@@ -21,6 +21,8 @@ package com.michelin.ns4kafka.service.executor;
 import static com.michelin.ns4kafka.util.FormatErrorUtils.invalidResetPasswordProvider;
 import static com.michelin.ns4kafka.util.enumation.Kind.KAFKA_USER_RESET_PASSWORD;
 
+import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.model.quota.ResourceQuota;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.NamespaceRepository;
 import com.michelin.ns4kafka.repository.ResourceQuotaRepository;
@@ -30,10 +32,13 @@ import io.micronaut.context.annotation.EachBean;
 import jakarta.inject.Singleton;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -42,6 +47,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.ScramCredentialInfo;
 import org.apache.kafka.clients.admin.ScramMechanism;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.quota.ClientQuotaAlteration;
 import org.apache.kafka.common.quota.ClientQuotaEntity;
 import org.apache.kafka.common.quota.ClientQuotaFilter;
@@ -54,10 +60,13 @@ import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
 public class UserAsyncExecutor {
     public static final double BYTE_RATE_DEFAULT_VALUE = 102400.0;
     private static final String USER_QUOTA_PREFIX = "user/";
+    private static final String PRODUCER_BYTE_RATE = "producer_byte_rate";
+    private static final String CONSUMER_BYTE_RATE = "consumer_byte_rate";
     private final ManagedClusterProperties managedClusterProperties;
     private final NamespaceRepository namespaceRepository;
     private final ResourceQuotaRepository quotaRepository;
     private final AbstractUserSynchronizer userExecutor;
+    private final Map<String, ParsedUserQuotas> parsedUserQuotas = new ConcurrentHashMap<>();
 
     /**
      * Constructor.
@@ -95,12 +104,17 @@ public class UserAsyncExecutor {
 
         try {
             Map<String, Map<String, Double>> brokerQuotas = userExecutor.listQuotas();
-            collectNs4KafkaQuotas().forEach((key, value) -> {
-                Map<String, Double> existing = brokerQuotas.get(key);
-                if (existing == null || (!value.isEmpty() && !value.equals(existing))) {
-                    userExecutor.applyQuotas(key, value);
+            Map<String, Map<String, Double>> quotasToApply = new HashMap<>();
+            collectNs4KafkaQuotas().forEach((user, quotas) -> {
+                Map<String, Double> changedQuotas = computeQuotaChanges(quotas, brokerQuotas.get(user));
+                if (!changedQuotas.isEmpty()) {
+                    quotasToApply.put(user, changedQuotas);
                 }
             });
+
+            if (!quotasToApply.isEmpty()) {
+                userExecutor.applyQuotas(quotasToApply);
+            }
         } catch (ExecutionException | TimeoutException | CancellationException | KafkaStoreException e) {
             log.error("An error occurred during the user synchronization", e);
         } catch (InterruptedException e) {
@@ -128,24 +142,85 @@ public class UserAsyncExecutor {
     }
 
     /**
-     * Collect user quotas from Ns4Kafka resource quotas.
+     * Compute the quotas of a user to apply on the broker. Only the quotas that differ from the broker are returned.
+     * The quotas of a user already known by the broker are left untouched when its namespace has no user quota.
+     *
+     * @param quotas The quotas defined in Ns4Kafka resource quotas
+     * @param brokerQuotas The quotas defined in the broker, null if the user has none
+     * @return The quotas to apply
+     */
+    static Map<String, Double> computeQuotaChanges(Map<String, Double> quotas, Map<String, Double> brokerQuotas) {
+        if (brokerQuotas != null && quotas.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Double> changes = new HashMap<>();
+        for (String quota : List.of(PRODUCER_BYTE_RATE, CONSUMER_BYTE_RATE)) {
+            Double value = quotas.getOrDefault(quota, BYTE_RATE_DEFAULT_VALUE);
+            if (brokerQuotas == null || !value.equals(brokerQuotas.get(quota))) {
+                changes.put(quota, value);
+            }
+        }
+
+        return changes;
+    }
+
+    /**
+     * Collect user quotas from Ns4Kafka resource quotas. The quotas are parsed again only when the resource quota of
+     * the namespace changed.
      *
      * @return A map of user to quotas defined in Ns4Kafka resource quotas
      */
     private Map<String, Map<String, Double>> collectNs4KafkaQuotas() {
-        return namespaceRepository.findAllForCluster(managedClusterProperties.getName()).stream()
+        List<Namespace> namespaces = namespaceRepository.findAllForCluster(managedClusterProperties.getName());
+
+        Set<String> namespaceNames =
+                namespaces.stream().map(namespace -> namespace.getMetadata().getName()).collect(Collectors.toSet());
+        parsedUserQuotas.keySet().retainAll(namespaceNames);
+
+        return namespaces.stream()
                 .collect(Collectors.toMap(
                         namespace -> namespace.getSpec().getKafkaUser(),
                         namespace -> quotaRepository
                                 .findByNamespace(namespace.getMetadata().getName())
-                                .map(resourceQuota -> resourceQuota.getSpec().entrySet().stream()
-                                        .filter(q -> q.getKey().startsWith(USER_QUOTA_PREFIX))
-                                        .collect(Collectors.toMap(
-                                                q -> q.getKey().substring(USER_QUOTA_PREFIX.length()),
-                                                q -> Double.parseDouble(q.getValue()))))
-                                .orElse(Map.of())));
+                                .map(resourceQuota -> parseUserQuotas(namespace.getMetadata().getName(), resourceQuota))
+                                .orElseGet(() -> {
+                                    parsedUserQuotas.remove(namespace.getMetadata().getName());
+                                    return Map.of();
+                                })));
     }
 
+    /**
+     * Parse the user quotas of a resource quota, or get them from the previous parsing if the resource quota has not
+     * changed since.
+     *
+     * @param namespace The namespace of the resource quota
+     * @param resourceQuota The resource quota
+     * @return The user quotas
+     */
+    private Map<String, Double> parseUserQuotas(String namespace, ResourceQuota resourceQuota) {
+        ParsedUserQuotas parsed = parsedUserQuotas.get(namespace);
+        if (parsed != null && parsed.spec().equals(resourceQuota.getSpec())) {
+            return parsed.quotas();
+        }
+
+        Map<String, Double> quotas = resourceQuota.getSpec().entrySet().stream()
+                .filter(q -> q.getKey().startsWith(USER_QUOTA_PREFIX))
+                .collect(Collectors.toUnmodifiableMap(
+                        q -> q.getKey().substring(USER_QUOTA_PREFIX.length()), q -> Double.parseDouble(q.getValue())));
+
+        parsedUserQuotas.put(namespace, new ParsedUserQuotas(Map.copyOf(resourceQuota.getSpec()), quotas));
+        return quotas;
+    }
+
+    /**
+     * User quotas parsed from a resource quota.
+     *
+     * @param spec The resource quota spec the quotas are parsed from
+     * @param quotas The user quotas
+     */
+    private record ParsedUserQuotas(Map<String, String> spec, Map<String, Double> quotas) {}
+
     /** Abstract user synchronizer to define the operations required for the user synchronization and password reset. */
     interface AbstractUserSynchronizer {
         boolean canSynchronizeQuotas();
@@ -154,7 +229,7 @@ public class UserAsyncExecutor {
 
         String resetPassword(String user) throws ExecutionException, InterruptedException, TimeoutException;
 
-        void applyQuotas(String user, Map<String, Double> quotas);
+        void applyQuotas(Map<String, Map<String, Double>> quotasByUser);
 
         /**
          * List user quotas from the broker.
@@ -227,31 +302,48 @@ public class UserAsyncExecutor {
         }
 
         @Override
-        public void applyQuotas(String user, Map<String, Double> quotas) {
-            ClientQuotaEntity client = new ClientQuotaEntity(Map.of("user", user));
-
-            ClientQuotaAlteration.Op producerQuota = new ClientQuotaAlteration.Op(
-                    "producer_byte_rate", quotas.getOrDefault("producer_byte_rate", BYTE_RATE_DEFAULT_VALUE));
-
-            ClientQuotaAlteration.Op consumerQuota = new ClientQuotaAlteration.Op(
-                    "consumer_byte_rate", quotas.getOrDefault("consumer_byte_rate", BYTE_RATE_DEFAULT_VALUE));
-
-            ClientQuotaAlteration clientQuota =
-                    new ClientQuotaAlteration(client, List.of(producerQuota, consumerQuota));
-
-            try {
-                managedClusterProperties
-                        .getAdminClient()
-                        .alterClientQuotas(List.of(clientQuota))
-                        .all()
-                        .get(managedClusterProperties.getTimeout().getUser().getAlterQuotas(), TimeUnit.MILLISECONDS);
-
-                log.info("Success applying quotas {} for user {}.", clientQuota.ops(), user);
-            } catch (InterruptedException e) {
-                log.error("Error", e);
-                Thread.currentThread().interrupt();
-            } catch (Exception e) {
-                log.error("Error while applying quotas for user {}.", user, e);
+        public void applyQuotas(Map<String, Map<String, Double>> quotasByUser) {
+            List<ClientQuotaAlteration> alterations = quotasByUser.entrySet().stream()
+                    .map(userQuotas -> new ClientQuotaAlteration(
+                            new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, userQuotas.getKey())),
+                            userQuotas.getValue().entrySet().stream()
+                                    .map(quota -> new ClientQuotaAlteration.Op(quota.getKey(), quota.getValue()))
+                                    .toList()))
+                    .toList();
+
+            int batchSize = Math.max(1, managedClusterProperties.getUserQuota().getAlterBatchSize());
+            for (int i = 0; i < alterations.size() && !Thread.currentThread().isInterrupted(); i += batchSize) {
+                alterQuotas(alterations.subList(i, Math.min(i + batchSize, alterations.size())));
+            }
+        }
+
+        /**
+         * Alter a batch of user quotas in a single request.
+         *
+         * @param alterations The user quota alterations
+         */
+        private void alterQuotas(List<ClientQuotaAlteration> alterations) {
+            Map<ClientQuotaEntity, KafkaFuture<Void>> results =
+                    managedClusterProperties.getAdminClient().alterClientQuotas(alterations).values();
+            long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(
+                    managedClusterProperties.getTimeout().getUser().getAlterQuotas());
+            long deadline = System.nanoTime() + timeoutNanos;
+
+            for (ClientQuotaAlteration alteration : alterations) {
+                String user = alteration.entity().entries().get(ClientQuotaEntity.USER);
+
+                try {
+                    results.get(alteration.entity())
+                            .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+                    log.info("Success applying quotas {} for user {}.", alteration.ops(), user);
+                } catch (InterruptedException e) {
+                    log.error("Error", e);
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    log.error("Error while applying quotas for user {}.", user, e);
+                }
             }
         }
     }
@@ -274,7 +366,7 @@ public class UserAsyncExecutor {
         }
 
         @Override
-        public void applyQuotas(String user, Map<String, Double> quotas) {
+        public void applyQuotas(Map<String, Map<String, Double>> quotasByUser) {
             throw new UnsupportedOperationException("This cluster provider does not support user operations.");
         }
 
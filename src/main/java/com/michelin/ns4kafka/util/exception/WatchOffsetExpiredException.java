@@ -0,0 +1,29 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.util.exception;
+
+/** Exception thrown when a watch cannot be resumed because its position is no longer in the history of changes. */
+public class WatchOffsetExpiredException extends RuntimeException {
+    private static final String MESSAGE = "Cannot resume watch from offset %d of partition %d, "
+            + "the oldest available offset is %d. List the resources again";
+
+    public WatchOffsetExpiredException(int partition, long offset, long oldestOffset) {
+        super(MESSAGE.formatted(offset, partition, oldestOffset));
+    }
+}
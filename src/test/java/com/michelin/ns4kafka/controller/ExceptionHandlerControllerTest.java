@@ -24,7 +24,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.michelin.ns4kafka.model.Status;
+import com.michelin.ns4kafka.util.exception.InvalidWatchPositionException;
 import com.michelin.ns4kafka.util.exception.ResourceValidationException;
+import com.michelin.ns4kafka.util.exception.WatchOffsetExpiredException;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
@@ -108,6 +110,31 @@ class ExceptionHandlerControllerTest {
         assertEquals(HttpStatus.UNAUTHORIZED.getCode(), response.body().getCode());
     }
 
+    @Test
+    void shouldHandleWatchOffsetExpiredException() {
+        HttpResponse<Status> response = exceptionHandlerController.error(
+                HttpRequest.create(HttpMethod.GET, "/api/namespaces/ns1/topics/_/watch"),
+                new WatchOffsetExpiredException(0, 10L, 500L));
+        assertEquals(HttpStatus.GONE, response.getStatus());
+        assertNotNull(response.body());
+        assertEquals(HttpStatus.GONE.getCode(), response.body().getCode());
+        assertEquals(
+                "Cannot resume watch from offset 10 of partition 0, the oldest available offset is 500. "
+                        + "List the resources again",
+                response.body().getMessage());
+    }
+
+    @Test
+    void shouldHandleInvalidWatchPositionException() {
+        HttpResponse<Status> response = exceptionHandlerController.error(
+                HttpRequest.create(HttpMethod.GET, "/api/namespaces/ns1/topics/_/watch"),
+                new InvalidWatchPositionException("0:1,1"));
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatus());
+        assertNotNull(response.body());
+        assertEquals(HttpStatus.BAD_REQUEST.getCode(), response.body().getCode());
+        assertEquals("Invalid watch position \"0:1,1\"", response.body().getMessage());
+    }
+
     @Test
     void shouldHandleHttpStatusException() {
         HttpResponse<Status> response = exceptionHandlerController.error(
@@ -33,6 +33,7 @@ import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.AuditLog;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.security.ResourceBasedSecurityRule;
 import com.michelin.ns4kafka.service.AclService;
 import com.michelin.ns4kafka.service.NamespaceService;
@@ -51,6 +52,8 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class AclControllerTest {
@@ -1160,7 +1163,38 @@ class AclControllerTest {
         HttpResponse<List<AccessControlEntry>> actual =
                 accessControlListController.bulkDelete(authentication, "test", "ace1", true);
 
-        verify(aclService, never()).delete(any());
+        verify(aclService, never()).deleteAll(any());
         assertEquals(HttpStatus.OK, actual.status());
     }
+
+    @Test
+    void shouldWatchAclsFromLastEventId() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("test")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        AccessControlEntry acl = AccessControlEntry.builder()
+                .metadata(Resource.Metadata.builder().name("acl1").build())
+                .build();
+
+        when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
+        when(aclService.watch(ns, "0:12,1:4"))
+                .thenReturn(Flux.just(WatchEvent.<AccessControlEntry>builder()
+                        .type(WatchEvent.Type.MODIFIED)
+                        .partition(0)
+                        .offset(13L)
+                        .position("0:13,1:4")
+                        .object(acl)
+                        .build()));
+
+        StepVerifier.create(accessControlListController.watch("test", null, "0:12,1:4"))
+                .assertNext(event -> {
+                    assertEquals("0:13,1:4", event.getId());
+                    assertEquals(acl, event.getData().getObject());
+                })
+                .verifyComplete();
+    }
 }
@@ -29,6 +29,7 @@ import static org.mockito.Mockito.when;
 import com.michelin.ns4kafka.model.AuditLog;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.model.connect.ChangeConnectorState;
 import com.michelin.ns4kafka.model.connect.Connector;
 import com.michelin.ns4kafka.model.connect.ConnectorOffsetResponse;
@@ -135,6 +136,28 @@ class ConnectorControllerTest {
         assertEquals(List.of(connector), connectorController.list("test", "connect1"));
     }
 
+    @Test
+    void shouldListConnectorsWithStatus() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("test")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Connector connector = Connector.builder()
+                .metadata(Resource.Metadata.builder().name("connect1").build())
+                .status(Connector.ConnectorStatus.builder()
+                        .state(Connector.TaskState.RUNNING)
+                        .build())
+                .build();
+
+        when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
+        when(connectorService.findByWildcardNameWithStatus(ns, "*")).thenReturn(List.of(connector));
+
+        assertEquals(List.of(connector), connectorController.listWithStatus("test", "*"));
+    }
+
     @Test
     @SuppressWarnings("deprecation")
     void shouldGetConnectorWhenEmpty() {
@@ -1296,4 +1319,35 @@ class ConnectorControllerTest {
                 })
                 .verify();
     }
+
+    @Test
+    void shouldWatchConnectorsFromLastEventId() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("test")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Connector connector = Connector.builder()
+                .metadata(Resource.Metadata.builder().name("connect1").build())
+                .build();
+
+        when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
+        when(connectorService.watch(ns, "0:12,1:4"))
+                .thenReturn(Flux.just(WatchEvent.<Connector>builder()
+                        .type(WatchEvent.Type.MODIFIED)
+                        .partition(0)
+                        .offset(13L)
+                        .position("0:13,1:4")
+                        .object(connector)
+                        .build()));
+
+        StepVerifier.create(connectorController.watch("test", null, "0:12,1:4"))
+                .assertNext(event -> {
+                    assertEquals("0:13,1:4", event.getId());
+                    assertEquals(connector, event.getData().getObject());
+                })
+                .verifyComplete();
+    }
 }
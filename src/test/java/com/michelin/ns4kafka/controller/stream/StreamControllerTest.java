@@ -31,6 +31,7 @@ import com.michelin.ns4kafka.model.AuditLog;
 import com.michelin.ns4kafka.model.KafkaStream;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.security.ResourceBasedSecurityRule;
 import com.michelin.ns4kafka.service.NamespaceService;
 import com.michelin.ns4kafka.service.StreamService;
@@ -48,6 +49,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class StreamControllerTest {
@@ -573,4 +576,35 @@ class StreamControllerTest {
                 ResourceValidationException.class, () -> streamController.bulkDelete("test", "test_stream*", false));
         verify(streamService, never()).delete(any(), any());
     }
+
+    @Test
+    void shouldWatchStreamsFromLastEventId() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("test")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        KafkaStream stream = KafkaStream.builder()
+                .metadata(Resource.Metadata.builder().name("stream1").build())
+                .build();
+
+        when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
+        when(streamService.watch(ns, "0:12,1:4"))
+                .thenReturn(Flux.just(WatchEvent.<KafkaStream>builder()
+                        .type(WatchEvent.Type.MODIFIED)
+                        .partition(0)
+                        .offset(13L)
+                        .position("0:13,1:4")
+                        .object(stream)
+                        .build()));
+
+        StepVerifier.create(streamController.watch("test", null, "0:12,1:4"))
+                .assertNext(event -> {
+                    assertEquals("0:13,1:4", event.getId());
+                    assertEquals(stream, event.getData().getObject());
+                })
+                .verifyComplete();
+    }
 }
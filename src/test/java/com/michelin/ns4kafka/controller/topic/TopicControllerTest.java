@@ -37,6 +37,7 @@ import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Namespace.NamespaceSpec;
 import com.michelin.ns4kafka.model.Resource;
 import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.security.ResourceBasedSecurityRule;
 import com.michelin.ns4kafka.service.NamespaceService;
 import com.michelin.ns4kafka.service.ResourceQuotaService;
@@ -58,6 +59,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class TopicControllerTest {
@@ -94,6 +98,37 @@ class TopicControllerTest {
         assertEquals(List.of(), topicController.list("test", "*"));
     }
 
+    @Test
+    void shouldWatchTopicsFromLastEventId() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("test")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Topic topic = Topic.builder()
+                .metadata(Resource.Metadata.builder().name("topic1").build())
+                .build();
+
+        when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
+        when(topicService.watch(ns, "0:12,1:4"))
+                .thenReturn(Flux.just(WatchEvent.<Topic>builder()
+                        .type(WatchEvent.Type.MODIFIED)
+                        .partition(0)
+                        .offset(13L)
+                        .position("0:13,1:4")
+                        .object(topic)
+                        .build()));
+
+        StepVerifier.create(topicController.watch("test", null, "0:12,1:4"))
+                .assertNext(event -> {
+                    assertEquals("0:13,1:4", event.getId());
+                    assertEquals(topic, event.getData().getObject());
+                })
+                .verifyComplete();
+    }
+
     @Test
     void shouldListTopicsWithWildcardParameter() {
         Namespace ns = Namespace.builder()
@@ -188,12 +223,13 @@ class TopicControllerTest {
         when(topicService.findByWildcardName(ns, "prefix1.*")).thenReturn(List.of(topic1, topic2));
         when(securityService.username()).thenReturn(Optional.of("test-user"));
         when(securityService.hasRole(ResourceBasedSecurityRule.IS_ADMIN)).thenReturn(false);
-        when(topicService.create(topic1)).thenReturn(topic1);
-        when(topicService.create(topic2)).thenReturn(topic2);
+        when(topicService.createAll(List.of(topic1, topic2))).thenReturn(List.of(topic1, topic2));
         doNothing().when(applicationEventPublisher).publishEvent(any());
 
         HttpResponse<List<Topic>> actual = topicController.bulkDelete("test", "prefix1.*", false);
         assertEquals(HttpStatus.OK, actual.getStatus());
+        assertTrue(topic1.isDeleting());
+        assertTrue(topic2.isDeleting());
     }
 
     @Test
@@ -235,7 +271,7 @@ class TopicControllerTest {
         HttpResponse<List<Topic>> actual = topicController.bulkDelete("test", "prefix.topic", true);
 
         assertEquals(HttpStatus.OK, actual.getStatus());
-        verify(topicService, never()).create(any());
+        verify(topicService, never()).createAll(any());
     }
 
     @Test
@@ -305,7 +341,7 @@ class TopicControllerTest {
     }
 
     @Test
-    void shouldCreateTopic() throws InterruptedException, ExecutionException, TimeoutException {
+    void shouldCreateTopic() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("test")
@@ -329,22 +365,23 @@ class TopicControllerTest {
         when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
         when(topicService.isNamespaceOwnerOfTopic(any(), any())).thenReturn(true);
         when(topicService.findByName(ns, "test.topic")).thenReturn(Optional.empty());
+        when(topicService.findCollidingTopics(ns, topic)).thenReturn(Mono.just(List.of()));
         when(resourceQuotaService.validateTopicQuota(ns, Optional.empty(), topic))
                 .thenReturn(List.of());
         when(securityService.username()).thenReturn(Optional.of("test-user"));
         when(securityService.hasRole(ResourceBasedSecurityRule.IS_ADMIN)).thenReturn(false);
         doNothing().when(applicationEventPublisher).publishEvent(any());
 
-        when(topicService.create(topic)).thenReturn(topic);
+        when(topicService.createAsync(topic)).thenReturn(Mono.just(topic));
 
-        HttpResponse<Topic> response = topicController.apply("test", topic, false);
+        HttpResponse<Topic> response = topicController.apply("test", topic, false).block();
         Topic actual = response.body();
         assertEquals("created", response.header("X-Ns4kafka-Result"));
         assertEquals("test.topic", actual.getMetadata().getName());
     }
 
     @Test
-    void shouldCreateTopicWithNoConstraint() throws InterruptedException, ExecutionException, TimeoutException {
+    void shouldCreateTopicWithNoConstraint() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("test")
@@ -368,22 +405,23 @@ class TopicControllerTest {
         when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
         when(topicService.isNamespaceOwnerOfTopic(any(), any())).thenReturn(true);
         when(topicService.findByName(ns, "test.topic")).thenReturn(Optional.empty());
+        when(topicService.findCollidingTopics(ns, topic)).thenReturn(Mono.just(List.of()));
         when(resourceQuotaService.validateTopicQuota(ns, Optional.empty(), topic))
                 .thenReturn(List.of());
         when(securityService.username()).thenReturn(Optional.of("test-user"));
         when(securityService.hasRole(ResourceBasedSecurityRule.IS_ADMIN)).thenReturn(false);
         doNothing().when(applicationEventPublisher).publishEvent(any());
 
-        when(topicService.create(topic)).thenReturn(topic);
+        when(topicService.createAsync(topic)).thenReturn(Mono.just(topic));
 
-        HttpResponse<Topic> response = topicController.apply("test", topic, false);
+        HttpResponse<Topic> response = topicController.apply("test", topic, false).block();
         Topic actual = response.body();
         assertEquals("created", response.header("X-Ns4kafka-Result"));
         assertEquals("test.topic", actual.getMetadata().getName());
     }
 
     @Test
-    void shouldUpdateTopic() throws InterruptedException, ExecutionException, TimeoutException {
+    void shouldUpdateTopic() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("test")
@@ -417,12 +455,12 @@ class TopicControllerTest {
         when(topicService.isNamespaceOwnerOfTopic(any(), any())).thenReturn(true);
         when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
         when(topicService.findByName(ns, "test.topic")).thenReturn(Optional.of(existing));
-        when(topicService.create(topic)).thenReturn(topic);
+        when(topicService.createAsync(topic)).thenReturn(Mono.just(topic));
         when(securityService.username()).thenReturn(Optional.of("test-user"));
         when(securityService.hasRole(ResourceBasedSecurityRule.IS_ADMIN)).thenReturn(false);
         doNothing().when(applicationEventPublisher).publishEvent(any());
 
-        HttpResponse<Topic> response = topicController.apply("test", topic, false);
+        HttpResponse<Topic> response = topicController.apply("test", topic, false).block();
         Topic actual = response.body();
         assertEquals("changed", response.header("X-Ns4kafka-Result"));
         assertEquals("test.topic", actual.getMetadata().getName());
@@ -466,8 +504,9 @@ class TopicControllerTest {
         when(topicService.validateTopicUpdate(ns, existing, topic))
                 .thenReturn(List.of("Invalid value 6 for configuration partitions: Value is immutable (3)."));
 
-        ResourceValidationException actual =
-                assertThrows(ResourceValidationException.class, () -> topicController.apply("test", topic, false));
+        ResourceValidationException actual = assertThrows(
+                ResourceValidationException.class,
+                () -> topicController.apply("test", topic, false).block());
         assertEquals(1, actual.getValidationErrors().size());
         assertLinesMatch(
                 List.of("Invalid value 6 for configuration partitions: Value is immutable (3)."),
@@ -475,7 +514,7 @@ class TopicControllerTest {
     }
 
     @Test
-    void shouldNotUpdateTopicWhenUnchanged() throws InterruptedException, ExecutionException, TimeoutException {
+    void shouldNotUpdateTopicWhenUnchanged() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("test")
@@ -514,15 +553,15 @@ class TopicControllerTest {
         when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
         when(topicService.findByName(ns, "test.topic")).thenReturn(Optional.of(existing));
 
-        HttpResponse<Topic> response = topicController.apply("test", topic, false);
+        HttpResponse<Topic> response = topicController.apply("test", topic, false).block();
         Topic actual = response.body();
         assertEquals("unchanged", response.header("X-Ns4kafka-Result"));
-        verify(topicService, never()).create(any());
+        verify(topicService, never()).createAsync(any());
         assertEquals(existing, actual);
     }
 
     @Test
-    void shouldCreateTopicInDryRunMode() throws InterruptedException, ExecutionException, TimeoutException {
+    void shouldCreateTopicInDryRunMode() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("test")
@@ -546,12 +585,13 @@ class TopicControllerTest {
         when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
         when(topicService.isNamespaceOwnerOfTopic(any(), any())).thenReturn(true);
         when(topicService.findByName(ns, "test.topic")).thenReturn(Optional.empty());
+        when(topicService.findCollidingTopics(ns, topic)).thenReturn(Mono.just(List.of()));
         when(resourceQuotaService.validateTopicQuota(ns, Optional.empty(), topic))
                 .thenReturn(List.of());
 
-        HttpResponse<Topic> response = topicController.apply("test", topic, true);
+        HttpResponse<Topic> response = topicController.apply("test", topic, true).block();
         assertEquals("created", response.header("X-Ns4kafka-Result"));
-        verify(topicService, never()).create(any());
+        verify(topicService, never()).createAsync(any());
     }
 
     @Test
@@ -579,16 +619,17 @@ class TopicControllerTest {
         when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
         when(topicService.isNamespaceOwnerOfTopic(any(), any())).thenReturn(true);
         when(topicService.findByName(ns, "test.topic")).thenReturn(Optional.empty());
+        when(topicService.findCollidingTopics(ns, topic)).thenReturn(Mono.just(List.of()));
 
-        ResourceValidationException actual =
-                assertThrows(ResourceValidationException.class, () -> topicController.apply("test", topic, false));
+        ResourceValidationException actual = assertThrows(
+                ResourceValidationException.class,
+                () -> topicController.apply("test", topic, false).block());
         assertEquals(1, actual.getValidationErrors().size());
         assertLinesMatch(List.of(".*replication\\.factor.*"), actual.getValidationErrors());
     }
 
     @Test
-    void shouldNotFailWhenCreatingTopicWithNoValidator()
-            throws ExecutionException, InterruptedException, TimeoutException {
+    void shouldNotFailWhenCreatingTopicWithNoValidator() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("test")
@@ -610,15 +651,15 @@ class TopicControllerTest {
         when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
         when(topicService.isNamespaceOwnerOfTopic(any(), any())).thenReturn(true);
         when(topicService.findByName(ns, "test.topic")).thenReturn(Optional.empty());
+        when(topicService.findCollidingTopics(ns, topic)).thenReturn(Mono.just(List.of()));
 
-        HttpResponse<Topic> response = topicController.apply("test", topic, true);
+        HttpResponse<Topic> response = topicController.apply("test", topic, true).block();
         assertEquals("created", response.header("X-Ns4kafka-Result"));
-        verify(topicService, never()).create(any());
+        verify(topicService, never()).createAsync(any());
     }
 
     @Test
-    void shouldNotFailWhenCreatingTopicWithNoValidationConstraint()
-            throws ExecutionException, InterruptedException, TimeoutException {
+    void shouldNotFailWhenCreatingTopicWithNoValidationConstraint() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("test")
@@ -642,10 +683,11 @@ class TopicControllerTest {
         when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
         when(topicService.isNamespaceOwnerOfTopic(any(), any())).thenReturn(true);
         when(topicService.findByName(ns, "test.topic")).thenReturn(Optional.empty());
+        when(topicService.findCollidingTopics(ns, topic)).thenReturn(Mono.just(List.of()));
 
-        HttpResponse<Topic> response = topicController.apply("test", topic, true);
+        HttpResponse<Topic> response = topicController.apply("test", topic, true).block();
         assertEquals("created", response.header("X-Ns4kafka-Result"));
-        verify(topicService, never()).create(any());
+        verify(topicService, never()).createAsync(any());
     }
 
     @Test
@@ -673,11 +715,13 @@ class TopicControllerTest {
         when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
         when(topicService.isNamespaceOwnerOfTopic(any(), any())).thenReturn(true);
         when(topicService.findByName(ns, "test.topic")).thenReturn(Optional.empty());
+        when(topicService.findCollidingTopics(ns, topic)).thenReturn(Mono.just(List.of()));
         when(resourceQuotaService.validateTopicQuota(ns, Optional.empty(), topic))
                 .thenReturn(List.of("Quota error"));
 
-        ResourceValidationException actual =
-                assertThrows(ResourceValidationException.class, () -> topicController.apply("test", topic, false));
+        ResourceValidationException actual = assertThrows(
+                ResourceValidationException.class,
+                () -> topicController.apply("test", topic, false).block());
         assertEquals(1, actual.getValidationErrors().size());
         assertLinesMatch(List.of("Quota error"), actual.getValidationErrors());
     }
@@ -728,6 +772,30 @@ class TopicControllerTest {
         verify(topicService).create(topic2);
     }
 
+    @Test
+    void shouldListDriftedTopics() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("test")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Topic topic = Topic.builder()
+                .metadata(Resource.Metadata.builder().name("test.topic").build())
+                .spec(Topic.TopicSpec.builder()
+                        .replicationFactor(3)
+                        .partitions(3)
+                        .configs(Map.of("retention.ms", "60000"))
+                        .build())
+                .build();
+
+        when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
+        when(topicService.listDriftedTopicsByWildcardName(ns, "*")).thenReturn(List.of(topic));
+
+        assertEquals(List.of(topic), topicController.listDrifted("test", "*"));
+    }
+
     @Test
     void shouldImportTopicInDryRunMode() throws InterruptedException, ExecutionException, TimeoutException {
         Namespace ns = Namespace.builder()
@@ -975,8 +1043,7 @@ class TopicControllerTest {
     }
 
     @Test
-    void shouldNotCreateTopicWhenNameCollidesOnSpecialChar()
-            throws InterruptedException, ExecutionException, TimeoutException {
+    void shouldNotCreateTopicWhenNameCollidesOnSpecialChar() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("test")
@@ -1000,10 +1067,11 @@ class TopicControllerTest {
         when(namespaceService.findByName("test")).thenReturn(Optional.of(ns));
         when(topicService.isNamespaceOwnerOfTopic(any(), any())).thenReturn(true);
         when(topicService.findByName(ns, "test.topic")).thenReturn(Optional.empty());
-        when(topicService.findCollidingTopics(ns, topic)).thenReturn(List.of("test_topic"));
+        when(topicService.findCollidingTopics(ns, topic)).thenReturn(Mono.just(List.of("test_topic")));
 
-        ResourceValidationException actual =
-                assertThrows(ResourceValidationException.class, () -> topicController.apply("test", topic, false));
+        ResourceValidationException actual = assertThrows(
+                ResourceValidationException.class,
+                () -> topicController.apply("test", topic, false).block());
         assertEquals(1, actual.getValidationErrors().size());
         assertLinesMatch(
                 List.of("Invalid value \"test.topic\" for field \"name\": collision with existing topic test_topic."),
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micronaut.scheduling.TaskScheduler;
+import java.util.List;
+import java.util.Set;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaAccessControlEntryRepositoryTest {
+    private static final String TOPIC = "ns4kafka.access-control-entries";
+
+    @Mock
+    Producer<String, AccessControlEntry> kafkaProducer;
+
+    @Mock
+    AdminClient adminClient;
+
+    @Mock
+    TaskScheduler taskScheduler;
+
+    @Mock
+    KafkaStoreSnapshotService snapshotService;
+
+    KafkaAccessControlEntryRepository accessControlEntryRepository;
+
+    @BeforeEach
+    void setUp() {
+        accessControlEntryRepository = new KafkaAccessControlEntryRepository(
+                TOPIC, kafkaProducer, adminClient, new Ns4KafkaProperties(), taskScheduler, snapshotService);
+    }
+
+    @Test
+    void shouldFindAclsOfClusterByPhase() {
+        AccessControlEntry publicAcl1 = buildAcl("public-acl1", "namespace4", "local", null, "*");
+        AccessControlEntry publicAcl2 =
+                buildAcl("public-acl2", "namespace1", "local", Resource.Metadata.Status.ofPending(), "*");
+        AccessControlEntry publicAcl3 =
+                buildAcl("public-acl3", "namespace2", "local", Resource.Metadata.Status.ofDeleting(), "*");
+        AccessControlEntry publicAcl4 =
+                buildAcl("public-acl4", "namespace3", "local", Resource.Metadata.Status.ofFailed("error"), "*");
+        AccessControlEntry acl1 = buildAcl("acl1", "namespace1", "local", null, "namespace1");
+        AccessControlEntry acl2 =
+                buildAcl("acl2", "namespace2", "local", Resource.Metadata.Status.ofPending(), "namespace2");
+        AccessControlEntry acl3 =
+                buildAcl("acl3", "namespace3", "local", Resource.Metadata.Status.ofDeleting(), "namespace3");
+        AccessControlEntry acl4 =
+                buildAcl("acl4", "namespace4", "local", Resource.Metadata.Status.ofFailed("error"), "namespace4");
+        AccessControlEntry otherClusterAcl1 =
+                buildAcl("other-acl1", "namespace5", "other", Resource.Metadata.Status.ofPending(), "namespace5");
+        AccessControlEntry otherClusterAcl2 =
+                buildAcl("other-acl2", "namespace5", "other", Resource.Metadata.Status.ofDeleting(), "namespace5");
+
+        receive(List.of(
+                publicAcl1,
+                publicAcl2,
+                publicAcl3,
+                publicAcl4,
+                acl1,
+                acl2,
+                acl3,
+                acl4,
+                otherClusterAcl1,
+                otherClusterAcl2));
+
+        assertEquals(
+                Set.of(publicAcl2, acl2),
+                Set.copyOf(accessControlEntryRepository.findAllForClusterByPhase(
+                        "local", Resource.Metadata.Phase.PENDING)));
+        assertEquals(
+                Set.of(publicAcl3, acl3),
+                Set.copyOf(accessControlEntryRepository.findAllForClusterByPhase(
+                        "local", Resource.Metadata.Phase.DELETING)));
+        assertEquals(
+                Set.of(publicAcl4, acl4),
+                Set.copyOf(accessControlEntryRepository.findAllForClusterByPhase(
+                        "local", Resource.Metadata.Phase.FAIL)));
+        assertEquals(
+                Set.of(otherClusterAcl1),
+                Set.copyOf(accessControlEntryRepository.findAllForClusterByPhase(
+                        "other", Resource.Metadata.Phase.PENDING)));
+        assertEquals(8, accessControlEntryRepository.findAllForCluster("local").size());
+    }
+
+    @Test
+    void shouldMoveAclToItsNewPhase() {
+        AccessControlEntry acl =
+                buildAcl("acl1", "namespace1", "local", Resource.Metadata.Status.ofPending(), "namespace1");
+        AccessControlEntry failedAcl =
+                buildAcl("acl1", "namespace1", "local", Resource.Metadata.Status.ofFailed("error"), "namespace1");
+
+        receive(List.of(acl, failedAcl));
+
+        assertTrue(accessControlEntryRepository
+                .findAllForClusterByPhase("local", Resource.Metadata.Phase.PENDING)
+                .isEmpty());
+        assertEquals(
+                List.of(failedAcl),
+                accessControlEntryRepository.findAllForClusterByPhase("local", Resource.Metadata.Phase.FAIL));
+    }
+
+    /**
+     * Feed the ACLs to the repository, as the Kafka listener would.
+     *
+     * @param acls The ACLs
+     */
+    private void receive(List<AccessControlEntry> acls) {
+        for (int offset = 0; offset < acls.size(); offset++) {
+            AccessControlEntry acl = acls.get(offset);
+            accessControlEntryRepository.receive(
+                    new ConsumerRecord<>(TOPIC, 0, offset, accessControlEntryRepository.getMessageKey(acl), acl));
+        }
+    }
+
+    private AccessControlEntry buildAcl(
+            String name, String namespace, String cluster, Resource.Metadata.Status status, String grantedTo) {
+        return AccessControlEntry.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name(name)
+                        .namespace(namespace)
+                        .cluster(cluster)
+                        .status(status)
+                        .build())
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .grantedTo(grantedTo)
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.michelin.ns4kafka.integration.container.KafkaIntegrationTest;
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.Topic;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * Throughput and record size of the store codecs, run only when NS4KAFKA_BENCHMARK is true. The binary codec is
+ * measured against the JSON codec, which the stores use by default.
+ */
+@Slf4j
+@MicronautTest
+@EnabledIfEnvironmentVariable(named = "NS4KAFKA_BENCHMARK", matches = "true")
+class KafkaStoreCodecBenchmarkTest extends KafkaIntegrationTest {
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    @Inject
+    JsonKafkaStoreCodec jsonCodec;
+
+    @Inject
+    BinaryKafkaStoreCodec binaryCodec;
+
+    @Test
+    void shouldMeasureCodecThroughput() {
+        Topic topic = Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns-topic1")
+                        .namespace("ns")
+                        .cluster("local")
+                        .labels(Map.of("team", "payments", "env", "production"))
+                        .status(Resource.Metadata.Status.ofSuccess())
+                        .generation(3)
+                        .build())
+                .spec(Topic.TopicSpec.builder()
+                        .partitions(6)
+                        .replicationFactor(3)
+                        .configs(Map.of("cleanup.policy", "delete", "retention.ms", "604800000"))
+                        .build())
+                .build();
+
+        measure(jsonCodec, topic);
+        measure(binaryCodec, topic);
+    }
+
+    /**
+     * Measure the encoded size of a topic, and the round trips of a topic per second.
+     *
+     * @param codec The codec
+     * @param topic The topic
+     */
+    private void measure(KafkaStoreCodec codec, Topic topic) {
+        assertEquals(topic, codec.decode(codec.encode(topic), Topic.class));
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            codec.decode(codec.encode(topic), Topic.class);
+        }
+
+        // The generations are summed so the round trips are not optimized away
+        long generations = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            generations += codec.decode(codec.encode(topic), Topic.class)
+                    .getMetadata()
+                    .getGeneration();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        assertEquals((long) ITERATIONS * topic.getMetadata().getGeneration(), generations);
+
+        log.info(
+                "{}: {} bytes, {} round trips/s, {} ns/round trip",
+                codec.getName(),
+                codec.encode(topic).length,
+                ITERATIONS * TimeUnit.SECONDS.toNanos(1) / elapsedNanos,
+                elapsedNanos / ITERATIONS);
+    }
+}
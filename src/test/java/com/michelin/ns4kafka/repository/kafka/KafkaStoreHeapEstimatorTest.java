@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.Topic;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreHeapEstimatorTest {
+    private Topic buildTopic(String name, Map<String, String> configs) {
+        return Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name(name)
+                        .namespace("ns")
+                        .cluster("local")
+                        .build())
+                .spec(Topic.TopicSpec.builder()
+                        .partitions(3)
+                        .replicationFactor(1)
+                        .configs(configs)
+                        .build())
+                .build();
+    }
+
+    @Test
+    void shouldEstimateEmptyStore() {
+        assertEquals(16, KafkaStoreHeapEstimator.estimate(Map.of()));
+    }
+
+    @Test
+    void shouldCountSharedValuesOnce() {
+        Map<String, String> sharedConfigs = Map.of("cleanup.policy", "delete", "retention.ms", "604800000");
+
+        Map<String, Topic> sharedStore = Map.of(
+                "local/ns-topic1", buildTopic("ns-topic1", sharedConfigs),
+                "local/ns-topic2", buildTopic("ns-topic2", sharedConfigs));
+        Map<String, Topic> copiedStore = Map.of(
+                "local/ns-topic1", buildTopic("ns-topic1", new HashMap<>(sharedConfigs)),
+                "local/ns-topic2", buildTopic("ns-topic2", new HashMap<>(sharedConfigs)));
+
+        long sharedSize = KafkaStoreHeapEstimator.estimate(sharedStore);
+        long copiedSize = KafkaStoreHeapEstimator.estimate(copiedStore);
+
+        assertTrue(sharedSize > 0);
+        assertTrue(sharedSize < copiedSize);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreIndexTest {
+    @Test
+    void shouldIndexNewRecord() {
+        KafkaStoreIndex<String> index = new KafkaStoreIndex<>(value -> value.split("/")[0]);
+
+        index.update("key1", "cluster1/topic1");
+        index.update("key2", "cluster1/topic2");
+        index.update("key3", "cluster2/topic3");
+
+        assertEquals(Set.of("key1", "key2"), index.get("cluster1"));
+        assertEquals(Set.of("key3"), index.get("cluster2"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void shouldMoveRecordWhenIndexKeyChanges() {
+        KafkaStoreIndex<String> index = new KafkaStoreIndex<>(value -> value.split("/")[0]);
+
+        index.update("key1", "cluster1/topic1");
+        index.update("key1", "cluster2/topic1");
+
+        assertTrue(index.get("cluster1").isEmpty());
+        assertEquals(Set.of("key1"), index.get("cluster2"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void shouldRemoveDeletedRecord() {
+        KafkaStoreIndex<String> index = new KafkaStoreIndex<>(value -> value.split("/")[0]);
+
+        index.update("key1", "cluster1/topic1");
+        index.update("key1", null);
+
+        assertTrue(index.get("cluster1").isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void shouldNotIndexRecordWithNullIndexKey() {
+        KafkaStoreIndex<String> index = new KafkaStoreIndex<>(value -> value.startsWith("cluster") ? value : null);
+
+        index.update("key1", "topic1");
+
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void shouldMoveRecordUpdatedInPlace() {
+        String[] record = {"cluster1/topic1"};
+        KafkaStoreIndex<String[]> index = new KafkaStoreIndex<>(value -> value[0].split("/")[0]);
+
+        index.update("key1", record);
+        record[0] = "cluster2/topic1";
+        index.update("key1", record);
+
+        assertTrue(index.get("cluster1").isEmpty());
+        assertEquals(Set.of("key1"), index.get("cluster2"));
+        assertEquals(1, index.size());
+    }
+}
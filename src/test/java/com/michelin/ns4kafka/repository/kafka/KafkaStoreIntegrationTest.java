@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.integration.container.KafkaIntegrationTest;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import java.time.Duration;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+@Slf4j
+@MicronautTest
+class KafkaStoreIntegrationTest extends KafkaIntegrationTest {
+    private static final int PROBES = 20;
+
+    @Inject
+    KafkaTopicRepository topicRepository;
+
+    @Test
+    void shouldFindLatestOffsetFromEndOffsetWithoutWritingToTopic() {
+        assertTrue(topicRepository.isInitialized());
+
+        Map<Integer, Long> latestOffsetsBefore = topicRepository.getLatestOffsetFromEndOffset();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < PROBES; i++) {
+            assertEquals(latestOffsetsBefore, topicRepository.getLatestOffsetFromEndOffset());
+        }
+        Duration endOffsetDuration = Duration.ofNanos(System.nanoTime() - start);
+
+        start = System.nanoTime();
+        Map<Integer, Long> noopOffsets = Map.of();
+        for (int i = 0; i < PROBES; i++) {
+            noopOffsets = topicRepository.getLatestOffsetFromNoopRecord();
+        }
+        Duration noopRecordDuration = Duration.ofNanos(System.nanoTime() - start);
+
+        log.info(
+                "Latest offset lookup over {} probes: {} ms with the end offset, {} ms with NOOP records.",
+                PROBES,
+                endOffsetDuration.toMillis(),
+                noopRecordDuration.toMillis());
+
+        // Each NOOP probe appends a record to each partition of the store topic, the end offset probe does not
+        for (Map.Entry<Integer, Long> latestOffsetBefore : latestOffsetsBefore.entrySet()) {
+            assertEquals(latestOffsetBefore.getValue() + PROBES, noopOffsets.get(latestOffsetBefore.getKey()));
+        }
+        assertEquals(noopOffsets, topicRepository.getLatestOffsetFromEndOffset());
+    }
+}
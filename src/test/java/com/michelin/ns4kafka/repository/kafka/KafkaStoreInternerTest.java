@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreInternerTest {
+    @Test
+    void shouldShareEqualStrings() {
+        KafkaStoreInterner interner = new KafkaStoreInterner();
+
+        String first = interner.intern(new String("local"));
+        String second = interner.intern(new String("local"));
+
+        assertSame(first, second);
+        assertNull(interner.intern((String) null));
+        assertEquals(1, interner.getStringCount());
+    }
+
+    @Test
+    void shouldShareEqualMapsAsImmutable() {
+        KafkaStoreInterner interner = new KafkaStoreInterner();
+
+        Map<String, String> first = interner.intern(new HashMap<>(Map.of("team", "kafka")));
+        Map<String, String> second = interner.intern(new HashMap<>(Map.of("team", "kafka")));
+
+        assertSame(first, second);
+        assertEquals(Map.of("team", "kafka"), first);
+        assertEquals(1, interner.getCollectionCount());
+        assertThrows(UnsupportedOperationException.class, () -> first.put("owner", "ns4kafka"));
+    }
+
+    @Test
+    void shouldNotShareMapsWithNullValues() {
+        KafkaStoreInterner interner = new KafkaStoreInterner();
+        Map<String, String> labels = new HashMap<>();
+        labels.put("team", null);
+
+        assertSame(labels, interner.intern(labels));
+        assertEquals(0, interner.getCollectionCount());
+    }
+
+    @Test
+    void shouldEvictValuesNoLongerUsed() throws InterruptedException {
+        KafkaStoreInterner interner = new KafkaStoreInterner();
+        interner.intern(new String("local"));
+        interner.intern(new HashMap<>(Map.of("team", "kafka")));
+
+        for (int i = 0; i < 50 && interner.getStringCount() + interner.getCollectionCount() > 0; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertEquals(0, interner.getStringCount());
+        assertEquals(0, interner.getCollectionCount());
+    }
+}
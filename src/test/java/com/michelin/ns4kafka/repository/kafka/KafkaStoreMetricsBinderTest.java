@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.context.BeanProvider;
+import io.micronaut.context.event.BeanCreatedEvent;
+import io.micronaut.scheduling.TaskScheduler;
+import java.util.function.Consumer;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Producer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaStoreMetricsBinderTest {
+    private static final String TOPIC = "ns4kafka.topics";
+
+    @Mock
+    Producer<String, Topic> kafkaProducer;
+
+    @Mock
+    AdminClient adminClient;
+
+    @Mock
+    TaskScheduler taskScheduler;
+
+    @Mock
+    KafkaStoreSnapshotService snapshotService;
+
+    @Mock
+    BeanProvider<MeterRegistry> meterRegistryProvider;
+
+    @Mock
+    BeanCreatedEvent<KafkaStore<?>> event;
+
+    @InjectMocks
+    KafkaStoreMetricsBinder binder;
+
+    @Test
+    void shouldRecordReplayedRecordsOnceStoreCreated() {
+        KafkaTopicRepository topicRepository = new KafkaTopicRepository(
+                TOPIC, kafkaProducer, adminClient, new Ns4KafkaProperties(), taskScheduler, snapshotService);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        when(event.getBean()).thenReturn(topicRepository);
+        doAnswer(invocation -> {
+                    invocation.<Consumer<MeterRegistry>>getArgument(0).accept(registry);
+                    return null;
+                })
+                .when(meterRegistryProvider)
+                .ifPresent(any());
+
+        assertSame(topicRepository, binder.onCreated(event));
+
+        // Replayed before the store is initialized
+        topicRepository.receive(new ConsumerRecord<>(
+                TOPIC,
+                0,
+                0L,
+                "local/ns-topic1",
+                Topic.builder()
+                        .metadata(Resource.Metadata.builder()
+                                .name("ns-topic1")
+                                .namespace("ns")
+                                .cluster("local")
+                                .build())
+                        .spec(Topic.TopicSpec.builder().build())
+                        .build()));
+
+        assertEquals(1, registry.get("ns4kafka.store.received").tag("topic", TOPIC).counter().count());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class KafkaStoreOffsetsTest {
+    @Test
+    void shouldTrackOffsetsByPartition() {
+        KafkaStoreOffsets offsets = new KafkaStoreOffsets();
+
+        offsets.update(0, 4L);
+        offsets.update(2, 7L);
+
+        assertEquals(4L, offsets.get(0));
+        assertEquals(-1L, offsets.get(1));
+        assertEquals(Map.of(0, 4L, 2, 7L), offsets.getAll());
+        assertEquals(11L, offsets.sum());
+    }
+
+    @Test
+    void shouldCompleteWaitersOfTheirPartitionOnly() {
+        KafkaStoreOffsets offsets = new KafkaStoreOffsets();
+        CompletableFuture<Void> firstWaiter = offsets.reached(0, 3L);
+        CompletableFuture<Void> secondWaiter = offsets.reached(0, 5L);
+        CompletableFuture<Void> otherPartitionWaiter = offsets.reached(1, 3L);
+
+        offsets.update(0, 4L);
+
+        assertTrue(firstWaiter.isDone());
+        assertFalse(secondWaiter.isDone());
+        assertFalse(otherPartitionWaiter.isDone());
+    }
+
+    @Test
+    void shouldCompleteWaiterOfReachedOffsetImmediately() {
+        KafkaStoreOffsets offsets = new KafkaStoreOffsets();
+        offsets.update(1, 9L);
+
+        assertTrue(offsets.reached(1, 9L).isDone());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.util.exception.InvalidWatchPositionException;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class KafkaStorePositionTest {
+    @Test
+    void shouldFormatSinglePartitionPositionAsOffset() {
+        assertEquals("12", KafkaStorePosition.format(Map.of(0, 12L)));
+    }
+
+    @Test
+    void shouldFormatPositionOrderedByPartition() {
+        assertEquals("0:12,1:-1,2:7", KafkaStorePosition.format(Map.of(2, 7L, 0, 12L, 1, -1L)));
+    }
+
+    @Test
+    void shouldParseFormattedPosition() {
+        assertEquals(Map.of(0, 12L), KafkaStorePosition.parse("12"));
+        assertEquals(Map.of(0, 12L, 1, -1L, 2, 7L), KafkaStorePosition.parse("0:12,1:-1,2:7"));
+        assertEquals(Map.of(1, 3L), KafkaStorePosition.parse("1:3"));
+    }
+
+    @Test
+    void shouldParseMissingPositionAsEmpty() {
+        assertTrue(KafkaStorePosition.parse(null).isEmpty());
+        assertTrue(KafkaStorePosition.parse(" ").isEmpty());
+    }
+
+    @Test
+    void shouldNotParseMalformedPosition() {
+        assertThrows(InvalidWatchPositionException.class, () -> KafkaStorePosition.parse("latest"));
+        assertThrows(InvalidWatchPositionException.class, () -> KafkaStorePosition.parse("0:1,1"));
+        assertThrows(InvalidWatchPositionException.class, () -> KafkaStorePosition.parse("0:1:2"));
+        assertThrows(InvalidWatchPositionException.class, () -> KafkaStorePosition.parse("a:1"));
+    }
+}
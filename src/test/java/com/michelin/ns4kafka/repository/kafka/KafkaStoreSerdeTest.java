@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.integration.container.KafkaIntegrationTest;
+import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.validation.ResourceValidator;
+import com.michelin.ns4kafka.validation.TopicValidator;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@MicronautTest
+class KafkaStoreSerdeTest extends KafkaIntegrationTest {
+    private static final String TOPIC = "ns4kafka.topics";
+
+    @Inject
+    JsonKafkaStoreCodec jsonCodec;
+
+    @Inject
+    BinaryKafkaStoreCodec binaryCodec;
+
+    Map<String, KafkaStoreCodec> codecs;
+
+    @BeforeEach
+    void setUp() {
+        codecs = Map.of(JsonKafkaStoreCodec.NAME, jsonCodec, BinaryKafkaStoreCodec.NAME, binaryCodec);
+    }
+
+    private Topic buildTopic() {
+        return Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns-topic1")
+                        .namespace("ns")
+                        .cluster("local")
+                        .labels(Map.of("team", "payments"))
+                        .build())
+                .spec(Topic.TopicSpec.builder()
+                        .partitions(3)
+                        .replicationFactor(1)
+                        .configs(Map.of("cleanup.policy", "delete", "retention.ms", "604800000"))
+                        .build())
+                .build();
+    }
+
+    @Test
+    void shouldRoundTripWithBinaryCodec() {
+        Topic topic = buildTopic();
+
+        Topic actual = binaryCodec.decode(binaryCodec.encode(topic), Topic.class);
+
+        assertEquals(topic, actual);
+    }
+
+    @Test
+    void shouldRoundTripCustomKeysWithBinaryCodec() {
+        Topic topic = buildTopic();
+        topic.getMetadata().setLabels(Map.of("team", "payments", "", "empty"));
+        topic.getSpec().setConfigs(Map.of("team", "kafka", "segment.bytes", "1073741824"));
+
+        Topic actual = binaryCodec.decode(binaryCodec.encode(topic), Topic.class);
+
+        assertEquals(topic, actual);
+    }
+
+    @Test
+    void shouldRoundTripValidatorSubtypesWithBinaryCodec() {
+        Namespace namespace = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns")
+                        .cluster("local")
+                        .build())
+                .spec(Namespace.NamespaceSpec.builder()
+                        .kafkaUser("user")
+                        .topicValidator(TopicValidator.builder()
+                                .validationConstraints(Map.of(
+                                        "partitions",
+                                        ResourceValidator.Range.between(3, 6),
+                                        "cleanup.policy",
+                                        ResourceValidator.ValidList.in("delete", "compact")))
+                                .build())
+                        .build())
+                .build();
+
+        Namespace actual = binaryCodec.decode(binaryCodec.encode(namespace), Namespace.class);
+
+        assertEquals(namespace, actual);
+    }
+
+    @Test
+    void shouldEncodeSmallerWithBinaryCodec() {
+        Topic topic = buildTopic();
+
+        assertTrue(binaryCodec.encode(topic).length < jsonCodec.encode(topic).length);
+    }
+
+    @Test
+    void shouldRejectBinaryPayloadWithoutHeader() {
+        byte[] data = jsonCodec.encode(buildTopic());
+
+        assertThrows(SerializationException.class, () -> binaryCodec.decode(data, Topic.class));
+    }
+
+    @Test
+    void shouldWriteCodecHeader() {
+        KafkaStoreSerde<Topic> serde = new KafkaStoreSerde<>(Topic.class, binaryCodec, codecs);
+        Headers headers = new RecordHeaders();
+        Topic topic = buildTopic();
+
+        byte[] data = serde.serialize(TOPIC, headers, topic);
+
+        assertEquals(BinaryKafkaStoreCodec.NAME, KafkaStoreSerde.codecOf(headers));
+        assertEquals(topic, serde.deserialize(TOPIC, headers, data));
+    }
+
+    @Test
+    void shouldReadLegacyRecordsWithoutHeader() {
+        KafkaStoreSerde<Topic> serde = new KafkaStoreSerde<>(Topic.class, binaryCodec, codecs);
+        Topic topic = buildTopic();
+
+        Topic actual = serde.deserialize(TOPIC, new RecordHeaders(), jsonCodec.encode(topic));
+
+        assertEquals(topic, actual);
+    }
+
+    @Test
+    void shouldReadRecordsWrittenWithAnotherCodec() {
+        KafkaStoreSerde<Topic> jsonSerde = new KafkaStoreSerde<>(Topic.class, jsonCodec, codecs);
+        KafkaStoreSerde<Topic> binarySerde = new KafkaStoreSerde<>(Topic.class, binaryCodec, codecs);
+        Headers headers = new RecordHeaders();
+        Topic topic = buildTopic();
+
+        byte[] data = binarySerde.serialize(TOPIC, headers, topic);
+
+        assertEquals(topic, jsonSerde.deserialize(TOPIC, headers, data));
+    }
+
+    @Test
+    void shouldNotSerializeTombstones() {
+        KafkaStoreSerde<Topic> serde = new KafkaStoreSerde<>(Topic.class, binaryCodec, codecs);
+        Headers headers = new RecordHeaders();
+
+        assertNull(serde.serialize(TOPIC, headers, null));
+        assertNull(serde.deserialize(TOPIC, headers, null));
+        assertNull(headers.lastHeader(KafkaStoreSerde.CODEC_HEADER));
+    }
+
+    @Test
+    void shouldRejectUnknownCodecHeader() {
+        KafkaStoreSerde<Topic> serde = new KafkaStoreSerde<>(Topic.class, binaryCodec, codecs);
+        Headers headers = new RecordHeaders();
+        headers.add(KafkaStoreSerde.CODEC_HEADER, "avro".getBytes(StandardCharsets.UTF_8));
+        byte[] data = jsonCodec.encode(buildTopic());
+
+        assertThrows(SerializationException.class, () -> serde.deserialize(TOPIC, headers, data));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micronaut.serde.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class KafkaStoreSnapshotServiceTest {
+    @TempDir
+    Path snapshotDirectory;
+
+    KafkaStoreSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        Ns4KafkaProperties ns4KafkaProperties = new Ns4KafkaProperties();
+        ns4KafkaProperties.getStore().getKafka().getSnapshot().setEnabled(true);
+        ns4KafkaProperties.getStore().getKafka().getSnapshot().setDirectory(snapshotDirectory.toString());
+        snapshotService = new KafkaStoreSnapshotService(ns4KafkaProperties, ObjectMapper.getDefault());
+    }
+
+    @Test
+    void shouldWriteAndReadSnapshot() {
+        Topic topic = Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns-topic1")
+                        .namespace("ns")
+                        .cluster("local")
+                        .build())
+                .spec(Topic.TopicSpec.builder()
+                        .partitions(3)
+                        .replicationFactor(1)
+                        .configs(Map.of("cleanup.policy", "delete"))
+                        .build())
+                .build();
+
+        snapshotService.write(new KafkaStoreSnapshot<>(
+                KafkaStoreSnapshot.CURRENT_VERSION,
+                "ns4kafka.topics",
+                "topicId",
+                Map.of(0, 42L, 1, -1L),
+                1000L,
+                Map.of("local/ns-topic1", topic)));
+
+        Optional<KafkaStoreSnapshot<Topic>> actual = snapshotService.read("ns4kafka.topics", Topic.class);
+
+        assertTrue(actual.isPresent());
+        assertEquals("topicId", actual.get().topicId());
+        assertEquals(Map.of(0, 42L, 1, -1L), actual.get().offsets());
+        assertEquals(topic, actual.get().records().get("local/ns-topic1"));
+    }
+
+    @Test
+    void shouldIgnoreMissingSnapshot() {
+        assertTrue(snapshotService.read("ns4kafka.topics", Topic.class).isEmpty());
+    }
+
+    @Test
+    void shouldIgnoreCorruptedSnapshot() throws IOException {
+        Files.writeString(snapshotDirectory.resolve("ns4kafka.topics.snapshot"), "{\"version\":1,\"records\":");
+
+        assertTrue(snapshotService.read("ns4kafka.topics", Topic.class).isEmpty());
+    }
+}
@@ -0,0 +1,525 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.repository.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.model.WatchEvent;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import com.michelin.ns4kafka.util.exception.InvalidWatchPositionException;
+import com.michelin.ns4kafka.util.exception.WatchOffsetExpiredException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.scheduling.TaskScheduler;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.UnsupportedVersionException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaStoreTest {
+    private static final String TOPIC = "ns4kafka.topics";
+
+    @Mock
+    Producer<String, Topic> kafkaProducer;
+
+    @Mock
+    AdminClient adminClient;
+
+    @Mock
+    TaskScheduler taskScheduler;
+
+    @Mock
+    KafkaStoreSnapshotService snapshotService;
+
+    @Mock
+    ListOffsetsResult listOffsetsResult;
+
+    Ns4KafkaProperties ns4KafkaProperties;
+
+    KafkaTopicRepository topicRepository;
+
+    @BeforeEach
+    void setUp() {
+        ns4KafkaProperties = new Ns4KafkaProperties();
+        ns4KafkaProperties.getStore().getKafka().setInitTimeout(1000);
+        topicRepository = new KafkaTopicRepository(
+                TOPIC, kafkaProducer, adminClient, ns4KafkaProperties, taskScheduler, snapshotService);
+    }
+
+    /** Acknowledge every sent record and feed it back to the store, as the Kafka listener would. */
+    private void acknowledgeAndReceiveSentRecords() {
+        AtomicLong nextOffset = new AtomicLong();
+        when(kafkaProducer.send(any(), any())).thenAnswer(invocation -> {
+            ProducerRecord<String, Topic> producerRecord = invocation.getArgument(0);
+            Callback callback = invocation.getArgument(1);
+            long offset = nextOffset.getAndIncrement();
+            RecordMetadata recordMetadata = new RecordMetadata(new TopicPartition(TOPIC, 0), offset, 0, 0L, 0, 0);
+
+            callback.onCompletion(recordMetadata, null);
+            topicRepository.receive(
+                    new ConsumerRecord<>(TOPIC, 0, offset, producerRecord.key(), producerRecord.value()));
+            return CompletableFuture.completedFuture(recordMetadata);
+        });
+    }
+
+    private Topic buildTopic(String name) {
+        return Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name(name)
+                        .namespace("ns")
+                        .cluster("local")
+                        .build())
+                .spec(Topic.TopicSpec.builder().partitions(3).replicationFactor(1).build())
+                .build();
+    }
+
+    @Test
+    void shouldCreateAllTopicsInOneBatch() {
+        acknowledgeAndReceiveSentRecords();
+
+        Topic topic1 = buildTopic("ns-topic1");
+        Topic topic2 = buildTopic("ns-topic2");
+
+        List<Topic> actual = topicRepository.createAll(List.of(topic1, topic2));
+
+        assertEquals(List.of(topic1, topic2), actual);
+        assertEquals(List.of(topic1, topic2), topicRepository.findAllForCluster("local").stream()
+                .sorted(Comparator.comparing(topic -> topic.getMetadata().getName()))
+                .toList());
+        verify(kafkaProducer, times(2)).send(any(), any());
+    }
+
+    @Test
+    void shouldDeleteAllTopicsInOneBatch() {
+        acknowledgeAndReceiveSentRecords();
+
+        Topic topic1 = buildTopic("ns-topic1");
+        Topic topic2 = buildTopic("ns-topic2");
+        Topic topic3 = buildTopic("ns-topic3");
+        topicRepository.createAll(List.of(topic1, topic2, topic3));
+
+        topicRepository.deleteAll(List.of(topic1, topic2));
+
+        assertEquals(List.of(topic3), topicRepository.findAllForCluster("local"));
+        verify(kafkaProducer, times(5)).send(any(), any());
+    }
+
+    @Test
+    void shouldReturnDeletedRecordsAsNull() {
+        acknowledgeAndReceiveSentRecords();
+
+        Topic topic = buildTopic("ns-topic1");
+        topicRepository.create(topic);
+
+        Map<String, Topic> tombstones = new HashMap<>();
+        tombstones.put("local/ns-topic1", null);
+
+        Map<String, Topic> actual = topicRepository.produceAll(tombstones);
+
+        assertTrue(actual.containsKey("local/ns-topic1"));
+        assertNull(actual.get("local/ns-topic1"));
+        assertTrue(topicRepository.findByName("local", "ns-topic1").isEmpty());
+    }
+
+    @Test
+    void shouldMoveRecordUpdatedInPlaceToItsNewPhase() {
+        acknowledgeAndReceiveSentRecords();
+
+        Topic topic = buildTopic("ns-topic1");
+        topic.getMetadata().setStatus(Resource.Metadata.Status.ofPending());
+        topicRepository.create(topic);
+
+        Topic stored = topicRepository.findByName("local", "ns-topic1").orElseThrow();
+        stored.getMetadata().setStatus(Resource.Metadata.Status.ofSuccess());
+        topicRepository.create(stored);
+
+        assertTrue(topicRepository
+                .findAllForClusterByPhase("local", Resource.Metadata.Phase.PENDING)
+                .isEmpty());
+        assertEquals(
+                List.of(stored),
+                topicRepository.findAllForClusterByPhase("local", Resource.Metadata.Phase.SUCCESS));
+    }
+
+    @Test
+    void shouldNotProduceEmptyBatch() {
+        assertTrue(topicRepository.produceAll(Map.of()).isEmpty());
+        verify(kafkaProducer, never()).send(any(), any());
+    }
+
+    @Test
+    void shouldNotProduceBatchWithNullKey() {
+        Map<String, Topic> messages = new HashMap<>();
+        messages.put(null, buildTopic("ns-topic1"));
+
+        assertThrows(KafkaStoreException.class, () -> topicRepository.produceAll(messages));
+        verify(kafkaProducer, never()).send(any(), any());
+    }
+
+    @Test
+    void shouldStreamChangesToWatchers() {
+        Topic topic = buildTopic("ns-topic1");
+        Topic updatedTopic = buildTopic("ns-topic1");
+        updatedTopic.getSpec().setPartitions(6);
+
+        StepVerifier.create(topicRepository.watch(null))
+                .then(() -> {
+                    topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "local/ns-topic1", topic));
+                    topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 1L, "local/ns-topic1", updatedTopic));
+                    topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 2L, "local/ns-topic1", null));
+                    topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 3L, "NOOP", null));
+                })
+                .assertNext(event -> {
+                    assertEquals(WatchEvent.Type.ADDED, event.getType());
+                    assertEquals(0L, event.getOffset());
+                })
+                .assertNext(event -> {
+                    assertEquals(WatchEvent.Type.MODIFIED, event.getType());
+                    assertEquals(6, event.getObject().getSpec().getPartitions());
+                })
+                .assertNext(event -> {
+                    assertEquals(WatchEvent.Type.DELETED, event.getType());
+                    assertEquals("ns-topic1", event.getObject().getMetadata().getName());
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldResumeWatchFromOffset() {
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "local/ns-topic1", buildTopic("ns-topic1")));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 1L, "local/ns-topic2", buildTopic("ns-topic2")));
+
+        StepVerifier.create(topicRepository.watch("0"))
+                .assertNext(event -> assertEquals(1L, event.getOffset()))
+                .then(() -> topicRepository.receive(
+                        new ConsumerRecord<>(TOPIC, 0, 2L, "local/ns-topic3", buildTopic("ns-topic3"))))
+                .assertNext(event -> assertEquals(2L, event.getOffset()))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldNotResumeWatchFromExpiredOffset() {
+        ns4KafkaProperties.getStore().getKafka().getWatch().setHistorySize(1);
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "local/ns-topic1", buildTopic("ns-topic1")));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 1L, "local/ns-topic2", buildTopic("ns-topic2")));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 2L, "local/ns-topic3", buildTopic("ns-topic3")));
+
+        assertThrows(WatchOffsetExpiredException.class, () -> topicRepository.watch("0"));
+        StepVerifier.create(topicRepository.watch("1"))
+                .assertNext(event -> assertEquals(2L, event.getOffset()))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldResumeWatchFromPositionOfEachPartition() {
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "local/ns-topic1", buildTopic("ns-topic1")));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 1, 0L, "local/ns-topic2", buildTopic("ns-topic2")));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 1L, "local/ns-topic3", buildTopic("ns-topic3")));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 1, 1L, "local/ns-topic4", buildTopic("ns-topic4")));
+
+        StepVerifier.create(topicRepository.watch("0:1,1:0"))
+                .assertNext(event -> {
+                    assertEquals(1, event.getPartition());
+                    assertEquals(1L, event.getOffset());
+                    assertEquals("0:1,1:1", event.getPosition());
+                    assertEquals("ns-topic4", event.getObject().getMetadata().getName());
+                })
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldNotWatchFromInvalidPosition() {
+        assertThrows(InvalidWatchPositionException.class, () -> topicRepository.watch("0:1,1"));
+        assertThrows(InvalidWatchPositionException.class, () -> topicRepository.watch("latest"));
+    }
+
+    @Test
+    void shouldRecordStoreMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        topicRepository.bindMetrics(registry);
+        acknowledgeAndReceiveSentRecords();
+
+        topicRepository.createAll(List.of(buildTopic("ns-topic1"), buildTopic("ns-topic2")));
+
+        assertEquals(2, registry.get("ns4kafka.store.records").tag("topic", TOPIC).gauge().value());
+        assertEquals(1, registry.get("ns4kafka.store.offset.current").gauge().value());
+        assertEquals(1, registry.get("ns4kafka.store.offset.last.written").gauge().value());
+        assertEquals(0, registry.get("ns4kafka.store.lag").gauge().value());
+        assertEquals(2, registry.get("ns4kafka.store.produce.ack").timer().count());
+        assertEquals(1, registry.get("ns4kafka.store.wait.offset").timer().count());
+        assertEquals(2, registry.get("ns4kafka.store.received").counter().count());
+    }
+
+    @Test
+    void shouldShareEqualTopicConfigsAsImmutableMap() {
+        Topic topic1 = buildTopic("ns-topic1");
+        topic1.getSpec().setConfigs(new HashMap<>(Map.of("cleanup.policy", "compact", "retention.ms", "-1")));
+        Topic topic2 = buildTopic("ns-topic2");
+        topic2.getSpec().setConfigs(new HashMap<>(Map.of("retention.ms", "-1", "cleanup.policy", "compact")));
+        Topic topic3 = buildTopic("ns-topic3");
+        topic3.getSpec().setConfigs(new HashMap<>(Map.of("cleanup.policy", "delete")));
+
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "local/ns-topic1", topic1));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 1L, "local/ns-topic2", topic2));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 2L, "local/ns-topic3", topic3));
+
+        Map<String, String> configs1 = topicRepository
+                .findByName("local", "ns-topic1")
+                .orElseThrow()
+                .getSpec()
+                .getConfigs();
+        Map<String, String> configs2 = topicRepository
+                .findByName("local", "ns-topic2")
+                .orElseThrow()
+                .getSpec()
+                .getConfigs();
+        Map<String, String> configs3 = topicRepository
+                .findByName("local", "ns-topic3")
+                .orElseThrow()
+                .getSpec()
+                .getConfigs();
+        assertSame(configs1, configs2);
+        assertEquals(Map.of("cleanup.policy", "delete"), configs3);
+        assertThrows(UnsupportedOperationException.class, () -> configs1.put("retention.ms", "1000"));
+    }
+
+    @Test
+    void shouldShareEqualValuesBetweenRecords() {
+        Topic topic1 = buildTopic("ns-topic1");
+        topic1.getSpec().setConfigs(new HashMap<>(Map.of("cleanup.policy", "delete")));
+        topic1.getMetadata().setLabels(new HashMap<>(Map.of("team", "kafka")));
+        topic1.getMetadata().setCluster(new String("local"));
+        Topic topic2 = buildTopic("ns-topic2");
+        topic2.getSpec().setConfigs(new HashMap<>(Map.of("cleanup.policy", "delete")));
+        topic2.getMetadata().setLabels(new HashMap<>(Map.of("team", "kafka")));
+        topic2.getMetadata().setCluster(new String("local"));
+
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "local/ns-topic1", topic1));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 1L, "local/ns-topic2", topic2));
+
+        Topic actual1 = topicRepository.findByName("local", "ns-topic1").orElseThrow();
+        Topic actual2 = topicRepository.findByName("local", "ns-topic2").orElseThrow();
+        assertSame(actual1.getMetadata().getLabels(), actual2.getMetadata().getLabels());
+        assertSame(actual1.getSpec().getConfigs(), actual2.getSpec().getConfigs());
+        assertSame(actual1.getMetadata().getCluster(), actual2.getMetadata().getCluster());
+
+        KafkaStoreStats stats = topicRepository.getStats();
+        assertEquals(TOPIC, stats.topic());
+        assertEquals(2, stats.records());
+        assertTrue(stats.retainedBytes() > 0);
+    }
+
+    @Test
+    void shouldMigrateRecordsWrittenWithAnotherCodec() {
+        ns4KafkaProperties.getStore().getKafka().getCodec().setName(BinaryKafkaStoreCodec.NAME);
+        ns4KafkaProperties.getStore().getKafka().getCodec().setMigrate(true);
+
+        Topic legacyTopic = buildTopic("ns-topic1");
+        Topic binaryTopic = buildTopic("ns-topic2");
+        Topic deletedTopic = buildTopic("ns-topic3");
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "local/ns-topic1", legacyTopic));
+        topicRepository.receive(buildBinaryRecord(1L, "local/ns-topic2", binaryTopic));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 2L, "local/ns-topic3", deletedTopic));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 3L, "local/ns-topic3", null));
+
+        assertEquals(1, topicRepository.getRecordsToMigrateCount());
+
+        mockEndOffset(
+                KafkaFuture.completedFuture(new ListOffsetsResult.ListOffsetsResultInfo(4L, 0L, Optional.empty())));
+        AtomicLong nextOffset = new AtomicLong(4L);
+        when(kafkaProducer.send(any(), any())).thenAnswer(invocation -> {
+            ProducerRecord<String, Topic> producerRecord = invocation.getArgument(0);
+            Callback callback = invocation.getArgument(1);
+            long offset = nextOffset.getAndIncrement();
+            RecordMetadata recordMetadata = new RecordMetadata(new TopicPartition(TOPIC, 0), offset, 0, 0L, 0, 0);
+
+            callback.onCompletion(recordMetadata, null);
+            topicRepository.receive(buildBinaryRecord(offset, producerRecord.key(), producerRecord.value()));
+            return CompletableFuture.completedFuture(recordMetadata);
+        });
+
+        topicRepository.migrateCodec();
+
+        assertEquals(0, topicRepository.getRecordsToMigrateCount());
+        verify(kafkaProducer).send(argThat(producerRecord -> producerRecord.key().equals("local/ns-topic1")), any());
+    }
+
+    @Test
+    void shouldNotMigrateRecordRewrittenByAnotherWriter() {
+        ns4KafkaProperties.getStore().getKafka().getCodec().setName(BinaryKafkaStoreCodec.NAME);
+        ns4KafkaProperties.getStore().getKafka().getCodec().setMigrate(true);
+
+        Topic legacyTopic = buildTopic("ns-topic1");
+        Topic updatedTopic = buildTopic("ns-topic1");
+        updatedTopic.getSpec().setPartitions(6);
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "local/ns-topic1", legacyTopic));
+
+        // Another instance updates the record before the batch is built
+        when(adminClient.listOffsets(anyMap())).thenReturn(listOffsetsResult);
+        when(listOffsetsResult.partitionResult(new TopicPartition(TOPIC, 0))).thenAnswer(_ -> {
+            topicRepository.receive(buildBinaryRecord(1L, "local/ns-topic1", updatedTopic));
+            return KafkaFuture.completedFuture(new ListOffsetsResult.ListOffsetsResultInfo(2L, 0L, Optional.empty()));
+        });
+
+        topicRepository.migrateCodec();
+
+        assertEquals(0, topicRepository.getRecordsToMigrateCount());
+        assertEquals(6, topicRepository.findByName("local", "ns-topic1").orElseThrow().getSpec().getPartitions());
+        verify(kafkaProducer, never()).send(any(), any());
+    }
+
+    private ConsumerRecord<String, Topic> buildBinaryRecord(long offset, String key, Topic value) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(KafkaStoreSerde.CODEC_HEADER, BinaryKafkaStoreCodec.NAME.getBytes(StandardCharsets.UTF_8));
+        return new ConsumerRecord<>(
+                TOPIC, 0, offset, 0L, TimestampType.CREATE_TIME, 0, 0, key, value, headers, Optional.empty());
+    }
+
+    @Test
+    void shouldCompleteAsyncProduceOnlyOnceRecordIsRead() {
+        when(kafkaProducer.send(any(), any())).thenAnswer(invocation -> {
+            Callback callback = invocation.getArgument(1);
+            RecordMetadata recordMetadata = new RecordMetadata(new TopicPartition(TOPIC, 0), 0L, 0, 0L, 0, 0);
+            callback.onCompletion(recordMetadata, null);
+            return CompletableFuture.completedFuture(recordMetadata);
+        });
+
+        Topic topic = buildTopic("ns-topic1");
+
+        StepVerifier.create(topicRepository.createAsync(topic))
+                .then(() -> topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "local/ns-topic1", topic)))
+                .expectNext(topic)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFailAsyncProduceWhenRecordIsNotAcknowledged() {
+        when(kafkaProducer.send(any(), any())).thenAnswer(invocation -> {
+            Callback callback = invocation.getArgument(1);
+            callback.onCompletion(null, new KafkaException("Broker unavailable"));
+            return CompletableFuture.failedFuture(new KafkaException("Broker unavailable"));
+        });
+
+        StepVerifier.create(topicRepository.createAsync(buildTopic("ns-topic1")))
+                .expectError(KafkaStoreException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldCompleteWaitersUpToReadOffset() {
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "NOOP", null));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 1L, "NOOP", null));
+
+        topicRepository.waitUntilOffset(0, 1L, TimeUnit.MILLISECONDS);
+
+        assertThrows(KafkaStoreException.class, () -> topicRepository.waitUntilOffset(0, 2L, TimeUnit.MILLISECONDS));
+        assertThrows(KafkaStoreException.class, () -> topicRepository.waitUntilOffset(1, 0L, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldInitializeFromEndOffsetWithoutNoopRecord() {
+        mockEndOffset(
+                KafkaFuture.completedFuture(new ListOffsetsResult.ListOffsetsResultInfo(2L, 0L, Optional.empty())));
+
+        Topic topic1 = buildTopic("ns-topic1");
+        Topic topic2 = buildTopic("ns-topic2");
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "local/ns-topic1", topic1));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 1L, "local/ns-topic2", topic2));
+
+        topicRepository.waitUntilKafkaReaderReachesLastOffsetInit();
+
+        assertTrue(topicRepository.isInitialized());
+        verify(kafkaProducer, never()).send(any());
+    }
+
+    @Test
+    void shouldInitializeEmptyStore() {
+        mockEndOffset(
+                KafkaFuture.completedFuture(new ListOffsetsResult.ListOffsetsResultInfo(0L, 0L, Optional.empty())));
+
+        topicRepository.waitUntilKafkaReaderReachesLastOffsetInit();
+
+        assertTrue(topicRepository.isInitialized());
+        verify(kafkaProducer, never()).send(any());
+    }
+
+    @Test
+    void shouldFallBackToNoopRecordWhenEndOffsetCannotBeListed() {
+        KafkaFutureImpl<ListOffsetsResult.ListOffsetsResultInfo> endOffset = new KafkaFutureImpl<>();
+        endOffset.completeExceptionally(new UnsupportedVersionException("ListOffsets is not supported"));
+        mockEndOffset(endOffset);
+
+        when(kafkaProducer.send(any()))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new RecordMetadata(new TopicPartition(TOPIC, 0), 0L, 0, 0L, 0, 0)));
+        topicRepository.receive(new ConsumerRecord<>(TOPIC, 0, 0L, "NOOP", null));
+
+        topicRepository.waitUntilKafkaReaderReachesLastOffsetInit();
+
+        assertTrue(topicRepository.isInitialized());
+        verify(kafkaProducer).send(argThat(producerRecord -> producerRecord.key().equals("NOOP")));
+    }
+
+    private void mockEndOffset(KafkaFuture<ListOffsetsResult.ListOffsetsResultInfo> endOffset) {
+        when(adminClient.listOffsets(anyMap())).thenReturn(listOffsetsResult);
+        when(listOffsetsResult.partitionResult(new TopicPartition(TOPIC, 0))).thenReturn(endOffset);
+    }
+}
@@ -23,16 +23,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertLinesMatch;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.AccessControlEntryRepository;
 import com.michelin.ns4kafka.service.executor.AccessControlEntryAsyncExecutor;
@@ -50,6 +49,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class AclServiceTest {
@@ -97,7 +98,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns")).thenReturn(Optional.empty());
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of());
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of());
 
         List<String> actual = aclService.validate(badAcl, namespace);
         assertLinesMatch(
@@ -137,7 +138,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("namespace")).thenReturn(Optional.of(namespace));
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of());
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of());
 
         List<String> actual = aclService.validate(badAcl, namespace);
         assertLinesMatch(
@@ -182,7 +183,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns")).thenReturn(Optional.of(targetNamespace));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -235,7 +236,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns")).thenReturn(Optional.of(targetNamespace));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -289,7 +290,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns")).thenReturn(Optional.of(targetNamespace));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -337,7 +338,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("target-ns")).thenReturn(Optional.of(targetNamespace));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -380,7 +381,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("*")).thenReturn(Optional.empty());
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -425,7 +426,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("*")).thenReturn(Optional.empty());
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -482,7 +483,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("public-ns")).thenReturn(Optional.of(publicNamespace));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -540,7 +541,7 @@ class AclServiceTest {
 
         when(applicationContext.getBean(NamespaceService.class)).thenReturn(namespaceService);
         when(namespaceService.findByName("protected-ns2")).thenReturn(Optional.of(protectedNamespace2));
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(AccessControlEntry.builder()
                         .spec(AccessControlEntry.AccessControlEntrySpec.builder()
                                 .resourceType(AccessControlEntry.ResourceType.TOPIC)
@@ -580,7 +581,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(accessControlEntry));
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of(accessControlEntry));
 
         List<String> actual = aclService.validateSelfAssignedAdmin(accessControlEntry, namespace);
 
@@ -658,7 +659,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(aceTopicPrefixedOwnerOtherNsToOtherNs, aceTopicLiteralOwnerOtherNsToOtherNs));
 
         List<String> actual = aclService.validateSelfAssignedAdmin(aceTopicPrefixedOwnerTargetNsToTargetNs, namespace);
@@ -761,7 +762,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(aceTopicPrefixedOwnerOtherNsToOtherNs, aceTopicLiteralOwnerOtherNsToOtherNs));
 
         List<String> actual = aclService.validateSelfAssignedAdmin(aceTopicPrefixedOwnerTargetNsToTargetNs, namespace);
@@ -859,7 +860,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll())
+        when(accessControlEntryRepository.findAllForCluster("local"))
                 .thenReturn(List.of(
                         aceTopicPrefixedOwnerOtherNsToOtherNs,
                         aceTopicLiteralOwnerOtherNsToOtherNs,
@@ -942,7 +943,7 @@ class AclServiceTest {
                 .metadata(Resource.Metadata.builder().cluster("cluster").build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(ace1, ace2, ace3, ace4));
+        when(accessControlEntryRepository.findAllForCluster("cluster")).thenReturn(List.of(ace1, ace2, ace3, ace4));
 
         List<AccessControlEntry> actual = aclService.findAllGrantedToNamespace(namespace);
         assertEquals(3, actual.size());
@@ -987,7 +988,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(ace1, ace2, ace3));
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of(ace1, ace2, ace3));
 
         List<AccessControlEntry> actual = aclService.findAllForNamespace(ns);
         assertEquals(2, actual.size());
@@ -995,16 +996,6 @@ class AclServiceTest {
 
     @Test
     void shouldFindNonPublicAclsToDeployAndToDeleteForCluster() {
-        AccessControlEntry publicAcl1 = AccessControlEntry.builder()
-                .metadata(Resource.Metadata.builder()
-                        .namespace("namespace4")
-                        .cluster("local")
-                        .build())
-                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .grantedTo("*")
-                        .build())
-                .build();
-
         AccessControlEntry publicAcl2 = AccessControlEntry.builder()
                 .metadata(Resource.Metadata.builder()
                         .namespace("namespace1")
@@ -1027,27 +1018,6 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        AccessControlEntry publicAcl4 = AccessControlEntry.builder()
-                .metadata(Resource.Metadata.builder()
-                        .namespace("namespace3")
-                        .cluster("local")
-                        .status(Resource.Metadata.Status.ofFailed("error"))
-                        .build())
-                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .grantedTo("*")
-                        .build())
-                .build();
-
-        AccessControlEntry acl1 = AccessControlEntry.builder()
-                .metadata(Resource.Metadata.builder()
-                        .namespace("namespace1")
-                        .cluster("local")
-                        .build())
-                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .grantedTo("namespace1")
-                        .build())
-                .build();
-
         AccessControlEntry acl2 = AccessControlEntry.builder()
                 .metadata(Resource.Metadata.builder()
                         .namespace("namespace2")
@@ -1070,51 +1040,10 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        AccessControlEntry acl4 = AccessControlEntry.builder()
-                .metadata(Resource.Metadata.builder()
-                        .namespace("namespace4")
-                        .cluster("local")
-                        .status(Resource.Metadata.Status.ofFailed("error"))
-                        .build())
-                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .grantedTo("namespace4")
-                        .build())
-                .build();
-
-        AccessControlEntry otherClusterAcl1 = AccessControlEntry.builder()
-                .metadata(Resource.Metadata.builder()
-                        .namespace("namespace5")
-                        .cluster("other")
-                        .status(Resource.Metadata.Status.ofPending())
-                        .build())
-                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .grantedTo("namespace5")
-                        .build())
-                .build();
-
-        AccessControlEntry otherClusterAcl2 = AccessControlEntry.builder()
-                .metadata(Resource.Metadata.builder()
-                        .namespace("namespace5")
-                        .cluster("other")
-                        .status(Resource.Metadata.Status.ofDeleting())
-                        .build())
-                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
-                        .grantedTo("namespace5")
-                        .build())
-                .build();
-
-        when(accessControlEntryRepository.findAll())
-                .thenReturn(List.of(
-                        publicAcl1,
-                        publicAcl2,
-                        publicAcl3,
-                        publicAcl4,
-                        acl1,
-                        acl2,
-                        acl3,
-                        acl4,
-                        otherClusterAcl1,
-                        otherClusterAcl2));
+        when(accessControlEntryRepository.findAllForClusterByPhase("local", Resource.Metadata.Phase.PENDING))
+                .thenReturn(List.of(publicAcl2, acl2));
+        when(accessControlEntryRepository.findAllForClusterByPhase("local", Resource.Metadata.Phase.DELETING))
+                .thenReturn(List.of(publicAcl3, acl3));
 
         List<AccessControlEntry> toDeploy = aclService.findNonPublicToDeployForCluster("local");
         assertEquals(1, toDeploy.size());
@@ -1348,7 +1277,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
+        when(accessControlEntryRepository.findAllForCluster("cluster")).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
 
         assertEquals(List.of(acl2, acl3, acl4, acl5), aclService.findAllGrantedToNamespaceByWildcardName(ns, "*"));
         assertEquals(List.of(acl2), aclService.findAllGrantedToNamespaceByWildcardName(ns, "acl-ns1-read-to-ns2"));
@@ -1432,7 +1361,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
 
         assertEquals(List.of(acl1, acl2, acl3), aclService.findAllGrantedByNamespaceByWildcardName(ns, "*"));
         assertEquals(List.of(acl2), aclService.findAllGrantedByNamespaceByWildcardName(ns, "ns1-read-ns2"));
@@ -1516,7 +1445,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5));
 
         assertEquals(List.of(acl2, acl3), aclService.findAllGrantedByNamespaceToOthersByWildcardName(ns, "*"));
         assertEquals(List.of(acl2), aclService.findAllGrantedByNamespaceToOthersByWildcardName(ns, "ns1-read-ns2"));
@@ -1606,7 +1535,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5, acl6));
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5, acl6));
 
         Namespace ns1 = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
@@ -1706,7 +1635,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5, acl6));
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5, acl6));
 
         assertEquals(
                 List.of(acl1),
@@ -1798,7 +1727,7 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5, acl6));
+        when(accessControlEntryRepository.findAllForCluster("local")).thenReturn(List.of(acl1, acl2, acl3, acl4, acl5, acl6));
 
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
@@ -1903,10 +1832,10 @@ class AclServiceTest {
                 .thenReturn(Stream.of(managedClusterProps))
                 .thenReturn(Stream.of(managedClusterProps));
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, acl3));
+        when(accessControlEntryRepository.findAllForCluster("cluster")).thenReturn(List.of(acl1, acl2, acl3));
         when(applicationContext.getBean(AccessControlEntryAsyncExecutor.class, Qualifiers.byName("cluster")))
                 .thenReturn(accessControlEntryAsyncExecutor);
-        doNothing().when(accessControlEntryRepository).delete(any());
+        doNothing().when(accessControlEntryRepository).deleteAll(any());
 
         Namespace namespace = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
@@ -1917,8 +1846,7 @@ class AclServiceTest {
 
         aclService.deleteAllGrantedToNamespace(namespace);
 
-        verify(accessControlEntryRepository, times(2)).delete(argThat(arg -> arg.equals(acl1) || arg.equals(acl2)));
-        verify(accessControlEntryRepository, never()).delete(acl3);
+        verify(accessControlEntryRepository).deleteAll(List.of(acl1, acl2));
     }
 
     @Test
@@ -1955,10 +1883,10 @@ class AclServiceTest {
                 .thenReturn(Stream.of(managedClusterProps))
                 .thenReturn(Stream.of(managedClusterProps));
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2, publicAcl));
+        when(accessControlEntryRepository.findAllForCluster("cluster")).thenReturn(List.of(acl1, acl2, publicAcl));
         when(applicationContext.getBean(AccessControlEntryAsyncExecutor.class, Qualifiers.byName("cluster")))
                 .thenReturn(accessControlEntryAsyncExecutor);
-        doNothing().when(accessControlEntryRepository).delete(any());
+        doNothing().when(accessControlEntryRepository).deleteAll(any());
 
         Namespace namespace = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
@@ -1969,8 +1897,7 @@ class AclServiceTest {
 
         aclService.deleteAllGrantedToNamespace(namespace);
 
-        verify(accessControlEntryRepository, times(2)).delete(argThat(arg -> arg.equals(acl1) || arg.equals(acl2)));
-        verify(accessControlEntryRepository, never()).delete(publicAcl);
+        verify(accessControlEntryRepository).deleteAll(List.of(acl1, acl2));
     }
 
     @Test
@@ -2002,11 +1929,11 @@ class AclServiceTest {
                 .thenReturn(Stream.of(managedClusterProps))
                 .thenReturn(Stream.of(managedClusterProps));
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of(acl1, acl2));
+        when(accessControlEntryRepository.findAllForCluster("cluster")).thenReturn(List.of(acl1, acl2));
         when(applicationContext.getBean(AccessControlEntryAsyncExecutor.class, Qualifiers.byName("cluster")))
                 .thenReturn(accessControlEntryAsyncExecutor);
-        when(accessControlEntryRepository.create(acl1)).thenReturn(acl1);
-        doNothing().when(accessControlEntryRepository).delete(any());
+        when(accessControlEntryRepository.createAll(List.of(acl1))).thenReturn(List.of(acl1));
+        doNothing().when(accessControlEntryRepository).deleteAll(any());
 
         Namespace namespace = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
@@ -2017,8 +1944,8 @@ class AclServiceTest {
 
         aclService.deleteAllGrantedToNamespace(namespace);
 
-        verify(accessControlEntryRepository).create(acl1);
-        verify(accessControlEntryRepository).delete(acl2);
+        verify(accessControlEntryRepository).createAll(List.of(acl1));
+        verify(accessControlEntryRepository).deleteAll(List.of(acl2));
     }
 
     @Test
@@ -2030,10 +1957,54 @@ class AclServiceTest {
                         .build())
                 .build();
 
-        when(accessControlEntryRepository.findAll()).thenReturn(List.of());
+        when(accessControlEntryRepository.findAllForCluster("cluster")).thenReturn(List.of());
 
         aclService.deleteAllGrantedToNamespace(namespace);
 
-        verify(accessControlEntryRepository, never()).delete(any());
+        verify(accessControlEntryRepository, never()).deleteAll(any());
+    }
+
+    @Test
+    void shouldWatchAclsRelatedToNamespace() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        AccessControlEntry grantedByNamespace = acl("acl1", "namespace", "local", "namespace2");
+        AccessControlEntry grantedToNamespace = acl("acl2", "namespace2", "local", "namespace");
+        AccessControlEntry publicAcl = acl("acl3", "namespace2", "local", "*");
+        AccessControlEntry unrelatedAcl = acl("acl4", "namespace2", "local", "namespace3");
+        AccessControlEntry otherClusterAcl = acl("acl5", "namespace", "other", "namespace2");
+
+        when(accessControlEntryRepository.watch("5"))
+                .thenReturn(Flux.just(grantedByNamespace, grantedToNamespace, publicAcl, unrelatedAcl, otherClusterAcl)
+                        .map(acl -> WatchEvent.<AccessControlEntry>builder()
+                                .type(WatchEvent.Type.ADDED)
+                                .object(acl)
+                                .build()));
+
+        StepVerifier.create(aclService.watch(ns, "5").map(WatchEvent::getObject))
+                .expectNext(grantedByNamespace, grantedToNamespace, publicAcl)
+                .verifyComplete();
+    }
+
+    private static AccessControlEntry acl(String name, String namespace, String cluster, String grantedTo) {
+        return AccessControlEntry.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name(name)
+                        .namespace(namespace)
+                        .cluster(cluster)
+                        .build())
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                        .resource("prefix.")
+                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                        .permission(AccessControlEntry.Permission.READ)
+                        .grantedTo(grantedTo)
+                        .build())
+                .build();
     }
 }
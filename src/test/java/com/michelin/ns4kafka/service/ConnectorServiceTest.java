@@ -21,17 +21,20 @@ package com.michelin.ns4kafka.service;
 import static com.michelin.ns4kafka.service.client.connect.entities.ConnectorType.SOURCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.ns4kafka.model.AccessControlEntry;
-import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Namespace.NamespaceSpec;
+import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.model.connect.ConnectCluster;
 import com.michelin.ns4kafka.model.connect.Connector;
 import com.michelin.ns4kafka.repository.ConnectorRepository;
@@ -47,10 +50,13 @@ import com.michelin.ns4kafka.service.client.connect.entities.ConnectorPluginInfo
 import com.michelin.ns4kafka.service.client.connect.entities.ConnectorStateInfo;
 import com.michelin.ns4kafka.service.client.connect.entities.ConnectorStatus;
 import com.michelin.ns4kafka.service.client.connect.entities.ConnectorType;
+import com.michelin.ns4kafka.service.executor.ConnectorStatusPoller;
 import com.michelin.ns4kafka.validation.ConnectValidator;
 import com.michelin.ns4kafka.validation.ResourceValidator;
+import io.micronaut.context.ApplicationContext;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
+import io.micronaut.inject.qualifiers.Qualifiers;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -59,6 +65,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -76,6 +83,9 @@ class ConnectorServiceTest {
     @Mock
     ConnectClusterService connectClusterService;
 
+    @Mock
+    ApplicationContext applicationContext;
+
     @InjectMocks
     ConnectorService connectorService;
 
@@ -212,6 +222,62 @@ class ConnectorServiceTest {
         assertEquals(List.of(c1, c2), connectorService.findByWildcardName(ns, "*"));
     }
 
+    @Test
+    void shouldFindConnectorsWithStatus() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Connector c1 = Connector.builder()
+                .metadata(Resource.Metadata.builder().name("ns-connect1").build())
+                .spec(Connector.ConnectorSpec.builder()
+                        .connectCluster("connect-cluster")
+                        .build())
+                .build();
+
+        Connector c2 = Connector.builder()
+                .metadata(Resource.Metadata.builder().name("ns-connect2").build())
+                .spec(Connector.ConnectorSpec.builder()
+                        .connectCluster("connect-cluster")
+                        .build())
+                .build();
+
+        List<AccessControlEntry> acls = List.of(AccessControlEntry.builder()
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .permission(AccessControlEntry.Permission.OWNER)
+                        .grantedTo("namespace")
+                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                        .resourceType(AccessControlEntry.ResourceType.CONNECT)
+                        .resource("ns-")
+                        .build())
+                .build());
+
+        Connector.ConnectorStatus status = Connector.ConnectorStatus.builder()
+                .state(Connector.TaskState.RUNNING)
+                .build();
+
+        ConnectorStatusPoller connectorStatusPoller = mock(ConnectorStatusPoller.class);
+        when(applicationContext.findBean(ConnectorStatusPoller.class, Qualifiers.byName("local")))
+                .thenReturn(Optional.of(connectorStatusPoller));
+        when(aclService.findResourceOwnerGrantedToNamespace(ns, AccessControlEntry.ResourceType.CONNECT))
+                .thenReturn(acls);
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(c1, c2));
+        when(aclService.isResourceCoveredByAcls(acls, "ns-connect1")).thenReturn(true);
+        when(aclService.isResourceCoveredByAcls(acls, "ns-connect2")).thenReturn(true);
+        when(connectorStatusPoller.getStatus(c1)).thenReturn(Optional.of(status));
+        when(connectorStatusPoller.getStatus(c2)).thenReturn(Optional.empty());
+
+        List<Connector> actual = connectorService.findByWildcardNameWithStatus(ns, "*");
+
+        assertEquals(List.of(c1, c2), actual);
+        assertEquals(status, actual.getFirst().getStatus());
+        assertNull(actual.get(1).getStatus());
+        assertNull(c1.getStatus());
+    }
+
     @Test
     void shouldFindConnectorsWithNameParameter() {
         Namespace ns = Namespace.builder()
@@ -1407,4 +1473,71 @@ class ConnectorServiceTest {
                         connector.getSpec().getConnectCluster(),
                         connector.getMetadata().getName());
     }
+
+    @Test
+    void shouldWatchConnectorsOwnedByNamespace() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Connector ownedConnector = Connector.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns-connect1")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Connector otherConnector = Connector.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns1-connect1")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Connector otherClusterConnector = Connector.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns-connect1")
+                        .cluster("other")
+                        .build())
+                .build();
+
+        List<AccessControlEntry> acls = List.of(AccessControlEntry.builder()
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .permission(AccessControlEntry.Permission.OWNER)
+                        .grantedTo("namespace")
+                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                        .resourceType(AccessControlEntry.ResourceType.CONNECT)
+                        .resource("ns-")
+                        .build())
+                .build());
+
+        when(aclService.findResourceOwnerGrantedToNamespace(ns, AccessControlEntry.ResourceType.CONNECT))
+                .thenReturn(acls);
+        when(aclService.isResourceCoveredByAcls(acls, "ns-connect1")).thenReturn(true);
+        when(aclService.isResourceCoveredByAcls(acls, "ns1-connect1")).thenReturn(false);
+        when(connectorRepository.watch("5"))
+                .thenReturn(Flux.just(
+                        WatchEvent.<Connector>builder()
+                                .type(WatchEvent.Type.ADDED)
+                                .offset(6L)
+                                .object(ownedConnector)
+                                .build(),
+                        WatchEvent.<Connector>builder()
+                                .type(WatchEvent.Type.ADDED)
+                                .offset(7L)
+                                .object(otherConnector)
+                                .build(),
+                        WatchEvent.<Connector>builder()
+                                .type(WatchEvent.Type.ADDED)
+                                .offset(8L)
+                                .object(otherClusterConnector)
+                                .build()));
+
+        StepVerifier.create(connectorService.watch(ns, "5"))
+                .assertNext(event -> assertEquals(ownedConnector, event.getObject()))
+                .verifyComplete();
+    }
 }
@@ -31,6 +31,7 @@ import com.michelin.ns4kafka.model.AccessControlEntry;
 import com.michelin.ns4kafka.model.KafkaStream;
 import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.StreamRepository;
 import com.michelin.ns4kafka.service.executor.AccessControlEntryAsyncExecutor;
@@ -44,6 +45,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class StreamServiceTest {
@@ -577,4 +580,60 @@ class StreamServiceTest {
         verify(aceAsyncExecutor).deleteKafkaStreams(namespace, stream);
         verify(streamRepository).create(stream);
     }
+
+    @Test
+    void shouldWatchStreamsOfNamespace() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        KafkaStream ownedStream = KafkaStream.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("stream1")
+                        .namespace("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        KafkaStream otherStream = KafkaStream.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("stream2")
+                        .namespace("namespace2")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        KafkaStream otherClusterStream = KafkaStream.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("stream1")
+                        .namespace("namespace")
+                        .cluster("other")
+                        .build())
+                .build();
+
+        when(streamRepository.watch("5"))
+                .thenReturn(Flux.just(
+                        WatchEvent.<KafkaStream>builder()
+                                .type(WatchEvent.Type.ADDED)
+                                .offset(6L)
+                                .object(ownedStream)
+                                .build(),
+                        WatchEvent.<KafkaStream>builder()
+                                .type(WatchEvent.Type.ADDED)
+                                .offset(7L)
+                                .object(otherStream)
+                                .build(),
+                        WatchEvent.<KafkaStream>builder()
+                                .type(WatchEvent.Type.ADDED)
+                                .offset(8L)
+                                .object(otherClusterStream)
+                                .build()));
+
+        StepVerifier.create(streamService.watch(ns, "5"))
+                .assertNext(event -> assertEquals(ownedStream, event.getObject()))
+                .verifyComplete();
+    }
 }
@@ -20,7 +20,6 @@ package com.michelin.ns4kafka.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertLinesMatch;
-import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -34,6 +33,7 @@ import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Namespace.NamespaceSpec;
 import com.michelin.ns4kafka.model.Resource;
 import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.model.WatchEvent;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
 import com.michelin.ns4kafka.repository.TopicRepository;
 import com.michelin.ns4kafka.service.executor.TopicAsyncExecutor;
@@ -54,6 +54,9 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 @ExtendWith(MockitoExtension.class)
 class TopicServiceTest {
@@ -158,6 +161,73 @@ class TopicServiceTest {
         assertTrue(topicService.findAllForNamespace(ns).isEmpty());
     }
 
+    @Test
+    void shouldWatchTopicsOwnedByNamespace() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Topic ownedTopic = Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns-topic1")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Topic otherTopic = Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns1-topic1")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Topic otherClusterTopic = Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns-topic1")
+                        .cluster("other")
+                        .build())
+                .build();
+
+        List<AccessControlEntry> acls = List.of(AccessControlEntry.builder()
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .permission(AccessControlEntry.Permission.OWNER)
+                        .grantedTo("namespace")
+                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                        .resource("ns-")
+                        .build())
+                .build());
+
+        when(aclService.findResourceOwnerGrantedToNamespace(ns, AccessControlEntry.ResourceType.TOPIC))
+                .thenReturn(acls);
+        when(aclService.isResourceCoveredByAcls(acls, "ns-topic1")).thenReturn(true);
+        when(aclService.isResourceCoveredByAcls(acls, "ns1-topic1")).thenReturn(false);
+        when(topicRepository.watch("5"))
+                .thenReturn(Flux.just(
+                        WatchEvent.<Topic>builder()
+                                .type(WatchEvent.Type.ADDED)
+                                .offset(6L)
+                                .object(ownedTopic)
+                                .build(),
+                        WatchEvent.<Topic>builder()
+                                .type(WatchEvent.Type.ADDED)
+                                .offset(7L)
+                                .object(otherTopic)
+                                .build(),
+                        WatchEvent.<Topic>builder()
+                                .type(WatchEvent.Type.ADDED)
+                                .offset(8L)
+                                .object(otherClusterTopic)
+                                .build()));
+
+        StepVerifier.create(topicService.watch(ns, "5"))
+                .assertNext(event -> assertEquals(ownedTopic, event.getObject()))
+                .verifyComplete();
+    }
+
     @Test
     void shouldFindAllForNamespaceWhenNoAclOnTopic() {
         Namespace ns = Namespace.builder()
@@ -280,7 +350,7 @@ class TopicServiceTest {
     }
 
     @Test
-    void shouldNotFindAnyCollidingTopic() throws ExecutionException, InterruptedException, TimeoutException {
+    void shouldNotFindAnyCollidingTopic() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("namespace")
@@ -294,13 +364,14 @@ class TopicServiceTest {
 
         when(applicationContext.getBean(TopicAsyncExecutor.class, Qualifiers.byName("local")))
                 .thenReturn(topicAsyncExecutor);
-        when(topicAsyncExecutor.listBrokerTopicNames()).thenReturn(List.of("project2.topic", "project1.other"));
+        when(topicAsyncExecutor.listBrokerTopicNamesAsync())
+                .thenReturn(Mono.just(List.of("project2.topic", "project1.other")));
 
-        assertTrue(topicService.findCollidingTopics(ns, topic).isEmpty());
+        assertTrue(topicService.findCollidingTopics(ns, topic).block().isEmpty());
     }
 
     @Test
-    void shouldFindCollidingTopicWhenIdenticalName() throws ExecutionException, InterruptedException, TimeoutException {
+    void shouldFindCollidingTopicWhenIdenticalName() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("namespace")
@@ -314,17 +385,16 @@ class TopicServiceTest {
 
         when(applicationContext.getBean(TopicAsyncExecutor.class, Qualifiers.byName("local")))
                 .thenReturn(topicAsyncExecutor);
-        when(topicAsyncExecutor.listBrokerTopicNames())
-                .thenReturn(List.of("project1.topic", "project2.topic", "project1.other"));
+        when(topicAsyncExecutor.listBrokerTopicNamesAsync())
+                .thenReturn(Mono.just(List.of("project1.topic", "project2.topic", "project1.other")));
 
-        List<String> actual = topicService.findCollidingTopics(ns, topic);
+        List<String> actual = topicService.findCollidingTopics(ns, topic).block();
 
         assertTrue(actual.isEmpty(), "Topic with exactly the same name should not interfere with collision check");
     }
 
     @Test
-    void shouldFindCollidingTopicsWhenCollidingName()
-            throws ExecutionException, InterruptedException, TimeoutException {
+    void shouldFindCollidingTopicsWhenCollidingName() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("namespace")
@@ -338,17 +408,16 @@ class TopicServiceTest {
 
         when(applicationContext.getBean(TopicAsyncExecutor.class, Qualifiers.byName("local")))
                 .thenReturn(topicAsyncExecutor);
-        when(topicAsyncExecutor.listBrokerTopicNames()).thenReturn(List.of("project1_topic"));
+        when(topicAsyncExecutor.listBrokerTopicNamesAsync()).thenReturn(Mono.just(List.of("project1_topic")));
 
-        List<String> actual = topicService.findCollidingTopics(ns, topic);
+        List<String> actual = topicService.findCollidingTopics(ns, topic).block();
 
         assertEquals(1, actual.size());
         assertLinesMatch(List.of("project1_topic"), actual);
     }
 
     @Test
-    void shouldHandleInterruptedExceptionWhenFindingCollidingTopics()
-            throws ExecutionException, InterruptedException, TimeoutException {
+    void shouldHandleTimeoutWhenFindingCollidingTopics() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("namespace")
@@ -362,16 +431,15 @@ class TopicServiceTest {
 
         when(applicationContext.getBean(TopicAsyncExecutor.class, Qualifiers.byName("local")))
                 .thenReturn(topicAsyncExecutor);
-        when(topicAsyncExecutor.listBrokerTopicNames()).thenThrow(new InterruptedException());
-
-        assertThrows(InterruptedException.class, () -> topicService.findCollidingTopics(ns, topic));
+        when(topicAsyncExecutor.listBrokerTopicNamesAsync()).thenReturn(Mono.error(new TimeoutException()));
 
-        assertTrue(Thread.interrupted());
+        StepVerifier.create(topicService.findCollidingTopics(ns, topic))
+                .expectError(TimeoutException.class)
+                .verify();
     }
 
     @Test
-    void shouldHandleOtherExceptionWhenFindingCollidingTopics()
-            throws ExecutionException, InterruptedException, TimeoutException {
+    void shouldHandleOtherExceptionWhenFindingCollidingTopics() {
         Namespace ns = Namespace.builder()
                 .metadata(Resource.Metadata.builder()
                         .name("namespace")
@@ -385,9 +453,12 @@ class TopicServiceTest {
 
         when(applicationContext.getBean(TopicAsyncExecutor.class, Qualifiers.byName("local")))
                 .thenReturn(topicAsyncExecutor);
-        when(topicAsyncExecutor.listBrokerTopicNames()).thenThrow(new RuntimeException("Unknown Error"));
+        when(topicAsyncExecutor.listBrokerTopicNamesAsync())
+                .thenReturn(Mono.error(new RuntimeException("Unknown Error")));
 
-        assertThrows(RuntimeException.class, () -> topicService.findCollidingTopics(ns, topic));
+        StepVerifier.create(topicService.findCollidingTopics(ns, topic))
+                .expectErrorMessage("Unknown Error")
+                .verify();
     }
 
     @Test
@@ -937,6 +1008,51 @@ class TopicServiceTest {
         assertTrue(actual.contains(t2));
     }
 
+    @Test
+    void shouldListDriftedTopicsWithWildcardParameter() {
+        Namespace ns = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Topic t1 = Topic.builder()
+                .metadata(Resource.Metadata.builder().name("ns1-topic1").build())
+                .build();
+        Topic t2 = Topic.builder()
+                .metadata(Resource.Metadata.builder().name("ns-topic2").build())
+                .build();
+        Topic t3 = Topic.builder()
+                .metadata(Resource.Metadata.builder().name("ns-other").build())
+                .build();
+
+        List<AccessControlEntry> acls = List.of(AccessControlEntry.builder()
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .permission(AccessControlEntry.Permission.OWNER)
+                        .grantedTo("namespace")
+                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                        .resource("ns-")
+                        .build())
+                .build());
+
+        when(applicationContext.getBean(eq(TopicAsyncExecutor.class), any())).thenReturn(topicAsyncExecutor);
+        when(aclService.findResourceOwnerGrantedToNamespace(ns, AccessControlEntry.ResourceType.TOPIC))
+                .thenReturn(acls);
+        when(topicAsyncExecutor.findDriftedTopics()).thenReturn(List.of(t1, t2, t3));
+        when(aclService.isResourceCoveredByAcls(acls, t1.getMetadata().getName()))
+                .thenReturn(false);
+        when(aclService.isResourceCoveredByAcls(acls, t2.getMetadata().getName()))
+                .thenReturn(true);
+        when(aclService.isResourceCoveredByAcls(acls, t3.getMetadata().getName()))
+                .thenReturn(true);
+
+        List<Topic> actual = topicService.listDriftedTopicsByWildcardName(ns, "ns-topic*");
+
+        assertEquals(List.of(t2), actual);
+    }
+
     @Test
     void shouldDeleteKafkaStreamInternalTopics() {
         Namespace ns = Namespace.builder()
@@ -19,10 +19,29 @@
 package com.michelin.ns4kafka.service.executor;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.KafkaStream;
+import com.michelin.ns4kafka.model.Namespace;
 import com.michelin.ns4kafka.model.Resource;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import com.michelin.ns4kafka.repository.NamespaceRepository;
+import com.michelin.ns4kafka.service.AclService;
+import com.michelin.ns4kafka.service.StreamService;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.CreateAclsResult;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
+import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclOperation;
 import org.apache.kafka.common.acl.AclPermissionType;
@@ -38,9 +57,29 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class AccessControlEntryAsyncExecutorTest {
     @Mock
-    @SuppressWarnings("unused")
     ManagedClusterProperties managedClusterProperties;
 
+    @Mock
+    AclService aclService;
+
+    @Mock
+    StreamService streamService;
+
+    @Mock
+    NamespaceRepository namespaceRepository;
+
+    @Mock
+    Admin adminClient;
+
+    @Mock
+    DescribeAclsResult describeAclsResult;
+
+    @Mock
+    CreateAclsResult createAclsResult;
+
+    @Mock
+    DeleteAclsResult deleteAclsResult;
+
     @InjectMocks
     AccessControlEntryAsyncExecutor aclAsyncExecutor;
 
@@ -70,4 +109,198 @@ class AccessControlEntryAsyncExecutorTest {
 
         assertEquals(aclBinding, aclAsyncExecutor.convertPublicAcl(acl));
     }
+
+    @Test
+    void shouldTrackCreatedAndDeletedAclsBetweenResyncs() {
+        Namespace namespace = Namespace.builder()
+                .metadata(Resource.Metadata.builder().name("ns1").cluster("local").build())
+                .spec(Namespace.NamespaceSpec.builder().kafkaUser("user1").build())
+                .build();
+
+        AccessControlEntry publicAcl = AccessControlEntry.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns1-public")
+                        .namespace("ns1")
+                        .build())
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                        .resource("ns1-public")
+                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
+                        .permission(AccessControlEntry.Permission.READ)
+                        .grantedTo("*")
+                        .build())
+                .build();
+
+        AclBinding publicAclBinding = new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "ns1-public", PatternType.LITERAL),
+                new org.apache.kafka.common.acl.AccessControlEntry(
+                        "User:*", "*", AclOperation.READ, AclPermissionType.ALLOW));
+
+        AclBinding unsynchronizedAclBinding = new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "ns1-topic", PatternType.LITERAL),
+                new org.apache.kafka.common.acl.AccessControlEntry(
+                        "User:user1", "*", AclOperation.READ, AclPermissionType.ALLOW));
+
+        when(managedClusterProperties.isManageAcls()).thenReturn(true);
+        when(managedClusterProperties.isDropUnsyncAcls()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getAclResyncIntervalMs()).thenReturn(3600000L);
+        when(aclService.findAllForCluster("local")).thenReturn(List.of(publicAcl));
+        when(aclService.isPublicAcl(publicAcl)).thenReturn(true);
+        when(namespaceRepository.findAllForCluster("local")).thenReturn(List.of(namespace));
+        when(streamService.findAllForCluster("local")).thenReturn(List.of());
+        when(adminClient.describeAcls(any())).thenReturn(describeAclsResult);
+        when(describeAclsResult.values()).thenReturn(KafkaFuture.completedFuture(List.of(unsynchronizedAclBinding)));
+        when(adminClient.createAcls(anyList())).thenReturn(createAclsResult);
+        when(createAclsResult.values())
+                .thenReturn(Map.of(publicAclBinding, KafkaFuture.completedFuture(null)))
+                .thenReturn(Map.of());
+        when(adminClient.deleteAcls(anyList())).thenReturn(deleteAclsResult);
+        when(deleteAclsResult.values())
+                .thenReturn(Map.of(unsynchronizedAclBinding.toFilter(), KafkaFuture.completedFuture(null)));
+
+        aclAsyncExecutor.run();
+        aclAsyncExecutor.run();
+
+        verify(adminClient).describeAcls(any());
+        verify(adminClient).createAcls(List.of(publicAclBinding));
+        verify(adminClient, times(2)).createAcls(anyList());
+        verify(adminClient).deleteAcls(List.of(unsynchronizedAclBinding.toFilter()));
+    }
+
+    @Test
+    void shouldResyncBrokerAclsAfterInterval() {
+        when(managedClusterProperties.isManageAcls()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getAclResyncIntervalMs()).thenReturn(0L);
+        when(aclService.findAllForCluster("local")).thenReturn(List.of());
+        when(namespaceRepository.findAllForCluster("local")).thenReturn(List.of());
+        when(adminClient.describeAcls(any())).thenReturn(describeAclsResult);
+        when(describeAclsResult.values()).thenReturn(KafkaFuture.completedFuture(List.of()));
+
+        aclAsyncExecutor.run();
+        aclAsyncExecutor.run();
+
+        verify(adminClient, times(2)).describeAcls(any());
+    }
+
+    @Test
+    void shouldRestoreAclDeletedOutsideOfNs4KafkaAfterResync() {
+        Namespace namespace = Namespace.builder()
+                .metadata(Resource.Metadata.builder().name("ns1").cluster("local").build())
+                .spec(Namespace.NamespaceSpec.builder().kafkaUser("user1").build())
+                .build();
+
+        AccessControlEntry publicAcl = AccessControlEntry.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns1-public")
+                        .namespace("ns1")
+                        .build())
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                        .resource("ns1-public")
+                        .resourcePatternType(AccessControlEntry.ResourcePatternType.LITERAL)
+                        .permission(AccessControlEntry.Permission.READ)
+                        .grantedTo("*")
+                        .build())
+                .build();
+
+        AclBinding publicAclBinding = new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "ns1-public", PatternType.LITERAL),
+                new org.apache.kafka.common.acl.AccessControlEntry(
+                        "User:*", "*", AclOperation.READ, AclPermissionType.ALLOW));
+
+        when(managedClusterProperties.isManageAcls()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getAclResyncIntervalMs()).thenReturn(3600000L, 0L);
+        when(aclService.findAllForCluster("local")).thenReturn(List.of(publicAcl));
+        when(aclService.isPublicAcl(publicAcl)).thenReturn(true);
+        when(namespaceRepository.findAllForCluster("local")).thenReturn(List.of(namespace));
+        when(streamService.findAllForCluster("local")).thenReturn(List.of());
+        when(adminClient.describeAcls(any())).thenReturn(describeAclsResult);
+        when(describeAclsResult.values())
+                .thenReturn(KafkaFuture.completedFuture(List.of(publicAclBinding)))
+                .thenReturn(KafkaFuture.completedFuture(List.of()));
+
+        aclAsyncExecutor.run();
+
+        // Deleted outside of Ns4Kafka, the ACL is still in the cache until the next resynchronization
+        aclAsyncExecutor.run();
+
+        verify(adminClient, never()).createAcls(anyList());
+
+        when(adminClient.createAcls(anyList())).thenReturn(createAclsResult);
+        when(createAclsResult.values())
+                .thenReturn(Map.of(publicAclBinding, KafkaFuture.completedFuture(null)))
+                .thenReturn(Map.of());
+
+        aclAsyncExecutor.run();
+
+        verify(adminClient, times(2)).describeAcls(any());
+        verify(adminClient).createAcls(List.of(publicAclBinding));
+    }
+
+    @Test
+    void shouldConvertUnchangedAclsOnlyOnce() {
+        Namespace namespace = Namespace.builder()
+                .metadata(Resource.Metadata.builder().name("ns1").cluster("local").build())
+                .spec(Namespace.NamespaceSpec.builder().kafkaUser("user1").build())
+                .build();
+
+        KafkaStream kafkaStream = KafkaStream.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns1-stream")
+                        .namespace("ns1")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        AccessControlEntry groupAcl = AccessControlEntry.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns1-acl-group")
+                        .namespace("ns1")
+                        .build())
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .resourceType(AccessControlEntry.ResourceType.GROUP)
+                        .resource("ns1-")
+                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                        .permission(AccessControlEntry.Permission.OWNER)
+                        .grantedTo("ns1")
+                        .build())
+                .build();
+
+        when(managedClusterProperties.isManageAcls()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getAclResyncIntervalMs()).thenReturn(3600000L);
+        when(aclService.findAllForCluster("local")).thenReturn(List.of(groupAcl));
+        when(aclService.isPublicAcl(groupAcl)).thenReturn(false);
+        when(namespaceRepository.findAllForCluster("local")).thenReturn(List.of(namespace));
+        when(streamService.findAllForCluster("local")).thenReturn(List.of(kafkaStream));
+        when(adminClient.describeAcls(any())).thenReturn(describeAclsResult);
+        when(describeAclsResult.values()).thenReturn(KafkaFuture.completedFuture(List.of()));
+        when(adminClient.createAcls(anyList())).thenReturn(createAclsResult);
+        when(createAclsResult.values()).thenReturn(Map.of());
+
+        aclAsyncExecutor.run();
+        aclAsyncExecutor.run();
+
+        // Checked once per run, and once by the only conversion
+        verify(aclService, times(3)).isPublicAcl(groupAcl);
+        verify(adminClient, times(2))
+                .createAcls(argThat(aclBindings -> aclBindings.size() == 5
+                        && aclBindings.stream()
+                                        .filter(aclBinding ->
+                                                aclBinding.pattern().resourceType() == ResourceType.TRANSACTIONAL_ID)
+                                        .count()
+                                == 2));
+        verify(namespaceRepository, never()).findByName(any());
+    }
 }
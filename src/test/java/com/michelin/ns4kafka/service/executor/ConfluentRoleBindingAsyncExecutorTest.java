@@ -49,15 +49,21 @@ import com.michelin.ns4kafka.service.client.confluent.ConfluentCloudClient;
 import com.michelin.ns4kafka.service.client.confluent.entities.RoleBinding;
 import com.michelin.ns4kafka.service.client.confluent.entities.RoleBindingRequest;
 import com.michelin.ns4kafka.service.client.confluent.entities.RoleBindingResponse;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
@@ -412,6 +418,10 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace));
         when(aclService.findByName("ns1", "ns1-write")).thenReturn(Optional.empty());
         when(aclRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
 
         rbAsyncExecutor.createRoleBindingsFromAcls(List.of(acl));
 
@@ -466,6 +476,10 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace));
         when(aclService.findByName("ns1", "ns1-write")).thenReturn(Optional.of(newAcl));
         when(aclRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
 
         rbAsyncExecutor.createRoleBindingsFromAcls(List.of(acl));
 
@@ -502,6 +516,12 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace));
         when(aclService.findByName("ns1", "ns1-write")).thenReturn(Optional.empty());
         when(aclRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
 
         rbAsyncExecutor.createRoleBindingsFromAcls(List.of(acl));
 
@@ -557,6 +577,10 @@ class ConfluentRoleBindingAsyncExecutorTest {
                 .thenReturn(Mono.error(new RuntimeException("error")));
         when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace));
         when(aclService.findByName("ns1", "ns1-write")).thenReturn(Optional.of(newAcl));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
 
         rbAsyncExecutor.createRoleBindingsFromAcls(List.of(acl));
 
@@ -620,6 +644,8 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(aclService.findByName("ns1", "ns1-read")).thenReturn(Optional.empty());
         doNothing().when(aclRepository).delete(acl);
         doNothing().when(aclRepository).delete(emptyResponseAcl);
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
 
         rbAsyncExecutor.deleteRoleBindingsFromAcls(List.of(acl, emptyResponseAcl));
 
@@ -678,6 +704,8 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace));
         when(confluentCloudClient.deleteRoleBinding("cluster", readRoleBinding)).thenReturn(Mono.just(response));
         when(aclService.findByName("ns1", "ns1-read")).thenReturn(Optional.of(newAcl));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
 
         rbAsyncExecutor.deleteRoleBindingsFromAcls(List.of(acl));
 
@@ -712,12 +740,16 @@ class ConfluentRoleBindingAsyncExecutorTest {
         RoleBinding writeRoleBinding =
                 new RoleBinding("User:user1", DEVELOPER_WRITE, AccessControlEntry.ResourceType.TOPIC, "ns1-*");
 
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
         when(managedClusterProperties.getName()).thenReturn("cluster");
         when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace));
         when(confluentCloudClient.deleteRoleBinding("cluster", writeRoleBinding))
                 .thenReturn(Mono.error(new RuntimeException("error")));
         when(aclService.findByName("ns1", "ns1-write")).thenReturn(Optional.empty());
         when(aclRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
 
         rbAsyncExecutor.deleteRoleBindingsFromAcls(List.of(acl));
 
@@ -778,6 +810,8 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(confluentCloudClient.deleteRoleBinding("cluster", readRoleBinding))
                 .thenReturn(Mono.error(new RuntimeException("error")));
         when(aclService.findByName("ns1", "ns1-read")).thenReturn(Optional.of(newAcl));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
 
         rbAsyncExecutor.deleteRoleBindingsFromAcls(List.of(acl));
 
@@ -815,6 +849,10 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace));
         when(streamService.findByName(namespace, "ns1-stream")).thenReturn(Optional.empty());
         when(kafkaStreamRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
 
         rbAsyncExecutor.createRoleBindingsFromKafkaStreams(List.of(kafkaStream));
 
@@ -857,6 +895,10 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace));
         when(streamService.findByName(namespace, "ns1-stream")).thenReturn(Optional.of(newKafkaStream));
         when(kafkaStreamRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
 
         rbAsyncExecutor.createRoleBindingsFromKafkaStreams(List.of(kafkaStream));
 
@@ -888,6 +930,12 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace));
         when(streamService.findByName(namespace, "ns1-stream")).thenReturn(Optional.empty());
         when(kafkaStreamRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
 
         rbAsyncExecutor.createRoleBindingsFromKafkaStreams(List.of(kafkaStream));
 
@@ -928,6 +976,10 @@ class ConfluentRoleBindingAsyncExecutorTest {
                 .thenReturn(Mono.error(new RuntimeException("error")));
         when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace));
         when(streamService.findByName(namespace, "ns1-stream")).thenReturn(Optional.of(newKafkaStream));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
 
         rbAsyncExecutor.createRoleBindingsFromKafkaStreams(List.of(kafkaStream));
 
@@ -979,6 +1031,8 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(streamService.findByName(namespace, "ns1-stream")).thenReturn(Optional.empty());
         doNothing().when(kafkaStreamRepository).delete(kafkaStream);
         doNothing().when(kafkaStreamRepository).delete(emptyResponseKafkaStream);
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
 
         rbAsyncExecutor.deleteRoleBindingsFromKafkaStreams(List.of(kafkaStream, emptyResponseKafkaStream));
 
@@ -1025,6 +1079,8 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(confluentCloudClient.deleteRoleBinding("cluster", manageTopicRoleBinding))
                 .thenReturn(Mono.just(response));
         when(streamService.findByName(namespace, "ns1-stream")).thenReturn(Optional.of(newKafkaStream));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
 
         rbAsyncExecutor.deleteRoleBindingsFromKafkaStreams(List.of(kafkaStream));
 
@@ -1053,11 +1109,15 @@ class ConfluentRoleBindingAsyncExecutorTest {
         RoleBinding manageTopicRoleBinding =
                 new RoleBinding("User:user1", DEVELOPER_MANAGE, AccessControlEntry.ResourceType.TOPIC, "ns1-stream*");
 
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
         when(managedClusterProperties.getName()).thenReturn("cluster");
         when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace));
         when(confluentCloudClient.deleteRoleBinding("cluster", manageTopicRoleBinding))
                 .thenReturn(Mono.error(new RuntimeException("error")));
         when(kafkaStreamRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
 
         rbAsyncExecutor.deleteRoleBindingsFromKafkaStreams(List.of(kafkaStream));
 
@@ -1102,6 +1162,8 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(confluentCloudClient.deleteRoleBinding("cluster", manageTopicRoleBinding))
                 .thenReturn(Mono.error(new RuntimeException("error")));
         when(streamService.findByName(namespace, "ns1-stream")).thenReturn(Optional.of(newKafkaStream));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
 
         rbAsyncExecutor.deleteRoleBindingsFromKafkaStreams(List.of(kafkaStream));
 
@@ -1146,6 +1208,10 @@ class ConfluentRoleBindingAsyncExecutorTest {
         when(confluentCloudClient.createRoleBinding(any(), any())).thenReturn(Mono.just(response));
         when(aclService.findByName("ns1", "ns1-write")).thenReturn(Optional.empty());
         when(aclRepository.create(acl)).thenReturn(acl);
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
 
         rbAsyncExecutor.run();
 
@@ -1180,4 +1246,241 @@ class ConfluentRoleBindingAsyncExecutorTest {
         assertEquals(groupCrnPattern, groupRbRequest.crnPattern());
         assertEquals(transIdCrnPattern, transIdRbRequest.crnPattern());
     }
+
+    @Test
+    void shouldRetryRoleBindingCreationWhenTooManyRequests() {
+        AccessControlEntry acl = pendingTopicAcl("ns1-write");
+        ManagedClusterProperties.RoleBindingProperties roleBindingProperties =
+                new ManagedClusterProperties.RoleBindingProperties();
+        roleBindingProperties.setRetryBackoffMs(1);
+
+        when(confluentCloudClient.createRoleBinding(any(), any()))
+                .thenReturn(
+                        Mono.error(new HttpClientResponseException(
+                                "Too Many Requests", HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS))),
+                        Mono.just(RoleBindingResponse.builder().build()));
+        when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace()));
+        when(aclService.findByName("ns1", "ns1-write")).thenReturn(Optional.empty());
+        when(aclRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getRoleBinding()).thenReturn(roleBindingProperties);
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
+
+        rbAsyncExecutor.createRoleBindingsFromAcls(List.of(acl));
+
+        verify(confluentCloudClient, times(2)).createRoleBinding(any(), any());
+        verify(aclRepository).create(argThat(a -> a.isSuccess() && a.isCreated()));
+    }
+
+    @Test
+    void shouldUpdateAclWhenTooManyRequestsRetriesExhausted() {
+        AccessControlEntry acl = pendingTopicAcl("ns1-write");
+        ManagedClusterProperties.RoleBindingProperties roleBindingProperties =
+                new ManagedClusterProperties.RoleBindingProperties();
+        roleBindingProperties.setMaxRetries(2);
+        roleBindingProperties.setRetryBackoffMs(1);
+
+        when(confluentCloudClient.createRoleBinding(any(), any()))
+                .thenReturn(Mono.error(new HttpClientResponseException(
+                        "Too Many Requests", HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS))));
+        when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace()));
+        when(aclService.findByName("ns1", "ns1-write")).thenReturn(Optional.empty());
+        when(aclRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
+        when(managedClusterProperties.getRoleBinding()).thenReturn(roleBindingProperties);
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
+
+        rbAsyncExecutor.createRoleBindingsFromAcls(List.of(acl));
+
+        verify(confluentCloudClient, times(3)).createRoleBinding(any(), any());
+        verify(aclRepository)
+                .create(argThat(a -> a.isFailed()
+                        && "Too Many Requests".equals(a.getMetadata().getStatus().getMessage())));
+    }
+
+    @Test
+    void shouldNotRetryRoleBindingCreationOnOtherErrors() {
+        AccessControlEntry acl = pendingTopicAcl("ns1-write");
+
+        when(confluentCloudClient.createRoleBinding(any(), any()))
+                .thenReturn(Mono.error(
+                        new HttpClientResponseException("Bad Request", HttpResponse.status(HttpStatus.BAD_REQUEST))));
+        when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace()));
+        when(aclService.findByName("ns1", "ns1-write")).thenReturn(Optional.empty());
+        when(aclRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
+
+        rbAsyncExecutor.createRoleBindingsFromAcls(List.of(acl));
+
+        verify(confluentCloudClient).createRoleBinding(any(), any());
+        verify(aclRepository).create(argThat(AccessControlEntry::isFailed));
+    }
+
+    @Test
+    void shouldBoundRoleBindingRequestsConcurrency() {
+        ManagedClusterProperties.RoleBindingProperties roleBindingProperties =
+                new ManagedClusterProperties.RoleBindingProperties();
+        roleBindingProperties.setConcurrency(2);
+        roleBindingProperties.setRequestsPerSecond(0);
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(confluentCloudClient.createRoleBinding(any(), any())).thenAnswer(_ -> Mono.fromCallable(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    return RoleBindingResponse.builder().build();
+                })
+                .delayElement(Duration.ofMillis(20))
+                .doFinally(_ -> inFlight.decrementAndGet()));
+        when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace()));
+        when(aclService.findByName(any(), any())).thenReturn(Optional.empty());
+        when(aclRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getRoleBinding()).thenReturn(roleBindingProperties);
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
+
+        rbAsyncExecutor.createRoleBindingsFromAcls(List.of(
+                pendingTopicAcl("ns1-acl1"),
+                pendingTopicAcl("ns1-acl2"),
+                pendingTopicAcl("ns1-acl3"),
+                pendingTopicAcl("ns1-acl4"),
+                pendingTopicAcl("ns1-acl5")));
+
+        // All the requests are completed when the method returns
+        verify(aclRepository, times(5)).create(argThat(AccessControlEntry::isSuccess));
+        assertEquals(0, inFlight.get());
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    void shouldNotCreateExistingRoleBinding() {
+        AccessControlEntry acl = pendingTopicAcl("ns1-write");
+        RoleBinding roleBinding = new RoleBinding("User:user1", DEVELOPER_WRITE, TOPIC, "ns1-write*");
+        RoleBindingResponse existingRoleBinding = RoleBindingResponse.builder()
+                .id("rb-1")
+                .principal("User:user1")
+                .roleName(DEVELOPER_WRITE)
+                .crnPattern(new RoleBindingRequest(roleBinding, confluentCloudProperties()).crnPattern())
+                .build();
+
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.just(existingRoleBinding));
+        when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace()));
+        when(aclService.findByName("ns1", "ns1-write")).thenReturn(Optional.empty());
+        when(aclRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+
+        rbAsyncExecutor.createRoleBindingsFromAcls(List.of(acl));
+
+        verify(confluentCloudClient, never()).createRoleBinding(any(), any());
+        verify(aclRepository).create(argThat(a -> a.isSuccess() && a.isCreated()));
+    }
+
+    @Test
+    void shouldListRoleBindingsOncePerCrnPattern() {
+        AccessControlEntry acl = pendingTopicAcl("ns1-owner");
+        acl.getSpec().setPermission(AccessControlEntry.Permission.OWNER);
+        String crnPattern = new RoleBindingRequest(
+                        new RoleBinding("User:user1", DEVELOPER_READ, TOPIC, "ns1-owner*"), confluentCloudProperties())
+                .crnPattern();
+
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        when(confluentCloudClient.listRoleBindings(any(), any())).thenReturn(Flux.empty());
+        when(confluentCloudClient.createRoleBinding(any(), any())).thenAnswer(invocation -> {
+            RoleBinding roleBinding = invocation.getArgument(1);
+            return Mono.just(RoleBindingResponse.builder()
+                    .id("rb-" + roleBinding.roleName())
+                    .principal(roleBinding.principal())
+                    .roleName(roleBinding.roleName())
+                    .crnPattern(crnPattern)
+                    .build());
+        });
+        when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace()));
+        when(aclService.findByName("ns1", "ns1-owner")).thenReturn(Optional.empty());
+        when(aclRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+
+        rbAsyncExecutor.createRoleBindingsFromAcls(List.of(acl));
+
+        verify(confluentCloudClient).listRoleBindings(any(), argThat(crnPattern::equals));
+        verify(confluentCloudClient, times(2)).createRoleBinding(any(), any());
+        verify(aclRepository, times(2)).create(argThat(AccessControlEntry::isSuccess));
+    }
+
+    @Test
+    void shouldCreateRoleBindingDeletedOutsideNs4KafkaWhenReapplied() {
+        AccessControlEntry acl = pendingTopicAcl("ns1-write");
+        RoleBinding roleBinding = new RoleBinding("User:user1", DEVELOPER_WRITE, TOPIC, "ns1-write*");
+        RoleBindingResponse existingRoleBinding = RoleBindingResponse.builder()
+                .id("rb-1")
+                .principal("User:user1")
+                .roleName(DEVELOPER_WRITE)
+                .crnPattern(new RoleBindingRequest(roleBinding, confluentCloudProperties()).crnPattern())
+                .build();
+
+        when(managedClusterProperties.getConfluentCloud()).thenReturn(confluentCloudProperties());
+        // The Role Binding is deleted outside Ns4Kafka between the two synchronizations
+        when(confluentCloudClient.listRoleBindings(any(), any()))
+                .thenReturn(Flux.just(existingRoleBinding), Flux.empty());
+        when(confluentCloudClient.createRoleBinding(any(), any())).thenReturn(Mono.just(existingRoleBinding));
+        when(namespaceService.findByName("ns1")).thenReturn(Optional.of(namespace()));
+        when(aclService.findByName("ns1", "ns1-write")).thenReturn(Optional.empty());
+        when(aclRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(managedClusterProperties.getRoleBinding())
+                .thenReturn(new ManagedClusterProperties.RoleBindingProperties());
+
+        rbAsyncExecutor.createRoleBindingsFromAcls(List.of(acl));
+
+        verify(confluentCloudClient, never()).createRoleBinding(any(), any());
+
+        rbAsyncExecutor.createRoleBindingsFromAcls(List.of(acl));
+
+        verify(confluentCloudClient, times(2)).listRoleBindings(any(), any());
+        verify(confluentCloudClient).createRoleBinding(any(), argThat(roleBinding::equals));
+        verify(aclRepository, times(2)).create(argThat(AccessControlEntry::isSuccess));
+    }
+
+    private ManagedClusterProperties.ConfluentCloudProperties confluentCloudProperties() {
+        ManagedClusterProperties.ConfluentCloudProperties properties =
+                new ManagedClusterProperties.ConfluentCloudProperties();
+        properties.setOrganizationId("orgId");
+        properties.setEnvironmentId("envId");
+        properties.setClusterId("clusterId");
+        return properties;
+    }
+
+    private Namespace namespace() {
+        return Namespace.builder()
+                .metadata(Resource.Metadata.builder().name("ns1").build())
+                .spec(Namespace.NamespaceSpec.builder().kafkaUser("user1").build())
+                .build();
+    }
+
+    private AccessControlEntry pendingTopicAcl(String name) {
+        return AccessControlEntry.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name(name)
+                        .namespace("ns1")
+                        .status(Resource.Metadata.Status.ofPending())
+                        .updateTimestamp(Date.from(instant))
+                        .generation(0)
+                        .build())
+                .spec(AccessControlEntry.AccessControlEntrySpec.builder()
+                        .resourceType(AccessControlEntry.ResourceType.TOPIC)
+                        .resource(name)
+                        .resourcePatternType(AccessControlEntry.ResourcePatternType.PREFIXED)
+                        .permission(AccessControlEntry.Permission.WRITE)
+                        .grantedTo("ns1")
+                        .build())
+                .build();
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConnectClusterCircuitBreakerTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final ConnectClusterCircuitBreaker circuitBreaker = new ConnectClusterCircuitBreaker(clock::get);
+    private final ManagedClusterProperties.ConnectBulkheadProperties properties =
+            new ManagedClusterProperties.ConnectBulkheadProperties();
+
+    @BeforeEach
+    void setUp() {
+        properties.setFailureThreshold(2);
+        properties.setOpenDurationMs(1000);
+    }
+
+    @Test
+    void shouldOpenAfterConsecutiveFailures() {
+        assertFalse(circuitBreaker.recordFailure(properties));
+        assertTrue(circuitBreaker.tryAcquire(properties));
+        assertTrue(circuitBreaker.recordFailure(properties));
+        assertFalse(circuitBreaker.tryAcquire(properties));
+    }
+
+    @Test
+    void shouldResetFailuresOnSuccess() {
+        assertFalse(circuitBreaker.recordFailure(properties));
+        circuitBreaker.recordSuccess();
+        assertFalse(circuitBreaker.recordFailure(properties));
+        assertTrue(circuitBreaker.tryAcquire(properties));
+    }
+
+    @Test
+    void shouldAllowSingleTrialAfterOpenDuration() {
+        circuitBreaker.recordFailure(properties);
+        circuitBreaker.recordFailure(properties);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertFalse(circuitBreaker.tryAcquire(properties));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertTrue(circuitBreaker.tryAcquire(properties));
+        assertFalse(circuitBreaker.tryAcquire(properties));
+
+        circuitBreaker.recordSuccess();
+        assertTrue(circuitBreaker.tryAcquire(properties));
+    }
+
+    @Test
+    void shouldOpenAgainWhenTrialFails() {
+        circuitBreaker.recordFailure(properties);
+        circuitBreaker.recordFailure(properties);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        assertTrue(circuitBreaker.tryAcquire(properties));
+        assertTrue(circuitBreaker.recordFailure(properties));
+        assertFalse(circuitBreaker.tryAcquire(properties));
+    }
+
+    @Test
+    void shouldAllowNewTrialWhenTrialIsCancelled() {
+        circuitBreaker.recordFailure(properties);
+        circuitBreaker.recordFailure(properties);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        assertTrue(circuitBreaker.tryAcquire(properties));
+        circuitBreaker.recordCancellation();
+        assertTrue(circuitBreaker.tryAcquire(properties));
+    }
+}
@@ -21,7 +21,9 @@ package com.michelin.ns4kafka.service.executor;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,7 +40,10 @@ import com.michelin.ns4kafka.service.NamespaceService;
 import com.michelin.ns4kafka.service.client.connect.KafkaConnectClient;
 import com.michelin.ns4kafka.service.client.connect.entities.ConnectorInfo;
 import com.michelin.ns4kafka.service.client.connect.entities.ConnectorSpecs;
+import com.michelin.ns4kafka.service.client.connect.entities.ConnectorStatus;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
@@ -104,6 +109,10 @@ class ConnectorAsyncExecutorTest {
                 .build();
 
         when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
         when(managedClusterProperties.getName()).thenReturn("local");
         when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
         when(kafkaConnectClient.createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class)))
@@ -155,6 +164,10 @@ class ConnectorAsyncExecutorTest {
                 .build();
 
         when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
         when(managedClusterProperties.getName()).thenReturn("local");
         when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
         when(kafkaConnectClient.createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class)))
@@ -191,7 +204,13 @@ class ConnectorAsyncExecutorTest {
                         .build())
                 .build();
 
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
         when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
         when(managedClusterProperties.getName()).thenReturn("local");
         when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
         when(kafkaConnectClient.createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class)))
@@ -245,6 +264,10 @@ class ConnectorAsyncExecutorTest {
                 .build();
 
         when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
         when(managedClusterProperties.getName()).thenReturn("local");
         when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
         when(kafkaConnectClient.createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class)))
@@ -282,6 +305,10 @@ class ConnectorAsyncExecutorTest {
                 .build();
 
         when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
         when(managedClusterProperties.getName()).thenReturn("local");
         when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
         when(kafkaConnectClient.delete("local", "connect-cluster", "connect1"))
@@ -334,6 +361,10 @@ class ConnectorAsyncExecutorTest {
                 .build();
 
         when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
         when(managedClusterProperties.getName()).thenReturn("local");
         when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
         when(kafkaConnectClient.delete("local", "connect-cluster", "connect1"))
@@ -370,7 +401,13 @@ class ConnectorAsyncExecutorTest {
                         .build())
                 .build();
 
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
         when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
         when(managedClusterProperties.getName()).thenReturn("local");
         when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
         when(kafkaConnectClient.delete("local", "connect-cluster", "connect1"))
@@ -422,7 +459,13 @@ class ConnectorAsyncExecutorTest {
                         .build())
                 .build();
 
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
         when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
         when(managedClusterProperties.getName()).thenReturn("local");
         when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
         when(kafkaConnectClient.delete("local", "connect-cluster", "connect1"))
@@ -479,6 +522,10 @@ class ConnectorAsyncExecutorTest {
                 .build();
 
         when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
         when(managedClusterProperties.getName()).thenReturn("local");
         when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
         when(kafkaConnectClient.delete("local", "connect-cluster", "connect1"))
@@ -543,6 +590,10 @@ class ConnectorAsyncExecutorTest {
                 .build();
 
         when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
         when(managedClusterProperties.getName()).thenReturn("local");
         when(connectorRepository.findAllForCluster("local"))
                 .thenReturn(List.of(connector))
@@ -596,6 +647,10 @@ class ConnectorAsyncExecutorTest {
                 .build();
 
         when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
         when(managedClusterProperties.getName()).thenReturn("local");
         when(connectorRepository.findAllForCluster("local"))
                 .thenReturn(List.of(connector))
@@ -611,4 +666,247 @@ class ConnectorAsyncExecutorTest {
         verify(connectorRepository).delete(connector);
         verify(connectClusterService).delete(connectCluster);
     }
+
+    @Test
+    void shouldKeepSynchronizingHealthyConnectClusters() {
+        Namespace namespace = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Connector failingConnector = pendingConnector("connect1", "failing-connect-cluster");
+        Connector healthyConnector = pendingConnector("connect2", "healthy-connect-cluster");
+
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
+        when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(failingConnector, healthyConnector));
+        when(kafkaConnectClient.createOrUpdate(
+                        anyString(), eq("failing-connect-cluster"), anyString(), any(ConnectorSpecs.class)))
+                .thenReturn(Mono.error(new RuntimeException("Connection refused")));
+        when(kafkaConnectClient.createOrUpdate(
+                        anyString(), eq("healthy-connect-cluster"), anyString(), any(ConnectorSpecs.class)))
+                .thenReturn(Mono.just(new ConnectorInfo("connect2", Map.of(), List.of(), null)));
+        when(namespaceService.findByName("namespace")).thenReturn(Optional.of(namespace));
+        when(connectorService.findByName(eq(namespace), anyString())).thenReturn(Optional.empty());
+
+        StepVerifier.create(connectorAsyncExecutor.run()).expectNextCount(1).verifyError();
+
+        verify(connectorRepository).create(argThat(c -> c.equals(healthyConnector) && c.isSuccess()));
+        verify(connectorRepository).create(argThat(c -> c.equals(failingConnector) && c.isFailed()));
+    }
+
+    @Test
+    void shouldSkipConnectClusterWhenCircuitIsOpen() {
+        Namespace namespace = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        ManagedClusterProperties.ConnectBulkheadProperties connectBulkheadProperties =
+                new ManagedClusterProperties.ConnectBulkheadProperties();
+        connectBulkheadProperties.setMaxInFlight(1);
+        connectBulkheadProperties.setFailureThreshold(1);
+
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
+        when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead()).thenReturn(connectBulkheadProperties);
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(connectorRepository.findAllForCluster("local"))
+                .thenReturn(List.of(
+                        pendingConnector("connect1", "connect-cluster"),
+                        pendingConnector("connect2", "connect-cluster")));
+        when(kafkaConnectClient.createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class)))
+                .thenReturn(Mono.error(new RuntimeException("Connection refused")));
+        when(namespaceService.findByName("namespace")).thenReturn(Optional.of(namespace));
+        when(connectorService.findByName(eq(namespace), anyString())).thenReturn(Optional.empty());
+
+        StepVerifier.create(connectorAsyncExecutor.run()).verifyError();
+        StepVerifier.create(connectorAsyncExecutor.run()).verifyComplete();
+
+        verify(kafkaConnectClient, times(1))
+                .createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class));
+        verify(connectorRepository, times(1)).create(argThat(Connector::isFailed));
+    }
+
+    @Test
+    void shouldNotOpenCircuitOnConnectorRejection() {
+        Namespace namespace = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        ManagedClusterProperties.ConnectBulkheadProperties connectBulkheadProperties =
+                new ManagedClusterProperties.ConnectBulkheadProperties();
+        connectBulkheadProperties.setMaxInFlight(1);
+        connectBulkheadProperties.setFailureThreshold(1);
+
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
+        when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead()).thenReturn(connectBulkheadProperties);
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(connectorRepository.findAllForCluster("local"))
+                .thenReturn(List.of(
+                        pendingConnector("connect1", "connect-cluster"),
+                        pendingConnector("connect2", "connect-cluster")));
+        when(kafkaConnectClient.createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class)))
+                .thenReturn(Mono.error(
+                        new HttpClientResponseException("Bad Request", HttpResponse.status(HttpStatus.BAD_REQUEST))));
+        when(namespaceService.findByName("namespace")).thenReturn(Optional.of(namespace));
+        when(connectorService.findByName(eq(namespace), anyString())).thenReturn(Optional.empty());
+
+        StepVerifier.create(connectorAsyncExecutor.run()).verifyError();
+
+        verify(kafkaConnectClient, times(2))
+                .createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class));
+    }
+
+    @Test
+    void shouldNotRedeployConnectorWithSameConfig() {
+        Namespace namespace = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Connector connector = pendingConnector("connect1", "connect-cluster");
+        Map<String, String> liveConfig = Map.of("connector.class", "io.connect.MyConnector", "name", "connect1");
+
+        when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
+        when(kafkaConnectClient.createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class)))
+                .thenReturn(Mono.just(new ConnectorInfo("connect1", liveConfig, List.of(), null)));
+        when(kafkaConnectClient.listAll("local", "connect-cluster"))
+                .thenReturn(Mono.just(Map.of(
+                        "connect1",
+                        new ConnectorStatus(new ConnectorInfo("connect1", liveConfig, List.of(), null), null))));
+        when(namespaceService.findByName("namespace")).thenReturn(Optional.of(namespace));
+        when(connectorService.findByName(namespace, "connect1")).thenReturn(Optional.empty());
+
+        StepVerifier.create(connectorAsyncExecutor.run()).expectNextCount(1).verifyComplete();
+
+        connector.getMetadata().setStatus(Resource.Metadata.Status.ofPending());
+
+        StepVerifier.create(connectorAsyncExecutor.run()).expectNextCount(1).verifyComplete();
+
+        verify(kafkaConnectClient, times(1))
+                .createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class));
+        verify(connectorRepository, times(2)).create(argThat(Connector::isSuccess));
+    }
+
+    @Test
+    void shouldRedeployConnectorWhenLiveConfigDiffers() {
+        Namespace namespace = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Connector connector = pendingConnector("connect1", "connect-cluster");
+
+        when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
+        when(kafkaConnectClient.createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class)))
+                .thenReturn(Mono.just(new ConnectorInfo("connect1", Map.of(), List.of(), null)));
+        when(kafkaConnectClient.listAll("local", "connect-cluster"))
+                .thenReturn(Mono.just(Map.of(
+                        "connect1",
+                        new ConnectorStatus(
+                                new ConnectorInfo(
+                                        "connect1",
+                                        Map.of("connector.class", "io.connect.MyConnector", "tasks.max", "2"),
+                                        List.of(),
+                                        null),
+                                null))));
+        when(namespaceService.findByName("namespace")).thenReturn(Optional.of(namespace));
+        when(connectorService.findByName(namespace, "connect1")).thenReturn(Optional.empty());
+
+        StepVerifier.create(connectorAsyncExecutor.run()).expectNextCount(1).verifyComplete();
+
+        connector.getMetadata().setStatus(Resource.Metadata.Status.ofPending());
+
+        StepVerifier.create(connectorAsyncExecutor.run()).expectNextCount(1).verifyComplete();
+
+        verify(kafkaConnectClient, times(2))
+                .createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class));
+    }
+
+    @Test
+    void shouldNotRedeployConnectorWithSameConfigAfterRestart() {
+        Namespace namespace = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("namespace")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        Connector connector = pendingConnector("connect1", "connect-cluster");
+        connector.getMetadata().setGeneration(1);
+        Map<String, String> liveConfig = Map.of("connector.class", "io.connect.MyConnector", "name", "connect1");
+
+        when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getConnectBulkhead())
+                .thenReturn(new ManagedClusterProperties.ConnectBulkheadProperties());
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
+        when(kafkaConnectClient.listAll("local", "connect-cluster"))
+                .thenReturn(Mono.just(Map.of(
+                        "connect1",
+                        new ConnectorStatus(new ConnectorInfo("connect1", liveConfig, List.of(), null), null))));
+        when(namespaceService.findByName("namespace")).thenReturn(Optional.of(namespace));
+        when(connectorService.findByName(namespace, "connect1")).thenReturn(Optional.empty());
+
+        StepVerifier.create(connectorAsyncExecutor.run()).expectNextCount(1).verifyComplete();
+
+        verify(kafkaConnectClient, never())
+                .createOrUpdate(anyString(), anyString(), anyString(), any(ConnectorSpecs.class));
+        verify(connectorRepository).create(argThat(c -> c.isSuccess() && c.getMetadata().getGeneration() == 2));
+    }
+
+    private Connector pendingConnector(String name, String connectCluster) {
+        return Connector.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name(name)
+                        .namespace("namespace")
+                        .status(Resource.Metadata.Status.ofPending())
+                        .updateTimestamp(Date.from(instant))
+                        .generation(0)
+                        .build())
+                .spec(Connector.ConnectorSpec.builder()
+                        .connectCluster(connectCluster)
+                        .config(Map.of("connector.class", "io.connect.MyConnector"))
+                        .build())
+                .build();
+    }
 }
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static com.michelin.ns4kafka.service.client.connect.entities.ConnectorType.SOURCE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.connect.Connector;
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import com.michelin.ns4kafka.repository.ConnectorRepository;
+import com.michelin.ns4kafka.service.client.connect.KafkaConnectClient;
+import com.michelin.ns4kafka.service.client.connect.entities.ConnectorInfo;
+import com.michelin.ns4kafka.service.client.connect.entities.ConnectorStateInfo;
+import com.michelin.ns4kafka.service.client.connect.entities.ConnectorStatus;
+import io.micronaut.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectorStatusPollerTest {
+    @Mock
+    ManagedClusterProperties managedClusterProperties;
+
+    @Mock
+    Ns4KafkaProperties.SchedulerProperties schedulerProperties;
+
+    @Mock
+    ConnectorRepository connectorRepository;
+
+    @Mock
+    KafkaConnectClient kafkaConnectClient;
+
+    @InjectMocks
+    ConnectorStatusPoller connectorStatusPoller;
+
+    @Test
+    void shouldNotPollWhenConnectorsAreNotManaged() {
+        when(managedClusterProperties.isManageConnectors()).thenReturn(false);
+
+        StepVerifier.create(connectorStatusPoller.poll()).verifyComplete();
+
+        verifyNoInteractions(connectorRepository, kafkaConnectClient);
+    }
+
+    @Test
+    void shouldServePolledStatuses() {
+        Connector connector = connector("connect1");
+
+        when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(schedulerProperties.getConnectorStatus())
+                .thenReturn(new Ns4KafkaProperties.SchedulerProperties.ConnectorStatusProperties());
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
+        when(kafkaConnectClient.listAll("local", "connect-cluster"))
+                .thenReturn(Mono.just(Map.of(
+                        "connect1", connectorStatus("connect1", "RUNNING"),
+                        "unmanaged", connectorStatus("unmanaged", "RUNNING"))));
+
+        StepVerifier.create(connectorStatusPoller.poll()).verifyComplete();
+
+        Connector.ConnectorStatus status = connectorStatusPoller.getStatus(connector).orElseThrow();
+        assertEquals(Connector.TaskState.RUNNING, status.getState());
+        assertEquals("worker", status.getWorkerId());
+        assertEquals(1, status.getTasks().size());
+        assertEquals("0", status.getTasks().getFirst().getId());
+        assertEquals(Connector.TaskState.RUNNING, status.getTasks().getFirst().getState());
+        assertTrue(connectorStatusPoller.getStatus(connector("unmanaged")).isEmpty());
+    }
+
+    @Test
+    void shouldKeepPolledStatusesWhenConnectClusterIsUnreachable() {
+        Connector connector = connector("connect1");
+
+        when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(schedulerProperties.getConnectorStatus())
+                .thenReturn(new Ns4KafkaProperties.SchedulerProperties.ConnectorStatusProperties());
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector));
+        when(kafkaConnectClient.listAll("local", "connect-cluster"))
+                .thenReturn(
+                        Mono.just(Map.of("connect1", connectorStatus("connect1", "RUNNING"))),
+                        Mono.error(new IllegalStateException("Connection refused")));
+
+        StepVerifier.create(connectorStatusPoller.poll()).verifyComplete();
+        StepVerifier.create(connectorStatusPoller.poll()).verifyComplete();
+
+        assertEquals(
+                Connector.TaskState.RUNNING,
+                connectorStatusPoller.getStatus(connector).orElseThrow().getState());
+    }
+
+    @Test
+    void shouldNotRestartFailedTasksWhenAutoRestartIsDisabled() {
+        when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(schedulerProperties.getConnectorStatus())
+                .thenReturn(new Ns4KafkaProperties.SchedulerProperties.ConnectorStatusProperties());
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector("connect1")));
+        when(kafkaConnectClient.listAll("local", "connect-cluster"))
+                .thenReturn(Mono.just(Map.of("connect1", connectorStatus("connect1", "FAILED"))));
+
+        StepVerifier.create(connectorStatusPoller.poll()).verifyComplete();
+
+        verify(kafkaConnectClient, never()).restart(anyString(), anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void shouldRestartFailedTasksWithBackoff() {
+        Ns4KafkaProperties.SchedulerProperties.ConnectorStatusProperties properties =
+                new Ns4KafkaProperties.SchedulerProperties.ConnectorStatusProperties();
+        properties.setAutoRestart(true);
+
+        when(managedClusterProperties.isManageConnectors()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(schedulerProperties.getConnectorStatus()).thenReturn(properties);
+        when(connectorRepository.findAllForCluster("local")).thenReturn(List.of(connector("connect1")));
+        when(kafkaConnectClient.listAll("local", "connect-cluster"))
+                .thenReturn(Mono.just(Map.of("connect1", connectorStatus("connect1", "FAILED"))));
+        when(kafkaConnectClient.restart("local", "connect-cluster", "connect1", 0))
+                .thenReturn(Mono.just(HttpResponse.noContent()));
+
+        StepVerifier.create(connectorStatusPoller.poll()).verifyComplete();
+        StepVerifier.create(connectorStatusPoller.poll()).verifyComplete();
+
+        verify(kafkaConnectClient, times(2)).listAll("local", "connect-cluster");
+        verify(kafkaConnectClient, times(1)).restart("local", "connect-cluster", "connect1", 0);
+    }
+
+    private static Connector connector(String name) {
+        return Connector.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name(name)
+                        .namespace("namespace")
+                        .cluster("local")
+                        .build())
+                .spec(Connector.ConnectorSpec.builder()
+                        .connectCluster("connect-cluster")
+                        .config(Map.of("connector.class", "io.connect.MyConnector"))
+                        .build())
+                .build();
+    }
+
+    private static ConnectorStatus connectorStatus(String name, String taskState) {
+        return new ConnectorStatus(
+                new ConnectorInfo(name, Map.of(), List.of(), SOURCE),
+                new ConnectorStateInfo(
+                        name,
+                        new ConnectorStateInfo.ConnectorState("RUNNING", "worker", null),
+                        List.of(new ConnectorStateInfo.TaskState(0, taskState, "worker", null)),
+                        SOURCE));
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static com.michelin.ns4kafka.service.executor.FailedResourceRetryQueue.RETRY_ATTEMPTS;
+import static com.michelin.ns4kafka.service.executor.FailedResourceRetryQueue.RETRY_PHASE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class FailedResourceRetryQueueTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final FailedResourceRetryQueue<Topic> queue = new FailedResourceRetryQueue<>(clock::get);
+
+    @Test
+    void shouldRetryFailedResourceAfterBackoff() {
+        ManagedClusterProperties.FailedRetryProperties properties =
+                new ManagedClusterProperties.FailedRetryProperties();
+        properties.setBackoffMs(1000);
+
+        Topic topic = topic(Resource.Metadata.Status.ofPending());
+        topic.getMetadata().setStatus(queue.fail(topic, "Timeout", properties));
+
+        assertTrue(topic.isFailed());
+        assertEquals("Timeout", topic.getMetadata().getStatus().getMessage());
+        assertEquals("1", topic.getMetadata().getStatus().getOptions().get(RETRY_ATTEMPTS));
+
+        List<Topic> saved = new ArrayList<>();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(499));
+        assertTrue(queue.retryDue(_ -> Optional.of(topic), FailedResourceRetryQueueTest::copy, saved::add)
+                .isEmpty());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1001));
+        List<Topic> retried = queue.retryDue(_ -> Optional.of(topic), FailedResourceRetryQueueTest::copy, saved::add);
+        assertEquals(1, retried.size());
+        assertSame(retried.getFirst(), saved.getFirst());
+        assertNotSame(topic, retried.getFirst());
+        assertTrue(retried.getFirst().isPending());
+        assertEquals("1", retried.getFirst().getMetadata().getStatus().getOptions().get(RETRY_ATTEMPTS));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void shouldRetryFailedDeletionAsDeletion() {
+        ManagedClusterProperties.FailedRetryProperties properties =
+                new ManagedClusterProperties.FailedRetryProperties();
+        properties.setBackoffMs(1000);
+
+        Topic topic = topic(Resource.Metadata.Status.ofDeleting(Map.of("force", "true")));
+        topic.getMetadata().setStatus(queue.fail(topic, "Timeout", properties));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+        Topic retried = queue.retryDue(_ -> Optional.of(topic), FailedResourceRetryQueueTest::copy, _ -> {})
+                .getFirst();
+
+        assertTrue(retried.isDeleting());
+        assertEquals("true", retried.getMetadata().getStatus().getOptions().get("force"));
+        assertTrue(topic.isFailed());
+    }
+
+    @Test
+    void shouldDoubleBackoffAtEachAttempt() {
+        ManagedClusterProperties.FailedRetryProperties properties =
+                new ManagedClusterProperties.FailedRetryProperties();
+        properties.setBackoffMs(1000);
+
+        Topic topic = topic(Resource.Metadata.Status.ofPending(Map.of(RETRY_ATTEMPTS, "2")));
+        topic.getMetadata().setStatus(queue.fail(topic, "Timeout", properties));
+
+        assertEquals("3", topic.getMetadata().getStatus().getOptions().get(RETRY_ATTEMPTS));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1999));
+        assertTrue(queue.retryDue(_ -> Optional.of(topic), FailedResourceRetryQueueTest::copy, _ -> {})
+                .isEmpty());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(4001));
+        assertEquals(
+                1,
+                queue.retryDue(_ -> Optional.of(topic), FailedResourceRetryQueueTest::copy, _ -> {})
+                        .size());
+    }
+
+    @Test
+    void shouldNotRetryAfterMaxAttempts() {
+        ManagedClusterProperties.FailedRetryProperties properties =
+                new ManagedClusterProperties.FailedRetryProperties();
+        properties.setMaxAttempts(1);
+
+        Topic topic = topic(Resource.Metadata.Status.ofPending(Map.of(RETRY_ATTEMPTS, "1")));
+        topic.getMetadata().setStatus(queue.fail(topic, "Timeout", properties));
+
+        assertTrue(topic.isFailed());
+        assertEquals("2", topic.getMetadata().getStatus().getOptions().get(RETRY_ATTEMPTS));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void shouldNotRetryWhenDisabled() {
+        ManagedClusterProperties.FailedRetryProperties properties =
+                new ManagedClusterProperties.FailedRetryProperties();
+        properties.setEnabled(false);
+
+        Topic topic = topic(Resource.Metadata.Status.ofPending());
+        topic.getMetadata().setStatus(queue.fail(topic, "Timeout", properties));
+
+        assertTrue(topic.isFailed());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void shouldNotRetryResourceChangedSinceFailure() {
+        ManagedClusterProperties.FailedRetryProperties properties =
+                new ManagedClusterProperties.FailedRetryProperties();
+        properties.setBackoffMs(1000);
+
+        Topic topic = topic(Resource.Metadata.Status.ofPending());
+        topic.getMetadata().setStatus(queue.fail(topic, "Timeout", properties));
+
+        Topic reappliedTopic = topic(Resource.Metadata.Status.ofPending());
+        List<Topic> saved = new ArrayList<>();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+        assertTrue(queue.retryDue(_ -> Optional.of(reappliedTopic), FailedResourceRetryQueueTest::copy, saved::add)
+                .isEmpty());
+        assertTrue(saved.isEmpty());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void shouldKeepOneRetryPerResource() {
+        ManagedClusterProperties.FailedRetryProperties properties =
+                new ManagedClusterProperties.FailedRetryProperties();
+
+        Topic topic = topic(Resource.Metadata.Status.ofPending());
+        queue.fail(topic, "Timeout", properties);
+        queue.fail(topic, "Timeout", properties);
+
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void shouldRecordPhaseBeforeFailure() {
+        ManagedClusterProperties.FailedRetryProperties properties =
+                new ManagedClusterProperties.FailedRetryProperties();
+
+        Topic topic = topic(Resource.Metadata.Status.ofDeleting());
+        topic.getMetadata().setStatus(queue.fail(topic, "Timeout", properties));
+
+        assertEquals("DELETING", topic.getMetadata().getStatus().getOptions().get(RETRY_PHASE));
+    }
+
+    @Test
+    void shouldSeedFailedResourcesOfStoreOnce() {
+        ManagedClusterProperties.FailedRetryProperties properties =
+                new ManagedClusterProperties.FailedRetryProperties();
+        properties.setBackoffMs(1000);
+        properties.setMaxAttempts(3);
+
+        Topic failedDeletion = topic(failed(Map.of(RETRY_ATTEMPTS, "1", RETRY_PHASE, "DELETING")));
+        Topic exhausted = topic(failed(Map.of(RETRY_ATTEMPTS, "4", RETRY_PHASE, "PENDING")));
+        exhausted.getMetadata().setName("exhausted");
+        Topic failedBeforeRetries = topic(Resource.Metadata.Status.ofFailed("Timeout"));
+        failedBeforeRetries.getMetadata().setName("failed-before-retries");
+        AtomicInteger reads = new AtomicInteger();
+
+        queue.seed(
+                () -> {
+                    reads.incrementAndGet();
+                    return List.of(failedDeletion, exhausted, failedBeforeRetries);
+                },
+                properties);
+        queue.seed(
+                () -> {
+                    reads.incrementAndGet();
+                    return List.of(failedDeletion, exhausted, failedBeforeRetries);
+                },
+                properties);
+
+        assertEquals(1, reads.get());
+        assertEquals(1, queue.size());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+        List<Topic> retried =
+                queue.retryDue(_ -> Optional.of(failedDeletion), FailedResourceRetryQueueTest::copy, _ -> {});
+
+        assertEquals(1, retried.size());
+        assertTrue(retried.getFirst().isDeleting());
+        assertEquals("1", retried.getFirst().getMetadata().getStatus().getOptions().get(RETRY_ATTEMPTS));
+    }
+
+    @Test
+    void shouldNotSeedWhenDisabled() {
+        ManagedClusterProperties.FailedRetryProperties properties =
+                new ManagedClusterProperties.FailedRetryProperties();
+        properties.setEnabled(false);
+
+        queue.seed(() -> List.of(topic(failed(Map.of(RETRY_ATTEMPTS, "1")))), properties);
+
+        assertEquals(0, queue.size());
+    }
+
+    private static Resource.Metadata.Status failed(Map<String, String> options) {
+        Resource.Metadata.Status status = Resource.Metadata.Status.ofFailed("Timeout");
+        status.setOptions(options);
+        return status;
+    }
+
+    private static Topic copy(Topic topic, Resource.Metadata metadata) {
+        return Topic.builder().metadata(metadata).spec(topic.getSpec()).build();
+    }
+
+    private static Topic topic(Resource.Metadata.Status status) {
+        return Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("topic")
+                        .namespace("namespace")
+                        .cluster("local")
+                        .status(status)
+                        .build())
+                .build();
+    }
+}
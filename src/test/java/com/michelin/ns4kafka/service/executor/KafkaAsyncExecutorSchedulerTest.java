@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.runtime.event.ApplicationStartupEvent;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaAsyncExecutorSchedulerTest {
+    @Mock
+    ReconciliationQueue reconciliationQueue;
+
+    @Mock
+    ApplicationContext applicationContext;
+
+    @Mock
+    TopicAsyncExecutor topicAsyncExecutor;
+
+    @Mock
+    ApplicationStartupEvent applicationStartupEvent;
+
+    KafkaAsyncExecutorScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.onDestroy();
+        }
+    }
+
+    @Test
+    void shouldSkipClusterStillSynchronizedByPreviousSweep() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(_ -> {
+                    started.countDown();
+                    release.await();
+                    return null;
+                })
+                .when(topicAsyncExecutor)
+                .run();
+
+        startScheduler(List.of(new ManagedClusterProperties("local")), new Ns4KafkaProperties.SchedulerProperties());
+
+        scheduler.schedule();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        scheduler.schedule();
+        verify(topicAsyncExecutor, after(500).times(1)).run();
+
+        // The second sweep skipped the busy cluster instead of waiting for it, so it does not run once released
+        release.countDown();
+        verify(topicAsyncExecutor, after(500).times(1)).run();
+    }
+
+    @Test
+    void shouldCapConcurrentClusters() throws InterruptedException {
+        Ns4KafkaProperties.SchedulerProperties schedulerProperties = new Ns4KafkaProperties.SchedulerProperties();
+        schedulerProperties.setMaxConcurrentClusters(2);
+
+        List<ManagedClusterProperties> clusters = IntStream.range(0, 6)
+                .mapToObj(i -> new ManagedClusterProperties("cluster" + i))
+                .toList();
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(clusters.size());
+        doAnswer(_ -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    Thread.sleep(100);
+                    running.decrementAndGet();
+                    completed.countDown();
+                    return null;
+                })
+                .when(topicAsyncExecutor)
+                .run();
+
+        startScheduler(clusters, schedulerProperties);
+
+        scheduler.schedule();
+
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    /** Start a scheduler whose clusters only have a topic executor. */
+    @SuppressWarnings("unchecked")
+    private void startScheduler(
+            List<ManagedClusterProperties> clusters, Ns4KafkaProperties.SchedulerProperties schedulerProperties) {
+        when(applicationContext.findBean(any(Class.class), any()))
+                .thenAnswer(invocation -> invocation.getArgument(0) == TopicAsyncExecutor.class
+                        ? Optional.of(topicAsyncExecutor)
+                        : Optional.empty());
+        when(reconciliationQueue.requests()).thenReturn(Flux.never());
+        when(reconciliationQueue.start()).thenReturn(Disposables.single());
+
+        scheduler = new KafkaAsyncExecutorScheduler(
+                clusters, List.of(), List.of(), schedulerProperties, reconciliationQueue, applicationContext);
+        scheduler.onStartupEvent(applicationStartupEvent);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class NamespaceFairQueueTest {
+    @Test
+    void shouldInterleaveNamespacesUpToBudget() {
+        NamespaceFairQueue namespaceFairQueue = new NamespaceFairQueue();
+        ManagedClusterProperties.FairSchedulingProperties properties =
+                new ManagedClusterProperties.FairSchedulingProperties();
+        properties.setCycleBudget(4);
+
+        List<Topic> topics = List.of(
+                topic("a1", "noisy"),
+                topic("a2", "noisy"),
+                topic("a3", "noisy"),
+                topic("a4", "noisy"),
+                topic("a5", "noisy"),
+                topic("b1", "small"),
+                topic("c1", "other"));
+
+        assertEquals(List.of("a1", "b1", "c1", "a2"), names(namespaceFairQueue.drain(topics, properties)));
+    }
+
+    @Test
+    void shouldRotateFirstNamespaceAcrossCycles() {
+        NamespaceFairQueue namespaceFairQueue = new NamespaceFairQueue();
+        ManagedClusterProperties.FairSchedulingProperties properties =
+                new ManagedClusterProperties.FairSchedulingProperties();
+        properties.setCycleBudget(1);
+
+        List<Topic> topics = List.of(topic("a1", "noisy"), topic("a2", "noisy"), topic("b1", "small"));
+
+        assertEquals(List.of("a1"), names(namespaceFairQueue.drain(topics, properties)));
+        assertEquals(List.of("b1"), names(namespaceFairQueue.drain(topics, properties)));
+        assertEquals(List.of("a1"), names(namespaceFairQueue.drain(topics, properties)));
+    }
+
+    @Test
+    void shouldDrainWeightedNamespacesMore() {
+        NamespaceFairQueue namespaceFairQueue = new NamespaceFairQueue();
+        ManagedClusterProperties.FairSchedulingProperties properties =
+                new ManagedClusterProperties.FairSchedulingProperties();
+        properties.setWeights(Map.of("heavy", 2));
+
+        List<Topic> topics = List.of(
+                topic("a1", "heavy"),
+                topic("a2", "heavy"),
+                topic("a3", "heavy"),
+                topic("b1", "light"),
+                topic("b2", "light"));
+
+        assertEquals(List.of("a1", "a2", "b1", "a3", "b2"), names(namespaceFairQueue.drain(topics, properties)));
+    }
+
+    @Test
+    void shouldNotBoundWhenBudgetIsNotPositive() {
+        NamespaceFairQueue namespaceFairQueue = new NamespaceFairQueue();
+        ManagedClusterProperties.FairSchedulingProperties properties =
+                new ManagedClusterProperties.FairSchedulingProperties();
+        properties.setCycleBudget(0);
+
+        List<Topic> topics = List.of(topic("a1", "noisy"), topic("a2", "noisy"), topic("b1", "small"));
+
+        assertEquals(List.of("a1", "b1", "a2"), names(namespaceFairQueue.drain(topics, properties)));
+    }
+
+    @Test
+    void shouldKeepOrderOfSingleNamespaceWithinBudget() {
+        NamespaceFairQueue namespaceFairQueue = new NamespaceFairQueue();
+        ManagedClusterProperties.FairSchedulingProperties properties =
+                new ManagedClusterProperties.FairSchedulingProperties();
+
+        List<Topic> topics = List.of(topic("a2", "noisy"), topic("a1", "noisy"));
+
+        assertEquals(topics, namespaceFairQueue.drain(topics, properties));
+    }
+
+    private static Topic topic(String name, String namespace) {
+        return Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name(name)
+                        .namespace(namespace)
+                        .build())
+                .build();
+    }
+
+    private static List<String> names(List<Topic> topics) {
+        return topics.stream().map(topic -> topic.getMetadata().getName()).toList();
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.model.AccessControlEntry;
+import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.Topic;
+import com.michelin.ns4kafka.model.WatchEvent;
+import com.michelin.ns4kafka.repository.AccessControlEntryRepository;
+import com.michelin.ns4kafka.repository.NamespaceRepository;
+import com.michelin.ns4kafka.repository.StreamRepository;
+import com.michelin.ns4kafka.repository.TopicRepository;
+import com.michelin.ns4kafka.service.executor.ReconciliationQueue.Request;
+import com.michelin.ns4kafka.service.executor.ReconciliationQueue.Target;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class ReconciliationQueueTest {
+    @Mock
+    TopicRepository topicRepository;
+
+    @Mock
+    AccessControlEntryRepository accessControlEntryRepository;
+
+    @Mock
+    StreamRepository streamRepository;
+
+    @Mock
+    NamespaceRepository namespaceRepository;
+
+    @InjectMocks
+    ReconciliationQueue reconciliationQueue;
+
+    @Test
+    void shouldEmitOneRequestPerBurstOfChanges() {
+        reconciliationQueue.enqueue(Target.TOPIC, "local");
+        reconciliationQueue.enqueue(Target.TOPIC, "local");
+        reconciliationQueue.enqueue(Target.ACL, "local");
+
+        Request topicRequest = new Request(Target.TOPIC, "local");
+        StepVerifier.create(reconciliationQueue.requests())
+                .expectNext(topicRequest)
+                .expectNext(new Request(Target.ACL, "local"))
+                .then(() -> {
+                    assertTrue(reconciliationQueue.drain(topicRequest));
+                    reconciliationQueue.enqueue(Target.TOPIC, "local");
+                })
+                .expectNext(topicRequest)
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void shouldDrainNothingTwice() {
+        Request request = new Request(Target.TOPIC, "local");
+        reconciliationQueue.enqueue(Target.TOPIC, "local");
+
+        assertTrue(reconciliationQueue.drain(request));
+        assertFalse(reconciliationQueue.drain(request));
+    }
+
+    @Test
+    void shouldEmitDelayedRequest() {
+        reconciliationQueue.enqueueAfter(Target.TOPIC, "local", Duration.ofMillis(100));
+
+        assertFalse(reconciliationQueue.drain(new Request(Target.TOPIC, "local")));
+
+        StepVerifier.create(reconciliationQueue.requests())
+                .expectNext(new Request(Target.TOPIC, "local"))
+                .thenCancel()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldQueueChangesReadByTheStores() {
+        Topic pendingTopic = Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("topic1")
+                        .namespace("ns")
+                        .cluster("local")
+                        .status(Resource.Metadata.Status.ofPending())
+                        .build())
+                .build();
+
+        Topic deployedTopic = Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("topic2")
+                        .namespace("ns")
+                        .cluster("local")
+                        .status(Resource.Metadata.Status.ofSuccess())
+                        .build())
+                .build();
+
+        AccessControlEntry acl = AccessControlEntry.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("acl1")
+                        .namespace("ns")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        when(topicRepository.watch(any()))
+                .thenReturn(Flux.just(
+                        WatchEvent.<Topic>builder()
+                                .type(WatchEvent.Type.ADDED)
+                                .object(pendingTopic)
+                                .build(),
+                        WatchEvent.<Topic>builder()
+                                .type(WatchEvent.Type.MODIFIED)
+                                .object(deployedTopic)
+                                .build()));
+        when(accessControlEntryRepository.watch(any()))
+                .thenReturn(Flux.just(WatchEvent.<AccessControlEntry>builder()
+                        .type(WatchEvent.Type.DELETED)
+                        .object(acl)
+                        .build()));
+        when(streamRepository.watch(any())).thenReturn(Flux.never());
+        when(namespaceRepository.watch(any())).thenReturn(Flux.never());
+
+        reconciliationQueue.start().dispose();
+
+        assertTrue(reconciliationQueue.drain(new Request(Target.TOPIC, "local")));
+        assertTrue(reconciliationQueue.drain(new Request(Target.ACL, "local")));
+        assertFalse(reconciliationQueue.drain(new Request(Target.ROLE_BINDING, "local")));
+    }
+
+    @Test
+    void shouldQueueNamespaceChangesForAcls() {
+        Namespace namespace = Namespace.builder()
+                .metadata(Resource.Metadata.builder()
+                        .name("ns")
+                        .namespace("ns")
+                        .cluster("local")
+                        .build())
+                .build();
+
+        when(topicRepository.watch(any())).thenReturn(Flux.never());
+        when(accessControlEntryRepository.watch(any())).thenReturn(Flux.never());
+        when(streamRepository.watch(any())).thenReturn(Flux.never());
+        when(namespaceRepository.watch(any()))
+                .thenReturn(Flux.just(WatchEvent.<Namespace>builder()
+                        .type(WatchEvent.Type.MODIFIED)
+                        .object(namespace)
+                        .build()));
+
+        reconciliationQueue.start().dispose();
+
+        assertTrue(reconciliationQueue.drain(new Request(Target.ACL, "local")));
+        assertFalse(reconciliationQueue.drain(new Request(Target.ROLE_BINDING, "local")));
+    }
+}
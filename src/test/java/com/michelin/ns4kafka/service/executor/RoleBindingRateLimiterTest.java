@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RoleBindingRateLimiterTest {
+    @Test
+    void shouldNotDelayRequestsWhenUnlimited() {
+        RoleBindingRateLimiter rateLimiter = new RoleBindingRateLimiter(() -> 0L);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Duration.ZERO, rateLimiter.reserve(0));
+        }
+    }
+
+    @Test
+    void shouldDelayRequestsOverTheRate() {
+        AtomicLong clock = new AtomicLong();
+        RoleBindingRateLimiter rateLimiter = new RoleBindingRateLimiter(clock::get);
+
+        assertEquals(Duration.ZERO, rateLimiter.reserve(2));
+        assertEquals(Duration.ZERO, rateLimiter.reserve(2));
+        assertEquals(Duration.ofMillis(500), rateLimiter.reserve(2));
+        assertEquals(Duration.ofMillis(1000), rateLimiter.reserve(2));
+    }
+
+    @Test
+    void shouldRefillTokensOverTime() {
+        AtomicLong clock = new AtomicLong();
+        RoleBindingRateLimiter rateLimiter = new RoleBindingRateLimiter(clock::get);
+
+        assertEquals(Duration.ZERO, rateLimiter.reserve(1));
+        assertEquals(Duration.ofSeconds(1), rateLimiter.reserve(1));
+
+        clock.addAndGet(Duration.ofSeconds(3).toNanos());
+
+        // The bucket holds one second of requests
+        assertEquals(Duration.ZERO, rateLimiter.reserve(1));
+        assertEquals(Duration.ofSeconds(1), rateLimiter.reserve(1));
+    }
+}
@@ -18,33 +18,66 @@
  */
 package com.michelin.ns4kafka.service.executor;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.michelin.ns4kafka.model.Resource;
 import com.michelin.ns4kafka.model.Topic;
 import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import com.michelin.ns4kafka.property.Ns4KafkaProperties;
 import com.michelin.ns4kafka.repository.TopicRepository;
+import com.michelin.ns4kafka.repository.kafka.KafkaStoreSnapshotService;
+import com.michelin.ns4kafka.repository.kafka.KafkaTopicRepository;
+import com.michelin.ns4kafka.service.AclService;
 import com.michelin.ns4kafka.service.TopicService;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.scheduling.TaskScheduler;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.admin.AlterConfigsResult;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreateTopicsOptions;
 import org.apache.kafka.clients.admin.CreateTopicsResult;
 import org.apache.kafka.clients.admin.DeleteTopicsResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.PolicyViolationException;
+import org.apache.kafka.common.errors.ThrottlingQuotaExceededException;
 import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -55,6 +88,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class TopicAsyncExecutorTest {
     private static final String LOCAL_CLUSTER = "local";
     private static final String TOPIC_NAME = "topic";
+    private static final String STORE_TOPIC = "ns4kafka.topics";
     private static final Instant instant = Instant.parse("2026-01-01T00:00:00Z");
 
     @Mock
@@ -78,16 +112,46 @@ class TopicAsyncExecutorTest {
     @Mock
     AlterConfigsResult alterConfigsResult;
 
+    @Mock
+    DescribeTopicsResult describeTopicsResult;
+
+    @Mock
+    DescribeConfigsResult describeConfigsResult;
+
     @Mock
     KafkaFuture<Void> kafkaFuture;
 
+    @Mock
+    Producer<String, Topic> storeProducer;
+
+    @Mock
+    AdminClient storeAdminClient;
+
+    @Mock
+    TaskScheduler taskScheduler;
+
+    @Mock
+    KafkaStoreSnapshotService snapshotService;
+
+    @Mock
+    AclService aclService;
+
+    @Mock
+    ApplicationContext applicationContext;
+
+    @Mock
+    ReconciliationQueue reconciliationQueue;
+
     @InjectMocks
     TopicAsyncExecutor topicAsyncExecutor;
 
     @Test
     void shouldCreateTopics() {
         when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
-        when(adminClient.createTopics(anyList())).thenReturn(createTopicsResult);
+        when(managedClusterProperties.getTopicCreation())
+                .thenReturn(new ManagedClusterProperties.TopicCreationProperties());
+        when(adminClient.createTopics(anyList(), any(CreateTopicsOptions.class)))
+                .thenReturn(createTopicsResult);
         when(createTopicsResult.values()).thenReturn(Map.of("topic", kafkaFuture));
 
         ManagedClusterProperties.TimeoutProperties.TopicProperties topicProperties =
@@ -114,13 +178,17 @@ class TopicAsyncExecutorTest {
 
         topicAsyncExecutor.createTopics(List.of(topic));
 
-        verify(topicRepository).create(argThat(a -> a.equals(topic) && a.isSuccess() && a.isCreated()));
+        verify(topicRepository)
+                .createAll(argThat(a -> a.equals(List.of(topic)) && topic.isSuccess() && topic.isCreated()));
     }
 
     @Test
     void shouldCreateTopicButNotUpdateStatusWhenChangedSinceLastApply() {
         when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
-        when(adminClient.createTopics(anyList())).thenReturn(createTopicsResult);
+        when(managedClusterProperties.getTopicCreation())
+                .thenReturn(new ManagedClusterProperties.TopicCreationProperties());
+        when(adminClient.createTopics(anyList(), any(CreateTopicsOptions.class)))
+                .thenReturn(createTopicsResult);
         when(createTopicsResult.values()).thenReturn(Map.of("topic", kafkaFuture));
 
         ManagedClusterProperties.TimeoutProperties.TopicProperties topicProperties =
@@ -158,13 +226,20 @@ class TopicAsyncExecutorTest {
 
         topicAsyncExecutor.createTopics(List.of(topic));
 
-        verify(topicRepository).create(argThat(a -> a.equals(newTopic) && a.isPending() && a.isCreated()));
+        verify(topicRepository)
+                .createAll(
+                        argThat(a -> a.equals(List.of(newTopic)) && newTopic.isPending() && newTopic.isCreated()));
     }
 
     @Test
     void shouldUpdateStatusWhenErrorCreating() throws ExecutionException, InterruptedException, TimeoutException {
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
         when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
-        when(adminClient.createTopics(anyList())).thenReturn(createTopicsResult);
+        when(managedClusterProperties.getTopicCreation())
+                .thenReturn(new ManagedClusterProperties.TopicCreationProperties());
+        when(adminClient.createTopics(anyList(), any(CreateTopicsOptions.class)))
+                .thenReturn(createTopicsResult);
         when(createTopicsResult.values()).thenReturn(Map.of("topic", kafkaFuture));
 
         ManagedClusterProperties.TimeoutProperties.TopicProperties topicProperties =
@@ -199,7 +274,10 @@ class TopicAsyncExecutorTest {
     void shouldNotCreateTopicWhenErrorCreatingAndChangedSinceLastApply()
             throws ExecutionException, InterruptedException, TimeoutException {
         when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
-        when(adminClient.createTopics(anyList())).thenReturn(createTopicsResult);
+        when(managedClusterProperties.getTopicCreation())
+                .thenReturn(new ManagedClusterProperties.TopicCreationProperties());
+        when(adminClient.createTopics(anyList(), any(CreateTopicsOptions.class)))
+                .thenReturn(createTopicsResult);
         when(createTopicsResult.values()).thenReturn(Map.of("topic", kafkaFuture));
 
         ManagedClusterProperties.TimeoutProperties.TopicProperties topicProperties =
@@ -239,6 +317,88 @@ class TopicAsyncExecutorTest {
         topicAsyncExecutor.createTopics(List.of(topic));
 
         verify(topicRepository, never()).create(any());
+        verify(topicRepository, never()).createAll(any());
+    }
+
+    @Test
+    void shouldPostponeTopicCreationsOverRateLimit() {
+        ManagedClusterProperties.TopicCreationProperties topicCreationProperties =
+                new ManagedClusterProperties.TopicCreationProperties();
+        topicCreationProperties.setTopicsPerSecond(1);
+        topicCreationProperties.setMaxBurstMs(1000);
+
+        when(managedClusterProperties.getTopicCreation()).thenReturn(topicCreationProperties);
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(adminClient.createTopics(anyList(), any(CreateTopicsOptions.class)))
+                .thenReturn(createTopicsResult);
+        when(createTopicsResult.values()).thenReturn(Map.of("topic1", kafkaFuture));
+
+        Topic topic1 = pendingTopic("topic1");
+        Topic topic2 = pendingTopic("topic2");
+
+        when(topicService.findByName(LOCAL_CLUSTER, "topic1")).thenReturn(Optional.of(topic1));
+
+        assertFalse(topicAsyncExecutor.createTopics(List.of(topic1, topic2)));
+
+        verify(adminClient)
+                .createTopics(
+                        argThat(newTopics -> newTopics.size() == 1
+                                && newTopics.iterator().next().name().equals("topic1")),
+                        any(CreateTopicsOptions.class));
+        verify(topicRepository).createAll(argThat(topics -> topics.equals(List.of(topic1)) && topic1.isSuccess()));
+        verify(reconciliationQueue)
+                .enqueueAfter(
+                        eq(ReconciliationQueue.Target.TOPIC),
+                        eq(LOCAL_CLUSTER),
+                        argThat(delay -> delay.compareTo(Duration.ofSeconds(1)) <= 0 && delay.isPositive()));
+        assertTrue(topic2.isPending());
+    }
+
+    @Test
+    void shouldKeepTopicPendingWhenCreationThrottled()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        when(managedClusterProperties.getTopicCreation())
+                .thenReturn(new ManagedClusterProperties.TopicCreationProperties());
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(adminClient.createTopics(anyList(), any(CreateTopicsOptions.class)))
+                .thenReturn(createTopicsResult);
+        when(createTopicsResult.values()).thenReturn(Map.of(TOPIC_NAME, kafkaFuture));
+        when(kafkaFuture.get(30000, TimeUnit.MILLISECONDS))
+                .thenThrow(new ExecutionException(
+                        "Error", new ThrottlingQuotaExceededException(60000, "Quota exceeded")));
+
+        Topic topic = pendingTopic(TOPIC_NAME);
+
+        assertFalse(topicAsyncExecutor.createTopics(List.of(topic)));
+        assertFalse(topicAsyncExecutor.createTopics(List.of(topic)));
+
+        assertTrue(topic.isPending());
+        verify(adminClient).createTopics(anyList(), any(CreateTopicsOptions.class));
+        verify(reconciliationQueue, times(2))
+                .enqueueAfter(
+                        eq(ReconciliationQueue.Target.TOPIC),
+                        eq(LOCAL_CLUSTER),
+                        argThat(delay -> delay.compareTo(Duration.ofSeconds(60)) <= 0
+                                && delay.compareTo(Duration.ofSeconds(59)) > 0));
+        verify(topicRepository, never()).create(any());
+        verify(topicRepository, never()).createAll(anyList());
+    }
+
+    private static Topic pendingTopic(String name) {
+        return Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .cluster(LOCAL_CLUSTER)
+                        .name(name)
+                        .status(Resource.Metadata.Status.ofPending())
+                        .updateTimestamp(Date.from(instant))
+                        .generation(0)
+                        .build())
+                .spec(Topic.TopicSpec.builder().partitions(3).build())
+                .build();
     }
 
     @Test
@@ -271,7 +431,7 @@ class TopicAsyncExecutorTest {
 
         topicAsyncExecutor.deleteTopics(List.of(topic));
 
-        verify(topicRepository).delete(topic);
+        verify(topicRepository).deleteAll(List.of(topic));
         verify(topicRepository, never()).create(topic);
     }
 
@@ -317,12 +477,15 @@ class TopicAsyncExecutorTest {
         topicAsyncExecutor.deleteTopics(List.of(topic));
 
         verify(topicRepository, never()).create(any());
-        verify(topicRepository, never()).delete(any());
+        verify(topicRepository, never()).createAll(any());
+        verify(topicRepository, never()).deleteAll(any());
     }
 
     @Test
     void shouldNotDeleteTopicAndUpdateStatusWhenExecutionError()
             throws ExecutionException, InterruptedException, TimeoutException {
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
         when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
         when(adminClient.deleteTopics(anyList())).thenReturn(deleteTopicsResult);
         when(deleteTopicsResult.topicNameValues()).thenReturn(Map.of("topic", kafkaFuture));
@@ -353,7 +516,7 @@ class TopicAsyncExecutorTest {
         topicAsyncExecutor.deleteTopics(List.of(topic));
 
         verify(topicRepository).create(argThat(a -> a.equals(topic) && a.isFailed()));
-        verify(topicRepository, never()).delete(any());
+        verify(topicRepository, never()).deleteAll(any());
     }
 
     @Test
@@ -388,8 +551,9 @@ class TopicAsyncExecutorTest {
 
         topicAsyncExecutor.deleteTopics(List.of(topic));
 
-        verify(topicRepository).delete(topic);
+        verify(topicRepository).deleteAll(List.of(topic));
         verify(topicRepository, never()).create(any());
+        verify(topicRepository, never()).createAll(any());
     }
 
     @Test
@@ -435,8 +599,9 @@ class TopicAsyncExecutorTest {
 
         topicAsyncExecutor.deleteTopics(List.of(topic));
 
-        verify(topicRepository, never()).delete(any());
+        verify(topicRepository, never()).deleteAll(any());
         verify(topicRepository, never()).create(any());
+        verify(topicRepository, never()).createAll(any());
     }
 
     @Test
@@ -489,6 +654,7 @@ class TopicAsyncExecutorTest {
         topicAsyncExecutor.alterTopics(List.of(topic), Map.of("topic", brokerTopic));
 
         verify(topicRepository, never()).create(any());
+        verify(topicRepository, never()).createAll(any());
     }
 
     @Test
@@ -522,6 +688,8 @@ class TopicAsyncExecutorTest {
         ManagedClusterProperties.TimeoutProperties timeoutProperties = new ManagedClusterProperties.TimeoutProperties();
         timeoutProperties.setTopic(topicProperties);
 
+        when(managedClusterProperties.getFailedRetry())
+                .thenReturn(new ManagedClusterProperties.FailedRetryProperties());
         when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
         when(adminClient.incrementalAlterConfigs(any())).thenReturn(alterConfigsResult);
         when(alterConfigsResult.values()).thenReturn(Map.of(cr, kafkaFuture));
@@ -587,6 +755,7 @@ class TopicAsyncExecutorTest {
         topicAsyncExecutor.alterTopics(List.of(topic), Map.of("topic", brokerTopic));
 
         verify(topicRepository, never()).create(any());
+        verify(topicRepository, never()).createAll(any());
     }
 
     @Test
@@ -620,6 +789,515 @@ class TopicAsyncExecutorTest {
 
         verify(managedClusterProperties, never()).getAdminClient();
         verify(topicRepository)
-                .create(argThat(t -> t.isSuccess() && t.getMetadata().getGeneration() == 2));
+                .createAll(argThat(a -> a.equals(List.of(topic))
+                        && topic.isSuccess()
+                        && topic.getMetadata().getGeneration() == 2));
+    }
+
+    @Test
+    void shouldCollectBrokerTopicsInChunks() throws ExecutionException, InterruptedException, TimeoutException {
+        ManagedClusterProperties.TopicDescribeProperties topicDescribeProperties =
+                new ManagedClusterProperties.TopicDescribeProperties();
+        topicDescribeProperties.setChunkSize(1);
+        topicDescribeProperties.setMaxInFlight(1);
+
+        when(managedClusterProperties.getTopicDescribe()).thenReturn(topicDescribeProperties);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(adminClient.describeTopics(anyList())).thenReturn(describeTopicsResult);
+        when(adminClient.describeConfigs(anyList())).thenReturn(describeConfigsResult);
+        when(describeTopicsResult.topicNameValues())
+                .thenReturn(Map.of("topic1", KafkaFuture.completedFuture(topicDescription("topic1"))))
+                .thenReturn(Map.of("topic2", KafkaFuture.completedFuture(topicDescription("topic2"))));
+        when(describeConfigsResult.values())
+                .thenReturn(Map.of(topicResource("topic1"), KafkaFuture.completedFuture(topicConfig())))
+                .thenReturn(Map.of(topicResource("topic2"), KafkaFuture.completedFuture(topicConfig())));
+
+        Map<String, Topic> brokerTopics = topicAsyncExecutor.collectBrokerTopicsFromNames(List.of("topic1", "topic2"));
+
+        assertEquals(2, brokerTopics.size());
+        assertEquals(3, brokerTopics.get("topic1").getSpec().getPartitions());
+        assertEquals(1, brokerTopics.get("topic1").getSpec().getReplicationFactor());
+        assertEquals(Map.of("retention.ms", "60000"), brokerTopics.get("topic2").getSpec().getConfigs());
+        verify(adminClient).describeTopics(List.of("topic1"));
+        verify(adminClient).describeTopics(List.of("topic2"));
+        verify(adminClient, times(2)).describeConfigs(anyList());
+    }
+
+    @Test
+    void shouldSkipBrokerTopicsThatCannotBeDescribed()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        KafkaFutureImpl<TopicDescription> failedDescription = new KafkaFutureImpl<>();
+        failedDescription.completeExceptionally(new UnknownTopicOrPartitionException("Unknown topic"));
+
+        when(managedClusterProperties.getTopicDescribe())
+                .thenReturn(new ManagedClusterProperties.TopicDescribeProperties());
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(adminClient.describeTopics(anyList())).thenReturn(describeTopicsResult);
+        when(adminClient.describeConfigs(anyList())).thenReturn(describeConfigsResult);
+        when(describeTopicsResult.topicNameValues())
+                .thenReturn(Map.of(
+                        "topic1",
+                        KafkaFuture.completedFuture(topicDescription("topic1")),
+                        "topic2",
+                        failedDescription));
+        when(describeConfigsResult.values())
+                .thenReturn(Map.of(
+                        topicResource("topic1"),
+                        KafkaFuture.completedFuture(topicConfig()),
+                        topicResource("topic2"),
+                        KafkaFuture.completedFuture(topicConfig())));
+
+        Map<String, Topic> brokerTopics = topicAsyncExecutor.collectBrokerTopicsFromNames(List.of("topic1", "topic2"));
+
+        assertEquals(1, brokerTopics.size());
+        assertEquals("topic1", brokerTopics.get("topic1").getMetadata().getName());
+    }
+
+    @Test
+    void shouldNotCollectBrokerTopicsWhenNoneCanBeDescribed() {
+        KafkaFutureImpl<TopicDescription> failedDescription = new KafkaFutureImpl<>();
+        failedDescription.completeExceptionally(new UnknownTopicOrPartitionException("Unknown topic"));
+
+        when(managedClusterProperties.getTopicDescribe())
+                .thenReturn(new ManagedClusterProperties.TopicDescribeProperties());
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(adminClient.describeTopics(anyList())).thenReturn(describeTopicsResult);
+        when(adminClient.describeConfigs(anyList())).thenReturn(describeConfigsResult);
+        when(describeTopicsResult.topicNameValues()).thenReturn(Map.of(TOPIC_NAME, failedDescription));
+        when(describeConfigsResult.values())
+                .thenReturn(Map.of(topicResource(TOPIC_NAME), KafkaFuture.completedFuture(topicConfig())));
+
+        List<String> topicNames = List.of(TOPIC_NAME);
+        assertThrows(ExecutionException.class, () -> topicAsyncExecutor.collectBrokerTopicsFromNames(topicNames));
+    }
+
+    @Test
+    void shouldDetectConfigDriftBySlices() {
+        ManagedClusterProperties.DriftDetectionProperties driftDetectionProperties =
+                new ManagedClusterProperties.DriftDetectionProperties();
+        driftDetectionProperties.setIntervalMs(0);
+        driftDetectionProperties.setSliceSize(2);
+
+        Topic topic1 = deployedTopic("topic1", Map.of("retention.ms", "1000"));
+        Topic topic2 = deployedTopic("topic2", Map.of("retention.ms", "60000"));
+        Topic topic3 = deployedTopic("topic3", Map.of("retention.ms", "60000"));
+
+        when(managedClusterProperties.getDriftDetection()).thenReturn(driftDetectionProperties);
+        when(managedClusterProperties.getTopicDescribe())
+                .thenReturn(new ManagedClusterProperties.TopicDescribeProperties());
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(topicService.findAllSucceededForCluster(LOCAL_CLUSTER)).thenReturn(List.of(topic3, topic2, topic1));
+        when(topicService.findByName(LOCAL_CLUSTER, "topic1")).thenReturn(Optional.of(topic1));
+        when(topicService.findByName(LOCAL_CLUSTER, "topic2")).thenReturn(Optional.of(topic2));
+        when(topicService.findByName(LOCAL_CLUSTER, "topic3")).thenReturn(Optional.of(topic3));
+        when(adminClient.describeTopics(anyList())).thenReturn(describeTopicsResult);
+        when(adminClient.describeConfigs(anyList())).thenReturn(describeConfigsResult);
+        when(describeTopicsResult.topicNameValues())
+                .thenReturn(Map.of(
+                        "topic1",
+                        KafkaFuture.completedFuture(topicDescription("topic1")),
+                        "topic2",
+                        KafkaFuture.completedFuture(topicDescription("topic2"))))
+                .thenReturn(Map.of(
+                        "topic3",
+                        KafkaFuture.completedFuture(topicDescription("topic3")),
+                        "topic1",
+                        KafkaFuture.completedFuture(topicDescription("topic1"))));
+        when(describeConfigsResult.values())
+                .thenReturn(Map.of(
+                        topicResource("topic1"),
+                        KafkaFuture.completedFuture(topicConfig()),
+                        topicResource("topic2"),
+                        KafkaFuture.completedFuture(topicConfig())))
+                .thenReturn(Map.of(
+                        topicResource("topic3"),
+                        KafkaFuture.completedFuture(topicConfig()),
+                        topicResource("topic1"),
+                        KafkaFuture.completedFuture(topicConfig())));
+
+        topicAsyncExecutor.detectConfigDrift();
+        topicAsyncExecutor.detectConfigDrift();
+
+        List<Topic> driftedTopics = topicAsyncExecutor.findDriftedTopics();
+
+        assertEquals(1, driftedTopics.size());
+        assertEquals("topic1", driftedTopics.getFirst().getMetadata().getName());
+        assertEquals(Map.of("retention.ms", "60000"), driftedTopics.getFirst().getSpec().getConfigs());
+        verify(adminClient).describeTopics(List.of("topic1", "topic2"));
+        verify(adminClient).describeTopics(List.of("topic3", "topic1"));
+        verify(topicRepository, never()).createAll(anyList());
+    }
+
+    @Test
+    void shouldNotDetectConfigDriftBeforeInterval() {
+        when(managedClusterProperties.getDriftDetection())
+                .thenReturn(new ManagedClusterProperties.DriftDetectionProperties());
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(topicService.findAllSucceededForCluster(LOCAL_CLUSTER)).thenReturn(List.of());
+
+        topicAsyncExecutor.detectConfigDrift();
+        topicAsyncExecutor.detectConfigDrift();
+
+        verify(topicService).findAllSucceededForCluster(LOCAL_CLUSTER);
+        verify(adminClient, never()).describeTopics(anyList());
+    }
+
+    @Test
+    void shouldMarkDriftedTopicsAsPendingWhenRemediationEnabled() {
+        ManagedClusterProperties.DriftDetectionProperties driftDetectionProperties =
+                new ManagedClusterProperties.DriftDetectionProperties();
+        driftDetectionProperties.setRemediate(true);
+
+        Topic topic = deployedTopic(TOPIC_NAME, Map.of("retention.ms", "1000"));
+
+        when(managedClusterProperties.getDriftDetection()).thenReturn(driftDetectionProperties);
+        when(managedClusterProperties.getTopicDescribe())
+                .thenReturn(new ManagedClusterProperties.TopicDescribeProperties());
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(topicService.findAllSucceededForCluster(LOCAL_CLUSTER)).thenReturn(List.of(topic));
+        when(topicService.findByName(LOCAL_CLUSTER, TOPIC_NAME)).thenReturn(Optional.of(topic));
+        when(adminClient.describeTopics(anyList())).thenReturn(describeTopicsResult);
+        when(adminClient.describeConfigs(anyList())).thenReturn(describeConfigsResult);
+        when(describeTopicsResult.topicNameValues())
+                .thenReturn(Map.of(TOPIC_NAME, KafkaFuture.completedFuture(topicDescription(TOPIC_NAME))));
+        when(describeConfigsResult.values())
+                .thenReturn(Map.of(topicResource(TOPIC_NAME), KafkaFuture.completedFuture(topicConfig())));
+
+        topicAsyncExecutor.detectConfigDrift();
+
+        verify(topicRepository)
+                .createAll(argThat(topics -> topics.equals(List.of(topic))
+                        && topics.getFirst().isPending()
+                        && topics.getFirst() != topic));
+        assertTrue(topic.isSuccess());
+        assertTrue(topicAsyncExecutor.findDriftedTopics().isEmpty());
+    }
+
+    @Test
+    void shouldRestoreDriftedTopicConfigs() {
+        KafkaTopicRepository topicStore = buildTopicStore();
+        TopicService storeTopicService = new TopicService(aclService, topicStore, applicationContext, List.of());
+        TopicAsyncExecutor executor = new TopicAsyncExecutor(
+                managedClusterProperties, storeTopicService, topicStore, reconciliationQueue);
+
+        ManagedClusterProperties.DriftDetectionProperties driftDetectionProperties =
+                new ManagedClusterProperties.DriftDetectionProperties();
+        driftDetectionProperties.setRemediate(true);
+
+        when(managedClusterProperties.getDriftDetection()).thenReturn(driftDetectionProperties);
+        when(managedClusterProperties.getTopicDescribe())
+                .thenReturn(new ManagedClusterProperties.TopicDescribeProperties());
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(adminClient.describeTopics(anyList())).thenReturn(describeTopicsResult);
+        when(adminClient.describeConfigs(anyList())).thenReturn(describeConfigsResult);
+        when(describeTopicsResult.topicNameValues())
+                .thenReturn(Map.of(TOPIC_NAME, KafkaFuture.completedFuture(topicDescription(TOPIC_NAME))));
+        when(describeConfigsResult.values())
+                .thenReturn(Map.of(topicResource(TOPIC_NAME), KafkaFuture.completedFuture(topicConfig())));
+        when(adminClient.incrementalAlterConfigs(any())).thenReturn(alterConfigsResult);
+        when(alterConfigsResult.values()).thenReturn(Map.of(topicResource(TOPIC_NAME), kafkaFuture));
+
+        topicStore.create(deployedTopic(TOPIC_NAME, Map.of("retention.ms", "1000")));
+        Topic deployed = topicStore.findByName(LOCAL_CLUSTER, TOPIC_NAME).orElseThrow();
+
+        executor.detectConfigDrift();
+
+        assertTrue(deployed.isSuccess());
+        assertEquals(
+                List.of(TOPIC_NAME),
+                storeTopicService.findAllToDeployForCluster(LOCAL_CLUSTER).stream()
+                        .map(topic -> topic.getMetadata().getName())
+                        .toList());
+
+        executor.synchronizeTopics();
+
+        Topic restored = topicStore.findByName(LOCAL_CLUSTER, TOPIC_NAME).orElseThrow();
+        assertTrue(restored.isSuccess());
+        assertEquals(2, restored.getMetadata().getGeneration());
+        assertTrue(storeTopicService.findAllToDeployForCluster(LOCAL_CLUSTER).isEmpty());
+        assertEquals(List.of(restored), storeTopicService.findAllSucceededForCluster(LOCAL_CLUSTER));
+        verify(adminClient)
+                .incrementalAlterConfigs(argThat(configs -> configs.get(topicResource(TOPIC_NAME)).stream()
+                        .anyMatch(op -> op.configEntry().name().equals("retention.ms")
+                                && op.configEntry().value().equals("1000"))));
+    }
+
+    @Test
+    void shouldDeployRetriedTopicInTheSameRun() {
+        KafkaTopicRepository topicStore = buildTopicStore();
+        TopicService storeTopicService = new TopicService(aclService, topicStore, applicationContext, List.of());
+        TopicAsyncExecutor executor = new TopicAsyncExecutor(
+                managedClusterProperties, storeTopicService, topicStore, reconciliationQueue);
+
+        ManagedClusterProperties.FailedRetryProperties failedRetry =
+                new ManagedClusterProperties.FailedRetryProperties();
+        failedRetry.setBackoffMs(0);
+
+        ManagedClusterProperties.TimeoutProperties timeoutProperties = new ManagedClusterProperties.TimeoutProperties();
+        timeoutProperties.getTopic().setCreate(1000);
+
+        KafkaFutureImpl<Void> failedCreation = new KafkaFutureImpl<>();
+        failedCreation.completeExceptionally(new PolicyViolationException("Rejected"));
+
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(timeoutProperties);
+        when(managedClusterProperties.getFailedRetry()).thenReturn(failedRetry);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getTopicCreation())
+                .thenReturn(new ManagedClusterProperties.TopicCreationProperties());
+        when(adminClient.createTopics(anyList(), any(CreateTopicsOptions.class)))
+                .thenReturn(createTopicsResult);
+        when(createTopicsResult.values())
+                .thenReturn(
+                        Map.of(TOPIC_NAME, failedCreation),
+                        Map.of(TOPIC_NAME, KafkaFuture.completedFuture(null)));
+
+        topicStore.create(pendingTopic(TOPIC_NAME));
+
+        executor.synchronizeTopics();
+
+        assertTrue(topicStore.findByName(LOCAL_CLUSTER, TOPIC_NAME).orElseThrow().isFailed());
+
+        executor.synchronizeTopics();
+
+        assertTrue(storeTopicService.findAllToDeployForCluster(LOCAL_CLUSTER).isEmpty());
+        assertTrue(topicStore
+                .findAllForClusterByPhase(LOCAL_CLUSTER, Resource.Metadata.Phase.FAIL)
+                .isEmpty());
+        assertEquals(
+                List.of(TOPIC_NAME),
+                storeTopicService.findAllSucceededForCluster(LOCAL_CLUSTER).stream()
+                        .map(topic -> topic.getMetadata().getName())
+                        .toList());
+        verify(adminClient, times(2)).createTopics(anyList(), any(CreateTopicsOptions.class));
+    }
+
+    @Test
+    void shouldRetryTopicFailedBeforeStartup() {
+        KafkaTopicRepository topicStore = buildTopicStore();
+        TopicService storeTopicService = new TopicService(aclService, topicStore, applicationContext, List.of());
+        TopicAsyncExecutor executor = new TopicAsyncExecutor(
+                managedClusterProperties, storeTopicService, topicStore, reconciliationQueue);
+
+        ManagedClusterProperties.FailedRetryProperties failedRetry =
+                new ManagedClusterProperties.FailedRetryProperties();
+        failedRetry.setBackoffMs(0);
+
+        ManagedClusterProperties.TimeoutProperties timeoutProperties = new ManagedClusterProperties.TimeoutProperties();
+        timeoutProperties.getTopic().setCreate(1000);
+
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(timeoutProperties);
+        when(managedClusterProperties.getFailedRetry()).thenReturn(failedRetry);
+        when(managedClusterProperties.getFairScheduling())
+                .thenReturn(new ManagedClusterProperties.FairSchedulingProperties());
+        when(managedClusterProperties.getTopicCreation())
+                .thenReturn(new ManagedClusterProperties.TopicCreationProperties());
+        when(adminClient.createTopics(anyList(), any(CreateTopicsOptions.class)))
+                .thenReturn(createTopicsResult);
+        when(createTopicsResult.values()).thenReturn(Map.of(TOPIC_NAME, KafkaFuture.completedFuture(null)));
+
+        Topic failedTopic = pendingTopic(TOPIC_NAME);
+        failedTopic
+                .getMetadata()
+                .setStatus(Resource.Metadata.Status.builder()
+                        .phase(Resource.Metadata.Phase.FAIL)
+                        .message("Rejected")
+                        .options(Map.of(
+                                FailedResourceRetryQueue.RETRY_ATTEMPTS,
+                                "1",
+                                FailedResourceRetryQueue.RETRY_PHASE,
+                                Resource.Metadata.Phase.PENDING.name()))
+                        .build());
+        topicStore.create(failedTopic);
+
+        executor.synchronizeTopics();
+
+        assertTrue(topicStore
+                .findAllForClusterByPhase(LOCAL_CLUSTER, Resource.Metadata.Phase.FAIL)
+                .isEmpty());
+        assertEquals(
+                List.of(TOPIC_NAME),
+                storeTopicService.findAllSucceededForCluster(LOCAL_CLUSTER).stream()
+                        .map(topic -> topic.getMetadata().getName())
+                        .toList());
+        verify(adminClient).createTopics(anyList(), any(CreateTopicsOptions.class));
+    }
+
+    @Test
+    void shouldQueueNextSynchronizationWhenTopicsLeftOver() {
+        ManagedClusterProperties.FairSchedulingProperties fairScheduling =
+                new ManagedClusterProperties.FairSchedulingProperties();
+        fairScheduling.setCycleBudget(1);
+
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getFairScheduling()).thenReturn(fairScheduling);
+        when(managedClusterProperties.getTopicCreation())
+                .thenReturn(new ManagedClusterProperties.TopicCreationProperties());
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(adminClient.createTopics(anyList(), any(CreateTopicsOptions.class)))
+                .thenReturn(createTopicsResult);
+        when(createTopicsResult.values()).thenReturn(Map.of("topic1", kafkaFuture));
+
+        Topic topic1 = pendingTopic("topic1");
+        Topic topic2 = pendingTopic("topic2");
+
+        when(topicService.findAllToDeployForCluster(LOCAL_CLUSTER)).thenReturn(List.of(topic1, topic2));
+        when(topicService.findAllToDeleteForCluster(LOCAL_CLUSTER)).thenReturn(List.of());
+        when(topicService.findByName(LOCAL_CLUSTER, "topic1")).thenReturn(Optional.of(topic1));
+
+        topicAsyncExecutor.synchronizeTopics();
+
+        verify(topicRepository).createAll(List.of(topic1));
+        verify(reconciliationQueue).enqueue(ReconciliationQueue.Target.TOPIC, LOCAL_CLUSTER);
+        assertTrue(topic2.isPending());
+    }
+
+    @Test
+    void shouldNotQueueNextSynchronizationWhenTopicCreationsPostponed() {
+        ManagedClusterProperties.FairSchedulingProperties fairScheduling =
+                new ManagedClusterProperties.FairSchedulingProperties();
+        fairScheduling.setCycleBudget(1);
+
+        ManagedClusterProperties.TopicCreationProperties topicCreationProperties =
+                new ManagedClusterProperties.TopicCreationProperties();
+        topicCreationProperties.setTopicsPerSecond(1);
+        topicCreationProperties.setMaxBurstMs(1000);
+
+        when(managedClusterProperties.getName()).thenReturn(LOCAL_CLUSTER);
+        when(managedClusterProperties.getFairScheduling()).thenReturn(fairScheduling);
+        when(managedClusterProperties.getTopicCreation()).thenReturn(topicCreationProperties);
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(adminClient.createTopics(anyList(), any(CreateTopicsOptions.class)))
+                .thenReturn(createTopicsResult);
+        when(createTopicsResult.values()).thenReturn(Map.of("topic1", kafkaFuture));
+        when(topicService.findAllToDeployForCluster(LOCAL_CLUSTER))
+                .thenReturn(
+                        List.of(pendingTopic("topic1"), pendingTopic("topic2"), pendingTopic("topic3")),
+                        List.of(pendingTopic("topic2"), pendingTopic("topic3")));
+        when(topicService.findAllToDeleteForCluster(LOCAL_CLUSTER)).thenReturn(List.of());
+        when(topicService.findByName(LOCAL_CLUSTER, "topic1")).thenReturn(Optional.empty());
+
+        topicAsyncExecutor.synchronizeTopics();
+        topicAsyncExecutor.synchronizeTopics();
+
+        verify(adminClient).createTopics(anyList(), any(CreateTopicsOptions.class));
+        verify(reconciliationQueue).enqueue(ReconciliationQueue.Target.TOPIC, LOCAL_CLUSTER);
+        verify(reconciliationQueue).enqueueAfter(eq(ReconciliationQueue.Target.TOPIC), eq(LOCAL_CLUSTER), any());
+    }
+
+    /** Build a topic store fed back with every record it produces, as the Kafka listener would. */
+    private KafkaTopicRepository buildTopicStore() {
+        Ns4KafkaProperties ns4KafkaProperties = new Ns4KafkaProperties();
+        ns4KafkaProperties.getStore().getKafka().setInitTimeout(1000);
+        KafkaTopicRepository topicStore = new KafkaTopicRepository(
+                STORE_TOPIC, storeProducer, storeAdminClient, ns4KafkaProperties, taskScheduler, snapshotService);
+
+        AtomicLong nextOffset = new AtomicLong();
+        when(storeProducer.send(any(), any())).thenAnswer(invocation -> {
+            ProducerRecord<String, Topic> producerRecord = invocation.getArgument(0);
+            Callback callback = invocation.getArgument(1);
+            long offset = nextOffset.getAndIncrement();
+            RecordMetadata recordMetadata =
+                    new RecordMetadata(new TopicPartition(STORE_TOPIC, 0), offset, 0, 0L, 0, 0);
+
+            callback.onCompletion(recordMetadata, null);
+            topicStore.receive(
+                    new ConsumerRecord<>(STORE_TOPIC, 0, offset, producerRecord.key(), producerRecord.value()));
+            return CompletableFuture.completedFuture(recordMetadata);
+        });
+
+        return topicStore;
+    }
+
+    private static Topic pendingTopic(String name) {
+        return Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .cluster(LOCAL_CLUSTER)
+                        .namespace("namespace")
+                        .name(name)
+                        .status(Resource.Metadata.Status.ofPending())
+                        .updateTimestamp(Date.from(instant))
+                        .generation(0)
+                        .build())
+                .spec(Topic.TopicSpec.builder()
+                        .partitions(3)
+                        .replicationFactor(1)
+                        .configs(Map.of())
+                        .build())
+                .build();
+    }
+
+    private static Topic deployedTopic(String name, Map<String, String> configs) {
+        return Topic.builder()
+                .metadata(Resource.Metadata.builder()
+                        .cluster(LOCAL_CLUSTER)
+                        .name(name)
+                        .status(Resource.Metadata.Status.ofSuccess())
+                        .updateTimestamp(Date.from(instant))
+                        .generation(1)
+                        .build())
+                .spec(Topic.TopicSpec.builder()
+                        .partitions(3)
+                        .replicationFactor(1)
+                        .configs(configs)
+                        .build())
+                .build();
+    }
+
+    private static TopicDescription topicDescription(String name) {
+        Node node = new Node(0, "localhost", 9092);
+        return new TopicDescription(
+                name,
+                false,
+                List.of(
+                        new TopicPartitionInfo(0, node, List.of(node), List.of(node)),
+                        new TopicPartitionInfo(1, node, List.of(node), List.of(node)),
+                        new TopicPartitionInfo(2, node, List.of(node), List.of(node))));
+    }
+
+    private static ConfigResource topicResource(String name) {
+        return new ConfigResource(ConfigResource.Type.TOPIC, name);
+    }
+
+    private static Config topicConfig() {
+        return new Config(List.of(
+                new ConfigEntry(
+                        "retention.ms",
+                        "60000",
+                        ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG,
+                        false,
+                        false,
+                        List.of(),
+                        ConfigEntry.ConfigType.LONG,
+                        null),
+                new ConfigEntry(
+                        "cleanup.policy",
+                        "delete",
+                        ConfigEntry.ConfigSource.DEFAULT_CONFIG,
+                        false,
+                        false,
+                        List.of(),
+                        ConfigEntry.ConfigType.LIST,
+                        null)));
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TopicCreationThrottleTest {
+    private final AtomicLong clock = new AtomicLong();
+    private final TopicCreationThrottle throttle = new TopicCreationThrottle(clock::get);
+
+    @Test
+    void shouldNotLimitWhenNoRate() {
+        ManagedClusterProperties.TopicCreationProperties properties =
+                new ManagedClusterProperties.TopicCreationProperties();
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(throttle.tryAcquire(100, properties));
+        }
+    }
+
+    @Test
+    void shouldLimitTopicsPerSecond() {
+        ManagedClusterProperties.TopicCreationProperties properties =
+                new ManagedClusterProperties.TopicCreationProperties();
+        properties.setTopicsPerSecond(2);
+        properties.setMaxBurstMs(1000);
+
+        assertTrue(throttle.tryAcquire(1, properties));
+        assertTrue(throttle.tryAcquire(1, properties));
+        assertFalse(throttle.tryAcquire(1, properties));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertTrue(throttle.tryAcquire(1, properties));
+        assertFalse(throttle.tryAcquire(1, properties));
+    }
+
+    @Test
+    void shouldLimitPartitionsPerSecond() {
+        ManagedClusterProperties.TopicCreationProperties properties =
+                new ManagedClusterProperties.TopicCreationProperties();
+        properties.setPartitionsPerSecond(10);
+        properties.setMaxBurstMs(1000);
+
+        assertTrue(throttle.tryAcquire(6, properties));
+        assertFalse(throttle.tryAcquire(6, properties));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+
+        assertTrue(throttle.tryAcquire(6, properties));
+    }
+
+    @Test
+    void shouldAllowTopicWithMorePartitionsThanBurstOnceFull() {
+        ManagedClusterProperties.TopicCreationProperties properties =
+                new ManagedClusterProperties.TopicCreationProperties();
+        properties.setPartitionsPerSecond(10);
+        properties.setMaxBurstMs(1000);
+
+        assertTrue(throttle.tryAcquire(50, properties));
+        assertFalse(throttle.tryAcquire(1, properties));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(4));
+
+        assertFalse(throttle.tryAcquire(1, properties));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1100));
+
+        assertTrue(throttle.tryAcquire(1, properties));
+    }
+
+    @Test
+    void shouldPauseCreations() {
+        ManagedClusterProperties.TopicCreationProperties properties =
+                new ManagedClusterProperties.TopicCreationProperties();
+
+        throttle.pause(1000);
+
+        assertFalse(throttle.tryAcquire(1, properties));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+
+        assertTrue(throttle.tryAcquire(1, properties));
+    }
+
+    @Test
+    void shouldComputeDelayUntilTokensEarned() {
+        ManagedClusterProperties.TopicCreationProperties properties =
+                new ManagedClusterProperties.TopicCreationProperties();
+        properties.setTopicsPerSecond(2);
+        properties.setPartitionsPerSecond(10);
+        properties.setMaxBurstMs(1000);
+
+        assertEquals(0, throttle.delayMs(6, properties));
+
+        assertTrue(throttle.tryAcquire(6, properties));
+        assertEquals(200, throttle.delayMs(6, properties));
+
+        assertTrue(throttle.tryAcquire(1, properties));
+        assertEquals(500, throttle.delayMs(1, properties));
+    }
+
+    @Test
+    void shouldComputeDelayUntilPauseEnds() {
+        ManagedClusterProperties.TopicCreationProperties properties =
+                new ManagedClusterProperties.TopicCreationProperties();
+
+        throttle.pause(1000);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+
+        assertEquals(600, throttle.delayMs(1, properties));
+    }
+}
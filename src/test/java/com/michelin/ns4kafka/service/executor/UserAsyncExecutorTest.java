@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package com.michelin.ns4kafka.service.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.michelin.ns4kafka.model.Namespace;
+import com.michelin.ns4kafka.model.Resource;
+import com.michelin.ns4kafka.model.quota.ResourceQuota;
+import com.michelin.ns4kafka.property.ManagedClusterProperties;
+import com.michelin.ns4kafka.repository.NamespaceRepository;
+import com.michelin.ns4kafka.repository.ResourceQuotaRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserAsyncExecutorTest {
+    @Mock
+    ManagedClusterProperties managedClusterProperties;
+
+    @Mock
+    NamespaceRepository namespaceRepository;
+
+    @Mock
+    ResourceQuotaRepository quotaRepository;
+
+    @Mock
+    Admin adminClient;
+
+    @Test
+    void shouldComputeQuotaChanges() {
+        Map<String, Double> brokerQuotas = Map.of("producer_byte_rate", 204800.0, "consumer_byte_rate", 102400.0);
+
+        assertEquals(
+                Map.of("producer_byte_rate", 102400.0, "consumer_byte_rate", 102400.0),
+                UserAsyncExecutor.computeQuotaChanges(Map.of(), null));
+        assertEquals(
+                Map.of("consumer_byte_rate", 409600.0),
+                UserAsyncExecutor.computeQuotaChanges(
+                        Map.of("producer_byte_rate", 204800.0, "consumer_byte_rate", 409600.0), brokerQuotas));
+        assertTrue(UserAsyncExecutor.computeQuotaChanges(Map.of("producer_byte_rate", 204800.0), brokerQuotas)
+                .isEmpty());
+        assertTrue(UserAsyncExecutor.computeQuotaChanges(Map.of(), brokerQuotas).isEmpty());
+    }
+
+    @Test
+    void shouldApplyOnlyChangedQuotasInBatches() {
+        ManagedClusterProperties.UserQuotaProperties userQuotaProperties =
+                new ManagedClusterProperties.UserQuotaProperties();
+        userQuotaProperties.setAlterBatchSize(1);
+
+        when(managedClusterProperties.getProvider()).thenReturn(ManagedClusterProperties.KafkaProvider.SELF_MANAGED);
+        when(managedClusterProperties.isManageUsers()).thenReturn(true);
+        when(managedClusterProperties.getName()).thenReturn("local");
+        when(managedClusterProperties.getAdminClient()).thenReturn(adminClient);
+        when(managedClusterProperties.getTimeout()).thenReturn(new ManagedClusterProperties.TimeoutProperties());
+        when(managedClusterProperties.getUserQuota()).thenReturn(userQuotaProperties);
+        when(adminClient.describeClientQuotas(any()))
+                .thenReturn(new DescribeClientQuotasResult(KafkaFuture.completedFuture(Map.of(
+                        new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, "user1")),
+                        Map.of("producer_byte_rate", 102400.0, "consumer_byte_rate", 102400.0),
+                        new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, "user3")),
+                        Map.of("producer_byte_rate", 204800.0, "consumer_byte_rate", 102400.0)))));
+        when(adminClient.alterClientQuotas(anyCollection())).thenAnswer(invocation -> {
+            Collection<ClientQuotaAlteration> alterations = invocation.getArgument(0);
+            return new AlterClientQuotasResult(alterations.stream()
+                    .collect(Collectors.toMap(
+                            ClientQuotaAlteration::entity, _ -> KafkaFuture.<Void>completedFuture(null))));
+        });
+        when(namespaceRepository.findAllForCluster("local"))
+                .thenReturn(List.of(namespace("ns1", "user1"), namespace("ns2", "user2"), namespace("ns3", "user3")));
+        when(quotaRepository.findByNamespace("ns1"))
+                .thenReturn(Optional.of(resourceQuota("ns1", Map.of("user/producer_byte_rate", "204800.0"))));
+        when(quotaRepository.findByNamespace("ns2")).thenReturn(Optional.empty());
+        when(quotaRepository.findByNamespace("ns3"))
+                .thenReturn(Optional.of(resourceQuota("ns3", Map.of("user/producer_byte_rate", "204800.0"))));
+
+        new UserAsyncExecutor(managedClusterProperties, namespaceRepository, quotaRepository).run();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<ClientQuotaAlteration>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(adminClient, times(2)).alterClientQuotas(captor.capture());
+
+        Map<String, List<ClientQuotaAlteration.Op>> alteredQuotas = captor.getAllValues().stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toMap(
+                        alteration -> alteration.entity().entries().get(ClientQuotaEntity.USER),
+                        ClientQuotaAlteration::ops));
+
+        assertEquals(2, alteredQuotas.size());
+        assertEquals(List.of(new ClientQuotaAlteration.Op("producer_byte_rate", 204800.0)), alteredQuotas.get("user1"));
+        assertEquals(2, alteredQuotas.get("user2").size());
+    }
+
+    private Namespace namespace(String name, String kafkaUser) {
+        return Namespace.builder()
+                .metadata(Resource.Metadata.builder().name(name).cluster("local").build())
+                .spec(Namespace.NamespaceSpec.builder().kafkaUser(kafkaUser).build())
+                .build();
+    }
+
+    private ResourceQuota resourceQuota(String namespace, Map<String, String> spec) {
+        return ResourceQuota.builder()
+                .metadata(Resource.Metadata.builder().name(namespace).namespace(namespace).build())
+                .spec(spec)
+                .build();
+    }
+}